@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import reactor.core.publisher.Mono;
 import io.lettuce.core.event.command.CommandListener;
@@ -45,7 +46,6 @@ import io.lettuce.core.protocol.RedisHandshakeHandler;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.resource.DefaultClientResources;
 import io.lettuce.core.resource.Transports;
-import io.lettuce.core.resource.Transports.NativeTransports;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
@@ -101,6 +101,8 @@ public abstract class AbstractRedisClient implements AutoCloseable {
 
     private final Map<Class<? extends EventLoopGroup>, EventLoopGroup> eventLoopGroups = new ConcurrentHashMap<>(2);
 
+    private final Map<String, AtomicReference<ConnectionState.HandshakeResponse>> handshakeResponses = new ConcurrentHashMap<>();
+
     private final boolean sharedResources;
 
     private final AtomicBoolean shutdown = new AtomicBoolean();
@@ -301,13 +303,11 @@ public abstract class AbstractRedisClient implements AutoCloseable {
         LettuceAssert.notNull(connectionPoint, "ConnectionPoint must not be null");
 
         boolean domainSocket = LettuceStrings.isNotEmpty(connectionPoint.getSocket());
-        connectionBuilder.bootstrap().group(
-                getEventLoopGroup(
-                        domainSocket ? NativeTransports.eventLoopGroupClass(true) : Transports.eventLoopGroupClass()));
+        connectionBuilder.bootstrap().group(getEventLoopGroup(Transports.eventLoopGroupClass(domainSocket)));
 
         if (connectionPoint.getSocket() != null) {
-            NativeTransports.assertDomainSocketAvailable();
-            connectionBuilder.bootstrap().channel(NativeTransports.domainSocketChannelClass());
+            Transports.assertDomainSocketAvailable();
+            connectionBuilder.bootstrap().channel(Transports.domainSocketChannelClass());
         } else {
             connectionBuilder.bootstrap().channel(Transports.socketChannelClass());
         }
@@ -422,6 +422,7 @@ public abstract class AbstractRedisClient implements AutoCloseable {
 
         logger.debug("Connecting to Redis at {}", redisAddress);
 
+        connectionBuilder.configureBootstrap(redisAddress);
         Bootstrap redisBootstrap = connectionBuilder.bootstrap();
 
         ChannelInitializer<Channel> initializer = connectionBuilder.build(redisAddress);
@@ -632,4 +633,39 @@ public abstract class AbstractRedisClient implements AutoCloseable {
                 state);
     }
 
+    /**
+     * Create a {@link RedisHandshake} for a connection to {@link RedisURI}. Connections to the same endpoint share their
+     * previous handshake response if {@link ClientOptions#isPipelinedHandshake() pipelined handshakes} are enabled.
+     *
+     * @param state the connection state.
+     * @param redisURI the endpoint to connect to.
+     * @return the {@link RedisHandshake}.
+     * @since 7.0
+     */
+    protected RedisHandshake createHandshake(ConnectionState state, RedisURI redisURI) {
+
+        if (!clientOptions.isPipelinedHandshake()) {
+            return createHandshake(state);
+        }
+
+        AtomicReference<ConnectionState.HandshakeResponse> previousHandshake = handshakeResponses
+                .computeIfAbsent(getHandshakeKey(redisURI), key -> new AtomicReference<>());
+
+        return new RedisHandshake(clientOptions.getConfiguredProtocolVersion(), clientOptions.isPingBeforeActivateConnection(),
+                state, previousHandshake);
+    }
+
+    private static String getHandshakeKey(RedisURI redisURI) {
+
+        if (redisURI.getSocket() != null) {
+            return redisURI.getSocket();
+        }
+
+        if (redisURI.getSentinelMasterId() != null) {
+            return "sentinel:" + redisURI.getSentinelMasterId();
+        }
+
+        return redisURI.getHost() + ":" + redisURI.getPort();
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CompleteableCommand;
+import io.lettuce.core.protocol.MultiReplyCommand;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A single command encoding a batch of {@link BulkOperation bulk operations} straight into the outbound buffer. The command
+ * completes once all operations received their reply. Replies are counted instead of being decoded, error replies are
+ * retained as {@link BulkLoadResult.Failure failures} with the position of the operation in the source.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ */
+class BulkCommand<K, V> extends CompletableFuture<Void>
+        implements RedisCommand<K, V, Void>, CompleteableCommand<Void>, MultiReplyCommand {
+
+    private final RedisCodec<K, V> codec;
+
+    private final List<BulkOperation<K, V>> operations;
+
+    private final long[] positions;
+
+    private final CountingOutput output;
+
+    // accessed only from the event loop
+    private int replies;
+
+    private List<BulkLoadResult.Failure> failures;
+
+    /**
+     * @param codec the codec to encode keys and values.
+     * @param operations the operations.
+     * @param positions positions of the operations in the source.
+     */
+    BulkCommand(RedisCodec<K, V> codec, List<BulkOperation<K, V>> operations, long[] positions) {
+
+        this.codec = codec;
+        this.operations = operations;
+        this.positions = positions;
+        this.output = new CountingOutput(codec);
+    }
+
+    /**
+     * @return the number of operations.
+     */
+    int size() {
+        return operations.size();
+    }
+
+    /**
+     * @return error replies received for this batch. Must be called after completion.
+     */
+    List<BulkLoadResult.Failure> getFailures() {
+        return failures == null ? Collections.emptyList() : failures;
+    }
+
+    @Override
+    public boolean onReply() {
+        return ++replies == operations.size();
+    }
+
+    @Override
+    public void encode(ByteBuf buf) {
+
+        // commands are encoded again when being retried
+        replies = 0;
+        failures = null;
+
+        for (BulkOperation<K, V> operation : operations) {
+            operation.encode(buf, codec);
+        }
+    }
+
+    @Override
+    public CommandOutput<K, V, Void> getOutput() {
+        return output;
+    }
+
+    @Override
+    public void complete() {
+        complete(null);
+    }
+
+    @Override
+    public void cancel() {
+        completeExceptionally(new CancellationException("Bulk load cancelled"));
+    }
+
+    @Override
+    public CommandArgs<K, V> getArgs() {
+        return null;
+    }
+
+    @Override
+    public ProtocolKeyword getType() {
+        return operations.get(0).getType();
+    }
+
+    @Override
+    public void setOutput(CommandOutput<K, V, Void> output) {
+        throw new UnsupportedOperationException("Bulk operations cannot be used within a transaction");
+    }
+
+    @Override
+    public void onComplete(Consumer<? super Void> action) {
+        thenAccept(action);
+    }
+
+    @Override
+    public void onComplete(BiConsumer<? super Void, Throwable> action) {
+        whenComplete(action);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [type=" + getType() + ", operations=" + operations.size() + "]";
+    }
+
+    private void onError(String message) {
+
+        if (failures == null) {
+            failures = new ArrayList<>();
+        }
+
+        failures.add(new BulkLoadResult.Failure(positions[replies], message));
+    }
+
+    /**
+     * Output discarding replies and recording error replies.
+     */
+    class CountingOutput extends CommandOutput<K, V, Void> {
+
+        CountingOutput(RedisCodec<K, V> codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+        @Override
+        public void set(long integer) {
+        }
+
+        @Override
+        public void set(double number) {
+        }
+
+        @Override
+        public void set(boolean value) {
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+            onError(decodeAscii(error));
+        }
+
+        @Override
+        public void setError(String error) {
+            onError(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for {@link io.lettuce.core.api.StatefulRedisConnection#bulkLoad bulk loading}. Operations are requested from the
+ * source in batches of {@link #getBatchSize()} and written to the connection as a single command per node that counts the
+ * replies of its operations. The source is requested for more operations only while fewer than {@link #getMaxInFlight()}
+ * operations per node await their reply, so the outbound buffer and the memory retained by unacknowledged operations stay
+ * bounded regardless of the size of the source.
+ *
+ * @since 7.0
+ */
+public class BulkLoadOptions {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 50_000;
+
+    public static final int DEFAULT_MAX_FAILURES = 1000;
+
+    public static final CommandPriority DEFAULT_PRIORITY = CommandPriority.LOW;
+
+    private final int batchSize;
+
+    private final int maxInFlight;
+
+    private final int maxFailures;
+
+    private final CommandPriority priority;
+
+    private BulkLoadOptions(Builder builder) {
+
+        this.batchSize = builder.batchSize;
+        this.maxInFlight = builder.maxInFlight;
+        this.maxFailures = builder.maxFailures;
+        this.priority = builder.priority;
+    }
+
+    /**
+     * Returns a new {@link BulkLoadOptions.Builder} to construct {@link BulkLoadOptions}.
+     *
+     * @return a new {@link BulkLoadOptions.Builder} to construct {@link BulkLoadOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link BulkLoadOptions} with default settings.
+     *
+     * @return a new instance of {@link BulkLoadOptions} with default settings.
+     */
+    public static BulkLoadOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link BulkLoadOptions}.
+     */
+    public static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+        private int maxFailures = DEFAULT_MAX_FAILURES;
+
+        private CommandPriority priority = DEFAULT_PRIORITY;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of operations requested from the source and written at once. See {@link #DEFAULT_BATCH_SIZE}.
+         *
+         * @param batchSize the batch size, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder batchSize(int batchSize) {
+
+            LettuceAssert.isTrue(batchSize > 0, "Batch size must be greater zero");
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of operations per node that were written but did not receive their reply yet. See
+         * {@link #DEFAULT_MAX_IN_FLIGHT}.
+         *
+         * @param maxInFlight the maximum number of in-flight operations, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder maxInFlight(int maxInFlight) {
+
+            LettuceAssert.isTrue(maxInFlight > 0, "Max in-flight must be greater zero");
+
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of {@link BulkLoadResult.Failure failures} retained in the {@link BulkLoadResult}. Failures
+         * beyond this limit are counted only. See {@link #DEFAULT_MAX_FAILURES}.
+         *
+         * @param maxFailures the maximum number of retained failures, must be greater or equal to zero.
+         * @return {@code this}
+         */
+        public Builder maxFailures(int maxFailures) {
+
+            LettuceAssert.isTrue(maxFailures >= 0, "Max failures must be greater or equal to zero");
+
+            this.maxFailures = maxFailures;
+            return this;
+        }
+
+        /**
+         * Sets the {@link CommandPriority} of written batches. Applies only if {@link PriorityOptions} are enabled. See
+         * {@link #DEFAULT_PRIORITY}.
+         *
+         * @param priority the priority, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder priority(CommandPriority priority) {
+
+            LettuceAssert.notNull(priority, "CommandPriority must not be null");
+
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link BulkLoadOptions}.
+         *
+         * @return new instance of {@link BulkLoadOptions}
+         */
+        public BulkLoadOptions build() {
+            return new BulkLoadOptions(this);
+        }
+
+    }
+
+    /**
+     * @return the number of operations requested from the source and written at once.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum number of in-flight operations per node.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the maximum number of retained failures.
+     */
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    /**
+     * @return the priority of written batches.
+     */
+    public CommandPriority getPriority() {
+        return priority;
+    }
+
+}
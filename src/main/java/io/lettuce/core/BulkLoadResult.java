@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.List;
+
+/**
+ * Result of {@link io.lettuce.core.api.StatefulRedisConnection#bulkLoad bulk loading}. Replies of successful operations are
+ * counted only; failed operations are reported with their position in the source.
+ *
+ * @since 7.0
+ */
+public class BulkLoadResult {
+
+    private final long operations;
+
+    private final long failureCount;
+
+    private final List<Failure> failures;
+
+    BulkLoadResult(long operations, long failureCount, List<Failure> failures) {
+        this.operations = operations;
+        this.failureCount = failureCount;
+        this.failures = failures;
+    }
+
+    /**
+     * @return the number of operations that received a reply.
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * @return the number of failed operations.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the retained failures ordered by their position, limited to {@link BulkLoadOptions#getMaxFailures()}.
+     */
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return {@code true} if no operation failed.
+     */
+    public boolean isSuccessful() {
+        return failureCount == 0;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [operations=" + operations + ", failureCount=" + failureCount + "]";
+    }
+
+    /**
+     * An operation that completed with an error reply.
+     */
+    public static class Failure {
+
+        private final long position;
+
+        private final String message;
+
+        Failure(long position, String message) {
+            this.position = position;
+            this.message = message;
+        }
+
+        /**
+         * @return the zero-based position of the operation in the source.
+         */
+        public long getPosition() {
+            return position;
+        }
+
+        /**
+         * @return the error reply.
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return position + ": " + message;
+        }
+
+    }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.PrioritizedCommand;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Loads a stream of {@link BulkOperation operations} through one or more connections. Operations are routed to a connection
+ * (a node in Redis Cluster) and collected per connection into a {@link BulkCommand} that encodes the operations straight into
+ * the outbound buffer and counts their replies, so no future or {@code CommandArgs} is created per operation.
+ * <p>
+ * Operations are requested from the {@link Publisher} in batches of {@link BulkLoadOptions#getBatchSize()}. The next batch is
+ * requested once the previous batch was written and each connection has less than {@link BulkLoadOptions#getMaxInFlight()}
+ * operations awaiting their reply. Batches are written with {@link BulkLoadOptions#getPriority()} so that, with
+ * {@link PriorityOptions} enabled, they yield to other commands and are held back while the channel is not writable.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ * @see io.lettuce.core.api.StatefulRedisConnection#bulkLoad(Publisher, BulkLoadOptions)
+ */
+public class BulkLoader<K, V> {
+
+    private final RedisCodec<K, V> codec;
+
+    private final List<? extends StatefulConnection<K, V>> connections;
+
+    private final ToIntFunction<K> router;
+
+    private final BulkLoadOptions options;
+
+    /**
+     * Create a new {@link BulkLoader}.
+     *
+     * @param codec the codec to encode keys and values, must not be {@code null}.
+     * @param connections the connections to write to, must not be {@code null} or empty.
+     * @param router function returning the index of the connection for a key, must not be {@code null}.
+     * @param options the bulk load options, must not be {@code null}.
+     */
+    public BulkLoader(RedisCodec<K, V> codec, List<? extends StatefulConnection<K, V>> connections, ToIntFunction<K> router,
+            BulkLoadOptions options) {
+
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.isTrue(connections != null && !connections.isEmpty(), "Connections must not be empty");
+        LettuceAssert.notNull(router, "Router must not be null");
+        LettuceAssert.notNull(options, "BulkLoadOptions must not be null");
+
+        this.codec = codec;
+        this.connections = connections;
+        this.router = router;
+        this.options = options;
+    }
+
+    /**
+     * Load all operations emitted by {@code operations}.
+     *
+     * @param operations the operations, must not be {@code null}.
+     * @return a future that completes with the {@link BulkLoadResult} once all operations received their reply. The future
+     *         completes exceptionally if {@code operations} signals an error or if a batch could not be written.
+     */
+    public CompletableFuture<BulkLoadResult> load(Publisher<? extends BulkOperation<K, V>> operations) {
+
+        LettuceAssert.notNull(operations, "Operations must not be null");
+
+        LoadSubscriber subscriber = new LoadSubscriber();
+        operations.subscribe(subscriber);
+
+        return subscriber.result;
+    }
+
+    /**
+     * Operations collected for a single connection.
+     */
+    class Lane {
+
+        final StatefulConnection<K, V> connection;
+
+        final AtomicLong inFlight = new AtomicLong();
+
+        private List<BulkOperation<K, V>> operations = new ArrayList<>();
+
+        private long[] positions = new long[options.getBatchSize()];
+
+        Lane(StatefulConnection<K, V> connection) {
+            this.connection = connection;
+        }
+
+        void add(BulkOperation<K, V> operation, long position) {
+
+            if (operations.size() == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+
+            positions[operations.size()] = position;
+            operations.add(operation);
+        }
+
+        boolean isEmpty() {
+            return operations.isEmpty();
+        }
+
+        BulkCommand<K, V> drain() {
+
+            BulkCommand<K, V> command = new BulkCommand<>(codec, operations, Arrays.copyOf(positions, operations.size()));
+            operations = new ArrayList<>();
+
+            return command;
+        }
+
+    }
+
+    class LoadSubscriber implements Subscriber<BulkOperation<K, V>> {
+
+        final CompletableFuture<BulkLoadResult> result = new CompletableFuture<>();
+
+        private final List<Lane> lanes = new ArrayList<>(connections.size());
+
+        private final AtomicBoolean awaitingCapacity = new AtomicBoolean();
+
+        private final AtomicBoolean terminated = new AtomicBoolean();
+
+        private final AtomicLong replies = new AtomicLong();
+
+        private final AtomicLong failureCount = new AtomicLong();
+
+        private final List<BulkLoadResult.Failure> failures = new ArrayList<>();
+
+        private volatile Subscription subscription;
+
+        private volatile boolean upstreamDone;
+
+        // accessed only from the publishing thread
+        private long position;
+
+        private int received;
+
+        LoadSubscriber() {
+
+            for (StatefulConnection<K, V> connection : connections) {
+                lanes.add(new Lane(connection));
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+
+            this.subscription = s;
+            s.request(options.getBatchSize());
+        }
+
+        @Override
+        public void onNext(BulkOperation<K, V> operation) {
+
+            if (terminated.get()) {
+                return;
+            }
+
+            try {
+
+                Lane lane = lanes.size() == 1 ? lanes.get(0) : lanes.get(router.applyAsInt(operation.getKey()));
+                lane.add(operation, position++);
+
+                if (++received == options.getBatchSize()) {
+
+                    received = 0;
+                    flush();
+                    requestNext();
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            upstreamDone = true;
+            completeIfDone();
+        }
+
+        private void flush() {
+
+            for (Lane lane : lanes) {
+                if (!lane.isEmpty()) {
+                    write(lane);
+                }
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void write(Lane lane) {
+
+            BulkCommand<K, V> command = lane.drain();
+
+            lane.inFlight.addAndGet(command.size());
+            command.whenComplete((ignore, e) -> onBatchComplete(lane, command, e));
+
+            RedisCommand<K, V, ?> toSend = options.getPriority() == CommandPriority.NORMAL ? command
+                    : new PrioritizedCommand<>(command, options.getPriority());
+
+            try {
+                lane.connection.dispatch((RedisCommand) toSend);
+            } catch (RuntimeException e) {
+                command.completeExceptionally(e);
+            }
+        }
+
+        private void requestNext() {
+
+            if (hasCapacity()) {
+                subscription.request(options.getBatchSize());
+                return;
+            }
+
+            awaitingCapacity.set(true);
+
+            // capacity may have been released in between
+            if (hasCapacity() && awaitingCapacity.compareAndSet(true, false)) {
+                subscription.request(options.getBatchSize());
+            }
+        }
+
+        private boolean hasCapacity() {
+
+            for (Lane lane : lanes) {
+                if (lane.inFlight.get() >= options.getMaxInFlight()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void onBatchComplete(Lane lane, BulkCommand<K, V> command, Throwable e) {
+
+            if (e != null) {
+                fail(e);
+                return;
+            }
+
+            List<BulkLoadResult.Failure> batchFailures = command.getFailures();
+
+            if (!batchFailures.isEmpty()) {
+
+                failureCount.addAndGet(batchFailures.size());
+
+                synchronized (failures) {
+                    for (BulkLoadResult.Failure failure : batchFailures) {
+                        if (failures.size() < options.getMaxFailures()) {
+                            failures.add(failure);
+                        }
+                    }
+                }
+            }
+
+            replies.addAndGet(command.size());
+            lane.inFlight.addAndGet(-command.size());
+
+            if (awaitingCapacity.get() && !terminated.get() && hasCapacity() && awaitingCapacity.compareAndSet(true, false)) {
+                subscription.request(options.getBatchSize());
+            }
+
+            completeIfDone();
+        }
+
+        private void completeIfDone() {
+
+            if (!upstreamDone) {
+                return;
+            }
+
+            for (Lane lane : lanes) {
+                if (lane.inFlight.get() != 0) {
+                    return;
+                }
+            }
+
+            if (terminated.compareAndSet(false, true)) {
+
+                List<BulkLoadResult.Failure> retained;
+                synchronized (failures) {
+                    retained = new ArrayList<>(failures);
+                }
+                retained.sort(Comparator.comparingLong(BulkLoadResult.Failure::getPosition));
+
+                result.complete(new BulkLoadResult(replies.get(), failureCount.get(), retained));
+            }
+        }
+
+        private void fail(Throwable t) {
+
+            if (terminated.compareAndSet(false, true)) {
+
+                Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+
+                result.completeExceptionally(t);
+            }
+        }
+
+    }
+
+}
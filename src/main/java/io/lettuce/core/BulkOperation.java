@@ -0,0 +1,336 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A single-key write operation submitted to {@link io.lettuce.core.api.StatefulRedisConnection#bulkLoad bulk loading}.
+ * Operations retain their key and arguments until they are encoded into the outbound buffer; no {@code CommandArgs} or
+ * future is created per operation.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ */
+public final class BulkOperation<K, V> {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final ProtocolKeyword type;
+
+    private final K key;
+
+    /**
+     * Values, {@link Literal literals} and {@link Key secondary keys} following the key.
+     */
+    private final Object[] arguments;
+
+    private BulkOperation(ProtocolKeyword type, K key, Object... arguments) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        this.type = type;
+        this.key = key;
+        this.arguments = arguments;
+    }
+
+    /**
+     * {@code SET key value}.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> set(K key, V value) {
+        return new BulkOperation<>(CommandType.SET, key, value);
+    }
+
+    /**
+     * {@code SET key value PX milliseconds}.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @param ttl the time to live, must be positive.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> set(K key, V value, Duration ttl) {
+
+        LettuceAssert.isTrue(ttl != null && !ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+
+        return new BulkOperation<>(CommandType.SET, key, value, Literal.PX, Literal.of(Long.toString(ttl.toMillis())));
+    }
+
+    /**
+     * {@code HSET key field value}.
+     *
+     * @param key the key.
+     * @param field the hash field.
+     * @param value the value.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> hset(K key, K field, V value) {
+        return new BulkOperation<>(CommandType.HSET, key, new Key<>(field), value);
+    }
+
+    /**
+     * {@code RPUSH key value}.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> rpush(K key, V value) {
+        return new BulkOperation<>(CommandType.RPUSH, key, value);
+    }
+
+    /**
+     * {@code SADD key member}.
+     *
+     * @param key the key.
+     * @param member the member.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> sadd(K key, V member) {
+        return new BulkOperation<>(CommandType.SADD, key, member);
+    }
+
+    /**
+     * {@code ZADD key score member}.
+     *
+     * @param key the key.
+     * @param score the score.
+     * @param member the member.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> zadd(K key, double score, V member) {
+        return new BulkOperation<>(CommandType.ZADD, key, Literal.of(Double.toString(score)), member);
+    }
+
+    /**
+     * {@code DEL key}.
+     *
+     * @param key the key.
+     * @return the operation.
+     */
+    public static <K, V> BulkOperation<K, V> del(K key) {
+        return new BulkOperation<>(CommandType.DEL, key, NO_ARGUMENTS);
+    }
+
+    /**
+     * Create an operation for a command that accepts a single key followed by values, e.g. {@code PFADD key element}.
+     *
+     * @param type the command type, must not be {@code null}.
+     * @param key the key.
+     * @param values the values following the key.
+     * @return the operation.
+     */
+    @SafeVarargs
+    public static <K, V> BulkOperation<K, V> of(ProtocolKeyword type, K key, V... values) {
+
+        LettuceAssert.notNull(type, "Type must not be null");
+        LettuceAssert.noNullElements(values, "Values must not contain null elements");
+
+        return new BulkOperation<>(type, key, values.clone());
+    }
+
+    /**
+     * @return the command type.
+     */
+    public ProtocolKeyword getType() {
+        return type;
+    }
+
+    /**
+     * @return the key.
+     */
+    public K getKey() {
+        return key;
+    }
+
+    /**
+     * Encode this operation as RESP array into {@code target}.
+     *
+     * @param target the target buffer.
+     * @param codec the codec to encode keys and values.
+     */
+    @SuppressWarnings("unchecked")
+    void encode(ByteBuf target, RedisCodec<K, V> codec) {
+
+        target.writeByte('*');
+        writeInteger(target, 2 + arguments.length);
+        target.writeBytes(CRLF);
+
+        writeBulkString(target, type.getBytes());
+        writeKey(target, codec, key);
+
+        for (Object argument : arguments) {
+
+            if (argument instanceof Literal) {
+                writeBulkString(target, ((Literal) argument).bytes);
+            } else if (argument instanceof Key) {
+                writeKey(target, codec, ((Key<K>) argument).key);
+            } else {
+                writeValue(target, codec, (V) argument);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> void writeKey(ByteBuf target, RedisCodec<K, V> codec, K key) {
+
+        if (codec instanceof ToByteBufEncoder) {
+
+            ToByteBufEncoder<K, V> encoder = (ToByteBufEncoder<K, V>) codec;
+
+            if (encoder.isEstimateExact()) {
+                writeHeader(target, encoder.estimateSize(key));
+                encoder.encodeKey(key, target);
+                target.writeBytes(CRLF);
+                return;
+            }
+
+            ByteBuf buffer = target.alloc().buffer(encoder.estimateSize(key));
+            try {
+                encoder.encodeKey(key, buffer);
+                writeHeader(target, buffer.readableBytes());
+                target.writeBytes(buffer);
+                target.writeBytes(CRLF);
+            } finally {
+                buffer.release();
+            }
+            return;
+        }
+
+        writeBulkString(target, codec.encodeKey(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> void writeValue(ByteBuf target, RedisCodec<K, V> codec, V value) {
+
+        if (codec instanceof ToByteBufEncoder) {
+
+            ToByteBufEncoder<K, V> encoder = (ToByteBufEncoder<K, V>) codec;
+
+            if (encoder.isEstimateExact()) {
+                writeHeader(target, encoder.estimateSize(value));
+                encoder.encodeValue(value, target);
+                target.writeBytes(CRLF);
+                return;
+            }
+
+            ByteBuf buffer = target.alloc().buffer(encoder.estimateSize(value));
+            try {
+                encoder.encodeValue(value, buffer);
+                writeHeader(target, buffer.readableBytes());
+                target.writeBytes(buffer);
+                target.writeBytes(CRLF);
+            } finally {
+                buffer.release();
+            }
+            return;
+        }
+
+        writeBulkString(target, codec.encodeValue(value));
+    }
+
+    private static void writeBulkString(ByteBuf target, ByteBuffer value) {
+
+        writeHeader(target, value.remaining());
+        target.writeBytes(value.duplicate());
+        target.writeBytes(CRLF);
+    }
+
+    private static void writeBulkString(ByteBuf target, byte[] value) {
+
+        writeHeader(target, value.length);
+        target.writeBytes(value);
+        target.writeBytes(CRLF);
+    }
+
+    private static void writeHeader(ByteBuf target, int length) {
+
+        target.writeByte('$');
+        writeInteger(target, length);
+        target.writeBytes(CRLF);
+    }
+
+    private static void writeInteger(ByteBuf target, int value) {
+
+        if (value < 10) {
+            target.writeByte('0' + value);
+            return;
+        }
+
+        int divisor = 10;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+
+        for (; divisor > 0; divisor /= 10) {
+            target.writeByte('0' + (value / divisor) % 10);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + type.name() + " " + key + "]";
+    }
+
+    /**
+     * Pre-encoded protocol argument such as a keyword or a number.
+     */
+    private static class Literal {
+
+        static final Literal PX = of("PX");
+
+        final byte[] bytes;
+
+        private Literal(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        static Literal of(String value) {
+            return new Literal(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+    }
+
+    /**
+     * Key-typed argument following the key, e.g. a hash field.
+     */
+    private static class Key<K> {
+
+        final K key;
+
+        Key(K key) {
+            this.key = key;
+        }
+
+    }
+
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control the per-endpoint circuit breaker and the adaptive concurrency limit. Each connection endpoint records the
+ * outcome and latency of its commands in a sliding window. The circuit opens if the failure rate or the slow call rate
+ * exceeds its threshold; commands fail fast with {@link RedisCircuitBreakerException} while the circuit is open. After the
+ * {@link #getWaitDurationInOpenState() open duration}, a number of trial commands are permitted (half-open) and their outcome
+ * decides whether the circuit closes or opens again. Redis Cluster and Master/Replica connections route reads to other
+ * eligible nodes while the circuit of a node is open.
+ * <p>
+ * Commands count as failed if they time out, fail because of a connection problem or if the node replies with
+ * {@code BUSY}, {@code LOADING}, {@code MASTERDOWN} or {@code CLUSTERDOWN}. Other error replies indicate application errors
+ * and count as success. Cancelled commands are not recorded.
+ * <p>
+ * The {@link #isAdaptiveConcurrency() adaptive concurrency limit} bounds the number of in-flight commands per endpoint. The
+ * limit follows the gradient of the short-term and the long-term command latency: it grows while latency is stable and
+ * shrinks once latency rises so commands are rejected before queues build up. State transitions publish a
+ * {@link io.lettuce.core.event.connection.CircuitBreakerStateChangedEvent}.
+ *
+ * @since 7.0
+ */
+public class CircuitBreakerOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 1.0;
+
+    public static final Duration DEFAULT_SLOW_CALL_DURATION_THRESHOLD = Duration.ofSeconds(1);
+
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+
+    public static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 20;
+
+    public static final Duration DEFAULT_WAIT_DURATION_IN_OPEN_STATE = Duration.ofSeconds(5);
+
+    public static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+
+    public static final boolean DEFAULT_ADAPTIVE_CONCURRENCY = false;
+
+    public static final int DEFAULT_INITIAL_CONCURRENCY_LIMIT = 1000;
+
+    public static final int DEFAULT_MIN_CONCURRENCY_LIMIT = 50;
+
+    public static final int DEFAULT_MAX_CONCURRENCY_LIMIT = 10000;
+
+    private final boolean enabled;
+
+    private final double failureRateThreshold;
+
+    private final double slowCallRateThreshold;
+
+    private final Duration slowCallDurationThreshold;
+
+    private final int slidingWindowSize;
+
+    private final int minimumNumberOfCalls;
+
+    private final Duration waitDurationInOpenState;
+
+    private final int permittedCallsInHalfOpenState;
+
+    private final boolean adaptiveConcurrency;
+
+    private final int initialConcurrencyLimit;
+
+    private final int minConcurrencyLimit;
+
+    private final int maxConcurrencyLimit;
+
+    private CircuitBreakerOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDurationThreshold = builder.slowCallDurationThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.waitDurationInOpenState = builder.waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+        this.adaptiveConcurrency = builder.adaptiveConcurrency;
+        this.initialConcurrencyLimit = builder.initialConcurrencyLimit;
+        this.minConcurrencyLimit = builder.minConcurrencyLimit;
+        this.maxConcurrencyLimit = builder.maxConcurrencyLimit;
+    }
+
+    /**
+     * Returns a new {@link CircuitBreakerOptions.Builder} to construct {@link CircuitBreakerOptions}.
+     *
+     * @return a new {@link CircuitBreakerOptions.Builder} to construct {@link CircuitBreakerOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link CircuitBreakerOptions} with default settings. The circuit breaker is disabled.
+     *
+     * @return a new instance of {@link CircuitBreakerOptions} with default settings.
+     */
+    public static CircuitBreakerOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link CircuitBreakerOptions} with the circuit breaker enabled.
+     *
+     * @return a new instance of {@link CircuitBreakerOptions} with the circuit breaker enabled.
+     */
+    public static CircuitBreakerOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+        private double slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+        private Duration slowCallDurationThreshold = DEFAULT_SLOW_CALL_DURATION_THRESHOLD;
+
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+        private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+
+        private Duration waitDurationInOpenState = DEFAULT_WAIT_DURATION_IN_OPEN_STATE;
+
+        private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+
+        private boolean adaptiveConcurrency = DEFAULT_ADAPTIVE_CONCURRENCY;
+
+        private int initialConcurrencyLimit = DEFAULT_INITIAL_CONCURRENCY_LIMIT;
+
+        private int minConcurrencyLimit = DEFAULT_MIN_CONCURRENCY_LIMIT;
+
+        private int maxConcurrencyLimit = DEFAULT_MAX_CONCURRENCY_LIMIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable the circuit breaker. See {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Enable or disable the circuit breaker. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to enable the circuit breaker.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the failure rate at which the circuit opens. See {@link #DEFAULT_FAILURE_RATE_THRESHOLD}.
+         *
+         * @param failureRateThreshold the failure rate between {@code 0} (exclusive) and {@code 1}.
+         * @return {@code this}
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+
+            LettuceAssert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+                    "Failure rate threshold must be greater than 0 and less or equal to 1");
+
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the rate of slow commands at which the circuit opens. See {@link #DEFAULT_SLOW_CALL_RATE_THRESHOLD}.
+         *
+         * @param slowCallRateThreshold the slow call rate between {@code 0} (exclusive) and {@code 1}.
+         * @return {@code this}
+         * @see #slowCallDurationThreshold(Duration)
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+
+            LettuceAssert.isTrue(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1,
+                    "Slow call rate threshold must be greater than 0 and less or equal to 1");
+
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration after which a command is considered slow. See {@link #DEFAULT_SLOW_CALL_DURATION_THRESHOLD}.
+         *
+         * @param slowCallDurationThreshold the duration, must not be {@code null} and greater zero.
+         * @return {@code this}
+         */
+        public Builder slowCallDurationThreshold(Duration slowCallDurationThreshold) {
+
+            LettuceAssert.notNull(slowCallDurationThreshold, "Slow call duration threshold must not be null");
+            LettuceAssert.isTrue(!slowCallDurationThreshold.isNegative() && !slowCallDurationThreshold.isZero(),
+                    "Slow call duration threshold must be greater zero");
+
+            this.slowCallDurationThreshold = slowCallDurationThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of most recent commands to compute failure and slow call rates from. See
+         * {@link #DEFAULT_SLIDING_WINDOW_SIZE}.
+         *
+         * @param slidingWindowSize the window size, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+
+            LettuceAssert.isTrue(slidingWindowSize > 0, "Sliding window size must be greater zero");
+
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of recorded commands before the circuit may open. See
+         * {@link #DEFAULT_MINIMUM_NUMBER_OF_CALLS}.
+         *
+         * @param minimumNumberOfCalls the minimum number of calls, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+
+            LettuceAssert.isTrue(minimumNumberOfCalls > 0, "Minimum number of calls must be greater zero");
+
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * Sets the time the circuit stays open before permitting trial commands. See
+         * {@link #DEFAULT_WAIT_DURATION_IN_OPEN_STATE}.
+         *
+         * @param waitDurationInOpenState the duration, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder waitDurationInOpenState(Duration waitDurationInOpenState) {
+
+            LettuceAssert.notNull(waitDurationInOpenState, "Wait duration in open state must not be null");
+            LettuceAssert.isTrue(!waitDurationInOpenState.isNegative(), "Wait duration in open state must not be negative");
+
+            this.waitDurationInOpenState = waitDurationInOpenState;
+            return this;
+        }
+
+        /**
+         * Sets the number of trial commands permitted in half-open state. See
+         * {@link #DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE}.
+         *
+         * @param permittedCallsInHalfOpenState the number of trial commands, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+
+            LettuceAssert.isTrue(permittedCallsInHalfOpenState > 0, "Permitted calls in half-open state must be greater zero");
+
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        /**
+         * Enable the adaptive concurrency limit for in-flight commands. See {@link #DEFAULT_ADAPTIVE_CONCURRENCY}.
+         *
+         * @return {@code this}
+         */
+        public Builder adaptiveConcurrency() {
+            return adaptiveConcurrency(true);
+        }
+
+        /**
+         * Enable or disable the adaptive concurrency limit for in-flight commands. See {@link #DEFAULT_ADAPTIVE_CONCURRENCY}.
+         *
+         * @param adaptiveConcurrency {@code true} to limit in-flight commands.
+         * @return {@code this}
+         */
+        public Builder adaptiveConcurrency(boolean adaptiveConcurrency) {
+
+            this.adaptiveConcurrency = adaptiveConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the initial, minimum and maximum concurrency limit. See {@link #DEFAULT_INITIAL_CONCURRENCY_LIMIT},
+         * {@link #DEFAULT_MIN_CONCURRENCY_LIMIT} and {@link #DEFAULT_MAX_CONCURRENCY_LIMIT}.
+         *
+         * @param initial the initial limit.
+         * @param min the lower bound of the limit, must be greater zero.
+         * @param max the upper bound of the limit.
+         * @return {@code this}
+         */
+        public Builder concurrencyLimit(int initial, int min, int max) {
+
+            LettuceAssert.isTrue(min > 0, "Minimum concurrency limit must be greater zero");
+            LettuceAssert.isTrue(min <= initial && initial <= max,
+                    "Initial concurrency limit must be between minimum and maximum concurrency limit");
+
+            this.initialConcurrencyLimit = initial;
+            this.minConcurrencyLimit = min;
+            this.maxConcurrencyLimit = max;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link CircuitBreakerOptions}.
+         *
+         * @return new instance of {@link CircuitBreakerOptions}
+         */
+        public CircuitBreakerOptions build() {
+            return new CircuitBreakerOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if the circuit breaker is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the failure rate at which the circuit opens.
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * @return the rate of slow commands at which the circuit opens.
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * @return the duration after which a command is considered slow.
+     */
+    public Duration getSlowCallDurationThreshold() {
+        return slowCallDurationThreshold;
+    }
+
+    /**
+     * @return the number of most recent commands to compute rates from.
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * @return the minimum number of recorded commands before the circuit may open.
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * @return the time the circuit stays open before permitting trial commands.
+     */
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    /**
+     * @return the number of trial commands permitted in half-open state.
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * @return {@code true} if in-flight commands are limited by an adaptive concurrency limit.
+     */
+    public boolean isAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+
+    /**
+     * @return the initial concurrency limit.
+     */
+    public int getInitialConcurrencyLimit() {
+        return initialConcurrencyLimit;
+    }
+
+    /**
+     * @return the lower bound of the concurrency limit.
+     */
+    public int getMinConcurrencyLimit() {
+        return minConcurrencyLimit;
+    }
+
+    /**
+     * @return the upper bound of the concurrency limit.
+     */
+    public int getMaxConcurrencyLimit() {
+        return maxConcurrencyLimit;
+    }
+
+}
@@ -49,6 +49,8 @@ public class ClientOptions implements Serializable {
 
     public static final boolean DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION = true;
 
+    public static final boolean DEFAULT_PIPELINED_HANDSHAKE = false;
+
     public static final ProtocolVersion DEFAULT_PROTOCOL_VERSION = ProtocolVersion.newestSupported();
 
     public static final ReadOnlyCommands.ReadOnlyPredicate DEFAULT_READ_ONLY_COMMANDS = ReadOnlyCommands.asPredicate();
@@ -65,6 +67,18 @@ public class ClientOptions implements Serializable {
 
     public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
 
+    public static final WarmUpOptions DEFAULT_WARM_UP_OPTIONS = WarmUpOptions.create();
+
+    public static final HedgingOptions DEFAULT_HEDGING_OPTIONS = HedgingOptions.create();
+
+    public static final CircuitBreakerOptions DEFAULT_CIRCUIT_BREAKER_OPTIONS = CircuitBreakerOptions.create();
+
+    public static final PriorityOptions DEFAULT_PRIORITY_OPTIONS = PriorityOptions.create();
+
+    public static final PubSubDispatchOptions DEFAULT_PUBSUB_DISPATCH_OPTIONS = PubSubDispatchOptions.create();
+
+    public static final DisconnectedBufferOptions DEFAULT_DISCONNECTED_BUFFER_OPTIONS = DisconnectedBufferOptions.create();
+
     private final boolean autoReconnect;
 
     private final boolean cancelCommandsOnReconnectFailure;
@@ -77,6 +91,8 @@ public class ClientOptions implements Serializable {
 
     private final boolean pingBeforeActivateConnection;
 
+    private final boolean pipelinedHandshake;
+
     private final ProtocolVersion protocolVersion;
 
     private final ReadOnlyCommands.ReadOnlyPredicate readOnlyCommands;
@@ -93,6 +109,18 @@ public class ClientOptions implements Serializable {
 
     private final TimeoutOptions timeoutOptions;
 
+    private final WarmUpOptions warmUpOptions;
+
+    private final HedgingOptions hedgingOptions;
+
+    private final CircuitBreakerOptions circuitBreakerOptions;
+
+    private final PriorityOptions priorityOptions;
+
+    private final PubSubDispatchOptions pubSubDispatchOptions;
+
+    private final DisconnectedBufferOptions disconnectedBufferOptions;
+
 
     protected ClientOptions(Builder builder) {
         this.autoReconnect = builder.autoReconnect;
@@ -101,6 +129,7 @@ public class ClientOptions implements Serializable {
         this.disconnectedBehavior = builder.disconnectedBehavior;
         this.publishOnScheduler = builder.publishOnScheduler;
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
+        this.pipelinedHandshake = builder.pipelinedHandshake;
         this.protocolVersion = builder.protocolVersion;
         this.readOnlyCommands = builder.readOnlyCommands;
         this.requestQueueSize = builder.requestQueueSize;
@@ -109,6 +138,12 @@ public class ClientOptions implements Serializable {
         this.sslOptions = builder.sslOptions;
         this.suspendReconnectOnProtocolFailure = builder.suspendReconnectOnProtocolFailure;
         this.timeoutOptions = builder.timeoutOptions;
+        this.warmUpOptions = builder.warmUpOptions;
+        this.hedgingOptions = builder.hedgingOptions;
+        this.circuitBreakerOptions = builder.circuitBreakerOptions;
+        this.priorityOptions = builder.priorityOptions;
+        this.pubSubDispatchOptions = builder.pubSubDispatchOptions;
+        this.disconnectedBufferOptions = builder.disconnectedBufferOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -118,6 +153,7 @@ public class ClientOptions implements Serializable {
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.publishOnScheduler = original.isPublishOnScheduler();
         this.pingBeforeActivateConnection = original.isPingBeforeActivateConnection();
+        this.pipelinedHandshake = original.isPipelinedHandshake();
         this.protocolVersion = original.getConfiguredProtocolVersion();
         this.readOnlyCommands = original.getReadOnlyCommands();
         this.requestQueueSize = original.getRequestQueueSize();
@@ -126,6 +162,12 @@ public class ClientOptions implements Serializable {
         this.sslOptions = original.getSslOptions();
         this.suspendReconnectOnProtocolFailure = original.isSuspendReconnectOnProtocolFailure();
         this.timeoutOptions = original.getTimeoutOptions();
+        this.warmUpOptions = original.getWarmUpOptions();
+        this.hedgingOptions = original.getHedgingOptions();
+        this.circuitBreakerOptions = original.getCircuitBreakerOptions();
+        this.priorityOptions = original.getPriorityOptions();
+        this.pubSubDispatchOptions = original.getPubSubDispatchOptions();
+        this.disconnectedBufferOptions = original.getDisconnectedBufferOptions();
     }
 
     /**
@@ -171,6 +213,8 @@ public class ClientOptions implements Serializable {
 
         private boolean pingBeforeActivateConnection = DEFAULT_PING_BEFORE_ACTIVATE_CONNECTION;
 
+        private boolean pipelinedHandshake = DEFAULT_PIPELINED_HANDSHAKE;
+
         private ProtocolVersion protocolVersion;
 
         private boolean publishOnScheduler = DEFAULT_PUBLISH_ON_SCHEDULER;
@@ -189,6 +233,18 @@ public class ClientOptions implements Serializable {
 
         private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
 
+        private WarmUpOptions warmUpOptions = DEFAULT_WARM_UP_OPTIONS;
+
+        private HedgingOptions hedgingOptions = DEFAULT_HEDGING_OPTIONS;
+
+        private CircuitBreakerOptions circuitBreakerOptions = DEFAULT_CIRCUIT_BREAKER_OPTIONS;
+
+        private PriorityOptions priorityOptions = DEFAULT_PRIORITY_OPTIONS;
+
+        private PubSubDispatchOptions pubSubDispatchOptions = DEFAULT_PUBSUB_DISPATCH_OPTIONS;
+
+        private DisconnectedBufferOptions disconnectedBufferOptions = DEFAULT_DISCONNECTED_BUFFER_OPTIONS;
+
         protected Builder() {
         }
 
@@ -287,6 +343,22 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Pipeline the connection handshake ({@code HELLO}, {@code AUTH} or {@code PING}) and the post-handshake commands
+         * ({@code CLIENT SETINFO}, {@code CLIENT SETNAME}, {@code SELECT}, {@code READONLY}) in a single flush. RESP3
+         * connections use the server version remembered from a previous connection to the same endpoint and perform a regular
+         * handshake if the server is not yet known. If the pipelined handshake fails, the connection falls back to the regular
+         * handshake. Defaults to {@code false}, see {@link #DEFAULT_PIPELINED_HANDSHAKE}.
+         *
+         * @param pipelinedHandshake true/false
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder pipelinedHandshake(boolean pipelinedHandshake) {
+            this.pipelinedHandshake = pipelinedHandshake;
+            return this;
+        }
+
         /**
          * Sets the {@link ProtocolVersion} to use. Defaults to {@literal RESP3}. See {@link #DEFAULT_PROTOCOL_VERSION}.
          *
@@ -419,6 +491,96 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link WarmUpOptions} to eagerly establish node connections of Redis Cluster and Master/Replica
+         * connections. See {@link #DEFAULT_WARM_UP_OPTIONS}.
+         *
+         * @param warmUpOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder warmUpOptions(WarmUpOptions warmUpOptions) {
+
+            LettuceAssert.notNull(warmUpOptions, "WarmUpOptions must not be null");
+            this.warmUpOptions = warmUpOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgingOptions} to hedge read-only commands of Redis Cluster and Master/Replica connections across
+         * replicas. See {@link #DEFAULT_HEDGING_OPTIONS}.
+         *
+         * @param hedgingOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder hedgingOptions(HedgingOptions hedgingOptions) {
+
+            LettuceAssert.notNull(hedgingOptions, "HedgingOptions must not be null");
+            this.hedgingOptions = hedgingOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link CircuitBreakerOptions} to fail fast and to shed load per endpoint when a Redis node degrades.
+         * Defaults to {@link #DEFAULT_CIRCUIT_BREAKER_OPTIONS}, the circuit breaker is disabled.
+         *
+         * @param circuitBreakerOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder circuitBreakerOptions(CircuitBreakerOptions circuitBreakerOptions) {
+
+            LettuceAssert.notNull(circuitBreakerOptions, "CircuitBreakerOptions must not be null");
+            this.circuitBreakerOptions = circuitBreakerOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PriorityOptions} to schedule commands by {@link CommandPriority} in priority lanes. Defaults to
+         * {@link #DEFAULT_PRIORITY_OPTIONS}, priority lanes are disabled.
+         *
+         * @param priorityOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder priorityOptions(PriorityOptions priorityOptions) {
+
+            LettuceAssert.notNull(priorityOptions, "PriorityOptions must not be null");
+            this.priorityOptions = priorityOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubDispatchOptions} to dispatch Pub/Sub messages off the I/O thread. Defaults to
+         * {@link #DEFAULT_PUBSUB_DISPATCH_OPTIONS}.
+         *
+         * @param pubSubDispatchOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+
+            LettuceAssert.notNull(pubSubDispatchOptions, "PubSubDispatchOptions must not be null");
+            this.pubSubDispatchOptions = pubSubDispatchOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DisconnectedBufferOptions} to limit the memory retained by commands buffered while disconnected.
+         * Defaults to {@link #DEFAULT_DISCONNECTED_BUFFER_OPTIONS}.
+         *
+         * @param disconnectedBufferOptions must not be {@code null}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder disconnectedBufferOptions(DisconnectedBufferOptions disconnectedBufferOptions) {
+
+            LettuceAssert.notNull(disconnectedBufferOptions, "DisconnectedBufferOptions must not be null");
+            this.disconnectedBufferOptions = disconnectedBufferOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -446,9 +608,15 @@ public class ClientOptions implements Serializable {
                 .decodeBufferPolicy(getDecodeBufferPolicy()).disconnectedBehavior(getDisconnectedBehavior())
                 .readOnlyCommands(getReadOnlyCommands())
                 .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
-                .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
+                .pipelinedHandshake(isPipelinedHandshake()).protocolVersion(getConfiguredProtocolVersion())
+                .requestQueueSize(getRequestQueueSize())
                 .scriptCharset(getScriptCharset()).socketOptions(getSocketOptions()).sslOptions(getSslOptions())
-                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .warmUpOptions(getWarmUpOptions()).hedgingOptions(getHedgingOptions())
+                .circuitBreakerOptions(getCircuitBreakerOptions())
+                .priorityOptions(getPriorityOptions())
+                .pubSubDispatchOptions(getPubSubDispatchOptions())
+                .disconnectedBufferOptions(getDisconnectedBufferOptions());
 
         return builder;
     }
@@ -549,6 +717,17 @@ public class ClientOptions implements Serializable {
         return pingBeforeActivateConnection;
     }
 
+    /**
+     * Pipeline the connection handshake and the post-handshake commands in a single flush. Falls back to the regular handshake
+     * if the pipelined handshake fails.
+     *
+     * @return {@code true} if the handshake is pipelined.
+     * @since 7.0
+     */
+    public boolean isPipelinedHandshake() {
+        return pipelinedHandshake;
+    }
+
     /**
      * Returns the {@link ProtocolVersion} to use.
      *
@@ -634,6 +813,66 @@ public class ClientOptions implements Serializable {
         return timeoutOptions;
     }
 
+    /**
+     * Returns the {@link WarmUpOptions}.
+     *
+     * @return the {@link WarmUpOptions}.
+     * @since 7.0
+     */
+    public WarmUpOptions getWarmUpOptions() {
+        return warmUpOptions;
+    }
+
+    /**
+     * Returns the {@link HedgingOptions}.
+     *
+     * @return the {@link HedgingOptions}.
+     * @since 7.0
+     */
+    public HedgingOptions getHedgingOptions() {
+        return hedgingOptions;
+    }
+
+    /**
+     * Returns the {@link CircuitBreakerOptions}.
+     *
+     * @return the {@link CircuitBreakerOptions}.
+     * @since 7.0
+     */
+    public CircuitBreakerOptions getCircuitBreakerOptions() {
+        return circuitBreakerOptions;
+    }
+
+    /**
+     * Returns the {@link PriorityOptions}.
+     *
+     * @return the {@link PriorityOptions}.
+     * @since 7.0
+     */
+    public PriorityOptions getPriorityOptions() {
+        return priorityOptions;
+    }
+
+    /**
+     * Returns the {@link PubSubDispatchOptions}.
+     *
+     * @return the {@link PubSubDispatchOptions}.
+     * @since 7.0
+     */
+    public PubSubDispatchOptions getPubSubDispatchOptions() {
+        return pubSubDispatchOptions;
+    }
+
+    /**
+     * Returns the {@link DisconnectedBufferOptions}.
+     *
+     * @return the {@link DisconnectedBufferOptions}.
+     * @since 7.0
+     */
+    public DisconnectedBufferOptions getDisconnectedBufferOptions() {
+        return disconnectedBufferOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
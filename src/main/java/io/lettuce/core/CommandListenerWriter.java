@@ -15,26 +15,36 @@
  */
 package io.lettuce.core;
 
-import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import io.lettuce.core.event.command.CommandFailedEvent;
 import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandSampler;
 import io.lettuce.core.event.command.CommandStartedEvent;
 import io.lettuce.core.event.command.CommandSucceededEvent;
 import io.lettuce.core.internal.ExceptionFactory;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.CommandWrapper;
+import io.lettuce.core.protocol.CompleteableCommand;
 import io.lettuce.core.protocol.ConnectionFacade;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.resource.ClientResources;
 
 /**
  * Writer for command listeners.
+ * <p>
+ * Commands are passed through as-is if no listener {@link CommandListener#getSampler() samples} them. Sampled commands are
+ * observed through their {@link CompleteableCommand completion callback}; events are only created for callbacks that a sampling
+ * listener implements. Durations are measured using {@link System#nanoTime()}, start timestamps are derived from the monotonic
+ * clock.
  *
  * @author Mikhael Sokolov
  * @author Mark Paluch
@@ -43,15 +53,68 @@ import io.lettuce.core.resource.ClientResources;
 @SuppressWarnings("unchecked")
 public class CommandListenerWriter implements RedisChannelWriter {
 
+    private static final int MAX_LISTENERS = Long.SIZE;
+
+    /**
+     * Offset to derive wall-clock time from {@link System#nanoTime()} so that each command requires a single clock read upon
+     * start.
+     */
+    private static final long EPOCH_OFFSET_NANOS = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis())
+            - System.nanoTime();
+
     private final RedisChannelWriter delegate;
 
-    private final CommandListener listener;
+    private final CommandListener[] listeners;
+
+    private final CommandSampler[] samplers;
+
+    private final boolean sampleAll;
 
-    private final Clock clock = Clock.systemDefaultZone();
+    private final long allListeners;
+
+    private final long startedListeners;
+
+    private final long succeededListeners;
+
+    private final long failedListeners;
 
     public CommandListenerWriter(RedisChannelWriter delegate, List<CommandListener> listeners) {
+
         this.delegate = delegate;
-        this.listener = new CommandListenerMulticaster(new ArrayList<>(listeners));
+        this.listeners = listeners.size() > MAX_LISTENERS
+                ? new CommandListener[] { new CommandListenerMulticaster(new ArrayList<>(listeners)) }
+                : listeners.toArray(new CommandListener[0]);
+        this.samplers = new CommandSampler[this.listeners.length];
+
+        boolean sampleAll = true;
+        long started = 0, succeeded = 0, failed = 0;
+
+        for (int i = 0; i < this.listeners.length; i++) {
+
+            CommandListener listener = this.listeners[i];
+            long bit = 1L << i;
+
+            samplers[i] = listener.getSampler();
+            sampleAll &= samplers[i] == CommandSampler.always();
+
+            if (implementsCallback(listener, "commandStarted", CommandStartedEvent.class)) {
+                started |= bit;
+            }
+
+            if (implementsCallback(listener, "commandSucceeded", CommandSucceededEvent.class)) {
+                succeeded |= bit;
+            }
+
+            if (implementsCallback(listener, "commandFailed", CommandFailedEvent.class)) {
+                failed |= bit;
+            }
+        }
+
+        this.sampleAll = sampleAll;
+        this.allListeners = this.listeners.length == MAX_LISTENERS ? -1L : (1L << this.listeners.length) - 1;
+        this.startedListeners = started;
+        this.succeededListeners = succeeded;
+        this.failedListeners = failed;
     }
 
     /**
@@ -69,30 +132,97 @@ public class CommandListenerWriter implements RedisChannelWriter {
 
     @Override
     public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
-        long now = clock.millis();
-        CommandStartedEvent startedEvent = new CommandStartedEvent((RedisCommand<Object, Object, Object>) command, now);
-        listener.commandStarted(startedEvent);
 
-        return delegate.write(new RedisCommandListenerCommand<>(command, clock, startedEvent.getContext(), now, listener));
+        long sampled = sample(command);
+
+        if (sampled == 0) {
+            return delegate.write(command);
+        }
+
+        return delegate.write(listen(command, sampled));
     }
 
     @Override
+    @SuppressWarnings({ "rawtypes" })
     public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> redisCommands) {
 
-        List<RedisCommandListenerCommand<K, V, ?>> listenedCommands = new ArrayList<>();
-        long now = clock.millis();
+        List<RedisCommand<K, V, ?>> decorated = null;
+        int index = 0;
 
         for (RedisCommand<K, V, ?> redisCommand : redisCommands) {
 
-            CommandStartedEvent startedEvent = new CommandStartedEvent((RedisCommand<Object, Object, Object>) redisCommand,
-                    now);
-            listener.commandStarted(startedEvent);
-            RedisCommandListenerCommand<K, V, ?> command = new RedisCommandListenerCommand<>(redisCommand, clock,
-                    startedEvent.getContext(), now, listener);
-            listenedCommands.add(command);
+            long sampled = sample(redisCommand);
+            RedisCommand<K, V, ?> toWrite = sampled == 0 ? redisCommand : listen(redisCommand, sampled);
+
+            if (toWrite != redisCommand && decorated == null) {
+
+                decorated = new ArrayList<>(redisCommands.size());
+                Iterator<? extends RedisCommand<K, V, ?>> iterator = redisCommands.iterator();
+                for (int i = 0; i < index; i++) {
+                    decorated.add(iterator.next());
+                }
+            }
+
+            if (decorated != null) {
+                decorated.add(toWrite);
+            }
+
+            index++;
         }
 
-        return delegate.write(listenedCommands);
+        return delegate.write(decorated != null ? decorated : (Collection) redisCommands);
+    }
+
+    private long sample(RedisCommand<?, ?, ?> command) {
+
+        if (sampleAll) {
+            return allListeners;
+        }
+
+        long sampled = 0;
+        for (int i = 0; i < samplers.length; i++) {
+            if (samplers[i].isSampled(command)) {
+                sampled |= 1L << i;
+            }
+        }
+
+        return sampled;
+    }
+
+    private <K, V, T> RedisCommand<K, V, T> listen(RedisCommand<K, V, T> command, long sampled) {
+
+        long startedNanos = System.nanoTime();
+        ListenerNotification notification = new ListenerNotification((RedisCommand<Object, Object, Object>) command, sampled,
+                TimeUnit.NANOSECONDS.toMillis(startedNanos + EPOCH_OFFSET_NANOS), startedNanos);
+
+        if ((sampled & startedListeners) != 0) {
+
+            notification.context = new HashMap<>();
+            CommandStartedEvent event = new CommandStartedEvent(notification.command, notification.context,
+                    notification.startedAt);
+
+            for (int i = 0; i < listeners.length; i++) {
+                if ((sampled & startedListeners & (1L << i)) != 0) {
+                    listeners[i].commandStarted(event);
+                }
+            }
+        }
+
+        if (command instanceof CompleteableCommand) {
+            ((CompleteableCommand<T>) command).onComplete(notification);
+            return command;
+        }
+
+        return new RedisCommandListenerCommand<>(command, notification);
+    }
+
+    private static boolean implementsCallback(CommandListener listener, String name, Class<?> eventType) {
+
+        try {
+            return listener.getClass().getMethod(name, eventType).getDeclaringClass() != CommandListener.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 
     @Override
@@ -135,51 +265,100 @@ public class CommandListenerWriter implements RedisChannelWriter {
         return this.delegate;
     }
 
-    private static class RedisCommandListenerCommand<K, V, T> extends CommandWrapper<K, V, T> {
+    /**
+     * Completion callback notifying sampling listeners about command completion.
+     */
+    private class ListenerNotification implements BiConsumer<Object, Throwable> {
 
-        private final Clock clock;
+        private final RedisCommand<Object, Object, Object> command;
 
-        private final Map<String, Object> context;
+        private final long sampled;
 
         private final long startedAt;
 
-        private final CommandListener listener;
+        private final long startedNanos;
 
-        public RedisCommandListenerCommand(RedisCommand<K, V, T> command, Clock clock, Map<String, Object> context,
-                long startedAt, CommandListener listener) {
-            super(command);
+        private Map<String, Object> context;
 
-            this.clock = clock;
-            this.context = context;
+        ListenerNotification(RedisCommand<Object, Object, Object> command, long sampled, long startedAt, long startedNanos) {
+            this.command = command;
+            this.sampled = sampled;
             this.startedAt = startedAt;
-            this.listener = listener;
+            this.startedNanos = startedNanos;
         }
 
         @Override
-        protected void doOnComplete() {
-            if (getOutput().hasError()) {
+        public void accept(Object result, Throwable throwable) {
 
-                CommandFailedEvent failedEvent = new CommandFailedEvent((RedisCommand<Object, Object, Object>) command, context,
-                        ExceptionFactory.createExecutionException(getOutput().getError()));
-                listener.commandFailed(failedEvent);
+            if (throwable == null) {
+                onSuccess();
             } else {
-                long now = clock.millis();
-                CommandSucceededEvent succeededEvent = new CommandSucceededEvent((RedisCommand<Object, Object, Object>) command,
-                        context, startedAt, now);
-                listener.commandSucceeded(succeededEvent);
+                onFailure(throwable);
             }
         }
 
+        private void onSuccess() {
+
+            long notify = sampled & succeededListeners;
+
+            if (notify == 0) {
+                return;
+            }
+
+            CommandSucceededEvent event = new CommandSucceededEvent(command, context, startedAt,
+                    System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+
+            for (int i = 0; i < listeners.length; i++) {
+                if ((notify & (1L << i)) != 0) {
+                    listeners[i].commandSucceeded(event);
+                }
+            }
+        }
+
+        private void onFailure(Throwable throwable) {
+
+            long notify = sampled & failedListeners;
+
+            if (notify == 0) {
+                return;
+            }
+
+            CommandFailedEvent event = new CommandFailedEvent(command, context, throwable);
+
+            for (int i = 0; i < listeners.length; i++) {
+                if ((notify & (1L << i)) != 0) {
+                    listeners[i].commandFailed(event);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Fallback for commands that do not expose completion callbacks.
+     */
+    private static class RedisCommandListenerCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        private final BiConsumer<Object, Throwable> notification;
+
+        public RedisCommandListenerCommand(RedisCommand<K, V, T> command, BiConsumer<Object, Throwable> notification) {
+            super(command);
+            this.notification = notification;
+        }
+
         @Override
-        protected void doOnError(Throwable throwable) {
-            CommandFailedEvent failedEvent = new CommandFailedEvent((RedisCommand<Object, Object, Object>) command, context,
-                    throwable);
-            listener.commandFailed(failedEvent);
+        protected void doOnComplete() {
+
+            if (getOutput() != null && getOutput().hasError()) {
+                notification.accept(null, ExceptionFactory.createExecutionException(getOutput().getError()));
+            } else {
+                notification.accept(null, null);
+            }
         }
 
         @Override
-        public void cancel() {
-            super.cancel();
+        protected void doOnError(Throwable throwable) {
+            notification.accept(null, throwable);
         }
 
     }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+/**
+ * Priority of commands sharing a connection. Commands with a higher priority are written before queued commands with a lower
+ * priority if {@link PriorityOptions priority lanes} are enabled. Commands are {@link #NORMAL} unless dispatched through a
+ * priority view such as {@link io.lettuce.core.api.StatefulRedisConnection#async(CommandPriority)}.
+ *
+ * @since 7.0
+ * @see PriorityOptions
+ */
+public enum CommandPriority {
+
+    /**
+     * Latency-critical commands, written ahead of queued {@link #NORMAL} and {@link #LOW} commands.
+     */
+    HIGH,
+
+    /**
+     * Default priority.
+     */
+    NORMAL,
+
+    /**
+     * Background commands (e.g. bulk writes), written only when the connection is not busy with commands of higher priority.
+     */
+    LOW
+
+}
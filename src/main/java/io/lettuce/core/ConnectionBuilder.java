@@ -20,6 +20,7 @@ import java.net.SocketOption;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -93,6 +94,13 @@ public class ConnectionBuilder {
 
     private RedisURI redisURI;
 
+    private boolean domainSocket;
+
+    private Function<Class<? extends EventLoopGroup>, EventLoopGroup> eventLoopGroupProvider;
+
+    // options set before the transport was configured, retained when re-initializing the bootstrap
+    private Map<ChannelOption<?>, Object> bootstrapOptions;
+
     public static ConnectionBuilder connectionBuilder() {
         return new ConnectionBuilder();
     }
@@ -149,9 +157,10 @@ public class ConnectionBuilder {
         LettuceAssert.assertState(bootstrap != null, "Bootstrap must be set for autoReconnect=true");
         LettuceAssert.assertState(socketAddressSupplier != null, "SocketAddressSupplier must be set for autoReconnect=true");
 
-        ConnectionWatchdog watchdog = new ConnectionWatchdog(clientResources.reconnectDelay(), clientOptions, bootstrap,
-                clientResources.timer(), clientResources.eventExecutorGroup(), socketAddressSupplier, reconnectionListener,
-                connection, clientResources.eventBus(), endpoint);
+        ConnectionWatchdog watchdog = new ConnectionWatchdog(clientResources.reconnectDelay(),
+                clientResources.reconnectLimiter(), clientOptions, bootstrap, clientResources.timer(),
+                clientResources.eventExecutorGroup(), socketAddressSupplier, reconnectionListener, connection,
+                clientResources.eventBus(), endpoint);
 
         endpoint.registerConnectionWatchdog(watchdog);
 
@@ -245,15 +254,21 @@ public class ConnectionBuilder {
         LettuceAssert.assertState(bootstrap != null, "Bootstrap must be set");
         LettuceAssert.assertState(clientOptions != null, "ClientOptions must be set");
 
-        Class<? extends EventLoopGroup> eventLoopGroupClass = Transports.eventLoopGroupClass();
+        this.domainSocket = domainSocket;
+        this.eventLoopGroupProvider = eventLoopGroupProvider;
+
+        if (bootstrapOptions == null) {
+            bootstrapOptions = bootstrap.config().options();
+        }
+
+        Class<? extends EventLoopGroup> eventLoopGroupClass = Transports.eventLoopGroupClass(domainSocket);
 
         Class<? extends Channel> channelClass = Transports.socketChannelClass();
 
         if (domainSocket) {
 
-            Transports.NativeTransports.assertDomainSocketAvailable();
-            eventLoopGroupClass = Transports.NativeTransports.eventLoopGroupClass(true);
-            channelClass = Transports.NativeTransports.domainSocketChannelClass();
+            Transports.assertDomainSocketAvailable();
+            channelClass = Transports.domainSocketChannelClass();
         } else {
             bootstrap.resolver(clientResources.addressResolverGroup());
         }
@@ -263,11 +278,38 @@ public class ConnectionBuilder {
 
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(options.getConnectTimeout().toMillis()));
 
+        boolean epoll = EpollProvider.isAvailable() && EpollProvider.getResources().matches(eventLoopGroupClass);
+        boolean ioUring = IOUringProvider.isAvailable() && IOUringProvider.getResources().matches(eventLoopGroupClass);
+
+        if (epoll) {
+            EpollProvider.applyEdgeTriggered(bootstrap, options.isEdgeTriggered());
+        }
+
         if (!domainSocket) {
 
             bootstrap.option(ChannelOption.SO_KEEPALIVE, options.isKeepAlive());
             bootstrap.option(ChannelOption.TCP_NODELAY, options.isTcpNoDelay());
 
+            if (options.isTcpQuickAck()) {
+
+                if (ioUring) {
+                    IOUringProvider.applyTcpQuickAck(bootstrap, true);
+                } else if (epoll) {
+                    EpollProvider.applyTcpQuickAck(bootstrap, true);
+                } else {
+                    logger.warn("Cannot apply TCP quick ACK options to channel type " + channelClass.getName());
+                }
+            }
+
+            if (options.isBusyPollEnabled()) {
+
+                if (epoll) {
+                    EpollProvider.applyBusyPoll(bootstrap, options.getBusyPoll());
+                } else {
+                    logger.warn("Cannot apply busy-poll options to channel type " + channelClass.getName());
+                }
+            }
+
             if (options.isEnableTcpUserTimeout()) {
 
                 SocketOptions.TcpUserTimeoutOptions tcpUserTimeoutOptions = options.getTcpUserTimeout();
@@ -302,6 +344,32 @@ public class ConnectionBuilder {
 
     }
 
+    /**
+     * Re-initialize the {@link Bootstrap} if the transport that was configured through
+     * {@link #configureBootstrap(boolean, Function)} does not match the resolved {@link SocketAddress}. This is the case when
+     * an endpoint resolves to a Unix Domain Socket while the connection settings point to a TCP endpoint (or vice versa),
+     * e.g. for Redis Cluster nodes discovered through a domain socket seed.
+     *
+     * @param socketAddress the resolved address to connect to.
+     * @since 7.0
+     */
+    @SuppressWarnings("unchecked")
+    public void configureBootstrap(SocketAddress socketAddress) {
+
+        if (eventLoopGroupProvider == null || Transports.isDomainSocketAddress(socketAddress) == domainSocket) {
+            return;
+        }
+
+        Bootstrap previous = bootstrap;
+        bootstrap = new Bootstrap();
+
+        // transport-specific options are applied again, attributes (such as REDIS_URI) are retained as-is
+        bootstrapOptions.forEach((option, value) -> bootstrap.option((ChannelOption<Object>) option, value));
+        previous.config().attrs().forEach((key, value) -> bootstrap.attr((AttributeKey<Object>) key, value));
+
+        configureBootstrap(!domainSocket, eventLoopGroupProvider);
+    }
+
     public RedisChannelHandler<?, ?> connection() {
         return connection;
     }
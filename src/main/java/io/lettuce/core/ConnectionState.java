@@ -107,6 +107,10 @@ public class ConnectionState {
         this.handshakeResponse = handshakeResponse;
     }
 
+    HandshakeResponse getHandshakeResponse() {
+        return handshakeResponse;
+    }
+
     /**
      * Sets username/password state based on the argument count from an {@code AUTH} command.
      *
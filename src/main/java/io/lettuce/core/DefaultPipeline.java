@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.lettuce.core.api.Pipeline;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Default {@link Pipeline} implementation collecting commands in a local list and dispatching the collected commands as a
+ * single batch through a {@code dispatcher}, typically {@code StatefulConnection.dispatch(Collection)}. The command API is
+ * expected to hand over its commands through {@link #add(RedisCommand)} instead of dispatching them to the connection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <C> type of the command API.
+ * @since 7.0
+ */
+public class DefaultPipeline<K, V, C> implements Pipeline<C> {
+
+    private final Consumer<Collection<RedisCommand<K, V, ?>>> dispatcher;
+
+    private final C commands;
+
+    private List<AsyncCommand<K, V, ?>> buffer = new ArrayList<>();
+
+    /**
+     * Create a new {@link DefaultPipeline}.
+     *
+     * @param dispatcher the dispatcher writing a batch of commands, must not be {@code null}.
+     * @param commandsFactory factory creating the command API that collects commands in this pipeline, must not be
+     *        {@code null}.
+     */
+    public DefaultPipeline(Consumer<Collection<RedisCommand<K, V, ?>>> dispatcher,
+            Function<DefaultPipeline<K, V, C>, C> commandsFactory) {
+
+        LettuceAssert.notNull(dispatcher, "Dispatcher must not be null");
+        LettuceAssert.notNull(commandsFactory, "Commands factory must not be null");
+
+        this.dispatcher = dispatcher;
+        this.commands = commandsFactory.apply(this);
+    }
+
+    /**
+     * Add a command to this pipeline.
+     *
+     * @param command the command.
+     * @return the {@link AsyncCommand} completing once the command completes after the pipeline was flushed.
+     */
+    public <T> AsyncCommand<K, V, T> add(RedisCommand<K, V, T> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        AsyncCommand<K, V, T> asyncCommand = new AsyncCommand<>(command);
+        buffer.add(asyncCommand);
+
+        return asyncCommand;
+    }
+
+    @Override
+    public C commands() {
+        return commands;
+    }
+
+    @Override
+    public int size() {
+        return buffer.size();
+    }
+
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public CompletableFuture<List<Object>> flush() {
+
+        if (buffer.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        List<AsyncCommand<K, V, ?>> commands = buffer;
+        buffer = new ArrayList<>();
+
+        dispatcher.accept((Collection) commands);
+
+        return CompletableFuture.allOf(commands.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+
+            List<Object> results = new ArrayList<>(commands.size());
+
+            for (AsyncCommand<K, V, ?> command : commands) {
+                results.add(command.join());
+            }
+
+            return results;
+        });
+    }
+
+    @Override
+    public void discard() {
+
+        List<AsyncCommand<K, V, ?>> commands = buffer;
+        buffer = new ArrayList<>();
+
+        for (AsyncCommand<K, V, ?> command : commands) {
+            command.cancel();
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to bound the memory retained by commands that are buffered while a connection is disconnected (see
+ * {@link ClientOptions.DisconnectedBehavior}). {@link ClientOptions#getRequestQueueSize()} limits the number of buffered
+ * commands. These options additionally limit the buffered bytes, measured as the sum of the encoded sizes of the command
+ * arguments, so that an outage does not exhaust the Java heap when commands carry large values.
+ * <p>
+ * Buffered commands can be encoded into pooled buffers of the channel's {@link io.netty.buffer.ByteBufAllocator allocator}
+ * (direct memory by default) when being buffered. Encoded commands no longer reference their keys and values, which can then
+ * be garbage collected unless referenced elsewhere. Connection-state commands such as {@code AUTH} or {@code SELECT} are
+ * never encoded.
+ * <p>
+ * The {@link OverflowPolicy} determines what happens if a command would exceed {@link #getMaxBytes()}.
+ *
+ * @since 7.0
+ * @see io.lettuce.core.metrics.EndpointMetrics#getDisconnectedBufferedBytes()
+ */
+public class DisconnectedBufferOptions {
+
+    public static final long DEFAULT_MAX_BYTES = Long.MAX_VALUE;
+
+    public static final boolean DEFAULT_ENCODE_COMMANDS = false;
+
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.REJECT;
+
+    public static final long DEFAULT_MAX_SPILL_BYTES = Long.MAX_VALUE;
+
+    private final long maxBytes;
+
+    private final boolean encodeCommands;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final long maxSpillBytes;
+
+    private DisconnectedBufferOptions(Builder builder) {
+
+        this.maxBytes = builder.maxBytes;
+        this.encodeCommands = builder.encodeCommands;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.maxSpillBytes = builder.maxSpillBytes;
+    }
+
+    /**
+     * Returns a new {@link DisconnectedBufferOptions.Builder} to construct {@link DisconnectedBufferOptions}.
+     *
+     * @return a new {@link DisconnectedBufferOptions.Builder} to construct {@link DisconnectedBufferOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link DisconnectedBufferOptions} with default settings. Buffered bytes are not limited and
+     * commands are retained as-is.
+     *
+     * @return a new instance of {@link DisconnectedBufferOptions} with default settings.
+     */
+    public static DisconnectedBufferOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link DisconnectedBufferOptions}.
+     */
+    public static class Builder {
+
+        private long maxBytes = DEFAULT_MAX_BYTES;
+
+        private boolean encodeCommands = DEFAULT_ENCODE_COMMANDS;
+
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        private long maxSpillBytes = DEFAULT_MAX_SPILL_BYTES;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of bytes of buffered commands, measured as the sum of their encoded argument sizes. See
+         * {@link #DEFAULT_MAX_BYTES}.
+         *
+         * @param maxBytes the maximum number of bytes, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder maxBytes(long maxBytes) {
+
+            LettuceAssert.isTrue(maxBytes > 0, "Max bytes must be greater zero");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Encode commands into pooled buffers when buffering them to release their keys and values. See
+         * {@link #DEFAULT_ENCODE_COMMANDS}.
+         *
+         * @return {@code this}
+         */
+        public Builder encodeCommands() {
+            return encodeCommands(true);
+        }
+
+        /**
+         * Enable or disable encoding commands into pooled buffers when buffering them. See {@link #DEFAULT_ENCODE_COMMANDS}.
+         *
+         * @param encodeCommands {@code true} to encode buffered commands.
+         * @return {@code this}
+         */
+        public Builder encodeCommands(boolean encodeCommands) {
+
+            this.encodeCommands = encodeCommands;
+            return this;
+        }
+
+        /**
+         * Sets the {@link OverflowPolicy} to apply once {@link #maxBytes(long)} is reached. See
+         * {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes of commands spilled into pooled buffers once {@link #maxBytes(long)} is reached.
+         * Applies only to {@link OverflowPolicy#SPILL}. See {@link #DEFAULT_MAX_SPILL_BYTES}.
+         *
+         * @param maxSpillBytes the maximum number of spilled bytes, must be greater or equal to zero.
+         * @return {@code this}
+         */
+        public Builder maxSpillBytes(long maxSpillBytes) {
+
+            LettuceAssert.isTrue(maxSpillBytes >= 0, "Max spill bytes must be greater or equal to zero");
+
+            this.maxSpillBytes = maxSpillBytes;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link DisconnectedBufferOptions}.
+         *
+         * @return new instance of {@link DisconnectedBufferOptions}
+         */
+        public DisconnectedBufferOptions build() {
+            return new DisconnectedBufferOptions(this);
+        }
+
+    }
+
+    /**
+     * @return the maximum number of bytes of buffered commands.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return {@code true} if buffered commands are encoded into pooled buffers.
+     */
+    public boolean isEncodeCommands() {
+        return encodeCommands;
+    }
+
+    /**
+     * @return the {@link OverflowPolicy}.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the maximum number of bytes of commands spilled into pooled buffers.
+     */
+    public long getMaxSpillBytes() {
+        return maxSpillBytes;
+    }
+
+    /**
+     * @return {@code true} if the buffered bytes are limited.
+     */
+    public boolean isLimited() {
+        return maxBytes != Long.MAX_VALUE;
+    }
+
+    /**
+     * Policy applied when buffering a command would exceed {@link #getMaxBytes()}.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Reject the new command by completing it exceptionally.
+         */
+        REJECT,
+
+        /**
+         * Fail the oldest buffered commands until the new command fits into the buffer.
+         */
+        DISCARD_OLDEST,
+
+        /**
+         * Encode the new command into a pooled buffer (direct memory by default) instead of retaining it on the heap. Spilled
+         * commands are limited by {@link #getMaxSpillBytes()}, commands exceeding that limit are rejected.
+         */
+        SPILL
+
+    }
+
+}
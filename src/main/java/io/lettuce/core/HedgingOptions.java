@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control hedged reads of Redis Cluster and Master/Replica connections. A read-only command routed through
+ * {@link ReadFrom} that has not completed after the {@link #getDelay() hedge delay} is sent to a second eligible node that is
+ * already connected. The command completes with whichever response arrives first, the other response is discarded. Hedging
+ * trades additional load for lower tail latency; the {@link #getBudget() budget} limits hedges to a fraction of the read
+ * traffic.
+ * <p>
+ * Hedging applies to read-only commands outside of transactions when more than one node is eligible according to
+ * {@link ReadFrom}. Commands using {@link io.lettuce.core.protocol.EagerCommandArgs} are not hedged. Each hedge publishes a
+ * {@link io.lettuce.core.event.command.HedgedReadEvent}.
+ *
+ * @since 7.0
+ */
+public class HedgingOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(10);
+
+    public static final double DEFAULT_PERCENTILE = 0;
+
+    public static final double DEFAULT_BUDGET = 0.05;
+
+    private final boolean enabled;
+
+    private final Duration delay;
+
+    private final double percentile;
+
+    private final double budget;
+
+    private HedgingOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.delay = builder.delay;
+        this.percentile = builder.percentile;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Returns a new {@link HedgingOptions.Builder} to construct {@link HedgingOptions}.
+     *
+     * @return a new {@link HedgingOptions.Builder} to construct {@link HedgingOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link HedgingOptions} with default settings. Hedging is disabled.
+     *
+     * @return a new instance of {@link HedgingOptions} with default settings.
+     */
+    public static HedgingOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link HedgingOptions} with hedging enabled.
+     *
+     * @return a new instance of {@link HedgingOptions} with hedging enabled.
+     */
+    public static HedgingOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link HedgingOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Duration delay = DEFAULT_DELAY;
+
+        private double percentile = DEFAULT_PERCENTILE;
+
+        private double budget = DEFAULT_BUDGET;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable hedged reads. See {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Enable or disable hedged reads. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to hedge reads.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a pending read is hedged. Acts as lower bound if the delay is derived from a
+         * {@link #percentile(double) latency percentile}. See {@link #DEFAULT_DELAY}.
+         *
+         * @param delay the hedge delay, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder delay(Duration delay) {
+
+            LettuceAssert.notNull(delay, "Delay must not be null");
+            LettuceAssert.isTrue(!delay.isNegative(), "Delay must not be negative");
+
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Derive the hedge delay from the observed latency percentile of the node serving the read, e.g. {@code 0.95} to hedge
+         * reads that are slower than 95% of the reads served by the node. {@code 0} uses the fixed {@link #delay(Duration)}.
+         * See {@link #DEFAULT_PERCENTILE}.
+         *
+         * @param percentile the percentile between {@code 0} (exclusive, disables the percentile) and {@code 1} (exclusive).
+         * @return {@code this}
+         */
+        public Builder percentile(double percentile) {
+
+            LettuceAssert.isTrue(percentile >= 0 && percentile < 1, "Percentile must be between 0 and 1 (exclusive)");
+
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the hedge budget as fraction of read commands that may be hedged, e.g. {@code 0.05} to send at most 5% additional
+         * reads. See {@link #DEFAULT_BUDGET}.
+         *
+         * @param budget the hedge budget between {@code 0} and {@code 1}.
+         * @return {@code this}
+         */
+        public Builder budget(double budget) {
+
+            LettuceAssert.isTrue(budget >= 0 && budget <= 1, "Budget must be between 0 and 1");
+
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link HedgingOptions}.
+         *
+         * @return new instance of {@link HedgingOptions}
+         */
+        public HedgingOptions build() {
+            return new HedgingOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if reads are hedged.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the hedge delay or its lower bound if using a {@link #getPercentile() percentile}.
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return the latency percentile to derive the hedge delay from. {@code 0} if using a fixed delay.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * @return the fraction of read commands that may be hedged.
+     */
+    public double getBudget() {
+        return budget;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control priority lanes for commands sharing a connection. Without priority lanes, all commands of a connection
+ * are written in a single FIFO order so latency-critical commands queue up behind bulk writes. With priority lanes enabled,
+ * commands are written directly as long as the channel is writable. Once the channel becomes unwritable (its outbound buffer
+ * exceeds the high water mark), {@link CommandPriority#NORMAL} and {@link CommandPriority#LOW} commands are held in one
+ * queue per priority. {@link CommandPriority#HIGH} commands bypass queued commands of lower priority. Queued commands are
+ * written by deficit round-robin once the channel is writable again: each lane may write up to its
+ * {@link #getWeight(CommandPriority) weight} multiplied by the {@link #getQuantum() quantum} in bytes per round.
+ * <p>
+ * Responses are correlated in write order so response ordering is preserved. Commands of the same priority are written in
+ * the order they were issued. Commands of different priorities may be reordered, therefore commands within a transaction
+ * ({@code MULTI}/{@code EXEC}) should use the same priority.
+ *
+ * @since 7.0
+ * @see CommandPriority
+ */
+public class PriorityOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_HIGH_WEIGHT = 8;
+
+    public static final int DEFAULT_NORMAL_WEIGHT = 4;
+
+    public static final int DEFAULT_LOW_WEIGHT = 1;
+
+    public static final int DEFAULT_QUANTUM = 16 * 1024;
+
+    private final boolean enabled;
+
+    private final int[] weights;
+
+    private final int quantum;
+
+    private PriorityOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.weights = builder.weights.clone();
+        this.quantum = builder.quantum;
+    }
+
+    /**
+     * Returns a new {@link PriorityOptions.Builder} to construct {@link PriorityOptions}.
+     *
+     * @return a new {@link PriorityOptions.Builder} to construct {@link PriorityOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link PriorityOptions} with default settings. Priority lanes are disabled.
+     *
+     * @return a new instance of {@link PriorityOptions} with default settings.
+     */
+    public static PriorityOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link PriorityOptions} with priority lanes enabled.
+     *
+     * @return a new instance of {@link PriorityOptions} with priority lanes enabled.
+     */
+    public static PriorityOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link PriorityOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private final int[] weights = { DEFAULT_HIGH_WEIGHT, DEFAULT_NORMAL_WEIGHT, DEFAULT_LOW_WEIGHT };
+
+        private int quantum = DEFAULT_QUANTUM;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable priority lanes. See {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Enable or disable priority lanes. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to enable priority lanes.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the weight of a {@link CommandPriority} lane. See {@link #DEFAULT_HIGH_WEIGHT}, {@link #DEFAULT_NORMAL_WEIGHT}
+         * and {@link #DEFAULT_LOW_WEIGHT}.
+         *
+         * @param priority the priority, must not be {@code null}.
+         * @param weight the weight, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder weight(CommandPriority priority, int weight) {
+
+            LettuceAssert.notNull(priority, "CommandPriority must not be null");
+            LettuceAssert.isTrue(weight > 0, "Weight must be greater zero");
+
+            this.weights[priority.ordinal()] = weight;
+            return this;
+        }
+
+        /**
+         * Sets the number of bytes a lane with weight {@code 1} may write per round. See {@link #DEFAULT_QUANTUM}.
+         *
+         * @param quantum the quantum in bytes, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder quantum(int quantum) {
+
+            LettuceAssert.isTrue(quantum > 0, "Quantum must be greater zero");
+
+            this.quantum = quantum;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PriorityOptions}.
+         *
+         * @return new instance of {@link PriorityOptions}
+         */
+        public PriorityOptions build() {
+            return new PriorityOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if priority lanes are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param priority the priority.
+     * @return the weight of the {@link CommandPriority} lane.
+     */
+    public int getWeight(CommandPriority priority) {
+        return weights[priority.ordinal()];
+    }
+
+    /**
+     * @return the number of bytes a lane with weight {@code 1} may write per round.
+     */
+    public int getQuantum() {
+        return quantum;
+    }
+
+}
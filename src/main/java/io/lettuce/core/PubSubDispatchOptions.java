@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.Executor;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control how Pub/Sub messages are dispatched to {@link io.lettuce.core.pubsub.RedisPubSubListener}s. By default,
+ * listeners are notified on the I/O thread that decodes the message, so a slow listener delays reading further responses of
+ * the connection.
+ * <p>
+ * With dispatching enabled, messages are handed off to an {@link Executor}. Messages of the same channel (or of the same
+ * pattern for pattern subscriptions) are delivered in order, one at a time, while messages of different channels are
+ * delivered concurrently. Each channel has a bounded queue; the {@link OverflowPolicy} determines what happens when a queue
+ * is full.
+ *
+ * @since 7.0
+ * @see io.lettuce.core.pubsub.PubSubDispatchStatistics
+ */
+public class PubSubDispatchOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BACKPRESSURE;
+
+    private final boolean enabled;
+
+    private final Executor executor;
+
+    private final int queueCapacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private PubSubDispatchOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.executor = builder.executor;
+        this.queueCapacity = builder.queueCapacity;
+        this.overflowPolicy = builder.overflowPolicy;
+    }
+
+    /**
+     * Returns a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     *
+     * @return a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with default settings. Dispatching is disabled.
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with default settings.
+     */
+    public static PubSubDispatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with dispatching enabled using the
+     * {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() event executor group}.
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with dispatching enabled.
+     */
+    public static PubSubDispatchOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link PubSubDispatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private Executor executor;
+
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable dispatching. See {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Enable or disable dispatching. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to enable dispatching.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} to notify listeners. Defaults to the
+         * {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() event executor group}. Using a virtual thread
+         * executor is possible on Java 21 and newer.
+         *
+         * @param executor the executor, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+
+            LettuceAssert.notNull(executor, "Executor must not be null");
+
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of queued messages per channel or pattern. See {@link #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity the queue capacity, must be greater zero.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater zero");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the {@link OverflowPolicy} to apply once a channel queue is full. See {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubDispatchOptions}.
+         *
+         * @return new instance of {@link PubSubDispatchOptions}
+         */
+        public PubSubDispatchOptions build() {
+            return new PubSubDispatchOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if dispatching is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the executor to notify listeners. {@code null} to use the event executor group.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return the maximum number of queued messages per channel or pattern.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the {@link OverflowPolicy}.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Policy applied when a channel queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Stop reading from the connection until the queue has drained to half of its capacity. The message is queued. Note
+         * that command responses of the connection are delayed as well.
+         */
+        BACKPRESSURE,
+
+        /**
+         * Discard the oldest queued message of the channel to make room for the new message.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the new message.
+         */
+        DROP_NEWEST
+
+    }
+
+}
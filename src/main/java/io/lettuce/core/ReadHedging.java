@@ -0,0 +1,349 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.event.command.HedgedReadEvent;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.ReplayOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.EagerCommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Dispatches read-only commands with hedging according to {@link HedgingOptions}. The command is sent to the primary
+ * connection through a proxy command capturing the response. If no response has arrived after the hedge delay and the hedge
+ * budget permits, a second proxy command is sent to an alternate connection. The first response is replayed on the actual
+ * command output and completes the command; the other proxy command is cancelled. Error responses (e.g. {@code MOVED}) are
+ * replayed as well so redirection logic applies as usual. Proxy commands are written like any other command so command
+ * timeouts and circuit breakers apply to each of them. Commands with single-use {@link EagerCommandArgs} are not hedged as
+ * both proxy commands share the arguments of the actual command. This class is part of the internal API.
+ *
+ * @since 7.0
+ */
+public class ReadHedging {
+
+    private static final long PERMIT = 1_000_000;
+
+    private static final long MAX_BALANCE = 10 * PERMIT;
+
+    private static final double ESTIMATE_STEP = 0.05;
+
+    private final HedgingOptions options;
+
+    private final ClientResources clientResources;
+
+    private final long deposit;
+
+    private final AtomicLong balance = new AtomicLong();
+
+    private final Map<StatefulConnection<?, ?>, AtomicLong> latencyEstimates = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    public ReadHedging(HedgingOptions options, ClientResources clientResources) {
+
+        LettuceAssert.notNull(options, "HedgingOptions must not be null");
+
+        this.options = options;
+        this.clientResources = clientResources;
+        this.deposit = (long) (options.getBudget() * PERMIT);
+    }
+
+    /**
+     * Check whether {@code command} can be hedged.
+     *
+     * @param command the command.
+     * @return {@code true} if hedging is enabled and the command can be sent twice.
+     */
+    public boolean isHedgeable(RedisCommand<?, ?, ?> command) {
+        return options.isEnabled() && clientResources != null && command.getOutput() != null
+                && !(command.getArgs() instanceof EagerCommandArgs);
+    }
+
+    /**
+     * Dispatch {@code command} to {@code primary} and hedge the command to the connection obtained from {@code alternate} if
+     * the read does not complete in time.
+     *
+     * @param command the command to dispatch.
+     * @param primary the primary connection.
+     * @param alternate supplier for an alternate connection, can return {@code null} if there is no alternate.
+     * @param writer function writing a command to a connection.
+     */
+    public <K, V, C extends StatefulConnection<K, V>> void dispatch(RedisCommand<K, V, ?> command, C primary,
+            Supplier<C> alternate, BiConsumer<RedisCommand<K, V, ?>, C> writer) {
+
+        balance.updateAndGet(current -> Math.min(MAX_BALANCE, current + deposit));
+        new HedgedRead<>(command, primary, alternate, writer).start();
+    }
+
+    long getDelay(StatefulConnection<?, ?> connection) {
+
+        long delay = options.getDelay().toNanos();
+
+        if (options.getPercentile() > 0) {
+
+            AtomicLong estimate = latencyEstimates.get(connection);
+            if (estimate != null) {
+                return Math.max(delay, estimate.get());
+            }
+        }
+
+        return delay;
+    }
+
+    void recordLatency(StatefulConnection<?, ?> connection, long latency) {
+
+        double percentile = options.getPercentile();
+
+        if (percentile <= 0) {
+            return;
+        }
+
+        AtomicLong estimate = latencyEstimates.computeIfAbsent(connection, it -> new AtomicLong(latency));
+
+        // stochastic approximation: the estimate moves up with probability (1 - percentile) and down with probability
+        // percentile so it settles where a fraction of percentile of the samples is below the estimate
+        estimate.updateAndGet(current -> {
+
+            long step = Math.max(1, (long) (current * ESTIMATE_STEP));
+            return latency > current ? current + (long) Math.ceil(step * percentile)
+                    : Math.max(1, current - (long) Math.ceil(step * (1 - percentile)));
+        });
+    }
+
+    boolean tryAcquire() {
+
+        while (true) {
+
+            long current = balance.get();
+
+            if (current < PERMIT) {
+                return false;
+            }
+
+            if (balance.compareAndSet(current, current - PERMIT)) {
+                return true;
+            }
+        }
+    }
+
+    static SocketAddress getRemoteAddress(StatefulConnection<?, ?> connection) {
+
+        if (!(connection instanceof RedisChannelHandler)) {
+            return null;
+        }
+
+        DefaultEndpoint endpoint = DefaultEndpoint.unwrap(((RedisChannelHandler<?, ?>) connection).getChannelWriter());
+
+        if (endpoint != null) {
+            return endpoint.getMetrics().getRemoteAddress();
+        }
+
+        return null;
+    }
+
+    /**
+     * State of a single hedged read.
+     */
+    class HedgedRead<K, V, C extends StatefulConnection<K, V>> {
+
+        private final RedisCommand<K, V, ?> command;
+
+        private final C primary;
+
+        private final Supplier<C> alternate;
+
+        private final BiConsumer<RedisCommand<K, V, ?>, C> writer;
+
+        private final long startedAt = System.nanoTime();
+
+        private Leg primaryLeg;
+
+        private Leg hedgeLeg;
+
+        private ScheduledFuture<?> timer;
+
+        private long delay;
+
+        private boolean done;
+
+        private Throwable failure;
+
+        HedgedRead(RedisCommand<K, V, ?> command, C primary, Supplier<C> alternate,
+                BiConsumer<RedisCommand<K, V, ?>, C> writer) {
+            this.command = command;
+            this.primary = primary;
+            this.alternate = alternate;
+            this.writer = writer;
+        }
+
+        void start() {
+
+            Leg leg = new Leg(primary);
+            leg.onComplete((result, throwable) -> onComplete(leg, throwable));
+
+            synchronized (this) {
+                primaryLeg = leg;
+                delay = getDelay(primary);
+            }
+
+            writer.accept(leg, primary);
+
+            synchronized (this) {
+                if (!done) {
+                    timer = clientResources.eventExecutorGroup().schedule(this::hedge, delay, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        void hedge() {
+
+            synchronized (this) {
+                if (done || hedgeLeg != null) {
+                    return;
+                }
+            }
+
+            C connection = alternate.get();
+
+            if (connection == null || connection == primary || !connection.isOpen() || !tryAcquire()) {
+                return;
+            }
+
+            Leg leg = new Leg(connection);
+            leg.onComplete((result, throwable) -> onComplete(leg, throwable));
+
+            synchronized (this) {
+
+                if (done) {
+                    balance.addAndGet(PERMIT);
+                    return;
+                }
+
+                hedgeLeg = leg;
+            }
+
+            writer.accept(leg, connection);
+        }
+
+        void onComplete(Leg leg, Throwable throwable) {
+
+            long now = System.nanoTime();
+
+            boolean replied = throwable == null || leg.replied;
+
+            if (replied) {
+                recordLatency(leg.connection, now - leg.sentAt);
+            }
+
+            Leg hedged;
+            Leg other;
+            ScheduledFuture<?> pendingTimer;
+
+            synchronized (this) {
+
+                if (done) {
+                    return;
+                }
+
+                other = leg == primaryLeg ? hedgeLeg : primaryLeg;
+
+                if (!replied) {
+
+                    if (failure == null) {
+                        failure = throwable;
+                    }
+
+                    if (other != null && !other.isDone()) {
+                        return;
+                    }
+                }
+
+                done = true;
+                hedged = hedgeLeg;
+                pendingTimer = timer;
+            }
+
+            if (pendingTimer != null) {
+                pendingTimer.cancel(false);
+            }
+
+            if (other != null && !other.isDone()) {
+                other.cancel();
+            }
+
+            if (!replied) {
+                command.completeExceptionally(failure);
+            } else {
+                leg.getReplay().replay(command.getOutput());
+                command.complete();
+            }
+
+            if (hedged != null) {
+                clientResources.eventBus()
+                        .publish(new HedgedReadEvent(command.getType().toString(), getRemoteAddress(primary),
+                                getRemoteAddress(hedged.connection), Duration.ofNanos(delay), Duration.ofNanos(now - startedAt),
+                                leg == hedged));
+            }
+        }
+
+        /**
+         * Proxy command capturing the response of a single node. Error responses complete the proxy command exceptionally but
+         * are captured as response to replay.
+         */
+        class Leg extends AsyncCommand<K, V, List<ReplayOutput.Signal>> {
+
+            private final C connection;
+
+            private final long sentAt = System.nanoTime();
+
+            private volatile boolean replied;
+
+            Leg(C connection) {
+                super(new Command<>(command.getType(), new ReplayOutput<>(), command.getArgs()));
+                this.connection = connection;
+            }
+
+            ReplayOutput<K, V> getReplay() {
+                return (ReplayOutput<K, V>) getOutput();
+            }
+
+            @Override
+            protected void completeResult() {
+                replied = true;
+                super.completeResult();
+            }
+
+        }
+
+    }
+
+}
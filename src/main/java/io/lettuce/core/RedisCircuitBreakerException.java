@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+/**
+ * Exception thrown when a command is rejected by the circuit breaker or the concurrency limit of an endpoint.
+ *
+ * @since 7.0
+ * @see CircuitBreakerOptions
+ */
+@SuppressWarnings("serial")
+public class RedisCircuitBreakerException extends RedisException {
+
+    /**
+     * Create a {@code RedisCircuitBreakerException} with the specified detail message.
+     *
+     * @param msg the detail message.
+     */
+    public RedisCircuitBreakerException(String msg) {
+        super(msg);
+    }
+
+}
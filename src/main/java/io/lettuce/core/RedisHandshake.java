@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -38,6 +39,10 @@ import io.netty.channel.Channel;
 /**
  * Redis RESP2/RESP3 handshake using the configured {@link ProtocolVersion} and other options for connection initialization and
  * connection state restoration. This class is part of the internal API.
+ * <p>
+ * When configured with a {@code previousHandshake} reference, the handshake and the post-handshake commands are pipelined in a
+ * single flush. RESP3 requires a handshake response from a previous connection to the same endpoint to determine which
+ * post-handshake commands the server supports. A failed pipelined handshake falls back to the regular handshake.
  *
  * @author Mark Paluch
  * @author Tugdual Grall
@@ -55,13 +60,30 @@ class RedisHandshake implements ConnectionInitializer {
 
     private final ConnectionState connectionState;
 
+    private final AtomicReference<ConnectionState.HandshakeResponse> previousHandshake;
+
     private volatile ProtocolVersion negotiatedProtocolVersion;
 
     RedisHandshake(ProtocolVersion requestedProtocolVersion, boolean pingOnConnect, ConnectionState connectionState) {
+        this(requestedProtocolVersion, pingOnConnect, connectionState, null);
+    }
+
+    /**
+     * Create a new {@link RedisHandshake}.
+     *
+     * @param requestedProtocolVersion the requested protocol version, may be {@code null} to discover the protocol version.
+     * @param pingOnConnect whether to issue a {@code PING} for RESP2 connections without credentials.
+     * @param connectionState the connection state.
+     * @param previousHandshake handshake response shared by connections to the same endpoint. Enables the pipelined handshake
+     *        if not {@code null}.
+     */
+    RedisHandshake(ProtocolVersion requestedProtocolVersion, boolean pingOnConnect, ConnectionState connectionState,
+            AtomicReference<ConnectionState.HandshakeResponse> previousHandshake) {
 
         this.requestedProtocolVersion = requestedProtocolVersion;
         this.pingOnConnect = pingOnConnect;
         this.connectionState = connectionState;
+        this.previousHandshake = previousHandshake;
     }
 
     /**
@@ -81,6 +103,27 @@ class RedisHandshake implements ConnectionInitializer {
     @Override
     public CompletionStage<Void> initialize(Channel channel) {
 
+        if (previousHandshake != null) {
+
+            ConnectionState.HandshakeResponse previous = previousHandshake.get();
+
+            if (this.requestedProtocolVersion == ProtocolVersion.RESP2) {
+                return initializePipelined(channel, ProtocolVersion.RESP2, null);
+            }
+
+            if (previous != null && previous.getNegotiatedProtocolVersion() == ProtocolVersion.RESP3
+                    && previous.getRedisVersion() != null) {
+                return initializePipelined(channel, ProtocolVersion.RESP3, previous.getRedisVersion());
+            }
+
+            return initializeSequential(channel).thenRun(this::rememberHandshake);
+        }
+
+        return initializeSequential(channel);
+    }
+
+    private CompletionStage<Void> initializeSequential(Channel channel) {
+
         CompletionStage<?> handshake;
 
         if (this.requestedProtocolVersion == ProtocolVersion.RESP2) {
@@ -99,6 +142,101 @@ class RedisHandshake implements ConnectionInitializer {
                 ignore -> applyPostHandshake(channel, connectionState.getRedisVersion(), getNegotiatedProtocolVersion()));
     }
 
+    /**
+     * Pipeline the handshake and the post-handshake commands. Post-handshake commands are re-applied if the server version
+     * changed since the previous handshake. Falls back to the sequential handshake if any of the commands fails.
+     */
+    private CompletionStage<Void> initializePipelined(Channel channel, ProtocolVersion protocolVersion, String redisVersion) {
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        resolveCredentials(connectionState.getCredentialsProvider()).thenCompose(credentials -> {
+
+            List<AsyncCommand<?, ?, ?>> commands = new ArrayList<>();
+            AsyncCommand<String, String, Map<String, Object>> hello = null;
+
+            if (protocolVersion == ProtocolVersion.RESP3) {
+                hello = new AsyncCommand<>(helloCommand(credentials));
+                commands.add(hello);
+            } else {
+
+                Command<String, String, String> authOrPing = authOrPingCommand(credentials);
+                if (authOrPing != null) {
+                    commands.add(new AsyncCommand<>(authOrPing));
+                }
+            }
+
+            commands.addAll(getPostHandshakeCommands(redisVersion, protocolVersion));
+
+            AsyncCommand<String, String, Map<String, Object>> helloCommand = hello;
+            CompletableFuture<Void> dispatched = commands.isEmpty() ? CompletableFuture.completedFuture(null)
+                    : dispatch(channel, commands);
+
+            return dispatched.thenCompose(ignore -> {
+
+                if (helloCommand == null) {
+                    negotiatedProtocolVersion = ProtocolVersion.RESP2;
+                    connectionState.setHandshakeResponse(
+                            new ConnectionState.HandshakeResponse(negotiatedProtocolVersion, null, null, null, null));
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                onHelloResponse(helloCommand.join());
+
+                if (!redisVersion.equals(connectionState.getRedisVersion())) {
+                    return applyPostHandshake(channel, connectionState.getRedisVersion(), negotiatedProtocolVersion);
+                }
+
+                return CompletableFuture.completedFuture(null);
+            });
+        }).whenComplete((ignore, throwable) -> {
+
+            if (throwable == null) {
+                rememberHandshake();
+                result.complete(null);
+                return;
+            }
+
+            previousHandshake.set(null);
+
+            if (!channel.isActive()) {
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            initializeSequential(channel).whenComplete((nested, fallbackError) -> {
+
+                if (fallbackError != null) {
+                    result.completeExceptionally(fallbackError);
+                } else {
+                    rememberHandshake();
+                    result.complete(null);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    private void rememberHandshake() {
+
+        ConnectionState.HandshakeResponse response = connectionState.getHandshakeResponse();
+
+        if (response != null) {
+            previousHandshake.set(response);
+        }
+    }
+
+    private static CompletableFuture<RedisCredentials> resolveCredentials(RedisCredentialsProvider credentialsProvider) {
+
+        if (credentialsProvider instanceof RedisCredentialsProvider.ImmediateRedisCredentialsProvider) {
+            return CompletableFuture.completedFuture(
+                    ((RedisCredentialsProvider.ImmediateRedisCredentialsProvider) credentialsProvider).resolveCredentialsNow());
+        }
+
+        return credentialsProvider.resolveCredentials().toFuture();
+    }
+
     private CompletionStage<?> tryHandshakeResp3(Channel channel) {
 
         CompletableFuture<?> handshake = new CompletableFuture<>();
@@ -190,15 +328,26 @@ class RedisHandshake implements ConnectionInitializer {
 
     private CompletableFuture<String> dispatchAuthOrPing(Channel channel, RedisCredentials credentials) {
 
+        Command<String, String, String> command = authOrPingCommand(credentials);
+
+        if (command != null) {
+            return dispatch(channel, command);
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private Command<String, String, String> authOrPingCommand(RedisCredentials credentials) {
+
         if (credentials.hasUsername()) {
-            return dispatch(channel, this.commandBuilder.auth(credentials.getUsername(), credentials.getPassword()));
+            return this.commandBuilder.auth(credentials.getUsername(), credentials.getPassword());
         } else if (credentials.hasPassword()) {
-            return dispatch(channel, this.commandBuilder.auth(credentials.getPassword()));
+            return this.commandBuilder.auth(credentials.getPassword());
         } else if (this.pingOnConnect) {
-            return dispatch(channel, this.commandBuilder.ping());
+            return this.commandBuilder.ping();
         }
 
-        return CompletableFuture.completedFuture(null);
+        return null;
     }
 
     /**
@@ -222,20 +371,35 @@ class RedisHandshake implements ConnectionInitializer {
     }
 
     private AsyncCommand<String, String, Map<String, Object>> dispatchHello(Channel channel, RedisCredentials credentials) {
+        return dispatch(channel, helloCommand(credentials));
+    }
+
+    private Command<String, String, Map<String, Object>> helloCommand(RedisCredentials credentials) {
 
         if (credentials.hasPassword()) {
-            return dispatch(channel,
-                    this.commandBuilder.hello(3,
-                            LettuceStrings.isNotEmpty(credentials.getUsername()) ? credentials.getUsername() : "default",
-                            credentials.getPassword(), connectionState.getClientName()));
+            return this.commandBuilder.hello(3,
+                    LettuceStrings.isNotEmpty(credentials.getUsername()) ? credentials.getUsername() : "default",
+                    credentials.getPassword(), connectionState.getClientName());
         }
 
-        return dispatch(channel, this.commandBuilder.hello(3, null, null, connectionState.getClientName()));
+        return this.commandBuilder.hello(3, null, null, connectionState.getClientName());
     }
 
     private CompletableFuture<Void> applyPostHandshake(Channel channel, String redisVersion,
             ProtocolVersion negotiatedProtocolVersion) {
 
+        List<AsyncCommand<?, ?, ?>> postHandshake = getPostHandshakeCommands(redisVersion, negotiatedProtocolVersion);
+
+        if (postHandshake.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return dispatch(channel, postHandshake);
+    }
+
+    private List<AsyncCommand<?, ?, ?>> getPostHandshakeCommands(String redisVersion,
+            ProtocolVersion negotiatedProtocolVersion) {
+
         List<AsyncCommand<?, ?, ?>> postHandshake = new ArrayList<>();
 
         ConnectionMetadata metadata = connectionState.getConnectionMetadata();
@@ -270,11 +434,7 @@ class RedisHandshake implements ConnectionInitializer {
             postHandshake.add(new AsyncCommand<>(this.commandBuilder.readOnly()));
         }
 
-        if (postHandshake.isEmpty()) {
-            return CompletableFuture.completedFuture(null);
-        }
-
-        return dispatch(channel, postHandshake);
+        return postHandshake;
     }
 
     private CompletableFuture<Void> dispatch(Channel channel, List<AsyncCommand<?, ?, ?>> commands) {
@@ -41,6 +41,15 @@ public class SocketOptions {
 
     public static final boolean DEFAULT_SO_NO_DELAY = true;
 
+    public static final Duration DEFAULT_BUSY_POLL = Duration.ZERO;
+
+    public static final boolean DEFAULT_TCP_QUICKACK = false;
+
+    // SO_BUSY_POLL is an int in microseconds
+    private static final Duration MAX_BUSY_POLL = Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Integer.MAX_VALUE));
+
+    public static final boolean DEFAULT_EDGE_TRIGGERED = true;
+
     private final Duration connectTimeout;
 
     private final KeepAliveOptions keepAlive;
@@ -51,6 +60,12 @@ public class SocketOptions {
 
     private final boolean tcpNoDelay;
 
+    private final Duration busyPoll;
+
+    private final boolean tcpQuickAck;
+
+    private final boolean edgeTriggered;
+
     protected SocketOptions(Builder builder) {
 
         this.connectTimeout = builder.connectTimeout;
@@ -58,6 +73,9 @@ public class SocketOptions {
         this.extendedKeepAlive = builder.extendedKeepAlive;
         this.tcpNoDelay = builder.tcpNoDelay;
         this.tcpUserTimeout = builder.tcpUserTimeout;
+        this.busyPoll = builder.busyPoll;
+        this.tcpQuickAck = builder.tcpQuickAck;
+        this.edgeTriggered = builder.edgeTriggered;
     }
 
     protected SocketOptions(SocketOptions original) {
@@ -66,6 +84,9 @@ public class SocketOptions {
         this.extendedKeepAlive = original.isExtendedKeepAlive();
         this.tcpNoDelay = original.isTcpNoDelay();
         this.tcpUserTimeout = original.getTcpUserTimeout();
+        this.busyPoll = original.getBusyPoll();
+        this.tcpQuickAck = original.isTcpQuickAck();
+        this.edgeTriggered = original.isEdgeTriggered();
     }
 
     /**
@@ -112,6 +133,12 @@ public class SocketOptions {
 
         private boolean extendedKeepAlive = false;
 
+        private Duration busyPoll = DEFAULT_BUSY_POLL;
+
+        private boolean tcpQuickAck = DEFAULT_TCP_QUICKACK;
+
+        private boolean edgeTriggered = DEFAULT_EDGE_TRIGGERED;
+
         private Builder() {
         }
 
@@ -218,6 +245,63 @@ public class SocketOptions {
             return this;
         }
 
+        /**
+         * Configure the busy-poll timeout ({@code SO_BUSY_POLL}) to poll the device queue for incoming packets instead of
+         * waiting for an interrupt. Busy polling lowers receive latency at the cost of CPU usage. Defaults to
+         * {@link Duration#ZERO} (disabled). See {@link #DEFAULT_BUSY_POLL}.
+         * <p>
+         * The time granularity is microseconds. Busy polling is only supported with the epoll native transport.
+         *
+         * @param busyPoll the busy-poll timeout, must not be {@code null} or negative. Must be either {@link Duration#ZERO} or
+         *        between one microsecond and {@link Integer#MAX_VALUE} microseconds.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder busyPoll(Duration busyPoll) {
+
+            LettuceAssert.notNull(busyPoll, "Busy poll timeout must not be null");
+            LettuceAssert.isTrue(!busyPoll.isNegative(), "Busy poll timeout must not be negative");
+            LettuceAssert.isTrue(busyPoll.compareTo(MAX_BUSY_POLL) <= 0,
+                    "Busy poll timeout must not exceed " + Integer.MAX_VALUE + " microseconds");
+            LettuceAssert.isTrue(busyPoll.isZero() || busyPoll.toNanos() >= TimeUnit.MICROSECONDS.toNanos(1),
+                    "Busy poll timeout must be zero or at least one microsecond");
+
+            this.busyPoll = busyPoll;
+            return this;
+        }
+
+        /**
+         * Set whether to enable TCP quick ACK mode ({@code TCP_QUICKACK}) to send {@code ACK}s immediately instead of delaying
+         * them. Defaults to {@code false}. See {@link #DEFAULT_TCP_QUICKACK}.
+         * <p>
+         * Quick ACK mode is only supported with epoll and io_uring native transports.
+         *
+         * @param tcpQuickAck {@code true} to enable TCP quick ACK mode.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder tcpQuickAck(boolean tcpQuickAck) {
+
+            this.tcpQuickAck = tcpQuickAck;
+            return this;
+        }
+
+        /**
+         * Set whether to use edge-triggered ({@code true}) or level-triggered ({@code false}) readiness notification. Defaults
+         * to {@code true}. See {@link #DEFAULT_EDGE_TRIGGERED}.
+         * <p>
+         * The trigger mode applies to the epoll native transport only. io_uring is completion-based and has no trigger mode.
+         *
+         * @param edgeTriggered {@code true} to use edge-triggered mode, {@code false} to use level-triggered mode.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder edgeTriggered(boolean edgeTriggered) {
+
+            this.edgeTriggered = edgeTriggered;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link SocketOptions}
          *
@@ -244,7 +328,12 @@ public class SocketOptions {
 
         builder.connectTimeout = this.getConnectTimeout();
         builder.keepAlive = this.getKeepAlive();
+        builder.extendedKeepAlive = this.isExtendedKeepAlive();
         builder.tcpNoDelay = this.isTcpNoDelay();
+        builder.tcpUserTimeout = this.getTcpUserTimeout();
+        builder.busyPoll = this.getBusyPoll();
+        builder.tcpQuickAck = this.isTcpQuickAck();
+        builder.edgeTriggered = this.isEdgeTriggered();
 
         return builder;
     }
@@ -300,6 +389,46 @@ public class SocketOptions {
         return tcpUserTimeout;
     }
 
+    /**
+     * Returns whether busy polling ({@code SO_BUSY_POLL}) is enabled.
+     *
+     * @return {@code true} if busy polling is enabled.
+     * @since 7.0
+     */
+    public boolean isBusyPollEnabled() {
+        return !busyPoll.isZero();
+    }
+
+    /**
+     * Returns the busy-poll timeout ({@code SO_BUSY_POLL}).
+     *
+     * @return the busy-poll timeout. {@link Duration#ZERO} if disabled.
+     * @since 7.0
+     */
+    public Duration getBusyPoll() {
+        return busyPoll;
+    }
+
+    /**
+     * Returns whether to use TCP quick ACK mode ({@code TCP_QUICKACK}).
+     *
+     * @return {@code true} if TCP quick ACK mode is enabled.
+     * @since 7.0
+     */
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    /**
+     * Returns whether to use edge-triggered readiness notification.
+     *
+     * @return {@code true} for edge-triggered, {@code false} for level-triggered mode.
+     * @since 7.0
+     */
+    public boolean isEdgeTriggered() {
+        return edgeTriggered;
+    }
+
     /**
      * Extended Keep-Alive options (idle, interval, count). Extended options should not be used in code intended to be portable
      * as options are applied only when using NIO sockets with Java 11 or newer epoll sockets, or io_uring sockets. Not
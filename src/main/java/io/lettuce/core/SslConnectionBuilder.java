@@ -25,7 +25,10 @@ import java.util.function.Supplier;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.SslHandshakeEvent;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.resource.ClientResources;
@@ -33,11 +36,13 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.concurrent.Future;
 
 /**
  * Connection builder for SSL connections. This class is part of the internal API.
@@ -145,10 +150,17 @@ public class SslConnectionBuilder extends ConnectionBuilder {
         protected void initChannel(Channel channel) throws Exception {
 
             SSLEngine sslEngine = initializeSSLEngine(channel.alloc());
-            SslHandler sslHandler = new SslHandler(sslEngine, startTls);
+            SslHandler sslHandler = sslOptions.isOffloadHandshake()
+                    ? new SslHandler(sslEngine, startTls, clientResources.eventExecutorGroup())
+                    : new SslHandler(sslEngine, startTls);
             Duration sslHandshakeTimeout = sslOptions.getHandshakeTimeout();
             sslHandler.setHandshakeTimeoutMillis(sslHandshakeTimeout.toMillis());
 
+            EventBus eventBus = clientResources.eventBus();
+            if (eventBus != null) {
+                channel.pipeline().addLast(new SslHandshakeListener(sslHandler, eventBus));
+            }
+
             channel.pipeline().addLast(sslHandler);
 
             for (ChannelHandler handler : handlers.get()) {
@@ -158,20 +170,17 @@ public class SslConnectionBuilder extends ConnectionBuilder {
             clientResources.nettyCustomizer().afterChannelInitialized(channel);
         }
 
-        private SSLEngine initializeSSLEngine(ByteBufAllocator alloc) throws IOException, GeneralSecurityException {
+        private SSLEngine initializeSSLEngine(ByteBufAllocator alloc) throws Exception {
 
             SSLParameters sslParams = sslOptions.createSSLParameters();
-            SslContextBuilder sslContextBuilder = sslOptions.createSslContextBuilder();
 
             if (verifyPeer == SslVerifyMode.FULL) {
                 sslParams.setEndpointIdentificationAlgorithm("HTTPS");
             } else if (verifyPeer == SslVerifyMode.CA) {
                 sslParams.setEndpointIdentificationAlgorithm("");
-            } else if (verifyPeer == SslVerifyMode.NONE) {
-                sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
             }
 
-            SslContext sslContext = sslContextBuilder.build();
+            SslContext sslContext = sslOptions.getSslContext(verifyPeer, this::createSslContext);
 
             SSLEngine sslEngine = hostAndPort != null
                     ? sslContext.newEngine(alloc, hostAndPort.getHostText(), hostAndPort.getPort())
@@ -181,6 +190,17 @@ public class SslConnectionBuilder extends ConnectionBuilder {
             return sslEngine;
         }
 
+        private SslContext createSslContext() throws IOException, GeneralSecurityException {
+
+            SslContextBuilder sslContextBuilder = sslOptions.createSslContextBuilder();
+
+            if (verifyPeer == SslVerifyMode.NONE) {
+                sslContextBuilder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+            }
+
+            return sslContextBuilder.build();
+        }
+
         @Override
         public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
             ctx.channel().attr(INIT_FAILURE).set(cause);
@@ -189,4 +209,54 @@ public class SslConnectionBuilder extends ConnectionBuilder {
 
     }
 
+    /**
+     * Handler measuring the SSL handshake duration from channel activation until the handshake completes and publishing a
+     * {@link SslHandshakeEvent}. A session counts as resumed if it was created before the handshake started. The handler
+     * removes itself from the pipeline once the connection is active.
+     */
+    static class SslHandshakeListener extends ChannelInboundHandlerAdapter {
+
+        private final SslHandler sslHandler;
+
+        private final EventBus eventBus;
+
+        SslHandshakeListener(SslHandler sslHandler, EventBus eventBus) {
+            this.sslHandler = sslHandler;
+            this.eventBus = eventBus;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+
+            long startNanos = System.nanoTime();
+            long startMillis = System.currentTimeMillis();
+
+            sslHandler.handshakeFuture().addListener(future -> publish(ctx, future, startNanos, startMillis));
+
+            ctx.pipeline().remove(this);
+            super.channelActive(ctx);
+        }
+
+        private void publish(ChannelHandlerContext ctx, Future<?> future, long startNanos, long startMillis) {
+
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            Channel channel = ctx.channel();
+            SocketAddress local = ConnectionEventTrigger.local(ctx);
+            SocketAddress remote = ConnectionEventTrigger.remote(ctx);
+            String redisUri = channel.hasAttr(REDIS_URI) ? channel.attr(REDIS_URI).get() : null;
+
+            if (!future.isSuccess()) {
+                eventBus.publish(new SslHandshakeEvent(redisUri, local, remote, duration, false, null, null, future.cause()));
+                return;
+            }
+
+            SSLSession session = sslHandler.engine().getSession();
+            boolean resumed = session.getCreationTime() < startMillis;
+
+            eventBus.publish(new SslHandshakeEvent(redisUri, local, remote, duration, resumed, session.getProtocol(),
+                    session.getCipherSuite(), null));
+        }
+
+    }
+
 }
@@ -27,6 +27,9 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -37,6 +40,7 @@ import javax.net.ssl.TrustManagerFactory;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceStrings;
 import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 
@@ -52,6 +56,14 @@ public class SslOptions {
 
     public static final SslProvider DEFAULT_SSL_PROVIDER = SslProvider.JDK;
 
+    public static final boolean DEFAULT_SESSION_RESUMPTION = false;
+
+    public static final long DEFAULT_SESSION_CACHE_SIZE = 0;
+
+    public static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ZERO;
+
+    public static final boolean DEFAULT_OFFLOAD_HANDSHAKE = false;
+
     private final String keyStoreType;
 
     private final SslProvider sslProvider;
@@ -78,6 +90,16 @@ public class SslOptions {
 
     private final Duration handshakeTimeout;
 
+    private final boolean sessionResumption;
+
+    private final long sessionCacheSize;
+
+    private final Duration sessionTimeout;
+
+    private final boolean offloadHandshake;
+
+    private final Map<SslVerifyMode, SslContext> sslContexts = new ConcurrentHashMap<>(4);
+
     protected SslOptions(Builder builder) {
         this.keyStoreType = builder.keyStoreType;
         this.sslProvider = builder.sslProvider;
@@ -94,6 +116,10 @@ public class SslOptions {
         this.sslParametersSupplier = builder.sslParametersSupplier;
         this.keymanager = builder.keymanager;
         this.trustmanager = builder.trustmanager;
+        this.sessionResumption = builder.sessionResumption;
+        this.sessionCacheSize = builder.sessionCacheSize;
+        this.sessionTimeout = builder.sessionTimeout;
+        this.offloadHandshake = builder.offloadHandshake;
     }
 
     protected SslOptions(SslOptions original) {
@@ -112,6 +138,10 @@ public class SslOptions {
         this.sslParametersSupplier = original.sslParametersSupplier;
         this.keymanager = original.keymanager;
         this.trustmanager = original.trustmanager;
+        this.sessionResumption = original.sessionResumption;
+        this.sessionCacheSize = original.sessionCacheSize;
+        this.sessionTimeout = original.sessionTimeout;
+        this.offloadHandshake = original.offloadHandshake;
     }
 
     /**
@@ -175,6 +205,14 @@ public class SslOptions {
 
         private Duration sslHandshakeTimeout = Duration.ofSeconds(10);
 
+        private boolean sessionResumption = DEFAULT_SESSION_RESUMPTION;
+
+        private long sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+
+        private Duration sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+
+        private boolean offloadHandshake = DEFAULT_OFFLOAD_HANDSHAKE;
+
         private Builder() {
         }
 
@@ -214,6 +252,18 @@ public class SslOptions {
             return sslProvider(SslProvider.OPENSSL);
         }
 
+        /**
+         * Use the OpenSSL provider for SSL connections if
+         * <a href="https://netty.io/wiki/forked-tomcat-native.html">{@code netty-tcnative}</a> is available and fall back to
+         * the JDK SSL provider otherwise. OpenSSL performs handshakes natively and considerably faster than the JDK provider.
+         *
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder preferOpenSslProvider() {
+            return sslProvider(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK);
+        }
+
         private Builder sslProvider(SslProvider sslProvider) {
 
             if (sslProvider == SslProvider.OPENSSL) {
@@ -242,6 +292,73 @@ public class SslOptions {
             return this;
         }
 
+        /**
+         * Enables TLS session resumption. With session resumption enabled, the {@link SslContext} is created once per
+         * {@link SslVerifyMode} and shared by all connections using these {@link SslOptions} instead of being created for each
+         * connection. Sessions (TLS 1.2 session identifiers and TLS 1.3 session tickets) are cached per remote host and port
+         * so reconnects and connections to known nodes can perform an abbreviated handshake. Keystores and truststores are
+         * loaded once when the context is created and not reloaded for subsequent connections. Defaults to
+         * {@code false}. See {@link #DEFAULT_SESSION_RESUMPTION}.
+         *
+         * @param sessionResumption {@code true} to enable session resumption.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder sessionResumption(boolean sessionResumption) {
+
+            this.sessionResumption = sessionResumption;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached TLS sessions. {@code 0} uses the default of the SSL provider. See
+         * {@link #DEFAULT_SESSION_CACHE_SIZE}.
+         *
+         * @param sessionCacheSize the session cache size, must be greater or equal to {@code 0}.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder sessionCacheSize(long sessionCacheSize) {
+
+            LettuceAssert.isTrue(sessionCacheSize >= 0, "Session cache size must be greater or equal to zero");
+
+            this.sessionCacheSize = sessionCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets the timeout after which cached TLS sessions expire. {@link Duration#ZERO} uses the default of the SSL provider.
+         * See {@link #DEFAULT_SESSION_TIMEOUT}.
+         *
+         * @param sessionTimeout the session timeout, must not be {@code null} or negative.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder sessionTimeout(Duration sessionTimeout) {
+
+            LettuceAssert.notNull(sessionTimeout, "Session timeout must not be null");
+            LettuceAssert.isTrue(!sessionTimeout.isNegative(), "Session timeout must not be negative");
+
+            this.sessionTimeout = sessionTimeout;
+            return this;
+        }
+
+        /**
+         * Run delegated SSL handshake tasks (key exchange, certificate validation) on the
+         * {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() computation thread pool} instead of the I/O
+         * event loop. Offloading keeps the event loop responsive while many connections perform handshakes concurrently.
+         * Defaults to {@code false}. See {@link #DEFAULT_OFFLOAD_HANDSHAKE}.
+         *
+         * @param offloadHandshake {@code true} to run handshake tasks outside the event loop.
+         * @return {@code this}
+         * @since 7.0
+         */
+        public Builder offloadHandshake(boolean offloadHandshake) {
+
+            this.offloadHandshake = offloadHandshake;
+            return this;
+        }
+
         /**
          * Sets the KeyStore type. Defaults to {@link KeyStore#getDefaultType()} if not set.
          *
@@ -634,6 +751,14 @@ public class SslOptions {
             sslContextBuilder.ciphers(Arrays.asList(cipherSuites));
         }
 
+        if (sessionCacheSize > 0) {
+            sslContextBuilder.sessionCacheSize(sessionCacheSize);
+        }
+
+        if (!sessionTimeout.isZero()) {
+            sslContextBuilder.sessionTimeout(Math.max(1, sessionTimeout.getSeconds()));
+        }
+
         keymanager.accept(sslContextBuilder, this.keyStoreType);
         trustmanager.accept(sslContextBuilder, this.keyStoreType);
         sslContextBuilderCustomizer.accept(sslContextBuilder);
@@ -688,6 +813,10 @@ public class SslOptions {
         builder.keymanager = this.keymanager;
         builder.trustmanager = this.trustmanager;
         builder.sslHandshakeTimeout = this.handshakeTimeout;
+        builder.sessionResumption = this.sessionResumption;
+        builder.sessionCacheSize = this.sessionCacheSize;
+        builder.sessionTimeout = this.sessionTimeout;
+        builder.offloadHandshake = this.offloadHandshake;
 
         return builder;
     }
@@ -731,6 +860,73 @@ public class SslOptions {
         return handshakeTimeout;
     }
 
+    /**
+     * @return {@code true} if TLS session resumption is enabled.
+     * @since 7.0
+     */
+    public boolean isSessionResumption() {
+        return sessionResumption;
+    }
+
+    /**
+     * @return the maximum number of cached TLS sessions, {@code 0} if using the provider default.
+     * @since 7.0
+     */
+    public long getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    /**
+     * @return the TLS session timeout, {@link Duration#ZERO} if using the provider default.
+     * @since 7.0
+     */
+    public Duration getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    /**
+     * @return {@code true} if delegated SSL handshake tasks run outside the I/O event loop.
+     * @since 7.0
+     */
+    public boolean isOffloadHandshake() {
+        return offloadHandshake;
+    }
+
+    /**
+     * Obtain the {@link SslContext} for {@link SslVerifyMode}. Returns a shared context if
+     * {@link #isSessionResumption() session resumption} is enabled, otherwise a new context is created through
+     * {@code factory}.
+     *
+     * @param verifyMode the verify mode.
+     * @param factory factory to create a new {@link SslContext}.
+     * @return the {@link SslContext}.
+     * @throws Exception thrown when creating the context fails.
+     */
+    SslContext getSslContext(SslVerifyMode verifyMode, Callable<SslContext> factory) throws Exception {
+
+        if (!sessionResumption) {
+            return factory.call();
+        }
+
+        SslContext sslContext = sslContexts.get(verifyMode);
+
+        if (sslContext != null) {
+            return sslContext;
+        }
+
+        synchronized (sslContexts) {
+
+            sslContext = sslContexts.get(verifyMode);
+
+            if (sslContext == null) {
+                sslContext = factory.call();
+                sslContexts.put(verifyMode, sslContext);
+            }
+
+            return sslContext;
+        }
+    }
+
     /**
      * @return the password for the keystore. May be empty.
      * @deprecated since 5.3, {@link javax.net.ssl.KeyManager} is configured via {@link #createSslContextBuilder()}.
@@ -20,10 +20,16 @@ import static io.lettuce.core.protocol.CommandType.*;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.reactivestreams.Publisher;
+
+import io.lettuce.core.api.Pipeline;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
@@ -32,6 +38,7 @@ import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.MultiOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.*;
@@ -60,6 +67,10 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
 
     private final PushHandler pushHandler;
 
+    private final EnumMap<CommandPriority, RedisAsyncCommands<K, V>> prioritizedAsync = new EnumMap<>(CommandPriority.class);
+
+    private final EnumMap<CommandPriority, RedisCommands<K, V>> prioritizedSync = new EnumMap<>(CommandPriority.class);
+
     protected MultiOutput<K, V> multi;
 
     /**
@@ -128,6 +139,39 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return sync;
     }
 
+    @Override
+    public RedisCommands<K, V> sync(CommandPriority priority) {
+
+        LettuceAssert.notNull(priority, "CommandPriority must not be null");
+
+        synchronized (prioritizedSync) {
+            return prioritizedSync.computeIfAbsent(priority,
+                    it -> syncHandler(async(it), RedisCommands.class, RedisClusterCommands.class));
+        }
+    }
+
+    @Override
+    public RedisAsyncCommands<K, V> async(CommandPriority priority) {
+
+        LettuceAssert.notNull(priority, "CommandPriority must not be null");
+
+        synchronized (prioritizedAsync) {
+            return prioritizedAsync.computeIfAbsent(priority, it -> new PrioritizedAsyncCommands<>(this, codec, it));
+        }
+    }
+
+    @Override
+    public Pipeline<RedisAsyncCommands<K, V>> pipeline() {
+        return new DefaultPipeline<K, V, RedisAsyncCommands<K, V>>(this::dispatch,
+                pipeline -> new PipelinedAsyncCommands<>(this, codec, pipeline));
+    }
+
+    @Override
+    public CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations,
+            BulkLoadOptions options) {
+        return new BulkLoader<>(codec, Collections.singletonList(this), key -> 0, options).load(operations);
+    }
+
     /**
      * Add a new listener.
      *
@@ -293,4 +337,53 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return state;
     }
 
+    /**
+     * {@link RedisAsyncCommandsImpl} that tags each dispatched command with a {@link CommandPriority}.
+     */
+    static class PrioritizedAsyncCommands<K, V> extends RedisAsyncCommandsImpl<K, V> {
+
+        private final CommandPriority priority;
+
+        PrioritizedAsyncCommands(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec, CommandPriority priority) {
+            super(connection, codec);
+            this.priority = priority;
+        }
+
+        @Override
+        public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+            return super.dispatch(new PrioritizedCommand<>(cmd, priority));
+        }
+
+    }
+
+    /**
+     * {@link RedisAsyncCommandsImpl} that collects dispatched commands in a {@link DefaultPipeline}.
+     */
+    static class PipelinedAsyncCommands<K, V> extends RedisAsyncCommandsImpl<K, V> {
+
+        private final DefaultPipeline<K, V, ?> pipeline;
+
+        PipelinedAsyncCommands(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec,
+                DefaultPipeline<K, V, ?> pipeline) {
+            super(connection, codec);
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+            return pipeline.add(cmd);
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+            throw new UnsupportedOperationException("Pipelined commands are written through Pipeline.flush()");
+        }
+
+        @Override
+        public void flushCommands() {
+            pipeline.flush();
+        }
+
+    }
+
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to control eager connection warm-up of Redis Cluster and Master/Replica connections. Node connections are opened
+ * lazily by default so the first command routed to a node pays for connecting, the TLS and the Redis handshake. Warm-up
+ * opens node connections in parallel ahead of the first command, once the connection is established and on every topology
+ * change when {@link #isEnabled() enabled}. Warm-up can be triggered explicitly regardless of the enabled flag through
+ * {@link io.lettuce.core.cluster.api.StatefulRedisClusterConnection#warmUp()} and
+ * {@link io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection#warmUp()}.
+ *
+ * @since 7.0
+ */
+public class WarmUpOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    public static final boolean DEFAULT_PING = true;
+
+    private final boolean enabled;
+
+    private final ReadFrom readFrom;
+
+    private final int concurrency;
+
+    private final boolean ping;
+
+    private WarmUpOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.readFrom = builder.readFrom;
+        this.concurrency = builder.concurrency;
+        this.ping = builder.ping;
+    }
+
+    /**
+     * Returns a new {@link WarmUpOptions.Builder} to construct {@link WarmUpOptions}.
+     *
+     * @return a new {@link WarmUpOptions.Builder} to construct {@link WarmUpOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link WarmUpOptions} with default settings. Automatic warm-up is disabled.
+     *
+     * @return a new instance of {@link WarmUpOptions} with default settings.
+     */
+    public static WarmUpOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link WarmUpOptions} with automatic warm-up enabled.
+     *
+     * @return a new instance of {@link WarmUpOptions} with automatic warm-up enabled.
+     */
+    public static WarmUpOptions enabled() {
+        return builder().enable().build();
+    }
+
+    /**
+     * Builder for {@link WarmUpOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private ReadFrom readFrom;
+
+        private int concurrency = DEFAULT_CONCURRENCY;
+
+        private boolean ping = DEFAULT_PING;
+
+        private Builder() {
+        }
+
+        /**
+         * Enable automatic warm-up once connected and on topology changes. See {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enable() {
+            return enable(true);
+        }
+
+        /**
+         * Enable or disable automatic warm-up once connected and on topology changes. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@code true} to warm up connections automatically.
+         * @return {@code this}
+         */
+        public Builder enable(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Select the nodes to warm up. Connections to upstream nodes are always warmed up. Defaults to all known nodes if not
+         * set.
+         *
+         * @param readFrom the node selection, must not be {@code null}.
+         * @return {@code this}
+         */
+        public Builder readFrom(ReadFrom readFrom) {
+
+            LettuceAssert.notNull(readFrom, "ReadFrom must not be null");
+
+            this.readFrom = readFrom;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections that are established concurrently. See {@link #DEFAULT_CONCURRENCY}.
+         *
+         * @param concurrency the concurrency limit, must be greater {@code 0}.
+         * @return {@code this}
+         */
+        public Builder concurrency(int concurrency) {
+
+            LettuceAssert.isTrue(concurrency > 0, "Concurrency must be greater 0");
+
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Issue a {@code PING} on each connection before considering it warmed up. See {@link #DEFAULT_PING}.
+         *
+         * @param ping {@code true} to issue a {@code PING}.
+         * @return {@code this}
+         */
+        public Builder ping(boolean ping) {
+
+            this.ping = ping;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link WarmUpOptions}.
+         *
+         * @return new instance of {@link WarmUpOptions}
+         */
+        public WarmUpOptions build() {
+            return new WarmUpOptions(this);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if connections are warmed up automatically once connected and on topology changes.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the node selection. {@code null} selects all known nodes.
+     */
+    public ReadFrom getReadFrom() {
+        return readFrom;
+    }
+
+    /**
+     * @return the maximum number of connections that are established concurrently.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return {@code true} to issue a {@code PING} on each connection.
+     */
+    public boolean isPing() {
+        return ping;
+    }
+
+}
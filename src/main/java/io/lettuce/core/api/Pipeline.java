@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A pipeline collecting commands locally and writing them to the connection as a single batch upon {@link #flush()}. Unlike
+ * {@link StatefulConnection#setAutoFlushCommands(boolean) disabling auto-flush}, a pipeline does not change the state of the
+ * connection: other threads can continue to use the connection while commands are collected, and multiple pipelines can be
+ * used concurrently on the same connection.
+ * <p>
+ * Commands are issued through {@link #commands()} that returns futures for each command. The futures complete once the
+ * pipeline was flushed and the responses were received. A pipeline can be flushed multiple times, each flush writes the
+ * commands collected since the previous flush. Pipeline instances are not thread-safe and should be used by a single thread
+ * at a time.
+ *
+ * <pre class="code">
+ * Pipeline&lt;RedisAsyncCommands&lt;String, String&gt;&gt; pipeline = connection.pipeline();
+ *
+ * RedisFuture&lt;String&gt; set = pipeline.commands().set("key", "value");
+ * RedisFuture&lt;String&gt; get = pipeline.commands().get("key");
+ *
+ * List&lt;Object&gt; results = pipeline.flush().join();
+ * </pre>
+ *
+ * @param <C> type of the command API.
+ * @since 7.0
+ * @see StatefulRedisConnection#pipeline()
+ * @see io.lettuce.core.cluster.api.StatefulRedisClusterConnection#pipeline()
+ */
+public interface Pipeline<C> {
+
+    /**
+     * Returns the asynchronous command API that collects commands in this pipeline. Commands are not sent until the pipeline is
+     * {@link #flush() flushed}.
+     *
+     * @return the asynchronous command API collecting commands.
+     */
+    C commands();
+
+    /**
+     * @return the number of collected commands that were not yet flushed.
+     */
+    int size();
+
+    /**
+     * Write all collected commands to the connection as a single batch.
+     *
+     * @return a future that completes with the results of the flushed commands, in the order the commands were issued, once
+     *         all commands completed. The future completes exceptionally if any of the commands completed exceptionally.
+     */
+    CompletableFuture<List<Object>> flush();
+
+    /**
+     * Discard all collected commands that were not yet flushed. Futures of discarded commands are cancelled.
+     */
+    void discard();
+
+}
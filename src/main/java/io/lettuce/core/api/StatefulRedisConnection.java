@@ -15,6 +15,15 @@
  */
 package io.lettuce.core.api;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.reactivestreams.Publisher;
+
+import io.lettuce.core.BulkLoadOptions;
+import io.lettuce.core.BulkLoadResult;
+import io.lettuce.core.BulkOperation;
+import io.lettuce.core.CommandPriority;
+import io.lettuce.core.PriorityOptions;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
@@ -54,6 +63,65 @@ public interface StatefulRedisConnection<K, V> extends StatefulConnection<K, V>
      */
     RedisAsyncCommands<K, V> async();
 
+    /**
+     * Returns a {@link RedisCommands} API for the current connection that tags commands with the given
+     * {@link CommandPriority}. Does not create a new connection. Priorities take effect only if {@link PriorityOptions} are
+     * enabled.
+     *
+     * @param priority the command priority, must not be {@code null}.
+     * @return the synchronous API for the underlying connection using {@code priority}.
+     * @since 7.0
+     */
+    RedisCommands<K, V> sync(CommandPriority priority);
+
+    /**
+     * Returns a {@link RedisAsyncCommands} API for the current connection that tags commands with the given
+     * {@link CommandPriority}. Does not create a new connection. Priorities take effect only if {@link PriorityOptions} are
+     * enabled.
+     *
+     * @param priority the command priority, must not be {@code null}.
+     * @return the asynchronous API for the underlying connection using {@code priority}.
+     * @since 7.0
+     */
+    RedisAsyncCommands<K, V> async(CommandPriority priority);
+
+    /**
+     * Create a new {@link Pipeline} that collects commands locally and writes them as a single batch upon
+     * {@link Pipeline#flush()}. Creating a pipeline does not change the flush state of this connection so the connection can
+     * be used concurrently by other threads.
+     *
+     * @return a new {@link Pipeline} for the current connection.
+     * @since 7.0
+     */
+    Pipeline<RedisAsyncCommands<K, V>> pipeline();
+
+    /**
+     * Load {@code operations} using bulk writes. Operations are encoded straight into the outbound buffer in batches and
+     * their replies are counted without creating a future per operation. Operations are requested from the {@link Publisher}
+     * only while fewer than {@link BulkLoadOptions#getMaxInFlight()} operations await their reply. Use
+     * {@code Flux.fromStream(…)} or {@code Flux.fromIterable(…)} to load a {@link java.util.stream.Stream} or a collection.
+     *
+     * @param operations the operations to load, must not be {@code null}.
+     * @return a future that completes with the {@link BulkLoadResult} reporting failed operations by their position once all
+     *         operations received their reply.
+     * @since 7.0
+     */
+    default CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations) {
+        return bulkLoad(operations, BulkLoadOptions.create());
+    }
+
+    /**
+     * Load {@code operations} using bulk writes applying {@link BulkLoadOptions}.
+     *
+     * @param operations the operations to load, must not be {@code null}.
+     * @param options the bulk load options, must not be {@code null}.
+     * @return a future that completes with the {@link BulkLoadResult} reporting failed operations by their position once all
+     *         operations received their reply.
+     * @since 7.0
+     * @see #bulkLoad(Publisher)
+     */
+    CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations, BulkLoadOptions options);
+
     /**
      * Returns the {@link RedisReactiveCommands} API for the current connection. Does not create a new connection.
      *
@@ -69,6 +69,19 @@ interface AsyncClusterConnectionProvider extends Closeable {
     <K, V> CompletableFuture<StatefulRedisConnection<K, V>> getConnectionAsync(ConnectionIntent connectionIntent,
             String nodeId);
 
+    /**
+     * Provide an established read connection for the cluster slot other than {@code exclude}, e.g. to hedge a read. Does not
+     * connect to nodes.
+     *
+     * @param slot the slot-hash of the key, see {@link SlotHash}.
+     * @param exclude the connection to exclude.
+     * @return an open read connection which handles the slot or {@code null} if there is no other read connection.
+     * @since 7.0
+     */
+    default <K, V> StatefulRedisConnection<K, V> getAlternateReadConnection(int slot, StatefulRedisConnection<K, V> exclude) {
+        return null;
+    }
+
     /**
      * Close the connections and free all resources.
      */
@@ -19,10 +19,16 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.function.Predicate;
 
+import io.lettuce.core.CircuitBreakerOptions;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.DisconnectedBufferOptions;
+import io.lettuce.core.HedgingOptions;
+import io.lettuce.core.PriorityOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.WarmUpOptions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.DecodeBufferPolicy;
@@ -131,12 +137,18 @@ public class ClusterClientOptions extends ClientOptions {
                 .decodeBufferPolicy(clientOptions.getDecodeBufferPolicy())
                 .disconnectedBehavior(clientOptions.getDisconnectedBehavior())
                 .pingBeforeActivateConnection(clientOptions.isPingBeforeActivateConnection())
+                .pipelinedHandshake(clientOptions.isPipelinedHandshake())
                 .publishOnScheduler(clientOptions.isPublishOnScheduler())
                 .protocolVersion(clientOptions.getConfiguredProtocolVersion())
                 .requestQueueSize(clientOptions.getRequestQueueSize()).scriptCharset(clientOptions.getScriptCharset())
                 .socketOptions(clientOptions.getSocketOptions()).sslOptions(clientOptions.getSslOptions())
                 .suspendReconnectOnProtocolFailure(clientOptions.isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(clientOptions.getTimeoutOptions());
+                .timeoutOptions(clientOptions.getTimeoutOptions()).warmUpOptions(clientOptions.getWarmUpOptions())
+                .hedgingOptions(clientOptions.getHedgingOptions())
+                .circuitBreakerOptions(clientOptions.getCircuitBreakerOptions())
+                .priorityOptions(clientOptions.getPriorityOptions())
+                .pubSubDispatchOptions(clientOptions.getPubSubDispatchOptions())
+                .disconnectedBufferOptions(clientOptions.getDisconnectedBufferOptions());
 
         return builder;
     }
@@ -232,6 +244,12 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder pipelinedHandshake(boolean pipelinedHandshake) {
+            super.pipelinedHandshake(pipelinedHandshake);
+            return this;
+        }
+
         @Override
         public Builder protocolVersion(ProtocolVersion protocolVersion) {
             super.protocolVersion(protocolVersion);
@@ -287,6 +305,42 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder warmUpOptions(WarmUpOptions warmUpOptions) {
+            super.warmUpOptions(warmUpOptions);
+            return this;
+        }
+
+        @Override
+        public Builder hedgingOptions(HedgingOptions hedgingOptions) {
+            super.hedgingOptions(hedgingOptions);
+            return this;
+        }
+
+        @Override
+        public Builder circuitBreakerOptions(CircuitBreakerOptions circuitBreakerOptions) {
+            super.circuitBreakerOptions(circuitBreakerOptions);
+            return this;
+        }
+
+        @Override
+        public Builder priorityOptions(PriorityOptions priorityOptions) {
+            super.priorityOptions(priorityOptions);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+            super.pubSubDispatchOptions(pubSubDispatchOptions);
+            return this;
+        }
+
+        @Override
+        public Builder disconnectedBufferOptions(DisconnectedBufferOptions disconnectedBufferOptions) {
+            super.disconnectedBufferOptions(disconnectedBufferOptions);
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -354,10 +408,16 @@ public class ClusterClientOptions extends ClientOptions {
                 .decodeBufferPolicy(getDecodeBufferPolicy())
                 .disconnectedBehavior(getDisconnectedBehavior()).maxRedirects(getMaxRedirects())
                 .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
-                .protocolVersion(getConfiguredProtocolVersion()).readOnlyCommands(getReadOnlyCommands())
+                .pipelinedHandshake(isPipelinedHandshake()).protocolVersion(getConfiguredProtocolVersion())
+                .readOnlyCommands(getReadOnlyCommands())
                 .requestQueueSize(getRequestQueueSize())
                 .scriptCharset(getScriptCharset()).socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .warmUpOptions(getWarmUpOptions()).hedgingOptions(getHedgingOptions())
+                .circuitBreakerOptions(getCircuitBreakerOptions())
+                .priorityOptions(getPriorityOptions())
+                .pubSubDispatchOptions(getPubSubDispatchOptions())
+                .disconnectedBufferOptions(getDisconnectedBufferOptions())
                 .topologyRefreshOptions(getTopologyRefreshOptions())
                 .validateClusterNodeMembership(isValidateClusterNodeMembership()).nodeFilter(getNodeFilter());
 
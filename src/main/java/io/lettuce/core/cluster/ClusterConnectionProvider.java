@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.WarmUpOptions;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.protocol.ConnectionIntent;
@@ -130,4 +131,13 @@ interface ClusterConnectionProvider extends Closeable {
      */
     ReadFrom getReadFrom();
 
+    /**
+     * Establish node connections ahead of their first use according to {@link WarmUpOptions}.
+     *
+     * @param warmUpOptions the warm-up options.
+     * @return a {@link CompletableFuture} that completes once all selected node connections are warmed up.
+     * @since 7.0
+     */
+    CompletableFuture<Void> warmUp(WarmUpOptions warmUpOptions);
+
 }
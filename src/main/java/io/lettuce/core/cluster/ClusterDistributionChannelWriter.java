@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -30,6 +31,7 @@ import java.util.stream.IntStream;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.CommandListenerWriter;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.ReadHedging;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
@@ -76,6 +78,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
     private final int executionLimit;
 
+    private final ReadHedging readHedging;
+
     private ClusterConnectionProvider clusterConnectionProvider;
 
     private AsyncClusterConnectionProvider asyncClusterConnectionProvider;
@@ -97,6 +101,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         this.clientOptions = clientOptions;
         this.readOnlyCommands = clientOptions.getReadOnlyCommands();
         this.clusterEventListener = clusterEventListener;
+        this.readHedging = new ReadHedging(clientOptions.getHedgingOptions(), defaultWriter.getClientResources());
     }
 
     @Override
@@ -128,7 +133,7 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
                     firstEncodedKey.mark();
                     keyAsString = StringCodec.UTF8.decodeKey(firstEncodedKey);
                     firstEncodedKey.reset();
-                    slot = getSlot(firstEncodedKey);
+                    slot = clusterCommand.getArgs().getFirstKeySlot();
                 }
 
                 if (clusterCommand.isMoved()) {
@@ -168,15 +173,26 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         // exclude CLIENT commands from cluster routing
         if (args != null && !CommandType.CLIENT.equals(commandToSend.getType())) {
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
-            if (encodedKey != null) {
+            int hash = args.getFirstKeySlot();
+            if (hash != -1) {
 
-                int hash = getSlot(encodedKey);
                 ConnectionIntent connectionIntent = getIntent(command);
 
                 CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
                         .getConnectionAsync(connectionIntent, hash);
 
+                if (connectionIntent == ConnectionIntent.READ && readHedging.isHedgeable(commandToSend)) {
+
+                    if (isSuccessfullyCompleted(connectFuture)) {
+                        hedgeCommand(commandToSend, hash, connectFuture.join(), null);
+                    } else {
+                        connectFuture
+                                .whenComplete((connection, throwable) -> hedgeCommand(commandToSend, hash, connection, throwable));
+                    }
+
+                    return commandToSend;
+                }
+
                 if (isSuccessfullyCompleted(connectFuture)) {
                     writeCommand(commandToSend, false, connectFuture.join(), null);
                 } else {
@@ -193,6 +209,19 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return commandToSend;
     }
 
+    private <K, V> void hedgeCommand(RedisCommand<K, V, ?> command, int slot, StatefulRedisConnection<K, V> connection,
+            Throwable throwable) {
+
+        if (throwable != null) {
+            command.completeExceptionally(throwable);
+            return;
+        }
+
+        readHedging.dispatch(command, connection,
+                () -> asyncClusterConnectionProvider.getAlternateReadConnection(slot, connection),
+                (leg, legConnection) -> writeCommand(leg, false, legConnection, null));
+    }
+
     private void publish(Event event) {
 
         ClientResources clientResources = getClientResources();
@@ -282,7 +311,8 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
 
         List<ClusterCommand<K, V, ?>> clusterCommands = new ArrayList<>(commands.size());
         List<ClusterCommand<K, V, ?>> defaultCommands = new ArrayList<>(commands.size());
-        Map<SlotIntent, List<ClusterCommand<K, V, ?>>> partitions = new HashMap<>();
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> partitions = new LinkedHashMap<>();
+        Map<SlotIntent, RedisChannelWriter> writers = new HashMap<>();
 
         // TODO: Retain order or retain Intent preference?
         // Currently: Retain order
@@ -296,36 +326,29 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             }
 
             CommandArgs<K, V> args = cmd.getArgs();
-            ByteBuffer firstEncodedKey = args != null ? args.getFirstEncodedKey() : null;
+            int hash = args != null ? args.getFirstKeySlot() : -1;
 
-            if (firstEncodedKey == null) {
+            if (hash == -1) {
                 defaultCommands.add(new ClusterCommand<>(cmd, this, executionLimit));
                 continue;
             }
 
-            int hash = getSlot(args.getFirstEncodedKey());
+            // partition by node rather than by slot so that each node receives a single batch
+            RedisChannelWriter channelWriter = writers.computeIfAbsent(SlotIntent.of(connectionIntent, hash),
+                    this::getNodeWriter);
 
-            List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(SlotIntent.of(connectionIntent, hash),
-                    slotIntent -> new ArrayList<>());
+            if (channelWriter == null || channelWriter == this || channelWriter == defaultWriter) {
+                continue;
+            }
+
+            List<ClusterCommand<K, V, ?>> commandPartition = partitions.computeIfAbsent(channelWriter,
+                    writer -> new ArrayList<>());
 
             commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
-        for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
-
-            SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider
-                    .getConnection(slotIntent.connectionIntent, slotIntent.slotHash);
-
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
-            }
-
-            if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
-            }
+        for (Map.Entry<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
+            entry.getKey().write(entry.getValue());
         }
 
         clusterCommands.forEach(this::write);
@@ -334,6 +357,20 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         return (Collection) commands;
     }
 
+    private RedisChannelWriter getNodeWriter(SlotIntent slotIntent) {
+
+        RedisChannelHandler<?, ?> connection = (RedisChannelHandler<?, ?>) clusterConnectionProvider
+                .getConnection(slotIntent.connectionIntent, slotIntent.slotHash);
+
+        RedisChannelWriter channelWriter = connection.getChannelWriter();
+        if (channelWriter instanceof ClusterDistributionChannelWriter) {
+            ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
+            channelWriter = writer.defaultWriter;
+        }
+
+        return channelWriter;
+    }
+
     /**
      * Optimization: Determine command intents and optimize for bulk execution preferring one node.
      * <p>
@@ -94,6 +94,11 @@ class ClusterPubSubConnectionProvider<K, V> extends PooledClusterConnectionProvi
 
     }
 
+    @Override
+    protected boolean isAutoWarmUp() {
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     class DecoratingClusterNodeConnectionFactory implements ClusterNodeConnectionFactory<K, V> {
 
@@ -35,6 +35,7 @@ import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.WarmUpOptions;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.push.PushMessage;
@@ -44,12 +45,14 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.AsyncConnectionProvider;
+import io.lettuce.core.internal.ConnectionWarmUp;
 import io.lettuce.core.internal.Exceptions;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.EndpointCircuitBreaker;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -249,6 +252,13 @@ class PooledClusterConnectionProvider<K, V>
                     }
                 }
 
+                for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : selectedReaderCandidates) {
+
+                    if (EndpointCircuitBreaker.isAvailable(candidate.join())) {
+                        return candidate;
+                    }
+                }
+
                 for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : selectedReaderCandidates) {
 
                     if (candidate.join().isOpen()) {
@@ -303,6 +313,12 @@ class PooledClusterConnectionProvider<K, V>
                 }
             }
 
+            for (StatefulRedisConnection<K, V> candidate : statefulRedisConnections) {
+                if (EndpointCircuitBreaker.isAvailable(candidate)) {
+                    return candidate;
+                }
+            }
+
             for (StatefulRedisConnection<K, V> candidate : statefulRedisConnections) {
                 if (candidate.isOpen()) {
                     return candidate;
@@ -313,6 +329,40 @@ class PooledClusterConnectionProvider<K, V>
         });
     }
 
+    @Override
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public StatefulRedisConnection getAlternateReadConnection(int slot, StatefulRedisConnection exclude) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];
+
+        synchronized (stateLock) {
+            readerCandidates = readers[slot];
+        }
+
+        if (readerCandidates == null || readerCandidates.length < 2) {
+            return null;
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(readerCandidates.length);
+
+        for (int i = 0; i < readerCandidates.length; i++) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidate = readerCandidates[(offset + i)
+                    % readerCandidates.length];
+
+            if (candidate.isDone() && !candidate.isCompletedExceptionally()) {
+
+                StatefulRedisConnection<K, V> connection = candidate.join();
+
+                if (connection != exclude && EndpointCircuitBreaker.isAvailable(connection)) {
+                    return connection;
+                }
+            }
+        }
+
+        return null;
+    }
+
     private boolean isOrderSensitive(Object[] connections) {
         return OrderingReadFromAccessor.isOrderSensitive(readFrom) || connections.length == 1;
     }
@@ -330,7 +380,7 @@ class PooledClusterConnectionProvider<K, V>
 
                 E candidate = candidateFuture.join();
 
-                if (candidate.isOpen()) {
+                if (EndpointCircuitBreaker.isAvailable(candidate)) {
                     return mappingFunction.apply(candidateFuture);
                 }
             }
@@ -539,6 +589,56 @@ class PooledClusterConnectionProvider<K, V>
         if (reconfigurePartitions) {
             reconfigurePartitions();
         }
+
+        if (isAutoWarmUp()) {
+            warmUp(options.getWarmUpOptions()).whenComplete((ignore, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Cannot warm up cluster node connections: " + throwable);
+                }
+            });
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> warmUp(WarmUpOptions warmUpOptions) {
+
+        LettuceAssert.notNull(warmUpOptions, "WarmUpOptions must not be null");
+
+        List<RedisClusterNode> nodes = new ArrayList<>();
+
+        synchronized (stateLock) {
+
+            if (partitions == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            for (RedisClusterNode node : partitions) {
+                if (node.getUri() != null && !node.is(RedisClusterNode.NodeFlag.FAIL)
+                        && !node.is(RedisClusterNode.NodeFlag.EVENTUAL_FAIL) && !node.is(RedisClusterNode.NodeFlag.NOADDR)) {
+                    nodes.add(node);
+                }
+            }
+        }
+
+        if (debugEnabled) {
+            logger.debug("warmUp(" + nodes.size() + " nodes)");
+        }
+
+        // Use the same connection keys as slot-oriented operations.
+        return ConnectionWarmUp.warmUp(ConnectionWarmUp.selectNodes(nodes, warmUpOptions), node -> {
+
+            RedisURI uri = node.getUri();
+            return getConnectionAsync(new ConnectionKey(
+                    node.getRole().isUpstream() ? ConnectionIntent.WRITE : ConnectionIntent.READ, uri.getHost(),
+                    uri.getPort()));
+        }, warmUpOptions);
+    }
+
+    /**
+     * @return {@code true} to warm up node connections on topology changes.
+     */
+    protected boolean isAutoWarmUp() {
+        return options != null && options.getWarmUpOptions().isEnabled();
     }
 
     protected Partitions getPartitions() {
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,6 +25,7 @@ import java.util.Map;
 
 import io.lettuce.core.codec.CRC16;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Utility to calculate the slot from a key.
@@ -53,13 +55,32 @@ public class SlotHash {
     }
 
     /**
-     * Calculate the slot from the given key.
+     * Calculate the slot from the given key. ASCII keys are hashed without encoding the key to bytes.
      *
      * @param key the key
      * @return slot
      */
     public static int getSlot(String key) {
-        return getSlot(key.getBytes());
+
+        int from = 0;
+        int to = key.length();
+
+        int start = key.indexOf(SUBKEY_START);
+        if (start != -1) {
+            int end = key.indexOf(SUBKEY_END, start + 1);
+            if (end != -1 && end != start + 1) {
+                from = start + 1;
+                to = end;
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            if (key.charAt(i) >= 0x80) {
+                return CRC16.crc16(key.substring(from, to).getBytes()) % SLOT_COUNT;
+            }
+        }
+
+        return CRC16.crc16(key, from, to - from) % SLOT_COUNT;
     }
 
     /**
@@ -73,42 +94,88 @@ public class SlotHash {
     }
 
     /**
-     * Calculate the slot from the given key.
+     * Calculate the slot from the given key. The position and limit of {@code key} remain unchanged.
      *
      * @param key the key
      * @return slot
      */
     public static int getSlot(ByteBuffer key) {
 
-        int limit = key.limit();
-        int position = key.position();
+        int from = key.position();
+        int to = key.limit();
 
-        int start = indexOf(key, SUBKEY_START);
+        int start = indexOf(key, from, to, SUBKEY_START);
         if (start != -1) {
-            int end = indexOf(key, start + 1, SUBKEY_END);
+            int end = indexOf(key, start + 1, to, SUBKEY_END);
             if (end != -1 && end != start + 1) {
-                key.position(start + 1).limit(end);
+                from = start + 1;
+                to = end;
             }
         }
 
+        if (key.hasArray()) {
+            return CRC16.crc16(key.array(), key.arrayOffset() + from, to - from) % SLOT_COUNT;
+        }
+
+        int position = key.position();
+        int limit = key.limit();
+
         try {
-            if (key.hasArray()) {
-                return CRC16.crc16(key.array(), key.position(), key.limit() - key.position()) % SLOT_COUNT;
-            }
+            key.limit(to).position(from);
             return CRC16.crc16(key) % SLOT_COUNT;
         } finally {
-            key.position(position).limit(limit);
+            key.limit(limit).position(position);
         }
     }
 
-    private static int indexOf(ByteBuffer haystack, byte needle) {
-        return indexOf(haystack, haystack.position(), needle);
+    /**
+     * Calculate the slot from the readable bytes of an encoded key. Reader and writer index of {@code key} remain unchanged.
+     *
+     * @param key the encoded key
+     * @return slot
+     * @since 7.0
+     */
+    public static int getSlot(ByteBuf key) {
+
+        int from = key.readerIndex();
+        int to = key.writerIndex();
+
+        int start = key.indexOf(from, to, SUBKEY_START);
+        if (start != -1) {
+            int end = key.indexOf(start + 1, to, SUBKEY_END);
+            if (end != -1 && end != start + 1) {
+                from = start + 1;
+                to = end;
+            }
+        }
+
+        return CRC16.crc16(key, from, to - from) % SLOT_COUNT;
     }
 
-    private static int indexOf(ByteBuffer haystack, int start, byte needle) {
+    /**
+     * Find {@code needle} within {@code [from, to)} examining eight bytes per step (SWAR).
+     */
+    static int indexOf(ByteBuffer haystack, int from, int to, byte needle) {
+
+        int i = from;
+
+        if (to - from >= Long.BYTES) {
 
-        for (int i = start; i < haystack.remaining(); i++) {
+            long pattern = (needle & 0xFFL) * 0x0101010101010101L;
+            boolean bigEndian = haystack.order() == ByteOrder.BIG_ENDIAN;
+
+            for (; i + Long.BYTES <= to; i += Long.BYTES) {
+
+                long word = haystack.getLong(i) ^ pattern;
+                long matches = ~((word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL | word | 0x7F7F7F7F7F7F7F7FL);
+
+                if (matches != 0) {
+                    return i + ((bigEndian ? Long.numberOfLeadingZeros(matches) : Long.numberOfTrailingZeros(matches)) >>> 3);
+                }
+            }
+        }
 
+        for (; i < to; i++) {
             if (haystack.get(i) == needle) {
                 return i;
             }
@@ -22,19 +22,31 @@ import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.reactivestreams.Publisher;
+
 import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.BulkLoadOptions;
+import io.lettuce.core.BulkLoadResult;
+import io.lettuce.core.BulkLoader;
+import io.lettuce.core.BulkOperation;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ConnectionState;
+import io.lettuce.core.DefaultPipeline;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.WarmUpOptions;
+import io.lettuce.core.api.Pipeline;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
@@ -47,7 +59,9 @@ import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.CommandArgsAccessor;
 import io.lettuce.core.protocol.CompleteableCommand;
 import io.lettuce.core.protocol.ConnectionIntent;
@@ -131,6 +145,55 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return async;
     }
 
+    @Override
+    public Pipeline<RedisAdvancedClusterAsyncCommands<K, V>> pipeline() {
+        return new DefaultPipeline<K, V, RedisAdvancedClusterAsyncCommands<K, V>>(this::dispatch,
+                pipeline -> new PipelinedClusterAsyncCommands<>(this, codec, pipeline));
+    }
+
+    @Override
+    public CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations,
+            BulkLoadOptions options) {
+
+        LettuceAssert.notNull(operations, "Operations must not be null");
+        LettuceAssert.notNull(options, "BulkLoadOptions must not be null");
+
+        Partitions partitions = getPartitions();
+        Map<RedisClusterNode, Integer> nodeIndexes = new IdentityHashMap<>();
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>();
+        int[] slotToNode = new int[SlotHash.SLOT_COUNT];
+
+        // route operations by slot to node-local connections resolved once when starting the load
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+            RedisClusterNode node = partitions.getMasterBySlot(slot);
+
+            if (node == null) {
+                continue;
+            }
+
+            slotToNode[slot] = nodeIndexes.computeIfAbsent(node, it -> {
+                futures.add(getConnectionAsync(it.getNodeId()));
+                return futures.size() - 1;
+            });
+        }
+
+        if (futures.isEmpty()) {
+            return Futures.failed(new RedisException("Cannot determine a partition for bulk loading"));
+        }
+
+        return Futures.allOf(futures).thenCompose(ignore -> {
+
+            List<StatefulRedisConnection<K, V>> connections = new ArrayList<>(futures.size());
+            for (CompletableFuture<StatefulRedisConnection<K, V>> future : futures) {
+                connections.add(future.join());
+            }
+
+            return new BulkLoader<>(codec, connections, key -> slotToNode[SlotHash.getSlot(codec.encodeKey(key))], options)
+                    .load(operations);
+        });
+    }
+
     @Override
     public RedisAdvancedClusterReactiveCommands<K, V> reactive() {
         return reactive;
@@ -307,6 +370,15 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return getClusterDistributionChannelWriter().getReadFrom();
     }
 
+    @Override
+    public CompletionStage<Void> warmUp() {
+
+        ClientOptions options = getOptions();
+        WarmUpOptions warmUpOptions = options != null ? options.getWarmUpOptions() : ClientOptions.DEFAULT_WARM_UP_OPTIONS;
+
+        return getClusterDistributionChannelWriter().getClusterConnectionProvider().warmUp(warmUpOptions);
+    }
+
     ConnectionState getConnectionState() {
         return connectionState;
     }
@@ -352,4 +424,34 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return options instanceof ClusterClientOptions ? (ClusterClientOptions) options : null;
     }
 
+    /**
+     * {@link RedisAdvancedClusterAsyncCommandsImpl} that collects dispatched commands in a {@link DefaultPipeline}.
+     */
+    static class PipelinedClusterAsyncCommands<K, V> extends RedisAdvancedClusterAsyncCommandsImpl<K, V> {
+
+        private final DefaultPipeline<K, V, ?> pipeline;
+
+        PipelinedClusterAsyncCommands(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec,
+                DefaultPipeline<K, V, ?> pipeline) {
+            super(connection, codec);
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+            return pipeline.add(cmd);
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+            throw new UnsupportedOperationException("Pipelined commands are written through Pipeline.flush()");
+        }
+
+        @Override
+        public void flushCommands() {
+            pipeline.flush();
+        }
+
+    }
+
 }
@@ -16,10 +16,17 @@
 package io.lettuce.core.cluster.api;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
+import org.reactivestreams.Publisher;
+
+import io.lettuce.core.BulkLoadOptions;
+import io.lettuce.core.BulkLoadResult;
+import io.lettuce.core.BulkOperation;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.api.Pipeline;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterClientOptions;
@@ -55,6 +62,47 @@ public interface StatefulRedisClusterConnection<K, V> extends StatefulConnection
      */
     RedisAdvancedClusterAsyncCommands<K, V> async();
 
+    /**
+     * Create a new {@link Pipeline} that collects commands locally and writes them as a single batch upon
+     * {@link Pipeline#flush()}. Collected commands are routed by their key slot and written as one batch per cluster node.
+     * Commands that are executed on multiple nodes through node connections (such as {@code KEYS} or {@code DBSIZE}) are
+     * sent immediately. Creating a pipeline does not change the flush state of this connection so the connection can be used
+     * concurrently by other threads.
+     *
+     * @return a new {@link Pipeline} for the current connection.
+     * @since 7.0
+     */
+    Pipeline<RedisAdvancedClusterAsyncCommands<K, V>> pipeline();
+
+    /**
+     * Load {@code operations} using bulk writes. Operations are encoded straight into the outbound buffer in batches and
+     * their replies are counted without creating a future per operation. Operations are requested from the {@link Publisher}
+     * only while fewer than {@link BulkLoadOptions#getMaxInFlight()} operations await their reply. Use
+     * {@code Flux.fromStream(…)} or {@code Flux.fromIterable(…)} to load a {@link java.util.stream.Stream} or a collection.
+     *
+     * @param operations the operations to load, must not be {@code null}.
+     * @return a future that completes with the {@link BulkLoadResult} reporting failed operations by their position once all
+     *         operations received their reply.
+     * @since 7.0
+     */
+    default CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations) {
+        return bulkLoad(operations, BulkLoadOptions.create());
+    }
+
+    /**
+     * Load {@code operations} using bulk writes applying {@link BulkLoadOptions}. Operations are routed by the slot of their key to
+     * the upstream node serving the slot at the time the load is started. Operations redirected through {@code MOVED} or
+     * {@code ASK} during the load are reported as failures.
+     *
+     * @param operations the operations to load, must not be {@code null}.
+     * @param options the bulk load options, must not be {@code null}.
+     * @return a future that completes with the {@link BulkLoadResult} reporting failed operations by their position once all
+     *         operations received their reply.
+     * @since 7.0
+     * @see #bulkLoad(Publisher)
+     */
+    CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations, BulkLoadOptions options);
+
     /**
      * Returns the {@link RedisAdvancedClusterReactiveCommands} API for the current connection. Does not create a new
      * connection.
@@ -255,6 +303,17 @@ public interface StatefulRedisClusterConnection<K, V> extends StatefulConnection
      */
     ReadFrom getReadFrom();
 
+    /**
+     * Establish connections to the cluster nodes ahead of their first use. Nodes are selected through
+     * {@link io.lettuce.core.ClientOptions#getWarmUpOptions() WarmUpOptions}. Connections are established in parallel with
+     * bounded concurrency and already established connections are reused.
+     *
+     * @return a {@link CompletionStage} that completes once all selected node connections are established.
+     * @since 7.0
+     * @see io.lettuce.core.WarmUpOptions
+     */
+    CompletionStage<Void> warmUp();
+
     /**
      * @return Known partitions for this connection.
      */
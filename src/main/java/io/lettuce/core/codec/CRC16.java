@@ -17,6 +17,8 @@ package io.lettuce.core.codec;
 
 import java.nio.ByteBuffer;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * @author Mark Paluch
  *         <ul>
@@ -28,6 +30,9 @@ import java.nio.ByteBuffer;
  *         <li>Reflect Output CRC: False</li>
  *         <li>Xor constant to output CRC: 0000</li>
  *         </ul>
+ *         <p>
+ *         Inputs of eight bytes and more are processed using slicing-by-8: eight lookup tables allow consuming eight input
+ *         bytes per iteration without a data dependency between the per-byte lookups.
  * @since 3.0
  */
 public class CRC16 {
@@ -52,6 +57,21 @@ public class CRC16 {
             0x5C64, 0x4C45, 0x3CA2, 0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
             0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0 };
 
+    // T[k][b]: CRC of byte b followed by k zero bytes.
+    private static final int[] T1 = slice(LOOKUP_TABLE);
+
+    private static final int[] T2 = slice(T1);
+
+    private static final int[] T3 = slice(T2);
+
+    private static final int[] T4 = slice(T3);
+
+    private static final int[] T5 = slice(T4);
+
+    private static final int[] T6 = slice(T5);
+
+    private static final int[] T7 = slice(T6);
+
     /**
      * Utility constructor.
      */
@@ -78,9 +98,16 @@ public class CRC16 {
     public static int crc16(byte[] bytes, int off, int len) {
 
         int crc = 0x0000;
+        int i = off;
         int end = off + len;
 
-        for (int i = off; i < end; i++) {
+        for (; i + 8 <= end; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes[i]) & 0xFF] ^ T6[(crc ^ bytes[i + 1]) & 0xFF] ^ T5[bytes[i + 2] & 0xFF]
+                    ^ T4[bytes[i + 3] & 0xFF] ^ T3[bytes[i + 4] & 0xFF] ^ T2[bytes[i + 5] & 0xFF] ^ T1[bytes[i + 6] & 0xFF]
+                    ^ LOOKUP_TABLE[bytes[i + 7] & 0xFF];
+        }
+
+        for (; i < end; i++) {
             crc = doCrc(bytes[i], crc);
         }
 
@@ -96,10 +123,100 @@ public class CRC16 {
      */
     public static int crc16(ByteBuffer bytes) {
 
+        if (bytes.hasArray()) {
+
+            int crc = crc16(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            bytes.position(bytes.limit());
+            return crc;
+        }
+
+        int crc = 0x0000;
+        int i = bytes.position();
+        int end = bytes.limit();
+
+        for (; i + 8 <= end; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes.get(i)) & 0xFF] ^ T6[(crc ^ bytes.get(i + 1)) & 0xFF] ^ T5[bytes.get(i + 2) & 0xFF]
+                    ^ T4[bytes.get(i + 3) & 0xFF] ^ T3[bytes.get(i + 4) & 0xFF] ^ T2[bytes.get(i + 5) & 0xFF]
+                    ^ T1[bytes.get(i + 6) & 0xFF] ^ LOOKUP_TABLE[bytes.get(i + 7) & 0xFF];
+        }
+
+        for (; i < end; i++) {
+            crc = doCrc(bytes.get(i), crc);
+        }
+
+        bytes.position(end);
+        return crc & 0xFFFF;
+    }
+
+    /**
+     * Create a CRC16 checksum from ASCII characters without encoding them to bytes. Each character is treated as a single byte,
+     * callers must ensure that the region contains only characters in the range {@code 0x00-0x7F}.
+     *
+     * @param ascii input characters
+     * @param off start index
+     * @param len number of characters
+     * @return CRC16 as integer value
+     * @since 7.0
+     */
+    public static int crc16(CharSequence ascii, int off, int len) {
+
+        int crc = 0x0000;
+        int i = off;
+        int end = off + len;
+
+        for (; i + 8 <= end; i += 8) {
+            crc = T7[((crc >>> 8) ^ ascii.charAt(i)) & 0xFF] ^ T6[(crc ^ ascii.charAt(i + 1)) & 0xFF]
+                    ^ T5[ascii.charAt(i + 2) & 0xFF] ^ T4[ascii.charAt(i + 3) & 0xFF] ^ T3[ascii.charAt(i + 4) & 0xFF]
+                    ^ T2[ascii.charAt(i + 5) & 0xFF] ^ T1[ascii.charAt(i + 6) & 0xFF] ^ LOOKUP_TABLE[ascii.charAt(i + 7) & 0xFF];
+        }
+
+        for (; i < end; i++) {
+            crc = doCrc((byte) ascii.charAt(i), crc);
+        }
+
+        return crc & 0xFFFF;
+    }
+
+    /**
+     * Create a CRC16 checksum from the readable bytes of {@link ByteBuf} without changing its reader index.
+     *
+     * @param bytes input bytes
+     * @return CRC16 as integer value
+     * @since 7.0
+     */
+    public static int crc16(ByteBuf bytes) {
+        return crc16(bytes, bytes.readerIndex(), bytes.readableBytes());
+    }
+
+    /**
+     * Create a CRC16 checksum from a region of {@link ByteBuf} without changing its reader index.
+     *
+     * @param bytes input bytes
+     * @param off absolute start index
+     * @param len number of bytes
+     * @return CRC16 as integer value
+     * @since 7.0
+     */
+    public static int crc16(ByteBuf bytes, int off, int len) {
+
+        if (bytes.hasArray()) {
+            return crc16(bytes.array(), bytes.arrayOffset() + off, len);
+        }
+
         int crc = 0x0000;
+        int i = off;
+        int end = off + len;
 
-        while (bytes.hasRemaining()) {
-            crc = doCrc(bytes.get(), crc);
+        for (; i + 8 <= end; i += 8) {
+
+            long word = bytes.getLong(i);
+            crc = T7[((crc >>> 8) ^ (int) (word >>> 56)) & 0xFF] ^ T6[(crc ^ (int) (word >>> 48)) & 0xFF]
+                    ^ T5[(int) (word >>> 40) & 0xFF] ^ T4[(int) (word >>> 32) & 0xFF] ^ T3[(int) (word >>> 24) & 0xFF]
+                    ^ T2[(int) (word >>> 16) & 0xFF] ^ T1[(int) (word >>> 8) & 0xFF] ^ LOOKUP_TABLE[(int) word & 0xFF];
+        }
+
+        for (; i < end; i++) {
+            crc = doCrc(bytes.getByte(i), crc);
         }
 
         return crc & 0xFFFF;
@@ -109,4 +226,13 @@ public class CRC16 {
         return ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]);
     }
 
+    private static int[] slice(int[] previous) {
+
+        int[] table = new int[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = ((previous[i] << 8) ^ LOOKUP_TABLE[(previous[i] >>> 8) & 0xFF]) & 0xFFFF;
+        }
+        return table;
+    }
+
 }
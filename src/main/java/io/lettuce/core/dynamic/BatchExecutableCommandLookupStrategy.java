@@ -50,13 +50,17 @@ class BatchExecutableCommandLookupStrategy extends ExecutableCommandLookupStrate
     }
 
     public static boolean supports(CommandMethod method) {
-        return method.isBatchExecution() || isForceFlush(method);
+        return method.isBatchExecution() || isForceFlush(method) || isAsyncFlush(method);
     }
 
     private static boolean isForceFlush(CommandMethod method) {
         return method.getName().equals("flush") && method.getMethod().getDeclaringClass().equals(BatchExecutor.class);
     }
 
+    private static boolean isAsyncFlush(CommandMethod method) {
+        return method.getName().equals("flushAsync") && method.getMethod().getDeclaringClass().equals(BatchExecutor.class);
+    }
+
     @Override
     public ExecutableCommand resolveCommandMethod(CommandMethod method, RedisCommandsMetadata metadata) {
 
@@ -88,6 +92,23 @@ class BatchExecutableCommandLookupStrategy extends ExecutableCommandLookupStrate
             };
         }
 
+        if (isAsyncFlush(method)) {
+
+            return new ExecutableCommand() {
+
+                @Override
+                public Object execute(Object[] parameters) {
+                    return batcher.flush().toCompletableFuture();
+                }
+
+                @Override
+                public CommandMethod getCommandMethod() {
+                    return method;
+                }
+
+            };
+        }
+
         if (method.isFutureExecution() || SYNCHRONOUS_RETURN_TYPES.contains(method.getReturnType().getRawClass())) {
 
             CommandFactory commandFactory = super.resolveCommandFactory(method, metadata);
@@ -15,10 +15,15 @@
  */
 package io.lettuce.core.dynamic;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import io.lettuce.core.dynamic.batch.BatchException;
 import io.lettuce.core.protocol.RedisCommand;
 
 /**
@@ -47,4 +52,53 @@ class BatchTasks implements Iterable<RedisCommand<?, ?, ?>> {
         return futures.toArray(new RedisCommand[0]);
     }
 
+    /**
+     * Create a {@link CompletableFuture} that completes once all batched commands are completed. Completes exceptionally with
+     * {@link BatchException} if at least one command failed.
+     *
+     * @return the completion of this batch.
+     * @since 7.0
+     */
+    public CompletableFuture<Void> toCompletableFuture() {
+
+        if (futures.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<?>[] commands = new CompletableFuture[futures.size()];
+        for (int i = 0; i < commands.length; i++) {
+            commands[i] = (CompletableFuture<?>) futures.get(i);
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        CompletableFuture.allOf(commands).whenComplete((ignore, throwable) -> {
+
+            if (throwable == null) {
+                result.complete(null);
+                return;
+            }
+
+            List<RedisCommand<?, ?, ?>> failures = new ArrayList<>();
+            BatchException exception = new BatchException(failures);
+
+            for (int i = 0; i < commands.length; i++) {
+
+                if (commands[i].isCompletedExceptionally()) {
+
+                    failures.add(futures.get(i));
+                    try {
+                        commands[i].join();
+                    } catch (CompletionException | CancellationException e) {
+                        exception.addSuppressed(e.getCause() != null ? e.getCause() : e);
+                    }
+                }
+            }
+
+            result.completeExceptionally(exception);
+        });
+
+        return result;
+    }
+
 }
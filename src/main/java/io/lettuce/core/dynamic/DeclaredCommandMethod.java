@@ -189,7 +189,8 @@ public class DeclaredCommandMethod implements CommandMethod {
     @Override
     public boolean isBatchExecution() {
         return parameters.hasCommandBatchingIndex()
-                || (method.getName().equals("flush") && method.getDeclaringClass().equals(BatchExecutor.class));
+                || ((method.getName().equals("flush") || method.getName().equals("flushAsync"))
+                        && method.getDeclaringClass().equals(BatchExecutor.class));
     }
 
     @Override
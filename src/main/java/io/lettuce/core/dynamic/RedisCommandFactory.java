@@ -310,6 +310,8 @@ public class RedisCommandFactory {
 
         private final long batchSize;
 
+        private final long maxDelayNanos;
+
         private Batcher batcher = Batcher.NONE;
 
         private BatchExecutableCommandLookupStrategy batchingStrategy;
@@ -326,11 +328,13 @@ public class RedisCommandFactory {
 
                 this.globalBatching = true;
                 this.batchSize = batchSize.value();
+                this.maxDelayNanos = batchSize.unit().toNanos(batchSize.maxDelay());
 
             } else {
 
                 this.globalBatching = false;
                 this.batchSize = -1;
+                this.maxDelayNanos = 0;
             }
         }
 
@@ -340,7 +344,8 @@ public class RedisCommandFactory {
             if (BatchExecutableCommandLookupStrategy.supports(method) || globalBatching) {
 
                 if (batcher == Batcher.NONE) {
-                    batcher = new SimpleBatcher((StatefulConnection) connection, Math.toIntExact(batchSize));
+                    batcher = new SimpleBatcher((StatefulConnection) connection, Math.toIntExact(batchSize), maxDelayNanos,
+                            connection.getResources());
                     batchingStrategy = new BatchExecutableCommandLookupStrategy(redisCodecs, commandOutputFactoryResolver,
                             verifier, batcher, (StatefulConnection) connection);
                 }
@@ -16,23 +16,32 @@
 package io.lettuce.core.dynamic;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.event.command.BatchFlushedEvent;
+import io.lettuce.core.event.command.BatchFlushedEvent.Trigger;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
 
 /**
  * Simple threadsafe {@link Batcher} that flushes queued command when either:
  * <ul>
  * <li>Reaches the configured {@link #batchSize}</li>
  * <li>Encounters a {@link CommandBatching#flush() force flush}</li>
+ * <li>The configured max delay elapsed since the first command entered the batch</li>
  * </ul>
+ * Enqueueing a command is lock-free. Only the thread that completes a batch (or the flush timer) drains the queue, at most one
+ * drain runs at a time to retain command order. Forced flushes wait for a running drain to complete so that they dispatch all
+ * commands queued before the flush.
  *
  * @author Mark Paluch
  * @author Lucio Paiva
@@ -43,141 +52,169 @@ class SimpleBatcher implements Batcher {
 
     private final int batchSize;
 
-    private final BlockingQueue<RedisCommand<Object, Object, Object>> queue = new LinkedBlockingQueue<>();
+    private final long maxDelayNanos;
 
-    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final ClientResources clientResources;
+
+    private final Queue<RedisCommand<Object, Object, Object>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // reentrant as dispatching may complete commands whose callbacks flush the batcher
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
 
     public SimpleBatcher(StatefulConnection<Object, Object> connection, int batchSize) {
+        this(connection, batchSize, 0, null);
+    }
+
+    /**
+     * Create a new {@link SimpleBatcher}.
+     *
+     * @param connection the connection to dispatch batches to.
+     * @param batchSize the batch size or {@code -1} to flush with each command.
+     * @param maxDelayNanos max delay in nanoseconds a command remains queued before flushing the batch. Zero to disable
+     *        time-based flushing.
+     * @param clientResources the client resources used to schedule time-based flushing and to publish
+     *        {@link BatchFlushedEvent}s. Can be {@code null} if {@code maxDelayNanos} is zero.
+     */
+    SimpleBatcher(StatefulConnection<Object, Object> connection, int batchSize, long maxDelayNanos,
+            ClientResources clientResources) {
 
         LettuceAssert.isTrue(batchSize == -1 || batchSize > 1, "Batch size must be greater zero or -1");
+        LettuceAssert.isTrue(maxDelayNanos >= 0, "Max delay must be greater or equal to zero");
+        LettuceAssert.isTrue(maxDelayNanos == 0 || clientResources != null, "ClientResources must not be null");
+
         this.connection = connection;
         this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.clientResources = clientResources;
     }
 
     @Override
     public BatchTasks batch(RedisCommand<Object, Object, Object> command, CommandBatching batching) {
 
         queue.add(command);
+        int size = queued.incrementAndGet();
 
-        if (batching == CommandBatching.queue()) {
-            return BatchTasks.EMPTY;
-        }
-
-        boolean forcedFlush = batching == CommandBatching.flush();
+        BatchTasks tasks = BatchTasks.EMPTY;
 
-        boolean defaultFlush = false;
-
-        if (!forcedFlush) {
-            if (queue.size() >= batchSize) {
-                defaultFlush = true;
-            }
+        if (batching == CommandBatching.flush()) {
+            tasks = flush(Trigger.FORCED);
+        } else if (batching != CommandBatching.queue() && (batchSize == -1 || size >= batchSize)) {
+            tasks = flush(Trigger.SIZE);
         }
 
-        if (defaultFlush || forcedFlush) {
-            return flush(forcedFlush);
-        }
+        scheduleFlush();
 
-        return BatchTasks.EMPTY;
+        return tasks;
     }
 
     @Override
     public BatchTasks flush() {
-        return flush(true);
+        return flush(Trigger.FORCED);
     }
 
-    protected BatchTasks flush(boolean forcedFlush) {
+    protected BatchTasks flush(Trigger trigger) {
 
-        boolean defaultFlush = false;
+        List<RedisCommand<?, ?, ?>> commands = null;
 
-        List<RedisCommand<?, ?, ?>> commands = newDrainTarget();
+        do {
 
-        while (flushing.compareAndSet(false, true)) {
+            if (trigger == Trigger.FORCED) {
+                drainLock.lock();
+            } else if (!drainLock.tryLock()) {
+                // the current drain re-checks the queue once it completes.
+                break;
+            }
 
             try {
 
-                int consume = -1;
+                int consume;
+                while ((consume = getDrainCount(trigger)) > 0) {
 
-                if (!forcedFlush) {
-                    long queuedItems = queue.size();
-                    if (queuedItems >= batchSize) {
-                        consume = batchSize;
-                        defaultFlush = true;
-                    }
-                }
+                    List<RedisCommand<Object, Object, Object>> batch = drain(consume);
 
-                List<? extends RedisCommand<?, ?, ?>> batch = doFlush(forcedFlush, defaultFlush, consume);
-                if (batch != null) {
-                    commands.addAll(batch);
-                }
+                    if (batch.isEmpty()) {
+                        break;
+                    }
 
-                if (defaultFlush && !queue.isEmpty() && queue.size() > batchSize) {
-                    continue;
-                }
+                    dispatch(batch, trigger);
 
-                return new BatchTasks(commands);
+                    if (commands == null) {
+                        commands = new ArrayList<>(batch);
+                    } else {
+                        commands.addAll(batch);
+                    }
 
+                    trigger = Trigger.SIZE;
+                }
             } finally {
-                flushing.set(false);
+                drainLock.unlock();
             }
-        }
 
-        return BatchTasks.EMPTY;
+        } while (getDrainCount(Trigger.SIZE) > 0);
+
+        return commands == null ? BatchTasks.EMPTY : new BatchTasks(commands);
     }
 
-    private List<? extends RedisCommand<?, ?, ?>> doFlush(boolean forcedFlush, boolean defaultFlush, int consume) {
+    private int getDrainCount(Trigger trigger) {
 
-        List<RedisCommand<Object, Object, Object>> commands = null;
-        if (forcedFlush) {
-            commands = prepareForceFlush();
-        } else if (defaultFlush) {
-            commands = prepareDefaultFlush(consume);
-        }
+        int size = queued.get();
 
-        if (commands != null && !commands.isEmpty()) {
-            if (commands.size() == 1) {
-                connection.dispatch(commands.get(0));
-            } else {
-                connection.dispatch(commands);
-            }
-
-            return commands;
+        if (trigger != Trigger.SIZE || batchSize == -1) {
+            return size;
         }
-        return Collections.emptyList();
+
+        return size >= batchSize ? batchSize : 0;
     }
 
-    private List<RedisCommand<Object, Object, Object>> prepareForceFlush() {
+    private List<RedisCommand<Object, Object, Object>> drain(int consume) {
 
-        List<RedisCommand<Object, Object, Object>> batch = newDrainTarget();
+        List<RedisCommand<Object, Object, Object>> batch = new ArrayList<>(consume);
 
-        while (!queue.isEmpty()) {
+        while (batch.size() < consume) {
 
             RedisCommand<Object, Object, Object> poll = queue.poll();
 
-            if (poll != null) {
-                batch.add(poll);
+            if (poll == null) {
+                break;
             }
+
+            batch.add(poll);
         }
 
+        queued.addAndGet(-batch.size());
+
         return batch;
     }
 
-    private List<RedisCommand<Object, Object, Object>> prepareDefaultFlush(int consume) {
+    private void dispatch(List<RedisCommand<Object, Object, Object>> batch, Trigger trigger) {
 
-        List<RedisCommand<Object, Object, Object>> batch = newDrainTarget();
+        if (batch.size() == 1) {
+            connection.dispatch(batch.get(0));
+        } else {
+            connection.dispatch(batch);
+        }
 
-        while ((batch.size() < consume || consume == -1) && !queue.isEmpty()) {
+        if (clientResources != null) {
+            clientResources.eventBus().publish(new BatchFlushedEvent(batch.size(), trigger));
+        }
+    }
 
-            RedisCommand<Object, Object, Object> poll = queue.poll();
+    private void scheduleFlush() {
 
-            if (poll != null) {
-                batch.add(poll);
-            }
+        if (maxDelayNanos == 0 || queued.get() == 0 || !flushScheduled.compareAndSet(false, true)) {
+            return;
         }
 
-        return batch;
-    }
+        clientResources.eventExecutorGroup().schedule(() -> {
 
-    private <T> ArrayList<T> newDrainTarget() {
-        return new ArrayList<>(Math.max(0, Math.min(batchSize, queue.size())));
+            flushScheduled.set(false);
+            flush(Trigger.TIME);
+            scheduleFlush();
+        }, maxDelayNanos, TimeUnit.NANOSECONDS);
     }
+
 }
@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.dynamic.batch;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * Batch executor interface to enforce command queue flushing using {@link BatchSize}.
  * <p>
@@ -36,4 +38,14 @@ public interface BatchExecutor {
      */
     void flush() throws BatchException;
 
+    /**
+     * Flush the command queue without awaiting command completion. The returned {@link CompletionStage} completes once all
+     * commands of the flushed batch are completed. It completes exceptionally with a {@link BatchException} if at least one
+     * command failed.
+     *
+     * @return completion of the flushed batch.
+     * @since 7.0
+     */
+    CompletionStage<Void> flushAsync();
+
 }
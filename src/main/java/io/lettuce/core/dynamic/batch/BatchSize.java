@@ -16,6 +16,7 @@
 package io.lettuce.core.dynamic.batch;
 
 import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis command method annotation declaring a command interface to use batching with a specified {@code batchSize}.
@@ -44,7 +45,19 @@ import java.lang.annotation.*;
  * <p>
  * Alternatively, a command interface can implement {@link BatchExecutor} to {@link BatchExecutor#flush()} commands before the
  * batch size is reached. Commands remain in a batch queue until the batch size is reached or the queue is
- * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed.
+ * {@link BatchExecutor#flush() flushed}. If the batch size is not reached, commands remain not executed unless a
+ * {@link #maxDelay() max delay} is configured. A max delay bounds the time a command stays queued: the batch is flushed once the
+ * max delay has elapsed since the first command entered the batch, whether or not the batch size was reached.
+ *
+ * <pre class="code">
+ * &#64;BatchSize(value = 50, maxDelay = 10)
+ * public interface MyCommands extends Commands, BatchExecutor {
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * Each dispatched batch emits a {@link io.lettuce.core.event.command.BatchFlushedEvent} carrying the batch size and the flush
+ * trigger.
  * <p>
  * Batching command interfaces are thread-safe and can be shared amongst multiple threads.
  *
@@ -65,4 +78,21 @@ public @interface BatchSize {
      */
     int value();
 
+    /**
+     * Declares the maximum time a command remains queued before the batch is flushed regardless of the batch size. Zero (the
+     * default) disables time-based flushing.
+     *
+     * @return the max delay, expressed in {@link #unit()}.
+     * @since 7.0
+     */
+    long maxDelay() default 0;
+
+    /**
+     * Declares the time unit of {@link #maxDelay()}.
+     *
+     * @return the time unit. Defaults to {@link TimeUnit#MILLISECONDS}.
+     * @since 7.0
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
 }
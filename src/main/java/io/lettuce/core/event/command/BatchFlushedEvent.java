@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import io.lettuce.core.event.Event;
+
+/**
+ * Event fired once a command batch of the Command Interface API was dispatched. Batch sizes and flush triggers allow tuning
+ * {@link io.lettuce.core.dynamic.batch.BatchSize batch size and max delay} settings.
+ *
+ * @since 7.0
+ * @see io.lettuce.core.dynamic.batch.BatchSize
+ */
+public class BatchFlushedEvent implements Event {
+
+    private final int batchSize;
+
+    private final Trigger trigger;
+
+    public BatchFlushedEvent(int batchSize, Trigger trigger) {
+        this.batchSize = batchSize;
+        this.trigger = trigger;
+    }
+
+    /**
+     * @return number of commands that were dispatched with this batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the reason why the batch was flushed.
+     */
+    public Trigger getTrigger() {
+        return trigger;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [batchSize=").append(batchSize);
+        sb.append(", trigger=").append(trigger);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Reason for flushing a batch.
+     */
+    public enum Trigger {
+
+        /**
+         * The configured batch size was reached.
+         */
+        SIZE,
+
+        /**
+         * The oldest queued command exceeded the configured max delay.
+         */
+        TIME,
+
+        /**
+         * Flush requested through {@link io.lettuce.core.dynamic.batch.BatchExecutor} or
+         * {@link io.lettuce.core.dynamic.batch.CommandBatching#flush()}.
+         */
+        FORCED
+
+    }
+
+}
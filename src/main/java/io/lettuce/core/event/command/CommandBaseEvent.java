@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.event.command;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import io.lettuce.core.protocol.RedisCommand;
@@ -29,8 +30,14 @@ public abstract class CommandBaseEvent {
 
     private final RedisCommand<Object, Object, Object> command;
 
-    private final Map<String, Object> context;
+    private Map<String, Object> context;
 
+    /**
+     * Create a new {@link CommandBaseEvent}.
+     *
+     * @param command the command.
+     * @param context shared context. Can be {@code null} to create the context lazily upon {@link #getContext()}.
+     */
     protected CommandBaseEvent(RedisCommand<Object, Object, Object> command, Map<String, Object> context) {
         this.command = command;
         this.context = context;
@@ -48,6 +55,11 @@ public abstract class CommandBaseEvent {
      */
     public Map<String, Object> getContext() {
         synchronized (this) {
+
+            if (context == null) {
+                context = new HashMap<>();
+            }
+
             return context;
         }
     }
@@ -15,14 +15,46 @@
  */
 package io.lettuce.core.event.command;
 
+import io.lettuce.core.internal.LettuceAssert;
+
 /**
  * A listener for Redis command events.
+ * <p>
+ * Events are created only for commands that are {@link #getSampler() sampled} and only for callback methods that a listener
+ * implements. Listeners that only implement {@link #commandSucceeded(CommandSucceededEvent)} do not cause
+ * {@link CommandStartedEvent} allocation.
  *
  * @author Mikhael Sokolov
  * @since 6.1
  */
 public interface CommandListener {
 
+    /**
+     * Create a {@link CommandListener} that notifies {@code listener} only for commands sampled by {@code sampler}.
+     *
+     * @param listener the listener to decorate, must not be {@code null}.
+     * @param sampler the sampler, must not be {@code null}.
+     * @return the sampled {@link CommandListener}.
+     * @since 7.0
+     */
+    static CommandListener sampled(CommandListener listener, CommandSampler sampler) {
+
+        LettuceAssert.notNull(listener, "CommandListener must not be null");
+        LettuceAssert.notNull(sampler, "CommandSampler must not be null");
+
+        return new SampledCommandListener(listener, sampler);
+    }
+
+    /**
+     * Sampler deciding whether this listener is notified about a command. Defaults to {@link CommandSampler#always()}.
+     *
+     * @return the {@link CommandSampler}.
+     * @since 7.0
+     */
+    default CommandSampler getSampler() {
+        return CommandSampler.always();
+    }
+
     /**
      * Listener for command started events.
      *
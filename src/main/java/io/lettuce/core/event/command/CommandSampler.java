@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Strategy deciding whether a {@link CommandListener} receives events for a command. Commands that are not sampled by any
+ * listener are written without listener overhead.
+ * <p>
+ * Samplers are called for each command from the thread that writes the command and must therefore be thread-safe and cheap.
+ *
+ * @since 7.0
+ * @see CommandListener#getSampler()
+ * @see CommandListener#sampled(CommandListener, CommandSampler)
+ */
+@FunctionalInterface
+public interface CommandSampler {
+
+    /**
+     * Determine whether to sample {@code command}.
+     *
+     * @param command the command to write.
+     * @return {@code true} to notify the listener about the command.
+     */
+    boolean isSampled(RedisCommand<?, ?, ?> command);
+
+    /**
+     * Sampler that samples all commands.
+     *
+     * @return a sampler that samples all commands.
+     */
+    static CommandSampler always() {
+        return CommandSamplers.ALWAYS;
+    }
+
+    /**
+     * Sampler that samples on average one in {@code n} commands.
+     *
+     * @param n the sampling ratio, must be greater than zero. {@code 1} samples all commands.
+     * @return a sampler that samples on average one in {@code n} commands.
+     */
+    static CommandSampler oneIn(int n) {
+
+        LettuceAssert.isTrue(n > 0, "Sampling ratio must be greater than zero");
+
+        if (n == 1) {
+            return always();
+        }
+
+        return command -> ThreadLocalRandom.current().nextInt(n) == 0;
+    }
+
+    /**
+     * Sampler that samples up to {@code commandsPerSecond} commands per second. Commands exceeding the rate within the current
+     * second are not sampled.
+     *
+     * @param commandsPerSecond the maximum number of sampled commands per second, must be greater than zero.
+     * @return a rate-limited sampler.
+     */
+    static CommandSampler rate(int commandsPerSecond) {
+
+        LettuceAssert.isTrue(commandsPerSecond > 0, "Commands per second must be greater than zero");
+
+        return new CommandSamplers.RateSampler(commandsPerSecond);
+    }
+
+}
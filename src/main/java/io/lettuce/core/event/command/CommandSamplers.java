@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Built-in {@link CommandSampler} implementations.
+ *
+ * @since 7.0
+ */
+class CommandSamplers {
+
+    static final CommandSampler ALWAYS = command -> true;
+
+    private CommandSamplers() {
+    }
+
+    /**
+     * Fixed-window sampler admitting up to {@code commandsPerSecond} commands per one-second window.
+     */
+    static class RateSampler implements CommandSampler {
+
+        private static final long WINDOW = 1_000_000_000L;
+
+        private final int commandsPerSecond;
+
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+        private final AtomicInteger sampled = new AtomicInteger();
+
+        RateSampler(int commandsPerSecond) {
+            this.commandsPerSecond = commandsPerSecond;
+        }
+
+        @Override
+        public boolean isSampled(RedisCommand<?, ?, ?> command) {
+
+            long now = System.nanoTime();
+            long start = windowStart.get();
+
+            if (now - start >= WINDOW && windowStart.compareAndSet(start, now)) {
+                sampled.set(0);
+            }
+
+            // read before increment to avoid contended writes once the window is exhausted
+            return sampled.get() < commandsPerSecond && sampled.incrementAndGet() <= commandsPerSecond;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ package io.lettuce.core.event.command;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.Map;
 
 import io.lettuce.core.protocol.RedisCommand;
 
@@ -31,7 +32,19 @@ public class CommandStartedEvent extends CommandBaseEvent {
     private final long startedAt;
 
     public CommandStartedEvent(RedisCommand<Object, Object, Object> command, long startedAt) {
-        super(command, new HashMap<>());
+        this(command, new HashMap<>(), startedAt);
+    }
+
+    /**
+     * Create a new {@link CommandStartedEvent}.
+     *
+     * @param command the command.
+     * @param context shared context that is passed on to the completion event.
+     * @param startedAt start time in milliseconds since epoch.
+     * @since 7.0
+     */
+    public CommandStartedEvent(RedisCommand<Object, Object, Object> command, Map<String, Object> context, long startedAt) {
+        super(command, context);
         this.startedAt = startedAt;
     }
 
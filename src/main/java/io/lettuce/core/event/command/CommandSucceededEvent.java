@@ -30,23 +30,45 @@ import io.lettuce.core.protocol.RedisCommand;
  */
 public class CommandSucceededEvent extends CommandBaseEvent {
 
-    // times are in ms
     private final long started;
 
-    private final long completed;
+    private final long durationNanos;
 
+    /**
+     * Create a new {@link CommandSucceededEvent}.
+     *
+     * @param command the command.
+     * @param context shared context.
+     * @param started start time in milliseconds since epoch.
+     * @param completed completion time in milliseconds since epoch.
+     */
     public CommandSucceededEvent(RedisCommand<Object, Object, Object> command, Map<String, Object> context, long started,
             long completed) {
+        this(command, context, started, completed - started, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a new {@link CommandSucceededEvent} using a monotonic duration.
+     *
+     * @param command the command.
+     * @param context shared context.
+     * @param started start time in milliseconds since epoch.
+     * @param duration execution duration.
+     * @param durationUnit unit of {@code duration}.
+     * @since 7.0
+     */
+    public CommandSucceededEvent(RedisCommand<Object, Object, Object> command, Map<String, Object> context, long started,
+            long duration, TimeUnit durationUnit) {
         super(command, context);
         this.started = started;
-        this.completed = completed;
+        this.durationNanos = durationUnit.toNanos(duration);
     }
 
     /**
      * @return execution duration.
      */
     public Duration getDuration() {
-        return Duration.ofMillis(completed - started);
+        return Duration.ofNanos(durationNanos);
     }
 
     /**
@@ -54,7 +76,7 @@ public class CommandSucceededEvent extends CommandBaseEvent {
      * @return execution duration in {@link TimeUnit}.
      */
     public long getDuration(TimeUnit unit) {
-        return unit.convert(completed - started, TimeUnit.MILLISECONDS);
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -68,7 +90,7 @@ public class CommandSucceededEvent extends CommandBaseEvent {
      * @return {@link Instant} when the command was completed.
      */
     public Instant getCompleted() {
-        return Instant.ofEpochMilli(completed);
+        return Instant.ofEpochMilli(started).plusNanos(durationNanos);
     }
 
 }
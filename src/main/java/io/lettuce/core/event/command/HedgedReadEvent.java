@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+import io.lettuce.core.event.Event;
+
+/**
+ * Event fired once a hedged read completes. A read is hedged if it has not completed after the hedge delay and sent to a
+ * second node.
+ *
+ * @since 7.0
+ * @see io.lettuce.core.HedgingOptions
+ */
+public class HedgedReadEvent implements Event {
+
+    private final String commandType;
+
+    private final SocketAddress primary;
+
+    private final SocketAddress hedge;
+
+    private final Duration delay;
+
+    private final Duration duration;
+
+    private final boolean hedgeWon;
+
+    public HedgedReadEvent(String commandType, SocketAddress primary, SocketAddress hedge, Duration delay, Duration duration,
+            boolean hedgeWon) {
+        this.commandType = commandType;
+        this.primary = primary;
+        this.hedge = hedge;
+        this.delay = delay;
+        this.duration = duration;
+        this.hedgeWon = hedgeWon;
+    }
+
+    /**
+     * @return the command type.
+     */
+    public String getCommandType() {
+        return commandType;
+    }
+
+    /**
+     * @return remote address of the node that received the read first. Can be {@code null} if not connected.
+     */
+    public SocketAddress getPrimary() {
+        return primary;
+    }
+
+    /**
+     * @return remote address of the node that received the hedged read. Can be {@code null} if not connected.
+     */
+    public SocketAddress getHedge() {
+        return hedge;
+    }
+
+    /**
+     * @return the delay after which the read was hedged.
+     */
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * @return the time from sending the read to the first node until the read completed.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return {@code true} if the hedged read completed first.
+     */
+    public boolean isHedgeWon() {
+        return hedgeWon;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [commandType=").append(commandType);
+        sb.append(", primary=").append(primary);
+        sb.append(", hedge=").append(hedge);
+        sb.append(", hedgeWon=").append(hedgeWon);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event variant of {@link BatchFlushedEvent}.
+ *
+ * @since 7.0
+ */
+@Category({ "Lettuce", "Command Events" })
+@Label("Batch Flushed")
+@StackTrace(false)
+class JfrBatchFlushedEvent extends Event {
+
+    private final int batchSize;
+
+    private final String trigger;
+
+    public JfrBatchFlushedEvent(BatchFlushedEvent event) {
+
+        this.batchSize = event.getBatchSize();
+        this.trigger = event.getTrigger().name();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event variant of {@link HedgedReadEvent}.
+ *
+ * @since 7.0
+ */
+@Category({ "Lettuce", "Command Events" })
+@Label("Hedged Read")
+@StackTrace(false)
+class JfrHedgedReadEvent extends Event {
+
+    private final String commandType;
+
+    private final String primary;
+
+    private final String hedge;
+
+    @Timespan
+    private final long delay;
+
+    @Timespan
+    private final long readDuration;
+
+    private final boolean hedgeWon;
+
+    public JfrHedgedReadEvent(HedgedReadEvent event) {
+
+        this.commandType = event.getCommandType();
+        this.primary = String.valueOf(event.getPrimary());
+        this.hedge = String.valueOf(event.getHedge());
+        this.delay = event.getDelay().toNanos();
+        this.readDuration = event.getDuration().toNanos();
+        this.hedgeWon = event.isHedgeWon();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.command;
+
+/**
+ * {@link CommandListener} decorator applying a {@link CommandSampler}.
+ *
+ * @since 7.0
+ */
+class SampledCommandListener implements CommandListener {
+
+    private final CommandListener delegate;
+
+    private final CommandSampler sampler;
+
+    SampledCommandListener(CommandListener delegate, CommandSampler sampler) {
+        this.delegate = delegate;
+        this.sampler = sampler;
+    }
+
+    /**
+     * @return the decorated listener.
+     */
+    CommandListener getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public CommandSampler getSampler() {
+        return sampler;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        delegate.commandStarted(event);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        delegate.commandSucceeded(event);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        delegate.commandFailed(event);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.connection;
+
+import java.net.SocketAddress;
+
+import io.lettuce.core.event.Event;
+import io.lettuce.core.protocol.EndpointCircuitBreaker;
+
+/**
+ * Event fired when the circuit breaker of an endpoint transitions between states.
+ *
+ * @since 7.0
+ * @see io.lettuce.core.CircuitBreakerOptions
+ */
+public class CircuitBreakerStateChangedEvent implements Event {
+
+    private final String endpointId;
+
+    private final SocketAddress remoteAddress;
+
+    private final EndpointCircuitBreaker.State previousState;
+
+    private final EndpointCircuitBreaker.State state;
+
+    private final double failureRate;
+
+    private final double slowCallRate;
+
+    public CircuitBreakerStateChangedEvent(String endpointId, SocketAddress remoteAddress,
+            EndpointCircuitBreaker.State previousState, EndpointCircuitBreaker.State state, double failureRate,
+            double slowCallRate) {
+        this.endpointId = endpointId;
+        this.remoteAddress = remoteAddress;
+        this.previousState = previousState;
+        this.state = state;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+    }
+
+    /**
+     * @return the endpoint identifier.
+     */
+    public String getEndpointId() {
+        return endpointId;
+    }
+
+    /**
+     * @return the remote address of the endpoint. Can be {@code null} if the endpoint is not connected.
+     */
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * @return the state before the transition.
+     */
+    public EndpointCircuitBreaker.State getPreviousState() {
+        return previousState;
+    }
+
+    /**
+     * @return the new state.
+     */
+    public EndpointCircuitBreaker.State getState() {
+        return state;
+    }
+
+    /**
+     * @return the failure rate within the sliding window at the time of the transition.
+     */
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    /**
+     * @return the slow call rate within the sliding window at the time of the transition.
+     */
+    public double getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [endpointId='").append(endpointId).append('\'');
+        sb.append(", remoteAddress=").append(remoteAddress);
+        sb.append(", previousState=").append(previousState);
+        sb.append(", state=").append(state);
+        sb.append(", failureRate=").append(failureRate);
+        sb.append(", slowCallRate=").append(slowCallRate);
+        sb.append(']');
+        return sb.toString();
+    }
+
+}
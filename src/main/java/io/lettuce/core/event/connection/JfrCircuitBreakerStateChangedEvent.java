@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event variant of {@link CircuitBreakerStateChangedEvent}.
+ *
+ * @since 7.0
+ */
+@Category({ "Lettuce", "Connection Events" })
+@Label("Circuit Breaker State Changed")
+@StackTrace(false)
+class JfrCircuitBreakerStateChangedEvent extends Event {
+
+    private final String endpointId;
+
+    private final String remote;
+
+    private final String previousState;
+
+    private final String state;
+
+    private final double failureRate;
+
+    private final double slowCallRate;
+
+    public JfrCircuitBreakerStateChangedEvent(CircuitBreakerStateChangedEvent event) {
+
+        this.endpointId = event.getEndpointId();
+        this.remote = event.getRemoteAddress() != null ? event.getRemoteAddress().toString() : null;
+        this.previousState = event.getPreviousState().name();
+        this.state = event.getState().name();
+        this.failureRate = event.getFailureRate();
+        this.slowCallRate = event.getSlowCallRate();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.connection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event variant of {@link SslHandshakeEvent}.
+ *
+ * @since 7.0
+ */
+@Category({ "Lettuce", "Connection Events" })
+@Label("SSL Handshake")
+@StackTrace(false)
+class JfrSslHandshakeEvent extends Event {
+
+    private final String redisUri;
+
+    private final String remote;
+
+    @Timespan
+    private final long handshakeDuration;
+
+    private final boolean resumed;
+
+    private final String protocol;
+
+    private final String cipherSuite;
+
+    private final boolean success;
+
+    public JfrSslHandshakeEvent(SslHandshakeEvent event) {
+
+        this.redisUri = event.getRedisUri();
+        this.remote = event.remoteAddress().toString();
+        this.handshakeDuration = event.getDuration().toNanos();
+        this.resumed = event.isResumed();
+        this.protocol = event.getProtocol();
+        this.cipherSuite = event.getCipherSuite();
+        this.success = event.isSuccess();
+    }
+
+}
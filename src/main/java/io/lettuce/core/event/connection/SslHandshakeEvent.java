@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.event.connection;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+/**
+ * Event fired after a SSL/TLS handshake with a Redis node completed or failed. Allows tracking handshake durations and the
+ * session resumption rate per node.
+ *
+ * @since 7.0
+ */
+public class SslHandshakeEvent extends ConnectionEventSupport {
+
+    private final Duration duration;
+
+    private final boolean resumed;
+
+    private final String protocol;
+
+    private final String cipherSuite;
+
+    private final Throwable cause;
+
+    public SslHandshakeEvent(String redisUri, SocketAddress local, SocketAddress remote, Duration duration, boolean resumed,
+            String protocol, String cipherSuite, Throwable cause) {
+        super(redisUri, null, null, local, remote);
+        this.duration = duration;
+        this.resumed = resumed;
+        this.protocol = protocol;
+        this.cipherSuite = cipherSuite;
+        this.cause = cause;
+    }
+
+    /**
+     * @return the handshake duration.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return {@code true} if the handshake resumed a previously established session.
+     */
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * @return the negotiated protocol. {@code null} if the handshake failed.
+     */
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * @return the negotiated cipher suite. {@code null} if the handshake failed.
+     */
+    public String getCipherSuite() {
+        return cipherSuite;
+    }
+
+    /**
+     * @return {@code true} if the handshake completed successfully.
+     */
+    public boolean isSuccess() {
+        return cause == null;
+    }
+
+    /**
+     * @return the handshake failure. {@code null} if the handshake completed successfully.
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+}
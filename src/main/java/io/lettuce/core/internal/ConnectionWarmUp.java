@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.WarmUpOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+/**
+ * Utility to warm up node connections according to {@link WarmUpOptions}. Connections are established with bounded
+ * concurrency and optionally verified with a {@code PING}. This class is part of the internal API and may change without
+ * further notice.
+ *
+ * @since 7.0
+ */
+public abstract class ConnectionWarmUp {
+
+    private ConnectionWarmUp() {
+        // no instances allowed
+    }
+
+    /**
+     * Select the nodes to warm up. Upstream nodes are always selected, other nodes are selected through
+     * {@link WarmUpOptions#getReadFrom()}. Selects all nodes if {@link WarmUpOptions#getReadFrom()} is not set.
+     *
+     * @param nodes the known nodes.
+     * @param options the warm-up options.
+     * @return the nodes to warm up.
+     */
+    public static <T extends RedisNodeDescription> List<T> selectNodes(List<T> nodes, WarmUpOptions options) {
+
+        ReadFrom readFrom = options.getReadFrom();
+
+        if (readFrom == null) {
+            return nodes;
+        }
+
+        Set<RedisNodeDescription> selection = new LinkedHashSet<>();
+
+        for (T node : nodes) {
+            if (node.getRole().isUpstream()) {
+                selection.add(node);
+            }
+        }
+
+        List<RedisNodeDescription> candidates = Collections.unmodifiableList(nodes);
+        selection.addAll(readFrom.select(new ReadFrom.Nodes() {
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return candidates;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return candidates.iterator();
+            }
+
+        }));
+
+        List<T> result = new ArrayList<>(selection.size());
+
+        for (T node : nodes) {
+            if (selection.contains(node)) {
+                result.add(node);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Obtain connections for all {@code targets} with at most {@link WarmUpOptions#getConcurrency()} connection attempts in
+     * flight. The resulting stage completes once all connections are established (and responded to {@code PING} if
+     * configured) or completes exceptionally with the first failure, carrying subsequent failures as suppressed exceptions.
+     *
+     * @param targets the connection targets.
+     * @param connector function to obtain a connection for a target.
+     * @param options the warm-up options.
+     * @return a {@link CompletableFuture} that completes when all connections are warmed up.
+     */
+    public static <T> CompletableFuture<Void> warmUp(List<T> targets,
+            Function<T, ? extends CompletionStage<? extends StatefulRedisConnection<?, ?>>> connector, WarmUpOptions options) {
+
+        LettuceAssert.notNull(targets, "Targets must not be null");
+        LettuceAssert.notNull(connector, "Connector must not be null");
+        LettuceAssert.notNull(options, "WarmUpOptions must not be null");
+
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        WarmUp<T> warmUp = new WarmUp<>(targets, connector, options.isPing());
+        int lanes = Math.min(options.getConcurrency(), targets.size());
+
+        for (int i = 0; i < lanes; i++) {
+            warmUp.next();
+        }
+
+        return warmUp.result;
+    }
+
+    static class WarmUp<T> {
+
+        private final List<T> targets;
+
+        private final Function<T, ? extends CompletionStage<? extends StatefulRedisConnection<?, ?>>> connector;
+
+        private final boolean ping;
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        private final AtomicInteger remaining;
+
+        private final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        WarmUp(List<T> targets, Function<T, ? extends CompletionStage<? extends StatefulRedisConnection<?, ?>>> connector,
+                boolean ping) {
+            this.targets = targets;
+            this.connector = connector;
+            this.ping = ping;
+            this.remaining = new AtomicInteger(targets.size());
+        }
+
+        void next() {
+
+            int current = index.getAndIncrement();
+
+            if (current >= targets.size()) {
+                return;
+            }
+
+            CompletionStage<?> stage;
+
+            try {
+                stage = connector.apply(targets.get(current)).thenCompose(connection -> {
+
+                    if (ping) {
+                        return connection.async().ping();
+                    }
+
+                    return CompletableFuture.completedFuture(null);
+                });
+            } catch (RuntimeException e) {
+                stage = Futures.failed(e);
+            }
+
+            stage.whenComplete((ignore, throwable) -> {
+
+                if (throwable != null) {
+                    failures.add(Exceptions.unwrap(throwable));
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    complete();
+                } else {
+                    next();
+                }
+            });
+        }
+
+        private void complete() {
+
+            if (failures.isEmpty()) {
+                result.complete(null);
+                return;
+            }
+
+            Throwable failure = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                failure.addSuppressed(failures.get(i));
+            }
+
+            result.completeExceptionally(failure);
+        }
+
+    }
+
+}
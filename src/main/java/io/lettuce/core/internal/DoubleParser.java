@@ -0,0 +1,257 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ByteProcessor;
+
+/**
+ * {@link ByteProcessor} parsing ASCII-encoded doubles without creating an intermediate {@link String}. Decimal values whose
+ * significant digits form an integer of at most {@code 2^53} (all values with up to 15 significant digits and 16-digit values
+ * up to {@code 9007199254740992}) and whose decimal exponent is within {@code ±22} (e.g. {@code 1.5}, {@code -0.25},
+ * {@code 3e5}) are computed exactly through a single multiplication or division of exactly representable values. All other
+ * forms, such as {@code inf}, {@code nan} or values with more significant digits, fall back to
+ * {@link LettuceStrings#toDouble(String)}.
+ * <p>
+ * Instances are not thread-safe but can be reused, callers should retain a parser per decoding context (e.g. per command
+ * output). This class is part of the internal API and may change without further notice.
+ *
+ * @since 7.0
+ */
+public class DoubleParser implements ByteProcessor {
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+            1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    // guards the mantissa against long overflow, values exceeding MAX_EXACT_MANTISSA fall back anyway
+    private static final int MAX_DIGITS = 18;
+
+    private static final int MAX_EXPONENT = 9999;
+
+    private static final int SIGN = 0;
+
+    private static final int INTEGER = 1;
+
+    private static final int FRACTION = 2;
+
+    private static final int EXPONENT_SIGN = 3;
+
+    private static final int EXPONENT = 4;
+
+    private int state;
+
+    private long mantissa;
+
+    private int digits;
+
+    private int scale;
+
+    private int exponent;
+
+    private boolean negative;
+
+    private boolean negativeExponent;
+
+    private boolean hasDigits;
+
+    private boolean hasExponentDigits;
+
+    private boolean fallback;
+
+    /**
+     * Parse a double from {@code buffer} between {@code start} (inclusive) and {@code end} (exclusive) without changing its
+     * reader index.
+     *
+     * @param buffer the buffer.
+     * @param start start index.
+     * @param end end index.
+     * @return the parsed value.
+     * @throws NumberFormatException if the bytes do not represent a double.
+     */
+    public double parse(ByteBuf buffer, int start, int end) {
+
+        reset();
+        buffer.forEachByte(start, end - start, this);
+
+        if (isExact()) {
+            return getExactValue();
+        }
+
+        return LettuceStrings.toDouble(buffer.toString(start, end - start, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Parse a double from the remaining bytes of {@code bytes} without changing its position.
+     *
+     * @param bytes the bytes.
+     * @return the parsed value.
+     * @throws NumberFormatException if the bytes do not represent a double.
+     */
+    public double parse(ByteBuffer bytes) {
+
+        reset();
+
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+            if (!process(bytes.get(i))) {
+                break;
+            }
+        }
+
+        if (isExact()) {
+            return getExactValue();
+        }
+
+        char[] chars = new char[bytes.remaining()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) bytes.get(bytes.position() + i);
+        }
+
+        return LettuceStrings.toDouble(new String(chars));
+    }
+
+    @Override
+    public boolean process(byte value) {
+
+        if (value >= '0' && value <= '9') {
+            return digit(value - '0');
+        }
+
+        switch (value) {
+            case '-':
+            case '+':
+                if (state == SIGN) {
+                    negative = value == '-';
+                    state = INTEGER;
+                    return true;
+                }
+                if (state == EXPONENT_SIGN) {
+                    negativeExponent = value == '-';
+                    state = EXPONENT;
+                    return true;
+                }
+                break;
+            case '.':
+                if (state == SIGN || state == INTEGER) {
+                    state = FRACTION;
+                    return true;
+                }
+                break;
+            case 'e':
+            case 'E':
+                if (hasDigits && (state == INTEGER || state == FRACTION)) {
+                    state = EXPONENT_SIGN;
+                    return true;
+                }
+                break;
+        }
+
+        fallback = true;
+        return false;
+    }
+
+    private boolean digit(int digit) {
+
+        switch (state) {
+            case SIGN:
+                state = INTEGER;
+                // fall through
+            case INTEGER:
+            case FRACTION:
+
+                hasDigits = true;
+
+                if (mantissa == 0 && digit == 0) {
+                    // leading zeros do not count as significant digits
+                    if (state == FRACTION) {
+                        scale--;
+                    }
+                    return true;
+                }
+
+                if (digits == MAX_DIGITS) {
+                    fallback = true;
+                    return false;
+                }
+
+                mantissa = mantissa * 10 + digit;
+                digits++;
+
+                if (state == FRACTION) {
+                    scale--;
+                }
+                return true;
+            case EXPONENT_SIGN:
+                state = EXPONENT;
+                // fall through
+            default:
+
+                hasExponentDigits = true;
+                exponent = exponent * 10 + digit;
+
+                if (exponent > MAX_EXPONENT) {
+                    fallback = true;
+                    return false;
+                }
+                return true;
+        }
+    }
+
+    private boolean isExact() {
+
+        if (fallback || !hasDigits || (state >= EXPONENT_SIGN && !hasExponentDigits) || mantissa > MAX_EXACT_MANTISSA) {
+            return false;
+        }
+
+        int e10 = getDecimalExponent();
+        return mantissa == 0 || (e10 >= -22 && e10 <= 22);
+    }
+
+    private double getExactValue() {
+
+        if (mantissa == 0) {
+            return negative ? -0.0d : 0.0d;
+        }
+
+        int e10 = getDecimalExponent();
+        double value = e10 < 0 ? mantissa / POWERS_OF_TEN[-e10] : mantissa * POWERS_OF_TEN[e10];
+
+        return negative ? -value : value;
+    }
+
+    private int getDecimalExponent() {
+        return scale + (negativeExponent ? -exponent : exponent);
+    }
+
+    private void reset() {
+
+        state = SIGN;
+        mantissa = 0;
+        digits = 0;
+        scale = 0;
+        exponent = 0;
+        negative = false;
+        negativeExponent = false;
+        hasDigits = false;
+        hasExponentDigits = false;
+        fallback = false;
+    }
+
+}
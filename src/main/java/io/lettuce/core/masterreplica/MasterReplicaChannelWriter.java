@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.ReadHedging;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.api.StatefulRedisConnection;
@@ -46,6 +47,8 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
 
     private final io.lettuce.core.protocol.ReadOnlyCommands.ReadOnlyPredicate readOnlyCommands;
 
+    private final ReadHedging readHedging;
+
     private boolean closed = false;
 
     private boolean inTransaction;
@@ -56,6 +59,7 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
         this.clientResources = clientResources;
         this.clientOptions = clientOptions;
         this.readOnlyCommands = clientOptions.getReadOnlyCommands();
+        this.readHedging = new ReadHedging(clientOptions.getHedgingOptions(), clientResources);
     }
 
     @Override
@@ -81,6 +85,17 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
             inTransaction = false;
         }
 
+        if (connectionIntent == ConnectionIntent.READ && readHedging.isHedgeable(command)) {
+
+            if (isSuccessfullyCompleted(future)) {
+                hedgeCommand(command, future.join(), null);
+            } else {
+                future.whenComplete((c, t) -> hedgeCommand(command, c, t));
+            }
+
+            return command;
+        }
+
         if (isSuccessfullyCompleted(future)) {
             writeCommand(command, future.join(), null);
         } else {
@@ -90,6 +105,21 @@ class MasterReplicaChannelWriter implements RedisChannelWriter {
         return command;
     }
 
+    @SuppressWarnings("unchecked")
+    private <K, V> void hedgeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
+            Throwable throwable) {
+
+        if (throwable != null) {
+            command.completeExceptionally(throwable);
+            return;
+        }
+
+        MasterReplicaConnectionProvider<K, V> provider = (MasterReplicaConnectionProvider<K, V>) masterReplicaConnectionProvider;
+
+        readHedging.dispatch(command, connection, () -> provider.getAlternateReadConnection(connection),
+                (leg, legConnection) -> writeCommand(leg, legConnection, null));
+    }
+
     @SuppressWarnings("unchecked")
     private static <K, V> void writeCommand(RedisCommand<K, V, ?> command, StatefulRedisConnection<K, V> connection,
             Throwable throwable) {
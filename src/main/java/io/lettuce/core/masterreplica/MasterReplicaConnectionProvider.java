@@ -32,20 +32,24 @@ import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ConnectionFuture;
 import io.lettuce.core.OrderingReadFromAccessor;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.WarmUpOptions;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.AsyncConnectionProvider;
+import io.lettuce.core.internal.ConnectionWarmUp;
 import io.lettuce.core.internal.Exceptions;
 import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.ConnectionIntent;
+import io.lettuce.core.protocol.EndpointCircuitBreaker;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -73,11 +77,16 @@ class MasterReplicaConnectionProvider<K, V> {
 
     private ReadFrom readFrom;
 
+    private final WarmUpOptions warmUpOptions;
+
     MasterReplicaConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec, RedisURI initialRedisUri,
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
 
         this.initialRedisUri = initialRedisUri;
 
+        ClientOptions options = redisClient.getOptions();
+        this.warmUpOptions = options != null ? options.getWarmUpOptions() : ClientOptions.DEFAULT_WARM_UP_OPTIONS;
+
         Function<ConnectionKey, CompletionStage<StatefulRedisConnection<K, V>>> connectionFactory = new DefaultConnectionFactory(
                 redisClient, redisCodec);
 
@@ -125,19 +134,7 @@ class MasterReplicaConnectionProvider<K, V> {
         }
 
         if (readFrom != null && intent == ConnectionIntent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-
-            });
+            List<RedisNodeDescription> selection = selectReadCandidates();
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
@@ -153,13 +150,15 @@ class MasterReplicaConnectionProvider<K, V> {
                 }
 
                 if (OrderingReadFromAccessor.isOrderSensitive(readFrom) || selection.size() == 1) {
-                    return connections.filter(StatefulConnection::isOpen).next().switchIfEmpty(connections.next()).toFuture();
+                    return connections.filter(EndpointCircuitBreaker::isAvailable).next().switchIfEmpty(connections.next())
+                            .toFuture();
                 }
 
-                return connections.filter(StatefulConnection::isOpen).collectList().filter(it -> !it.isEmpty()).map(it -> {
-                    int index = ThreadLocalRandom.current().nextInt(it.size());
-                    return it.get(index);
-                }).switchIfEmpty(connections.next()).toFuture();
+                return connections.filter(EndpointCircuitBreaker::isAvailable).collectList().filter(it -> !it.isEmpty())
+                        .map(it -> {
+                            int index = ThreadLocalRandom.current().nextInt(it.size());
+                            return it.get(index);
+                        }).switchIfEmpty(connections.next()).toFuture();
             } catch (RuntimeException e) {
                 throw Exceptions.bubble(e);
             }
@@ -168,6 +167,63 @@ class MasterReplicaConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    /**
+     * Retrieve an open read connection other than {@code exclude} from the {@link ReadFrom} selection, e.g. to hedge a read.
+     * Connections that are not yet established are not considered.
+     *
+     * @param exclude the connection to exclude.
+     * @return the alternate connection or {@code null} if there is no other read connection available.
+     * @since 7.0
+     */
+    public StatefulRedisConnection<K, V> getAlternateReadConnection(StatefulRedisConnection<K, V> exclude) {
+
+        if (readFrom == null) {
+            return null;
+        }
+
+        List<RedisNodeDescription> selection = selectReadCandidates();
+
+        if (selection.size() < 2) {
+            return null;
+        }
+
+        int offset = ThreadLocalRandom.current().nextInt(selection.size());
+
+        for (int i = 0; i < selection.size(); i++) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> future = getConnection(
+                    selection.get((offset + i) % selection.size()));
+
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+
+                StatefulRedisConnection<K, V> connection = future.join();
+
+                if (connection != exclude && EndpointCircuitBreaker.isAvailable(connection)) {
+                    return connection;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<RedisNodeDescription> selectReadCandidates() {
+
+        return readFrom.select(new ReadFrom.Nodes() {
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+
+        });
+    }
+
     protected CompletableFuture<StatefulRedisConnection<K, V>> getConnection(RedisNodeDescription redisNodeDescription) {
 
         RedisURI uri = redisNodeDescription.getUri();
@@ -292,6 +348,36 @@ class MasterReplicaConnectionProvider<K, V> {
 
             closeStaleConnections();
         }
+
+        if (warmUpOptions.isEnabled()) {
+            warmUp(warmUpOptions).whenComplete((ignore, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Cannot warm up Master/Replica node connections: " + throwable);
+                }
+            });
+        }
+    }
+
+    /**
+     * Establish node connections ahead of their first use according to {@link WarmUpOptions}.
+     *
+     * @param warmUpOptions the warm-up options.
+     * @return a {@link CompletableFuture} that completes once all selected node connections are warmed up.
+     * @since 7.0
+     */
+    public CompletableFuture<Void> warmUp(WarmUpOptions warmUpOptions) {
+
+        List<RedisNodeDescription> nodes;
+
+        synchronized (stateLock) {
+            nodes = new ArrayList<>(knownNodes);
+        }
+
+        if (debugEnabled) {
+            logger.debug("warmUp(" + nodes.size() + " nodes)");
+        }
+
+        return ConnectionWarmUp.warmUp(ConnectionWarmUp.selectNodes(nodes, warmUpOptions), this::getConnection, warmUpOptions);
     }
 
     /**
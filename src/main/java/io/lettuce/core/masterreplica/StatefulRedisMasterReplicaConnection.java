@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.masterreplica;
 
+import java.util.concurrent.CompletionStage;
+
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.api.StatefulRedisConnection;
 
@@ -43,4 +45,15 @@ public interface StatefulRedisMasterReplicaConnection<K, V> extends StatefulRedi
      */
     ReadFrom getReadFrom();
 
+    /**
+     * Establish connections to the upstream and replica nodes ahead of their first use. Nodes are selected through
+     * {@link io.lettuce.core.ClientOptions#getWarmUpOptions() WarmUpOptions}. Connections are established in parallel with
+     * bounded concurrency and already established connections are reused.
+     *
+     * @return a {@link CompletionStage} that completes once all selected node connections are established.
+     * @since 7.0
+     * @see io.lettuce.core.WarmUpOptions
+     */
+    CompletionStage<Void> warmUp();
+
 }
@@ -16,7 +16,9 @@
 package io.lettuce.core.masterreplica;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
+import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.codec.RedisCodec;
@@ -48,6 +50,15 @@ class StatefulRedisMasterReplicaConnectionImpl<K, V> extends StatefulRedisConnec
         return getChannelWriter().getReadFrom();
     }
 
+    @Override
+    public CompletionStage<Void> warmUp() {
+
+        ClientOptions options = getOptions();
+
+        return getChannelWriter().getUpstreamReplicaConnectionProvider()
+                .warmUp(options != null ? options.getWarmUpOptions() : ClientOptions.DEFAULT_WARM_UP_OPTIONS);
+    }
+
     @Override
     public MasterReplicaChannelWriter getChannelWriter() {
         return (MasterReplicaChannelWriter) super.getChannelWriter();
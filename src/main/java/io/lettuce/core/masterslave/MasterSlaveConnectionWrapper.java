@@ -18,10 +18,18 @@ package io.lettuce.core.masterslave;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
+import org.reactivestreams.Publisher;
+
+import io.lettuce.core.BulkLoadOptions;
+import io.lettuce.core.BulkLoadResult;
+import io.lettuce.core.BulkOperation;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.CommandPriority;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.api.Pipeline;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
@@ -54,6 +62,11 @@ class MasterSlaveConnectionWrapper<K, V> implements StatefulRedisMasterSlaveConn
         return delegate.getReadFrom();
     }
 
+    @Override
+    public CompletionStage<Void> warmUp() {
+        return delegate.warmUp();
+    }
+
     @Override
     public boolean isMulti() {
         return delegate.isMulti();
@@ -69,6 +82,27 @@ class MasterSlaveConnectionWrapper<K, V> implements StatefulRedisMasterSlaveConn
         return delegate.async();
     }
 
+    @Override
+    public RedisCommands<K, V> sync(CommandPriority priority) {
+        return delegate.sync(priority);
+    }
+
+    @Override
+    public RedisAsyncCommands<K, V> async(CommandPriority priority) {
+        return delegate.async(priority);
+    }
+
+    @Override
+    public Pipeline<RedisAsyncCommands<K, V>> pipeline() {
+        return delegate.pipeline();
+    }
+
+    @Override
+    public CompletableFuture<BulkLoadResult> bulkLoad(Publisher<? extends BulkOperation<K, V>> operations,
+            BulkLoadOptions options) {
+        return delegate.bulkLoad(operations, options);
+    }
+
     @Override
     public RedisReactiveCommands<K, V> reactive() {
         return delegate.reactive();
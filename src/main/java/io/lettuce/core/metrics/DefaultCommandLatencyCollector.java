@@ -19,18 +19,19 @@ import static io.lettuce.core.internal.LettuceClassUtils.*;
 
 import java.net.SocketAddress;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
 import org.LatencyUtils.LatencyStats;
 import org.LatencyUtils.PauseDetector;
 import org.LatencyUtils.PauseDetectorListener;
@@ -67,10 +68,17 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
     private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(5);
 
+    private static final int SIGNIFICANT_DIGITS = 2;
+
     private final CommandLatencyCollectorOptions options;
 
-    private final AtomicReference<Map<CommandLatencyId, Latencies>> latencyMetricsRef = new AtomicReference<>(
-            createNewLatencyMap());
+    /**
+     * Interned latencies: local address to remote address to per-endpoint latencies. Local addresses are collapsed into
+     * {@link LocalAddress#ANY} if {@link CommandLatencyCollectorOptions#localDistinction()} is disabled.
+     */
+    private final Map<SocketAddress, Map<SocketAddress, EndpointLatencies>> latencies = new ConcurrentHashMap<>();
+
+    private final Function<CommandLatencyId, Latencies> latenciesFactory = this::createLatencies;
 
     // Updated via PAUSE_DETECTOR_UPDATER
     private volatile PauseDetectorWrapper pauseDetectorWrapper;
@@ -85,7 +93,8 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
     }
 
     /**
-     * Record the command latency per {@code connectionPoint} and {@code commandType}.
+     * Record the command latency per {@code connectionPoint} and {@code commandType}. Recording looks up pre-interned
+     * latencies and records into lock-free histograms without allocating once the endpoint and command type were seen.
      *
      * @param local the local address
      * @param remote the remote address
@@ -101,6 +110,29 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return;
         }
 
+        getLatencies(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType)
+                .record(rangify(firstResponseLatency), rangify(completionLatency));
+    }
+
+    private Latencies getLatencies(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+
+        Map<SocketAddress, EndpointLatencies> byRemote = latencies.get(local);
+
+        if (byRemote == null) {
+            byRemote = latencies.computeIfAbsent(local, it -> new ConcurrentHashMap<>());
+        }
+
+        EndpointLatencies endpoint = byRemote.get(remote);
+
+        if (endpoint == null) {
+            endpoint = byRemote.computeIfAbsent(remote, it -> new EndpointLatencies(local, it));
+        }
+
+        return endpoint.get(commandType, latenciesFactory);
+    }
+
+    private Latencies createLatencies(CommandLatencyId id) {
+
         PauseDetector pauseDetector;
 
         do {
@@ -114,22 +146,11 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             pauseDetector = (PauseDetector) pauseDetectorWrapper.getPauseDetector();
         } while (pauseDetector == null);
 
-        PauseDetector pauseDetectorToUse = pauseDetector;
-        Latencies latencies = latencyMetricsRef.get().computeIfAbsent(createId(local, remote, commandType), id -> {
-
-            if (options.resetLatenciesAfterEvent()) {
-                return new Latencies(pauseDetectorToUse);
-            }
-
-            return new CummulativeLatencies(pauseDetectorToUse);
-        });
-
-        latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
-        latencies.completion.recordLatency(rangify(completionLatency));
-    }
+        if (options.usePauseDetector()) {
+            return new LatencyStatsLatencies(id, pauseDetector, !options.resetLatenciesAfterEvent());
+        }
 
-    private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
-        return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
+        return new RecorderLatencies(id, !options.resetLatenciesAfterEvent());
     }
 
     private long rangify(long latency) {
@@ -151,56 +172,70 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             pauseDetectorWrapper.release();
         }
 
-        Map<CommandLatencyId, Latencies> latenciesMap = latencyMetricsRef.get();
-        if (latencyMetricsRef.compareAndSet(latenciesMap, Collections.emptyMap())) {
-            latenciesMap.values().forEach(Latencies::stop);
+        for (Map<SocketAddress, EndpointLatencies> byRemote : latencies.values()) {
+            for (EndpointLatencies endpoint : byRemote.values()) {
+                endpoint.latencies.values().forEach(Latencies::stop);
+            }
         }
+
+        latencies.clear();
     }
 
+    /**
+     * Retrieve latency metrics by merging the histograms recorded since the last call (or since the collector was created if
+     * {@link CommandLatencyCollectorOptions#resetLatenciesAfterEvent()} is disabled). Latencies that did not record any
+     * value since the last retrieval are evicted when resetting latencies to bound memory usage to active endpoints.
+     *
+     * @return the latency metrics.
+     */
     @Override
     public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
 
-        Map<CommandLatencyId, Latencies> latenciesMap = latencyMetricsRef.get();
-        Map<CommandLatencyId, Latencies> metricsToUse;
-
-        if (options.resetLatenciesAfterEvent()) {
+        Map<CommandLatencyId, CommandMetrics> result = new TreeMap<>();
+        boolean reset = options.resetLatenciesAfterEvent();
 
-            metricsToUse = latenciesMap;
-            latencyMetricsRef.set(createNewLatencyMap());
+        for (Map<SocketAddress, EndpointLatencies> byRemote : latencies.values()) {
+            for (EndpointLatencies endpoint : byRemote.values()) {
 
-            metricsToUse.values().forEach(Latencies::stop);
-        } else {
-            metricsToUse = new HashMap<>(latenciesMap);
-        }
+                for (Latencies latencies : endpoint.latencies.values()) {
 
-        return getMetrics(metricsToUse);
-    }
+                    CommandMetrics metrics = getMetrics(latencies);
 
-    private Map<CommandLatencyId, CommandMetrics> getMetrics(Map<CommandLatencyId, Latencies> latencyMetrics) {
-
-        Map<CommandLatencyId, CommandMetrics> result = new TreeMap<>();
-
-        for (Map.Entry<CommandLatencyId, Latencies> entry : latencyMetrics.entrySet()) {
+                    if (metrics != null) {
+                        result.put(latencies.id, metrics);
+                    } else if (reset) {
+                        endpoint.evict(latencies);
+                    }
+                }
 
-            Latencies latencies = entry.getValue();
+                if (reset && endpoint.latencies.isEmpty()) {
+                    byRemote.remove(endpoint.remote, endpoint);
+                }
+            }
+        }
 
-            Histogram firstResponse = latencies.getFirstResponseHistogram();
-            Histogram completion = latencies.getCompletionHistogram();
+        return result;
+    }
 
-            if (firstResponse.getTotalCount() == 0 && completion.getTotalCount() == 0) {
-                continue;
-            }
+    private CommandMetrics getMetrics(Latencies latencies) {
 
-            CommandLatency firstResponseLatency = getMetric(firstResponse);
-            CommandLatency completionLatency = getMetric(completion);
+        Histogram firstResponse;
+        Histogram completion;
 
-            CommandMetrics metrics = new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(),
-                    firstResponseLatency, completionLatency);
+        synchronized (latencies) {
+            firstResponse = latencies.getFirstResponseHistogram();
+            completion = latencies.getCompletionHistogram();
+        }
 
-            result.put(entry.getKey(), metrics);
+        if (firstResponse.getTotalCount() == 0 && completion.getTotalCount() == 0) {
+            return null;
         }
 
-        return result;
+        CommandLatency firstResponseLatency = getMetric(firstResponse);
+        CommandLatency completionLatency = getMetric(completion);
+
+        return new CommandMetrics(firstResponse.getTotalCount(), options.targetUnit(), firstResponseLatency,
+                completionLatency);
     }
 
     private CommandLatency getMetric(Histogram histogram) {
@@ -232,10 +267,6 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         return LATENCY_UTILS_AVAILABLE && HDR_UTILS_AVAILABLE;
     }
 
-    private static ConcurrentHashMap<CommandLatencyId, Latencies> createNewLatencyMap() {
-        return new ConcurrentHashMap<>(CommandType.values().length);
-    }
-
     /**
      * Returns a disabled no-op {@link CommandLatencyCollector}.
      *
@@ -267,57 +298,222 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         };
     }
 
-    private static class Latencies {
+    /**
+     * Latencies of a single endpoint. Latencies for {@link CommandType} are interned in an array indexed by the ordinal to
+     * avoid {@link CommandLatencyId} allocation and hash lookups on the recording path. Other {@link ProtocolKeyword}s are
+     * looked up by name, consistent with {@link CommandLatencyId#equals(Object)}.
+     */
+    static class EndpointLatencies {
 
-        private final LatencyStats firstResponse;
+        private static final CommandType[] COMMAND_TYPES = CommandType.values();
 
-        private final LatencyStats completion;
+        private final SocketAddress local;
 
-        Latencies(PauseDetector pauseDetector) {
-            firstResponse = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
-            completion = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
+        private final SocketAddress remote;
+
+        private final AtomicReferenceArray<Latencies> byCommandType = new AtomicReferenceArray<>(COMMAND_TYPES.length);
+
+        private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+
+        EndpointLatencies(SocketAddress local, SocketAddress remote) {
+            this.local = local;
+            this.remote = remote;
         }
 
-        public Histogram getFirstResponseHistogram() {
-            return firstResponse.getIntervalHistogram();
+        Latencies get(ProtocolKeyword commandType, Function<CommandLatencyId, Latencies> factory) {
+
+            if (commandType instanceof CommandType) {
+
+                int ordinal = ((CommandType) commandType).ordinal();
+
+                for (;;) {
+
+                    Latencies latencies = byCommandType.get(ordinal);
+
+                    if (latencies != null) {
+                        return latencies;
+                    }
+
+                    latencies = lookup(commandType, factory);
+
+                    if (!byCommandType.compareAndSet(ordinal, null, latencies)) {
+                        continue;
+                    }
+
+                    // a concurrent eviction may have removed the entry before it was interned
+                    if (this.latencies.get(commandType.name()) == latencies) {
+                        return latencies;
+                    }
+
+                    byCommandType.compareAndSet(ordinal, latencies, null);
+                }
+            }
+
+            return lookup(commandType, factory);
         }
 
-        public Histogram getCompletionHistogram() {
-            return completion.getIntervalHistogram();
+        private Latencies lookup(ProtocolKeyword commandType, Function<CommandLatencyId, Latencies> factory) {
+            return latencies.computeIfAbsent(commandType.name(),
+                    it -> factory.apply(CommandLatencyId.create(local, remote, commandType)));
         }
 
-        public void stop() {
-            firstResponse.stop();
-            completion.stop();
+        void evict(Latencies latencies) {
+
+            if (this.latencies.remove(latencies.id.commandType().name(), latencies)) {
+
+                ProtocolKeyword commandType = latencies.id.commandType();
+
+                if (commandType instanceof CommandType) {
+                    byCommandType.compareAndSet(((CommandType) commandType).ordinal(), latencies, null);
+                } else {
+                    for (CommandType type : COMMAND_TYPES) {
+                        if (type.name().equals(commandType.name())) {
+                            byCommandType.compareAndSet(type.ordinal(), latencies, null);
+                        }
+                    }
+                }
+
+                latencies.stop();
+            }
         }
 
     }
 
-    private static class CummulativeLatencies extends Latencies {
+    /**
+     * First-response and completion latencies for a {@link CommandLatencyId}. Recording is thread-safe and lock-free,
+     * histogram retrieval must be synchronized on the {@link Latencies} instance.
+     */
+    abstract static class Latencies {
 
-        private final Histogram firstResponse;
+        final CommandLatencyId id;
 
-        private final Histogram completion;
+        Latencies(CommandLatencyId id) {
+            this.id = id;
+        }
+
+        abstract void record(long firstResponseLatency, long completionLatency);
+
+        abstract Histogram getFirstResponseHistogram();
 
-        CummulativeLatencies(PauseDetector pauseDetector) {
-            super(pauseDetector);
+        abstract Histogram getCompletionHistogram();
 
-            firstResponse = super.firstResponse.getIntervalHistogram();
-            completion = super.completion.getIntervalHistogram();
+        void stop() {
+        }
+
+    }
+
+    /**
+     * {@link Latencies} using wait-free HdrHistogram {@link Recorder}s. Interval histograms are recycled so retrieval does
+     * not allocate once warmed up.
+     */
+    static class RecorderLatencies extends Latencies {
+
+        private final Recorder firstResponse = new Recorder(MIN_LATENCY, MAX_LATENCY, SIGNIFICANT_DIGITS);
+
+        private final Recorder completion = new Recorder(MIN_LATENCY, MAX_LATENCY, SIGNIFICANT_DIGITS);
+
+        private final Histogram firstResponseTotal;
+
+        private final Histogram completionTotal;
+
+        private Histogram firstResponseInterval;
+
+        private Histogram completionInterval;
+
+        RecorderLatencies(CommandLatencyId id, boolean cumulative) {
+
+            super(id);
+
+            this.firstResponseTotal = cumulative ? new Histogram(MIN_LATENCY, MAX_LATENCY, SIGNIFICANT_DIGITS) : null;
+            this.completionTotal = cumulative ? new Histogram(MIN_LATENCY, MAX_LATENCY, SIGNIFICANT_DIGITS) : null;
         }
 
         @Override
-        public Histogram getFirstResponseHistogram() {
+        void record(long firstResponseLatency, long completionLatency) {
+            firstResponse.recordValue(firstResponseLatency);
+            completion.recordValue(completionLatency);
+        }
+
+        @Override
+        Histogram getFirstResponseHistogram() {
 
-            firstResponse.add(super.getFirstResponseHistogram());
-            return firstResponse;
+            firstResponseInterval = firstResponse.getIntervalHistogram(firstResponseInterval);
+            return accumulate(firstResponseTotal, firstResponseInterval);
         }
 
         @Override
-        public Histogram getCompletionHistogram() {
+        Histogram getCompletionHistogram() {
+
+            completionInterval = completion.getIntervalHistogram(completionInterval);
+            return accumulate(completionTotal, completionInterval);
+        }
 
-            completion.add(super.getFirstResponseHistogram());
-            return completion;
+        private static Histogram accumulate(Histogram total, Histogram interval) {
+
+            if (total == null) {
+                return interval;
+            }
+
+            total.add(interval);
+            return total;
+        }
+
+    }
+
+    /**
+     * {@link Latencies} using {@link LatencyStats} to correct latencies for pauses reported by a {@link PauseDetector}.
+     */
+    static class LatencyStatsLatencies extends Latencies {
+
+        private final LatencyStats firstResponse;
+
+        private final LatencyStats completion;
+
+        private final Histogram firstResponseTotal;
+
+        private final Histogram completionTotal;
+
+        LatencyStatsLatencies(CommandLatencyId id, PauseDetector pauseDetector, boolean cumulative) {
+
+            super(id);
+
+            firstResponse = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
+            completion = LatencyStats.Builder.create().pauseDetector(pauseDetector).build();
+
+            firstResponseTotal = cumulative ? firstResponse.getIntervalHistogram() : null;
+            completionTotal = cumulative ? completion.getIntervalHistogram() : null;
+        }
+
+        @Override
+        void record(long firstResponseLatency, long completionLatency) {
+            firstResponse.recordLatency(firstResponseLatency);
+            completion.recordLatency(completionLatency);
+        }
+
+        @Override
+        Histogram getFirstResponseHistogram() {
+            return accumulate(firstResponseTotal, firstResponse);
+        }
+
+        @Override
+        Histogram getCompletionHistogram() {
+            return accumulate(completionTotal, completion);
+        }
+
+        private static Histogram accumulate(Histogram total, LatencyStats stats) {
+
+            if (total == null) {
+                return stats.getIntervalHistogram();
+            }
+
+            total.add(stats.getIntervalHistogram());
+            return total;
+        }
+
+        @Override
+        void stop() {
+            firstResponse.stop();
+            completion.stop();
         }
 
     }
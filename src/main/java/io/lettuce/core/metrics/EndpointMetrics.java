@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.SocketAddress;
+
+/**
+ * Live view on queue depths, in-flight commands and transport state of a single endpoint (connection). Values are read on
+ * access and are not synchronized with the I/O thread so they represent a best-effort snapshot that is suitable for gauges.
+ * Counters are monotonically increasing over the lifetime of the endpoint.
+ *
+ * @since 7.0
+ * @see EndpointMetricsRecorder
+ */
+public interface EndpointMetrics {
+
+    /**
+     * @return the endpoint identifier.
+     */
+    String getId();
+
+    /**
+     * @return the remote address of the endpoint. Can be {@code null} if the endpoint was not yet connected.
+     */
+    SocketAddress getRemoteAddress();
+
+    /**
+     * @return number of commands that are buffered in the endpoint and not yet written to the transport, e.g. when
+     *         auto-flushing is disabled.
+     */
+    int getQueuedCommands();
+
+    /**
+     * @return number of commands buffered while the endpoint is disconnected, awaiting reconnect.
+     */
+    int getDisconnectedBufferedCommands();
+
+    /**
+     * @return number of commands that were written to the transport and awaiting write completion.
+     */
+    int getPendingWriteCommands();
+
+    /**
+     * @return number of commands that were sent and are awaiting a response.
+     */
+    int getInFlightCommands();
+
+    /**
+     * @return number of bytes pending in the transport outbound buffer.
+     */
+    long getPendingWriteBytes();
+
+    /**
+     * @return number of bytes retained in the decode buffer (partially received responses).
+     */
+    int getDecodeBufferSize();
+
+    /**
+     * @return total number of flushes to the transport. Divide {@link #getWrittenCommands()} by this count to obtain the average
+     *         write batch size.
+     */
+    long getFlushCount();
+
+    /**
+     * @return total number of commands written to the transport.
+     */
+    long getWrittenCommands();
+
+    /**
+     * @return total number of commands that were buffered while disconnected.
+     */
+    long getDisconnectedBufferedTotal();
+
+    /**
+     * @return number of bytes of commands buffered while disconnected, measured as the estimated encoded size of their
+     *         arguments and including {@link #getDisconnectedSpilledBytes() spilled} commands. Bytes are only tracked if
+     *         metrics are enabled or {@link io.lettuce.core.DisconnectedBufferOptions} are configured, {@code 0} otherwise.
+     */
+    long getDisconnectedBufferedBytes();
+
+    /**
+     * @return number of bytes of commands that were spilled into pooled buffers after exceeding the disconnected buffer size.
+     * @see io.lettuce.core.DisconnectedBufferOptions.OverflowPolicy#SPILL
+     */
+    long getDisconnectedSpilledBytes();
+
+    /**
+     * @return total number of commands that were rejected or discarded because the disconnected buffer size was exceeded.
+     */
+    long getDisconnectedOverflowCount();
+
+    /**
+     * @return total number of times reading from the transport was suspended due to backpressure.
+     */
+    long getBackpressureCount();
+
+}
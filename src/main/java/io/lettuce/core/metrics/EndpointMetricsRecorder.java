@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+/**
+ * Interface defining a method to register {@link EndpointMetrics} for observation. Endpoints register themselves once they
+ * are connected for the first time and unregister when they are closed. Implementations are expected to read the metrics
+ * lazily (e.g. through gauges or periodic sampling) to keep the I/O path free of additional work.
+ *
+ * @since 7.0
+ * @see MicrometerEndpointMetricsRecorder
+ * @see JfrEndpointMetricsRecorder
+ */
+public interface EndpointMetricsRecorder {
+
+    /**
+     * Returns a disabled no-op {@link EndpointMetricsRecorder}.
+     *
+     * @return
+     */
+    static EndpointMetricsRecorder disabled() {
+
+        return new EndpointMetricsRecorder() {
+
+            @Override
+            public void register(EndpointMetrics metrics) {
+            }
+
+            @Override
+            public void unregister(EndpointMetrics metrics) {
+            }
+
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+
+        };
+    }
+
+    /**
+     * Register {@link EndpointMetrics} for observation.
+     *
+     * @param metrics the endpoint metrics.
+     */
+    void register(EndpointMetrics metrics);
+
+    /**
+     * Unregister {@link EndpointMetrics} and release resources associated with these.
+     *
+     * @param metrics the endpoint metrics.
+     */
+    void unregister(EndpointMetrics metrics);
+
+    /**
+     * Returns {@code true} if the metric recorder is enabled.
+     *
+     * @return {@code true} if the metric recorder is enabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+}
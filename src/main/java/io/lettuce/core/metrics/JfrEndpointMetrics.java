@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic JFR event sampling {@link EndpointMetrics} of a single endpoint.
+ *
+ * @since 7.0
+ * @see JfrEndpointMetricsRecorder
+ */
+@Category({ "Lettuce", "Connection Events" })
+@Label("Endpoint Metrics")
+@Period("1 s")
+@StackTrace(false)
+class JfrEndpointMetrics extends Event {
+
+    private final String endpointId;
+
+    private final String remoteAddress;
+
+    @Description("Commands buffered in the endpoint and not yet written")
+    private final int queued;
+
+    @Description("Commands buffered while disconnected")
+    private final int disconnectedBuffered;
+
+    @Description("Commands awaiting write completion")
+    private final int pendingWrites;
+
+    @Description("Commands sent and awaiting a response")
+    private final int inFlight;
+
+    @DataAmount
+    @Description("Bytes pending in the transport outbound buffer")
+    private final long pendingBytes;
+
+    @DataAmount
+    @Description("Bytes retained in the decode buffer")
+    private final int decodeBuffer;
+
+    @Description("Total flushes to the transport")
+    private final long flushes;
+
+    @Description("Total commands written to the transport")
+    private final long written;
+
+    @Description("Total commands buffered while disconnected")
+    private final long disconnectedBufferedTotal;
+
+    @Description("Total read suspensions due to backpressure")
+    private final long backpressure;
+
+    public JfrEndpointMetrics(EndpointMetrics metrics) {
+
+        this.endpointId = metrics.getId();
+        this.remoteAddress = String.valueOf(metrics.getRemoteAddress());
+        this.queued = metrics.getQueuedCommands();
+        this.disconnectedBuffered = metrics.getDisconnectedBufferedCommands();
+        this.pendingWrites = metrics.getPendingWriteCommands();
+        this.inFlight = metrics.getInFlightCommands();
+        this.pendingBytes = metrics.getPendingWriteBytes();
+        this.decodeBuffer = metrics.getDecodeBufferSize();
+        this.flushes = metrics.getFlushCount();
+        this.written = metrics.getWrittenCommands();
+        this.disconnectedBufferedTotal = metrics.getDisconnectedBufferedTotal();
+        this.backpressure = metrics.getBackpressureCount();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.FlightRecorder;
+import io.lettuce.core.internal.LettuceClassUtils;
+
+/**
+ * Java Flight Recorder implementation of {@link EndpointMetricsRecorder}. Registered endpoints are sampled through a periodic
+ * JFR event ({@code Endpoint Metrics}, every second by default) that is only emitted while a recording is active. The period
+ * can be changed through the recording settings.
+ *
+ * @since 7.0
+ */
+public class JfrEndpointMetricsRecorder implements EndpointMetricsRecorder {
+
+    private static final boolean JFR_AVAILABLE = LettuceClassUtils.isPresent("jdk.jfr.FlightRecorder");
+
+    private final Set<EndpointMetrics> endpoints = ConcurrentHashMap.newKeySet();
+
+    private final Runnable hook = this::emit;
+
+    private boolean hookRegistered;
+
+    /**
+     * @return {@code true} if Java Flight Recorder is available.
+     */
+    public static boolean isAvailable() {
+        return JFR_AVAILABLE;
+    }
+
+    @Override
+    public void register(EndpointMetrics metrics) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        synchronized (endpoints) {
+
+            endpoints.add(metrics);
+
+            if (!hookRegistered) {
+                FlightRecorder.addPeriodicEvent(JfrEndpointMetrics.class, hook);
+                hookRegistered = true;
+            }
+        }
+    }
+
+    @Override
+    public void unregister(EndpointMetrics metrics) {
+
+        synchronized (endpoints) {
+
+            if (endpoints.remove(metrics) && endpoints.isEmpty() && hookRegistered) {
+                FlightRecorder.removePeriodicEvent(hook);
+                hookRegistered = false;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return JFR_AVAILABLE;
+    }
+
+    private void emit() {
+
+        for (EndpointMetrics endpoint : endpoints) {
+            new JfrEndpointMetrics(endpoint).commit();
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Micrometer implementation of {@link EndpointMetricsRecorder} exposing {@link EndpointMetrics} as gauges and function
+ * counters. Meters are tagged with the endpoint id, the remote address and {@link MicrometerOptions#tags()}. Values are sampled
+ * when the {@link MeterRegistry} publishes.
+ *
+ * @since 7.0
+ */
+public class MicrometerEndpointMetricsRecorder implements EndpointMetricsRecorder {
+
+    static final String LABEL_ENDPOINT = "endpoint";
+
+    static final String LABEL_REMOTE = "remote";
+
+    static final String METRIC_QUEUED = "lettuce.endpoint.queued";
+
+    static final String METRIC_DISCONNECTED_BUFFERED = "lettuce.endpoint.disconnected.buffered";
+
+    static final String METRIC_PENDING_WRITES = "lettuce.endpoint.pending.writes";
+
+    static final String METRIC_IN_FLIGHT = "lettuce.endpoint.inflight";
+
+    static final String METRIC_PENDING_BYTES = "lettuce.endpoint.pending.bytes";
+
+    static final String METRIC_DECODE_BUFFER = "lettuce.endpoint.decode.buffer";
+
+    static final String METRIC_FLUSHES = "lettuce.endpoint.flushes";
+
+    static final String METRIC_WRITTEN = "lettuce.endpoint.written";
+
+    static final String METRIC_DISCONNECTED_BUFFERED_TOTAL = "lettuce.endpoint.disconnected.buffered.total";
+
+    static final String METRIC_DISCONNECTED_BUFFERED_BYTES = "lettuce.endpoint.disconnected.buffered.bytes";
+
+    static final String METRIC_DISCONNECTED_SPILLED_BYTES = "lettuce.endpoint.disconnected.spilled.bytes";
+
+    static final String METRIC_DISCONNECTED_OVERFLOW = "lettuce.endpoint.disconnected.overflow";
+
+    static final String METRIC_BACKPRESSURE = "lettuce.endpoint.backpressure";
+
+    private final MeterRegistry meterRegistry;
+
+    private final MicrometerOptions options;
+
+    private final Map<EndpointMetrics, List<Meter>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new {@link MicrometerEndpointMetricsRecorder} instance given {@link MeterRegistry} and
+     * {@link MicrometerOptions}.
+     *
+     * @param meterRegistry
+     * @param options
+     */
+    public MicrometerEndpointMetricsRecorder(MeterRegistry meterRegistry, MicrometerOptions options) {
+
+        LettuceAssert.notNull(meterRegistry, "MeterRegistry must not be null");
+        LettuceAssert.notNull(options, "MicrometerOptions must not be null");
+
+        this.meterRegistry = meterRegistry;
+        this.options = options;
+    }
+
+    @Override
+    public void register(EndpointMetrics metrics) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        Tags tags = Tags.of(LABEL_ENDPOINT, metrics.getId())
+                .and(LABEL_REMOTE, String.valueOf(metrics.getRemoteAddress())).and(options.tags());
+
+        List<Meter> registered = new ArrayList<>(13);
+
+        registered.add(gauge(METRIC_QUEUED, "Commands buffered in the endpoint and not yet written", tags, metrics,
+                EndpointMetrics::getQueuedCommands));
+        registered.add(gauge(METRIC_DISCONNECTED_BUFFERED, "Commands buffered while disconnected", tags, metrics,
+                EndpointMetrics::getDisconnectedBufferedCommands));
+        registered.add(gauge(METRIC_PENDING_WRITES, "Commands awaiting write completion", tags, metrics,
+                EndpointMetrics::getPendingWriteCommands));
+        registered.add(gauge(METRIC_IN_FLIGHT, "Commands sent and awaiting a response", tags, metrics,
+                EndpointMetrics::getInFlightCommands));
+        registered.add(gauge(METRIC_PENDING_BYTES, "Bytes pending in the transport outbound buffer", tags, metrics,
+                EndpointMetrics::getPendingWriteBytes));
+        registered.add(gauge(METRIC_DECODE_BUFFER, "Bytes retained in the decode buffer", tags, metrics,
+                EndpointMetrics::getDecodeBufferSize));
+        registered.add(gauge(METRIC_DISCONNECTED_BUFFERED_BYTES, "Bytes of commands buffered while disconnected", tags,
+                metrics, EndpointMetrics::getDisconnectedBufferedBytes));
+        registered.add(gauge(METRIC_DISCONNECTED_SPILLED_BYTES, "Bytes of commands spilled while disconnected", tags,
+                metrics, EndpointMetrics::getDisconnectedSpilledBytes));
+
+        registered.add(counter(METRIC_FLUSHES, "Flushes to the transport", tags, metrics, EndpointMetrics::getFlushCount));
+        registered.add(counter(METRIC_WRITTEN, "Commands written to the transport", tags, metrics,
+                EndpointMetrics::getWrittenCommands));
+        registered.add(counter(METRIC_DISCONNECTED_BUFFERED_TOTAL, "Commands buffered while disconnected", tags, metrics,
+                EndpointMetrics::getDisconnectedBufferedTotal));
+        registered.add(counter(METRIC_DISCONNECTED_OVERFLOW, "Commands rejected or discarded due to the disconnected buffer size",
+                tags, metrics, EndpointMetrics::getDisconnectedOverflowCount));
+        registered.add(counter(METRIC_BACKPRESSURE, "Read suspensions due to backpressure", tags, metrics,
+                EndpointMetrics::getBackpressureCount));
+
+        List<Meter> previous = meters.put(metrics, registered);
+
+        if (previous != null) {
+            previous.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public void unregister(EndpointMetrics metrics) {
+
+        List<Meter> registered = meters.remove(metrics);
+
+        if (registered != null) {
+            registered.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return options.isEnabled();
+    }
+
+    private Gauge gauge(String name, String description, Tags tags, EndpointMetrics metrics,
+            ToDoubleFunction<EndpointMetrics> function) {
+        return Gauge.builder(name, metrics, function).description(description).tags(tags).strongReference(false)
+                .register(meterRegistry);
+    }
+
+    private FunctionCounter counter(String name, String description, Tags tags, EndpointMetrics metrics,
+            ToDoubleFunction<EndpointMetrics> function) {
+        return FunctionCounter.builder(name, metrics, function).description(description).tags(tags).register(meterRegistry);
+    }
+
+}
@@ -15,13 +15,12 @@
  */
 package io.lettuce.core.output;
 
-import static java.lang.Double.parseDouble;
-
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * {@link List} of Double output.
@@ -34,6 +33,8 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class DoubleListOutput<K, V> extends CommandOutput<K, V, List<Double>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private boolean initialized;
 
     public DoubleListOutput(RedisCodec<K, V> codec) {
@@ -42,7 +43,7 @@ public class DoubleListOutput<K, V> extends CommandOutput<K, V, List<Double>> {
 
     @Override
     public void set(ByteBuffer bytes) {
-        output.add(bytes != null ? parseDouble(decodeAscii(bytes)) : null);
+        output.add(bytes != null ? doubleParser.parse(bytes) : null);
     }
     @Override
     public void set(double number) {
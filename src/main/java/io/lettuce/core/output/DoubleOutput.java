@@ -15,11 +15,10 @@
  */
 package io.lettuce.core.output;
 
-import static java.lang.Double.parseDouble;
-
 import java.nio.ByteBuffer;
 
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * Double output, may be null.
@@ -30,13 +29,15 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class DoubleOutput<K, V> extends CommandOutput<K, V, Double> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     public DoubleOutput(RedisCodec<K, V> codec) {
         super(codec, null);
     }
 
     @Override
     public void set(ByteBuffer bytes) {
-        output = (bytes == null) ? null : parseDouble(decodeAscii(bytes));
+        output = (bytes == null) ? null : doubleParser.parse(bytes);
     }
 
     @Override
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Encoded reply elements copied into a single buffer. Elements are addressed by their index through offset and length arrays;
+ * {@code null} elements are recorded with a negative length. Adding elements and releasing the buffer are synchronized as a
+ * command may be cancelled or time out while its reply is decoded. Elements added after releasing the buffer are discarded.
+ *
+ * @since 7.0
+ */
+class EncodedElements {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final int MAX_INITIAL_CAPACITY = 1024 * 1024;
+
+    private final ByteBufAllocator allocator;
+
+    private ByteBuf buffer;
+
+    private int[] offsets = EMPTY;
+
+    private int[] lengths = EMPTY;
+
+    private int size;
+
+    private volatile boolean released;
+
+    EncodedElements(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Reserve capacity for {@code count} additional elements.
+     */
+    synchronized void expect(int count) {
+
+        if (!released && count > 0 && size + count > offsets.length) {
+            grow(size + count);
+        }
+    }
+
+    /**
+     * Copy {@code bytes} into the buffer as the next element.
+     *
+     * @param bytes the encoded element, can be {@code null}.
+     */
+    synchronized void add(ByteBuffer bytes) {
+
+        if (released) {
+            return;
+        }
+
+        if (size == offsets.length) {
+            grow(Math.max(8, size * 2));
+        }
+
+        if (bytes == null) {
+            offsets[size] = 0;
+            lengths[size++] = -1;
+            return;
+        }
+
+        if (buffer == null) {
+            // size the buffer by the first element assuming similar sizes for the remaining elements
+            long estimate = (long) bytes.remaining() * (offsets.length - size);
+            buffer = allocator.buffer((int) Math.min(MAX_INITIAL_CAPACITY, Math.max(64, estimate)));
+        }
+
+        offsets[size] = buffer.writerIndex();
+        lengths[size++] = bytes.remaining();
+        buffer.writeBytes(bytes.duplicate());
+    }
+
+    private void grow(int capacity) {
+        offsets = Arrays.copyOf(offsets, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return a view of the element at {@code index} or {@code null} if the element is {@code null}.
+     */
+    ByteBuffer get(int index) {
+
+        checkIndex(index);
+
+        if (lengths[index] < 0) {
+            return null;
+        }
+
+        return buffer.nioBuffer(offsets[index], lengths[index]);
+    }
+
+    /**
+     * @return {@code true} if the element at {@code index} equals {@code bytes}.
+     */
+    boolean contentEquals(int index, ByteBuf bytes) {
+
+        checkIndex(index);
+
+        int length = lengths[index];
+
+        return length == bytes.readableBytes()
+                && (length == 0 || ByteBufUtil.equals(buffer, offsets[index], bytes, bytes.readerIndex(), length));
+    }
+
+    private void checkIndex(int index) {
+
+        if (released) {
+            throw new IllegalStateException("Reply elements are already released");
+        }
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Release the buffer. Subsequent calls are ignored.
+     */
+    synchronized void release() {
+
+        if (released) {
+            return;
+        }
+
+        released = true;
+
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.List;
 
 import io.lettuce.core.GeoCoordinates;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -33,6 +34,8 @@ import io.lettuce.core.internal.LettuceAssert;
 public class GeoCoordinatesListOutput<K, V> extends CommandOutput<K, V, List<GeoCoordinates>>
         implements StreamingOutput<GeoCoordinates> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private Double x;
 
     boolean hasX;
@@ -54,7 +57,7 @@ public class GeoCoordinatesListOutput<K, V> extends CommandOutput<K, V, List<Geo
             return;
         }
 
-        double value = (bytes == null) ? 0 : parseDouble(decodeAscii(bytes));
+        double value = (bytes == null) ? 0 : doubleParser.parse(bytes);
         set(value);
     }
 
@@ -24,6 +24,7 @@ import java.util.List;
 import io.lettuce.core.GeoCoordinates;
 import io.lettuce.core.Value;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -34,6 +35,8 @@ import io.lettuce.core.internal.LettuceAssert;
 public class GeoCoordinatesValueListOutput<K, V> extends CommandOutput<K, V, List<Value<GeoCoordinates>>>
         implements StreamingOutput<Value<GeoCoordinates>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     boolean hasX;
 
     private Double x;
@@ -55,7 +58,7 @@ public class GeoCoordinatesValueListOutput<K, V> extends CommandOutput<K, V, Lis
             return;
         }
 
-        double value = parseDouble(decodeAscii(bytes));
+        double value = doubleParser.parse(bytes);
         set(value);
     }
 
@@ -23,6 +23,7 @@ import java.util.List;
 import io.lettuce.core.GeoCoordinates;
 import io.lettuce.core.GeoWithin;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 import io.lettuce.core.internal.LettuceAssert;
 
 /**
@@ -33,6 +34,8 @@ import io.lettuce.core.internal.LettuceAssert;
 public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithin<V>>>
         implements StreamingOutput<GeoWithin<V>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private V member;
 
     private boolean hasMember;
@@ -88,7 +91,7 @@ public class GeoWithinListOutput<K, V> extends CommandOutput<K, V, List<GeoWithi
             return;
         }
 
-        double value = (bytes == null) ? 0 : parseDouble(decodeAscii(bytes));
+        double value = (bytes == null) ? 0 : doubleParser.parse(bytes);
         set(value);
     }
 
@@ -24,6 +24,7 @@ import java.util.List;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * Output for multiple [B]ZMPOP result items.
@@ -35,6 +36,8 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class KeyValueListScoredValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, List<ScoredValue<V>>>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private K key;
 
     private V value;
@@ -60,7 +63,7 @@ public class KeyValueListScoredValueOutput<K, V> extends CommandOutput<K, V, Key
                 value = codec.decodeValue(bytes);
                 return;
             }
-            score = parseDouble(decodeAscii(bytes));
+            score = doubleParser.parse(bytes);
         }
     }
 
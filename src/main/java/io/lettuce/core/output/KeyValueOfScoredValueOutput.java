@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * Output for a single [B]ZMPOP result.
@@ -33,6 +34,8 @@ import io.lettuce.core.codec.RedisCodec;
  */
 public class KeyValueOfScoredValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, ScoredValue<V>>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private K key;
 
     private V value;
@@ -55,7 +58,7 @@ public class KeyValueOfScoredValueOutput<K, V> extends CommandOutput<K, V, KeyVa
                 return;
             }
 
-            output = KeyValue.just(key, ScoredValue.just(parseDouble(decodeAscii(bytes)), value));
+            output = KeyValue.just(key, ScoredValue.just(doubleParser.parse(bytes), value));
         }
     }
 
@@ -20,7 +20,7 @@ import java.nio.ByteBuffer;
 import io.lettuce.core.KeyValue;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * {@link KeyValue} encapsulating {@link ScoredValue}. See {@code BZPOPMIN}/{@code BZPOPMAX} commands.
@@ -32,6 +32,8 @@ import io.lettuce.core.internal.LettuceStrings;
  */
 public class KeyValueScoredValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, ScoredValue<V>>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private K key;
 
     private boolean hasKey;
@@ -63,7 +65,7 @@ public class KeyValueScoredValueOutput<K, V> extends CommandOutput<K, V, KeyValu
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
 
         set(score);
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Map of keys and values that retains the encoded reply in a single buffer and decodes entries only when they are accessed.
+ * Entries keep the order of the reply. {@link #get(Object)} compares the encoded form of the requested key against the
+ * encoded keys so that looking up a few fields of a wide hash decodes only the values of these fields.
+ * <p>
+ * The map must be {@link #release() released} after use, typically through try-with-resources:
+ *
+ * <pre class="code">
+ * try (LazyMap&lt;String, String&gt; hash = redis.dispatch(CommandType.HGETALL, new LazyMapOutput&lt;&gt;(codec),
+ *         new CommandArgs&lt;&gt;(codec).addKey(key))) {
+ *     String name = hash.get("name");
+ * }
+ * </pre>
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ * @see LazyMapOutput
+ */
+public class LazyMap<K, V> implements AutoCloseable {
+
+    private final RedisCodec<K, V> codec;
+
+    private final EncodedElements elements;
+
+    LazyMap(RedisCodec<K, V> codec, EncodedElements elements) {
+        this.codec = codec;
+        this.elements = elements;
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int size() {
+        return elements.size() / 2;
+    }
+
+    /**
+     * @return {@code true} if the map contains no entries.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Decode the key of the entry at {@code index}.
+     *
+     * @param index the entry index.
+     * @return the decoded key.
+     */
+    public K getKey(int index) {
+
+        ByteBuffer bytes = elements.get(checkEntryIndex(index) * 2);
+        return bytes == null ? null : codec.decodeKey(bytes);
+    }
+
+    /**
+     * Decode the value of the entry at {@code index}.
+     *
+     * @param index the entry index.
+     * @return the decoded value, can be {@code null}.
+     */
+    public V getValue(int index) {
+
+        ByteBuffer bytes = elements.get(checkEntryIndex(index) * 2 + 1);
+        return bytes == null ? null : codec.decodeValue(bytes);
+    }
+
+    /**
+     * Decode the value associated with {@code key}. Keys are compared in their encoded form.
+     *
+     * @param key the key.
+     * @return the decoded value or {@code null} if the map does not contain {@code key}.
+     */
+    public V get(K key) {
+
+        int index = indexOf(key);
+        return index == -1 ? null : getValue(index);
+    }
+
+    /**
+     * @param key the key.
+     * @return {@code true} if the map contains {@code key}.
+     */
+    public boolean containsKey(K key) {
+        return indexOf(key) != -1;
+    }
+
+    /**
+     * Returns the index of the entry with {@code key}, comparing keys in their encoded form without decoding them.
+     *
+     * @param key the key.
+     * @return the entry index or {@code -1} if the map does not contain {@code key}.
+     */
+    public int indexOf(K key) {
+
+        if (isReleased()) {
+            throw new IllegalStateException("Reply elements are already released");
+        }
+
+        ByteBuf encoded = Unpooled.wrappedBuffer(codec.encodeKey(key));
+
+        for (int i = 0; i < size(); i++) {
+            if (elements.contentEquals(i * 2, encoded)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Decode all entries into a new {@link Map} retaining the order of the reply.
+     *
+     * @return the decoded entries.
+     */
+    public Map<K, V> toMap() {
+
+        Map<K, V> result = new LinkedHashMap<>(size(), 1);
+
+        for (int i = 0; i < size(); i++) {
+            result.put(getKey(i), getValue(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the map was released.
+     */
+    public boolean isReleased() {
+        return elements.isReleased();
+    }
+
+    /**
+     * Release the buffer retaining the encoded entries. Subsequent access fails with {@link IllegalStateException}. Calling
+     * this method multiple times has no effect.
+     */
+    public void release() {
+        elements.release();
+    }
+
+    /**
+     * Release the buffer, same as {@link #release()}.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    private int checkEntryIndex(int index) {
+
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [size=" + size() + ", released=" + isReleased() + "]";
+    }
+
+}
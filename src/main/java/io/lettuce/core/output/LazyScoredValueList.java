@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * List of scored values that retains the encoded values in a single buffer and decodes values only when they are accessed.
+ * Scores are parsed upon receipt and kept in a primitive array so that {@link #getScore(int)} does not decode the value.
+ * <p>
+ * The list must be {@link #release() released} after use, typically through try-with-resources:
+ *
+ * <pre class="code">
+ * try (LazyScoredValueList&lt;String&gt; top = redis.dispatch(CommandType.ZRANGE, new LazyScoredValueListOutput&lt;&gt;(codec),
+ *         new CommandArgs&lt;&gt;(codec).addKey(key).add(0).add(-1).add(CommandKeyword.WITHSCORES))) {
+ *     double best = top.getScore(top.size() - 1);
+ * }
+ * </pre>
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <V> Value type.
+ * @since 7.0
+ * @see LazyScoredValueListOutput
+ */
+public class LazyScoredValueList<V> implements AutoCloseable {
+
+    private final RedisCodec<?, V> codec;
+
+    private final EncodedElements elements;
+
+    private double[] scores = new double[0];
+
+    LazyScoredValueList(RedisCodec<?, V> codec, EncodedElements elements) {
+        this.codec = codec;
+        this.elements = elements;
+    }
+
+    void expect(int count) {
+
+        if (count > scores.length) {
+            scores = Arrays.copyOf(scores, count);
+        }
+    }
+
+    void addScore(int index, double score) {
+
+        if (index == scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(8, scores.length * 2));
+        }
+
+        scores[index] = score;
+    }
+
+    /**
+     * @return the number of scored values.
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return {@code true} if the list contains no values.
+     */
+    public boolean isEmpty() {
+        return elements.size() == 0;
+    }
+
+    /**
+     * Decode the value at {@code index}.
+     *
+     * @param index the index.
+     * @return the decoded value, can be {@code null}.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalStateException if the list was released.
+     */
+    public V getValue(int index) {
+
+        ByteBuffer bytes = elements.get(index);
+        return bytes == null ? null : codec.decodeValue(bytes);
+    }
+
+    /**
+     * Returns the score at {@code index} without decoding the value.
+     *
+     * @param index the index.
+     * @return the score.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalStateException if the list was released.
+     */
+    public double getScore(int index) {
+
+        elements.get(index);
+        return scores[index];
+    }
+
+    /**
+     * Decode the value at {@code index} into a {@link ScoredValue}.
+     *
+     * @param index the index.
+     * @return the decoded {@link ScoredValue}.
+     */
+    public ScoredValue<V> get(int index) {
+        return ScoredValue.just(getScore(index), getValue(index));
+    }
+
+    /**
+     * Decode all values into a new {@link List}.
+     *
+     * @return the decoded scored values.
+     */
+    public List<ScoredValue<V>> toList() {
+
+        List<ScoredValue<V>> result = new ArrayList<>(size());
+
+        for (int i = 0; i < size(); i++) {
+            result.add(get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the list was released.
+     */
+    public boolean isReleased() {
+        return elements.isReleased();
+    }
+
+    /**
+     * Release the buffer retaining the encoded values. Subsequent access fails with {@link IllegalStateException}. Calling
+     * this method multiple times has no effect.
+     */
+    public void release() {
+        elements.release();
+    }
+
+    /**
+     * Release the buffer, same as {@link #release()}.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [size=" + size() + ", released=" + isReleased() + "]";
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * List of values that retains the encoded reply in a single buffer and decodes values only when they are accessed. Each call
+ * to {@link #get(int)} decodes the value again.
+ * <p>
+ * The list must be {@link #release() released} after use, typically through try-with-resources:
+ *
+ * <pre class="code">
+ * try (LazyValueList&lt;String&gt; values = redis.dispatch(CommandType.LRANGE, new LazyValueListOutput&lt;&gt;(codec),
+ *         new CommandArgs&lt;&gt;(codec).addKey(key).add(0).add(-1))) {
+ *     String first = values.get(0);
+ * }
+ * </pre>
+ *
+ * Instances are not thread-safe.
+ *
+ * @param <V> Value type.
+ * @since 7.0
+ * @see LazyValueListOutput
+ */
+public class LazyValueList<V> implements AutoCloseable {
+
+    private final RedisCodec<?, V> codec;
+
+    private final EncodedElements elements;
+
+    LazyValueList(RedisCodec<?, V> codec, EncodedElements elements) {
+        this.codec = codec;
+        this.elements = elements;
+    }
+
+    /**
+     * @return the number of values.
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @return {@code true} if the list contains no values.
+     */
+    public boolean isEmpty() {
+        return elements.size() == 0;
+    }
+
+    /**
+     * Decode the value at {@code index}.
+     *
+     * @param index the index.
+     * @return the decoded value, can be {@code null}.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalStateException if the list was released.
+     */
+    public V get(int index) {
+
+        ByteBuffer bytes = elements.get(index);
+        return bytes == null ? null : codec.decodeValue(bytes);
+    }
+
+    /**
+     * Returns a view of the encoded value at {@code index} without decoding it. The view is valid until the list is
+     * released.
+     *
+     * @param index the index.
+     * @return the encoded value, can be {@code null}.
+     */
+    public ByteBuffer getEncoded(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Decode all values into a new {@link List}.
+     *
+     * @return the decoded values.
+     */
+    public List<V> toList() {
+
+        List<V> result = new ArrayList<>(size());
+
+        for (int i = 0; i < size(); i++) {
+            result.add(get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the list was released.
+     */
+    public boolean isReleased() {
+        return elements.isReleased();
+    }
+
+    /**
+     * Release the buffer retaining the encoded values. Subsequent access fails with {@link IllegalStateException}. Calling
+     * this method multiple times has no effect.
+     */
+    public void release() {
+        elements.release();
+    }
+
+    /**
+     * Release the buffer, same as {@link #release()}.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [size=" + size() + ", released=" + isReleased() + "]";
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * {@link LazyValueList} output copying the encoded values into a single buffer instead of decoding them. The buffer is
+ * allocated from {@link ByteBufAllocator#DEFAULT} unless a different allocator is given. The output is released if the
+ * command does not hand over its result, otherwise the result must be {@link LazyValueList#release() released} after use.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ */
+public class LazyValueListOutput<K, V> extends CommandOutput<K, V, LazyValueList<V>> implements ReleasableOutput {
+
+    private final EncodedElements elements;
+
+    private boolean initialized;
+
+    public LazyValueListOutput(RedisCodec<K, V> codec) {
+        this(codec, ByteBufAllocator.DEFAULT);
+    }
+
+    public LazyValueListOutput(RedisCodec<K, V> codec, ByteBufAllocator allocator) {
+
+        super(codec, null);
+
+        LettuceAssert.notNull(allocator, "ByteBufAllocator must not be null");
+
+        this.elements = new EncodedElements(allocator);
+        this.output = new LazyValueList<>(codec, elements);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        // RESP 3 behavior
+        if (bytes == null && !initialized) {
+            return;
+        }
+
+        elements.add(bytes);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+            elements.expect(count);
+            initialized = true;
+        }
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+
+        release();
+        super.setError(error);
+    }
+
+    @Override
+    public void setError(String error) {
+
+        release();
+        super.setError(error);
+    }
+
+    @Override
+    public void release() {
+        elements.release();
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+/**
+ * Implementors of this interface retain resources for their result, such as pooled buffers. The command releases the output
+ * if it completes without handing the result over to the caller, e.g. when the command was cancelled, timed out or its
+ * future was completed otherwise.
+ *
+ * @since 7.0
+ */
+public interface ReleasableOutput {
+
+    /**
+     * Release resources retained for the result. Output received after releasing is discarded. Calling this method multiple
+     * times has no effect.
+     */
+    void release();
+
+}
@@ -43,11 +43,31 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
         output.add(new BulkString(bytes));
     }
 
+    @Override
+    public void setSingle(ByteBuffer bytes) {
+        output.add(new SingleString(bytes));
+    }
+
+    @Override
+    public void setBigNumber(ByteBuffer bytes) {
+        output.add(new BigNumber(bytes));
+    }
+
     @Override
     public void set(long integer) {
         output.add(new Integer(integer));
     }
 
+    @Override
+    public void set(double number) {
+        output.add(new Double(number));
+    }
+
+    @Override
+    public void set(boolean value) {
+        output.add(new Boolean(value));
+    }
+
     @Override
     public void setError(ByteBuffer error) {
         error.mark();
@@ -72,6 +92,26 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
         output.add(new Multi(count));
     }
 
+    @Override
+    public void multiArray(int count) {
+        output.add(new Aggregate(count, Aggregate.ARRAY));
+    }
+
+    @Override
+    public void multiPush(int count) {
+        output.add(new Aggregate(count, Aggregate.PUSH));
+    }
+
+    @Override
+    public void multiMap(int count) {
+        output.add(new Aggregate(count, Aggregate.MAP));
+    }
+
+    @Override
+    public void multiSet(int count) {
+        output.add(new Aggregate(count, Aggregate.SET));
+    }
+
     /**
      * Replay all captured signals on a {@link CommandOutput}.
      *
@@ -130,6 +170,62 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
     }
 
+    static class SingleString extends BulkStringSupport {
+
+        SingleString(ByteBuffer message) {
+            super(message);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.setSingle(message);
+        }
+
+    }
+
+    static class BigNumber extends BulkStringSupport {
+
+        BigNumber(ByteBuffer message) {
+            super(message);
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.setBigNumber(message);
+        }
+
+    }
+
+    static class Double extends Signal {
+
+        final double message;
+
+        Double(double message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.set(message);
+        }
+
+    }
+
+    static class Boolean extends Signal {
+
+        final boolean message;
+
+        Boolean(boolean message) {
+            this.message = message;
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+            target.set(message);
+        }
+
+    }
+
     static class Integer extends Signal {
 
         final long message;
@@ -188,6 +284,45 @@ public class ReplayOutput<K, V> extends CommandOutput<K, V, List<ReplayOutput.Si
 
     }
 
+    static class Aggregate extends Signal {
+
+        static final int ARRAY = 0;
+
+        static final int PUSH = 1;
+
+        static final int MAP = 2;
+
+        static final int SET = 3;
+
+        final int count;
+
+        final int type;
+
+        Aggregate(int count, int type) {
+            this.count = count;
+            this.type = type;
+        }
+
+        @Override
+        protected void replay(CommandOutput<?, ?, ?> target) {
+
+            switch (type) {
+                case PUSH:
+                    target.multiPush(count);
+                    break;
+                case MAP:
+                    target.multiMap(count);
+                    break;
+                case SET:
+                    target.multiSet(count);
+                    break;
+                default:
+                    target.multiArray(count);
+            }
+        }
+
+    }
+
     static class Complete extends Signal {
 
         final int depth;
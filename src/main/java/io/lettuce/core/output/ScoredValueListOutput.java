@@ -21,8 +21,8 @@ import java.util.List;
 
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.DoubleParser;
 import io.lettuce.core.internal.LettuceAssert;
-import io.lettuce.core.internal.LettuceStrings;
 
 /**
  * {@link List} of values and their associated scores.
@@ -34,6 +34,8 @@ import io.lettuce.core.internal.LettuceStrings;
 public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<ScoredValue<V>>>
         implements StreamingOutput<ScoredValue<V>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private boolean initialized;
 
     private Subscriber<ScoredValue<V>> subscriber;
@@ -56,7 +58,7 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
         set(score);
     }
 
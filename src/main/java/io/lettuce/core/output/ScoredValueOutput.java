@@ -19,7 +19,7 @@ import java.nio.ByteBuffer;
 
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * A single {@link ScoredValue}.
@@ -31,6 +31,8 @@ import io.lettuce.core.internal.LettuceStrings;
  */
 public class ScoredValueOutput<K, V> extends CommandOutput<K, V, ScoredValue<V>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private V value;
 
     private boolean hasValue;
@@ -52,7 +54,7 @@ public class ScoredValueOutput<K, V> extends CommandOutput<K, V, ScoredValue<V>>
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
         set(score);
     }
 
@@ -20,7 +20,7 @@ import java.nio.ByteBuffer;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.ScoredValueScanCursor;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * {@link io.lettuce.core.ScoredValueScanCursor} for scan cursor output.
@@ -31,6 +31,8 @@ import io.lettuce.core.internal.LettuceStrings;
  */
 public class ScoredValueScanOutput<K, V> extends ScanOutput<K, V, ScoredValueScanCursor<V>> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private V value;
 
     private boolean hasValue;
@@ -48,7 +50,7 @@ public class ScoredValueScanOutput<K, V> extends ScanOutput<K, V, ScoredValueSca
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
         set(score);
     }
 
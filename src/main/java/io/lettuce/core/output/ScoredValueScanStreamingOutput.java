@@ -20,7 +20,7 @@ import java.nio.ByteBuffer;
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.StreamScanCursor;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * Streaming-Output of of values and their associated scores. Returns the count of all values (including null).
@@ -31,6 +31,8 @@ import io.lettuce.core.internal.LettuceStrings;
  */
 public class ScoredValueScanStreamingOutput<K, V> extends ScanOutput<K, V, StreamScanCursor> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private final ScoredValueStreamingChannel<V> channel;
 
     private V value;
@@ -50,7 +52,7 @@ public class ScoredValueScanStreamingOutput<K, V> extends ScanOutput<K, V, Strea
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
         set(score);
     }
 
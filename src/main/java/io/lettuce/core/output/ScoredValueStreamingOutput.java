@@ -19,7 +19,7 @@ import java.nio.ByteBuffer;
 
 import io.lettuce.core.ScoredValue;
 import io.lettuce.core.codec.RedisCodec;
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 
 /**
  * Streaming-Output of of values and their associated scores. Returns the count of all values (including null).
@@ -30,6 +30,8 @@ import io.lettuce.core.internal.LettuceStrings;
  */
 public class ScoredValueStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private V value;
 
     private boolean hasValue;
@@ -50,7 +52,7 @@ public class ScoredValueStreamingOutput<K, V> extends CommandOutput<K, V, Long>
             return;
         }
 
-        double score = LettuceStrings.toDouble(decodeAscii(bytes));
+        double score = doubleParser.parse(bytes);
         set(score);
     }
 
@@ -28,6 +28,7 @@ import io.lettuce.core.RedisCommandInterruptedException;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ReleasableOutput;
 import io.netty.buffer.ByteBuf;
 
 /**
@@ -118,8 +119,9 @@ public class AsyncCommand<K, V, T> extends CompletableFuture<T>
             complete(null);
         } else if (command.getOutput().hasError()) {
             doCompleteExceptionally(ExceptionFactory.createExecutionException(command.getOutput().getError()));
-        } else {
-            complete(command.getOutput().get());
+        } else if (!complete(command.getOutput().get()) && command.getOutput() instanceof ReleasableOutput) {
+            // completed concurrently, the result is not handed over
+            ((ReleasableOutput) command.getOutput()).release();
         }
     }
 
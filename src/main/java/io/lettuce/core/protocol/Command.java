@@ -17,6 +17,7 @@ package io.lettuce.core.protocol;
 
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ReleasableOutput;
 import io.netty.buffer.ByteBuf;
 
 /**
@@ -90,6 +91,7 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
         exception = throwable;
         this.status = ST_COMPLETED;
+        onDone(false);
         return true;
     }
 
@@ -99,11 +101,24 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
     @Override
     public void complete() {
         this.status = ST_COMPLETED;
+        onDone(true);
     }
 
     @Override
     public void cancel() {
         this.status = ST_CANCELLED;
+        onDone(false);
+    }
+
+    private void onDone(boolean completedNormally) {
+
+        if (args instanceof EagerCommandArgs) {
+            ((EagerCommandArgs<K, V>) args).onCommandDone(completedNormally);
+        }
+
+        if (!completedNormally && output instanceof ReleasableOutput) {
+            ((ReleasableOutput) output).release();
+        }
     }
 
     /**
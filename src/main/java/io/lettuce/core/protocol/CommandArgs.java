@@ -22,6 +22,7 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.ToByteBufEncoder;
@@ -288,7 +289,12 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> addAll(CommandArgs<?, ?> args) {
 
         LettuceAssert.notNull(args, "CommandArgs must not be null");
-        this.singularArguments.addAll(args.singularArguments);
+
+        if (args instanceof EagerCommandArgs) {
+            ((EagerCommandArgs<?, ?>) args).copyTo(this.singularArguments);
+        } else {
+            this.singularArguments.addAll(args.singularArguments);
+        }
         return this;
     }
 
@@ -351,6 +357,55 @@ public class CommandArgs<K, V> {
         return CommandArgsAccessor.encodeFirstKey(this);
     }
 
+    /**
+     * Returns the cluster slot of the first key. The slot is calculated once from the encoded key using {@link SlotHash} and
+     * retained so that routing the same arguments again (e.g. after a redirection) neither encodes nor hashes the key again.
+     *
+     * @return the slot of the first key or {@code -1} if the arguments do not contain a key.
+     * @since 7.0
+     */
+    @SuppressWarnings("unchecked")
+    public int getFirstKeySlot() {
+
+        if (getClass() != CommandArgs.class) {
+            ByteBuffer encodedKey = getFirstEncodedKey();
+            return encodedKey != null ? SlotHash.getSlot(encodedKey) : -1;
+        }
+
+        for (SingularArgument singularArgument : singularArguments) {
+
+            if (singularArgument instanceof KeyArgument) {
+
+                KeyArgument<K, V> keyArgument = (KeyArgument<K, V>) singularArgument;
+                if (keyArgument.slot == -1) {
+                    keyArgument.slot = SlotHash.getSlot(codec.encodeKey(keyArgument.key));
+                }
+                return keyArgument.slot;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Estimate the number of bytes of the encoded arguments including the bulk string headers. The estimate is exact for
+     * arguments other than keys and values. Keys and values are estimated through {@link ToByteBufEncoder#estimateSize(Object)}
+     * which may overestimate the size (see {@link ToByteBufEncoder#isEstimateExact()}) or encoded using the codec if the codec
+     * does not implement {@link ToByteBufEncoder}.
+     *
+     * @return the estimated number of encoded bytes.
+     * @since 7.0
+     */
+    public long estimateEncodedSize() {
+
+        long size = 0;
+        for (SingularArgument singularArgument : singularArguments) {
+            size += singularArgument.estimateSize();
+        }
+
+        return size;
+    }
+
     /**
      * Encode the {@link CommandArgs} and write the arguments to the {@link ByteBuf}.
      *
@@ -376,6 +431,21 @@ public class CommandArgs<K, V> {
          */
         abstract void encode(ByteBuf buffer);
 
+        /**
+         * Estimate the encoded size including the bulk string header.
+         *
+         * @return the estimated number of encoded bytes.
+         */
+        abstract int estimateSize();
+
+        /**
+         * @param payloadLength length of the bulk string payload.
+         * @return the encoded size of a bulk string ({@code $<length>\r\n<payload>\r\n}).
+         */
+        static int bulkStringSize(int payloadLength) {
+            return 1 + IntegerArgument.stringSize(payloadLength) + payloadLength + 2 * CRLF.length;
+        }
+
     }
 
     static class BytesArgument extends SingularArgument {
@@ -395,6 +465,11 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length);
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -472,6 +547,37 @@ public class CommandArgs<K, V> {
 
     }
 
+    /**
+     * Argument that was already encoded, including its bulk string header.
+     */
+    static class EncodedArgument extends SingularArgument {
+
+        final byte[] encoded;
+
+        final String description;
+
+        EncodedArgument(byte[] encoded, String description) {
+            this.encoded = encoded;
+            this.description = description;
+        }
+
+        @Override
+        void encode(ByteBuf buffer) {
+            buffer.writeBytes(encoded);
+        }
+
+        @Override
+        int estimateSize() {
+            return encoded.length;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+
+    }
+
     static class ByteBufferArgument {
 
         static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
@@ -524,6 +630,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Long.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(stringSize(val));
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -543,6 +654,27 @@ public class CommandArgs<K, V> {
             }
         }
 
+        /**
+         * @param value the value.
+         * @return number of characters of the decimal representation of {@code value}, including the sign.
+         */
+        static int stringSize(long value) {
+
+            if (value == Long.MIN_VALUE) {
+                return 20;
+            }
+
+            int size = value < 0 ? 2 : 1;
+            long remainder = value < 0 ? -value : value;
+
+            while (remainder >= 10) {
+                remainder /= 10;
+                size++;
+            }
+
+            return size;
+        }
+
     }
 
     static class IntegerCache {
@@ -580,6 +712,11 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Double.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(Double.toString(val).length());
+        }
+
         @Override
         public String toString() {
             return "" + val;
@@ -604,6 +741,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length());
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -641,6 +783,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkStringSize(val.length);
+        }
+
         static void writeString(ByteBuf target, char[] value) {
 
             target.writeByte('$');
@@ -667,6 +814,11 @@ public class CommandArgs<K, V> {
 
         final RedisCodec<K, V> codec;
 
+        /**
+         * Cached cluster slot, {@code -1} if not yet calculated.
+         */
+        int slot = -1;
+
         private KeyArgument(K key, RedisCodec<K, V> codec) {
             this.key = key;
             this.codec = codec;
@@ -688,6 +840,17 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int estimateSize() {
+
+            if (codec instanceof ToByteBufEncoder) {
+                return bulkStringSize(((ToByteBufEncoder<K, V>) codec).estimateSize(key));
+            }
+
+            return bulkStringSize(codec.encodeKey(key).remaining());
+        }
+
         @Override
         public String toString() {
             return String.format("key<%s>", new StringCodec().decodeKey(codec.encodeKey(key)));
@@ -722,6 +885,17 @@ public class CommandArgs<K, V> {
             ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        int estimateSize() {
+
+            if (codec instanceof ToByteBufEncoder) {
+                return bulkStringSize(((ToByteBufEncoder<K, V>) codec).estimateSize(val));
+            }
+
+            return bulkStringSize(codec.encodeValue(val).remaining());
+        }
+
         @Override
         public String toString() {
             return String.format("value<%s>", new StringCodec().decodeValue(codec.encodeValue(val)));
@@ -128,6 +128,12 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private boolean pristine;
 
+    // set once a MultiReplyCommand was written so that other connections do not inspect each reply
+    private boolean multiReplyWritten;
+
+    // written only by the I/O thread
+    private volatile long backpressureCount;
+
     private Tracing.Endpoint tracedEndpoint;
 
     /**
@@ -165,6 +171,29 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return stack;
     }
 
+    /**
+     * @return number of commands awaiting a response. Not synchronized with the I/O thread.
+     */
+    int getInFlightCount() {
+        return stack.size();
+    }
+
+    /**
+     * @return number of bytes retained in the decode buffer. Not synchronized with the I/O thread.
+     */
+    int getDecodeBufferSize() {
+
+        ByteBuf buffer = this.buffer;
+        return buffer != null ? buffer.readableBytes() : 0;
+    }
+
+    /**
+     * @return number of times reading was suspended due to backpressure.
+     */
+    long getBackpressureCount() {
+        return backpressureCount;
+    }
+
     protected void setState(LifecycleState lifecycleState) {
 
         if (this.lifecycleState != LifecycleState.CLOSED) {
@@ -334,6 +363,19 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return target;
     }
 
+    /**
+     * @see io.netty.channel.ChannelInboundHandlerAdapter#channelWritabilityChanged(io.netty.channel.ChannelHandlerContext)
+     */
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+
+        if (ctx.channel().isWritable()) {
+            endpoint.notifyChannelWritable(ctx.channel());
+        }
+
+        super.channelWritabilityChanged(ctx);
+    }
+
     /**
      * @see io.netty.channel.ChannelInboundHandlerAdapter#channelInactive(io.netty.channel.ChannelHandlerContext)
      */
@@ -501,6 +543,10 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 complete(command);
             }
 
+            if (!multiReplyWritten && isMultiReplyCommand(command)) {
+                multiReplyWritten = true;
+            }
+
             RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
 
             stack.add(redisCommand);
@@ -513,6 +559,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         }
     }
 
+    private static boolean isMultiReplyCommand(RedisCommand<?, ?, ?> command) {
+        return command instanceof MultiReplyCommand
+                || command instanceof CommandWrapper && CommandWrapper.unwrap(command, MultiReplyCommand.class) != null;
+    }
+
     private void validateWrite(int commands) {
 
         if (usesBoundedQueues()) {
@@ -732,7 +783,13 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
      * @return
      */
     protected boolean canComplete(RedisCommand<?, ?, ?> command) {
-        return true;
+
+        if (!multiReplyWritten) {
+            return true;
+        }
+
+        MultiReplyCommand multiReply = CommandWrapper.unwrap(command, MultiReplyCommand.class);
+        return multiReply == null || multiReply.onReply();
     }
 
     /**
@@ -795,7 +852,12 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 DemandAware.Sink sink = (DemandAware.Sink) command;
                 sink.setSource(backpressureSource);
 
-                ctx.channel().config().setAutoRead(sink.hasDemand());
+                boolean hasDemand = sink.hasDemand();
+                if (!hasDemand && ctx.channel().config().isAutoRead()) {
+                    backpressureCount++;
+                }
+
+                ctx.channel().config().setAutoRead(hasDemand);
             }
 
             return false;
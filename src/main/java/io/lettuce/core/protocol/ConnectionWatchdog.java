@@ -32,6 +32,7 @@ import io.lettuce.core.event.connection.ReconnectFailedEvent;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.resource.Delay;
 import io.lettuce.core.resource.Delay.StatefulDelay;
+import io.lettuce.core.resource.ReconnectLimiter;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
@@ -63,6 +64,8 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
 
     private final Delay reconnectDelay;
 
+    private final ReconnectLimiter reconnectLimiter;
+
     private final Bootstrap bootstrap;
 
     private final EventExecutorGroup reconnectWorkers;
@@ -117,8 +120,35 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
             EventExecutorGroup reconnectWorkers, Mono<SocketAddress> socketAddressSupplier,
             ReconnectionListener reconnectionListener, ConnectionFacade connectionFacade, EventBus eventBus,
             Endpoint endpoint) {
+        this(reconnectDelay, ReconnectLimiter.unlimited(), clientOptions, bootstrap, timer, reconnectWorkers,
+                socketAddressSupplier, reconnectionListener, connectionFacade, eventBus, endpoint);
+    }
+
+    /**
+     * Create a new watchdog that adds to new connections to the supplied {@link ChannelGroup} and establishes a new
+     * {@link Channel} when disconnected, while reconnect is true. The socketAddressSupplier can supply the reconnect address.
+     * Reconnect attempts are admitted through the {@link ReconnectLimiter} in addition to the reconnect delay.
+     *
+     * @param reconnectDelay reconnect delay, must not be {@code null}
+     * @param reconnectLimiter reconnect admission limiter, must not be {@code null}
+     * @param clientOptions client options for the current connection, must not be {@code null}
+     * @param bootstrap Configuration for new channels, must not be {@code null}
+     * @param timer Timer used for delayed reconnect, must not be {@code null}
+     * @param reconnectWorkers executor group for reconnect tasks, must not be {@code null}
+     * @param socketAddressSupplier the socket address supplier to obtain an address for reconnection, may be {@code null}
+     * @param reconnectionListener the reconnection listener, must not be {@code null}
+     * @param connectionFacade the connection facade, must not be {@code null}
+     * @param eventBus Event bus to emit reconnect events.
+     * @param endpoint must not be {@code null}
+     * @since 7.0
+     */
+    public ConnectionWatchdog(Delay reconnectDelay, ReconnectLimiter reconnectLimiter, ClientOptions clientOptions,
+            Bootstrap bootstrap, Timer timer, EventExecutorGroup reconnectWorkers, Mono<SocketAddress> socketAddressSupplier,
+            ReconnectionListener reconnectionListener, ConnectionFacade connectionFacade, EventBus eventBus,
+            Endpoint endpoint) {
 
         LettuceAssert.notNull(reconnectDelay, "Delay must not be null");
+        LettuceAssert.notNull(reconnectLimiter, "ReconnectLimiter must not be null");
         LettuceAssert.notNull(clientOptions, "ClientOptions must not be null");
         LettuceAssert.notNull(bootstrap, "Bootstrap must not be null");
         LettuceAssert.notNull(timer, "Timer must not be null");
@@ -130,6 +160,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
         LettuceAssert.notNull(endpoint, "Endpoint must not be null");
 
         this.reconnectDelay = reconnectDelay;
+        this.reconnectLimiter = reconnectLimiter;
         this.bootstrap = bootstrap;
         this.timer = timer;
         this.reconnectWorkers = reconnectWorkers;
@@ -239,7 +270,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter {
 
             attempts++;
             final int attempt = attempts;
-            Duration delay = reconnectDelay.createDelay(attempt);
+            Duration delay = reconnectDelay.createDelay(attempt).plus(reconnectLimiter.reserve());
             int timeout = (int) delay.toMillis();
             logger.debug("{} Reconnect attempt {}, delay {}ms", logPrefix(), attempt, timeout);
 
@@ -18,7 +18,9 @@ package io.lettuce.core.protocol;
 import static io.lettuce.core.protocol.CommandHandler.*;
 
 import java.io.IOException;
+import java.net.SocketAddress;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,11 +30,16 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.lettuce.core.CircuitBreakerOptions;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.CommandListenerWriter;
 import io.lettuce.core.ConnectionEvents;
+import io.lettuce.core.DisconnectedBufferOptions;
+import io.lettuce.core.PriorityOptions;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
@@ -40,10 +47,14 @@ import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.EndpointMetrics;
+import io.lettuce.core.metrics.EndpointMetricsRecorder;
 import io.lettuce.core.resource.ClientResources;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.handler.codec.EncoderException;
 import io.netty.util.Recycler;
 import io.netty.util.concurrent.Future;
@@ -69,6 +80,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
     private static final AtomicIntegerFieldUpdater<DefaultEndpoint> STATUS = AtomicIntegerFieldUpdater
             .newUpdater(DefaultEndpoint.class, "status");
 
+    private static final AtomicLongFieldUpdater<DefaultEndpoint> FLUSH_COUNT = AtomicLongFieldUpdater
+            .newUpdater(DefaultEndpoint.class, "flushCount");
+
+    private static final AtomicLongFieldUpdater<DefaultEndpoint> WRITTEN_COMMANDS = AtomicLongFieldUpdater
+            .newUpdater(DefaultEndpoint.class, "writtenCommands");
+
+    private static final AtomicLongFieldUpdater<DefaultEndpoint> DISCONNECTED_BUFFERED_TOTAL = AtomicLongFieldUpdater
+            .newUpdater(DefaultEndpoint.class, "disconnectedBufferedTotal");
+
     private static final int ST_OPEN = 0;
 
     private static final int ST_CLOSED = 1;
@@ -121,6 +141,38 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     private final String cachedEndpointId;
 
+    private final EndpointMetricsRecorder endpointMetricsRecorder;
+
+    private final boolean metricsEnabled;
+
+    private final EndpointMetricsView metrics = new EndpointMetricsView();
+
+    private volatile boolean metricsRegistered;
+
+    private final EndpointCircuitBreaker circuitBreaker;
+
+    private final PriorityLanes priorityLanes;
+
+    private final DisconnectedBufferLimiter disconnectedBufferLimiter;
+
+    // allocator of the most recently activated channel to encode disconnected commands with
+    private volatile ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+
+    // access via FLUSH_COUNT
+    @SuppressWarnings("unused")
+    private volatile long flushCount;
+
+    // access via WRITTEN_COMMANDS
+    @SuppressWarnings("unused")
+    private volatile long writtenCommands;
+
+    // access via DISCONNECTED_BUFFERED_TOTAL
+    @SuppressWarnings("unused")
+    private volatile long disconnectedBufferedTotal;
+
+    // backpressure count of previously connected command handlers
+    private volatile long backpressureCount;
+
     /**
      * Create a new {@link DefaultEndpoint}.
      *
@@ -132,14 +184,37 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         LettuceAssert.notNull(clientOptions, "ClientOptions must not be null");
         LettuceAssert.notNull(clientOptions, "ClientResources must not be null");
 
+        EndpointMetricsRecorder endpointMetricsRecorder = clientResources != null ? clientResources.endpointMetricsRecorder()
+                : null;
+
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
+        this.endpointMetricsRecorder = endpointMetricsRecorder != null ? endpointMetricsRecorder
+                : EndpointMetricsRecorder.disabled();
+        this.metricsEnabled = this.endpointMetricsRecorder.isEnabled();
         this.reliability = clientOptions.isAutoReconnect() ? Reliability.AT_LEAST_ONCE : Reliability.AT_MOST_ONCE;
         this.disconnectedBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
         this.cachedEndpointId = "0x" + Long.toHexString(endpointId);
+
+        CircuitBreakerOptions circuitBreakerOptions = clientOptions.getCircuitBreakerOptions();
+        this.circuitBreaker = circuitBreakerOptions != null && circuitBreakerOptions.isEnabled()
+                ? new EndpointCircuitBreaker(circuitBreakerOptions, cachedEndpointId, metrics::getRemoteAddress,
+                        clientResources != null ? clientResources.eventBus() : null)
+                : null;
+
+        PriorityOptions priorityOptions = clientOptions.getPriorityOptions();
+        this.priorityLanes = priorityOptions != null && priorityOptions.isEnabled()
+                ? new PriorityLanes(priorityOptions, this::writeQueuedCommand, this::flushQueuedCommands)
+                : null;
+
+        DisconnectedBufferOptions disconnectedBufferOptions = clientOptions.getDisconnectedBufferOptions();
+        this.disconnectedBufferLimiter = disconnectedBufferOptions != null && (disconnectedBufferOptions.isLimited()
+                || disconnectedBufferOptions.isEncodeCommands() || metricsEnabled)
+                        ? new DisconnectedBufferLimiter(disconnectedBufferOptions, disconnectedBuffer, () -> allocator)
+                        : null;
     }
 
     @Override
@@ -178,6 +253,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         LettuceAssert.notNull(command, "Command must not be null");
 
         RedisException validation = validateWrite(1);
+
+        if (validation == null && circuitBreaker != null && !inActivation) {
+            validation = circuitBreaker.acquire(command);
+        }
+
         if (validation != null) {
             command.completeExceptionally(validation);
             return command;
@@ -219,8 +299,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         RedisException validation = validateWrite(commands.size());
 
+        if (validation == null && circuitBreaker != null && !inActivation) {
+            validation = circuitBreaker.acquire(commands);
+        }
+
         if (validation != null) {
-            commands.forEach(it -> it.completeExceptionally(validation));
+            for (RedisCommand<K, V, ?> command : commands) {
+                command.completeExceptionally(validation);
+            }
             return (Collection<RedisCommand<K, V, ?>>) commands;
         }
 
@@ -344,7 +430,26 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             logger.debug("{} writeToDisconnectedBuffer() buffering (disconnected) command {}", logPrefix(), command);
         }
 
-        disconnectedBuffer.add(command);
+        if (disconnectedBufferLimiter != null) {
+
+            RedisException overflow = disconnectedBufferLimiter.add(command);
+
+            if (overflow != null) {
+
+                if (debugEnabled) {
+                    logger.debug("{} writeToDisconnectedBuffer() rejecting command {}: {}", logPrefix(), command,
+                            overflow.getMessage());
+                }
+                command.completeExceptionally(overflow);
+                return;
+            }
+        } else {
+            disconnectedBuffer.add(command);
+        }
+
+        if (metricsEnabled) {
+            DISCONNECTED_BUFFERED_TOTAL.incrementAndGet(this);
+        }
     }
 
     protected <C extends RedisCommand<?, ?, T>, T> void writeToBuffer(C command) {
@@ -370,6 +475,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         QUEUE_SIZE.incrementAndGet(this);
 
+        if (priorityLanes != null && priorityLanes.offer(channel, command)) {
+            return;
+        }
+
+        if (metricsEnabled) {
+            FLUSH_COUNT.incrementAndGet(this);
+            WRITTEN_COMMANDS.incrementAndGet(this);
+        }
+
         ChannelFuture channelFuture = channelWriteAndFlush(command);
 
         if (reliability == Reliability.AT_MOST_ONCE) {
@@ -387,6 +501,15 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         QUEUE_SIZE.addAndGet(this, commands.size());
 
+        if (priorityLanes != null && priorityLanes.offer(channel, commands)) {
+            return;
+        }
+
+        if (metricsEnabled) {
+            FLUSH_COUNT.incrementAndGet(this);
+            WRITTEN_COMMANDS.addAndGet(this, commands.size());
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
 
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -406,6 +529,32 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         channelFlush();
     }
 
+    private void writeQueuedCommand(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        if (metricsEnabled) {
+            WRITTEN_COMMANDS.incrementAndGet(this);
+        }
+
+        ChannelFuture channelFuture = channel.write(command);
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, command));
+        }
+
+        if (reliability == Reliability.AT_LEAST_ONCE) {
+            channelFuture.addListener(RetryListener.newInstance(this, command));
+        }
+    }
+
+    private void flushQueuedCommands(Channel channel) {
+
+        if (metricsEnabled) {
+            FLUSH_COUNT.incrementAndGet(this);
+        }
+
+        channel.flush();
+    }
+
     private void channelFlush() {
 
         if (debugEnabled) {
@@ -438,6 +587,7 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
         this.logPrefix = null;
         this.channel = channel;
+        this.allocator = channel.alloc();
         this.connectionError = null;
 
         if (isClosed()) {
@@ -451,6 +601,11 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             connectionWatchdog.arm();
         }
 
+        if (metricsEnabled && !metricsRegistered) {
+            metricsRegistered = true;
+            endpointMetricsRecorder.register(metrics);
+        }
+
         sharedLock.doExclusive(() -> {
 
             try {
@@ -490,6 +645,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         });
     }
 
+    @Override
+    public void notifyChannelWritable(Channel channel) {
+
+        if (priorityLanes != null) {
+            priorityLanes.notifyWritable(channel);
+        }
+    }
+
     @Override
     public void notifyChannelInactive(Channel channel) {
 
@@ -507,6 +670,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
             connectionFacade.deactivated();
         });
 
+        if (metricsEnabled) {
+
+            CommandHandler commandHandler = channel.pipeline().get(CommandHandler.class);
+            if (commandHandler != null) {
+                backpressureCount += commandHandler.getBackpressureCount();
+            }
+        }
+
         if (this.channel == channel) {
             this.channel = null;
         }
@@ -551,7 +722,13 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                     return Collections.emptyList();
                 }
 
-                return drainCommands(queue);
+                List<RedisCommand<?, ?, ?>> drained = drainCommands(queue);
+
+                if (queue == disconnectedBuffer && disconnectedBufferLimiter != null) {
+                    disconnectedBufferLimiter.reset();
+                }
+
+                return drained;
             });
 
             if (debugEnabled) {
@@ -594,6 +771,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 connectionWatchdog.prepareClose();
             }
 
+            if (metricsRegistered) {
+                endpointMetricsRecorder.unregister(metrics);
+            }
+
             cancelBufferedCommands("Close");
 
             Channel channel = getOpenChannel();
@@ -714,6 +895,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
                 }
             }
 
+            if (disconnectedBufferLimiter != null) {
+                disconnectedBufferLimiter.recalculate();
+            }
+
             if (isConnected()) {
                 flushCommands(disconnectedBuffer);
             }
@@ -740,6 +925,18 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         List<RedisCommand<?, ?, ?>> target = new ArrayList<>(disconnectedBuffer.size() + commandBuffer.size());
 
         drainCommands(disconnectedBuffer, target);
+
+        if (disconnectedBufferLimiter != null) {
+            disconnectedBufferLimiter.reset();
+        }
+
+        if (priorityLanes != null) {
+
+            List<RedisCommand<?, ?, ?>> queued = new ArrayList<>();
+            QUEUE_SIZE.addAndGet(this, -priorityLanes.drainTo(queued));
+            drainCommands(new ArrayDeque<>(queued), target);
+        }
+
         drainCommands(commandBuffer, target);
 
         return target;
@@ -823,6 +1020,43 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
         return cachedEndpointId;
     }
 
+    /**
+     * @return the {@link EndpointMetrics} of this endpoint.
+     * @since 7.0
+     */
+    public EndpointMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the {@link EndpointCircuitBreaker} of this endpoint. {@code null} if the circuit breaker is disabled.
+     * @since 7.0
+     */
+    public EndpointCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Unwrap the {@link DefaultEndpoint} from a {@link RedisChannelWriter} that is possibly decorated with
+     * {@link CommandListenerWriter} or {@link CommandExpiryWriter}.
+     *
+     * @param writer the channel writer.
+     * @return the {@link DefaultEndpoint} or {@code null} if {@code writer} does not use a {@link DefaultEndpoint}.
+     * @since 7.0
+     */
+    public static DefaultEndpoint unwrap(RedisChannelWriter writer) {
+
+        if (writer instanceof CommandListenerWriter) {
+            writer = ((CommandListenerWriter) writer).getDelegate();
+        }
+
+        if (writer instanceof CommandExpiryWriter) {
+            writer = ((CommandExpiryWriter) writer).getDelegate();
+        }
+
+        return writer instanceof DefaultEndpoint ? (DefaultEndpoint) writer : null;
+    }
+
     private static boolean isRejectCommand(ClientOptions clientOptions) {
 
         switch (clientOptions.getDisconnectedBehavior()) {
@@ -1095,6 +1329,106 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandle
 
     }
 
+    /**
+     * {@link EndpointMetrics} view reading the endpoint and command handler state on access.
+     */
+    class EndpointMetricsView implements EndpointMetrics {
+
+        @Override
+        public String getId() {
+            return DefaultEndpoint.this.getId();
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+
+            Channel channel = DefaultEndpoint.this.channel;
+            return channel != null ? channel.remoteAddress() : null;
+        }
+
+        @Override
+        public int getQueuedCommands() {
+            return commandBuffer.size();
+        }
+
+        @Override
+        public int getDisconnectedBufferedCommands() {
+            return disconnectedBuffer.size();
+        }
+
+        @Override
+        public int getPendingWriteCommands() {
+            return QUEUE_SIZE.get(DefaultEndpoint.this);
+        }
+
+        @Override
+        public int getInFlightCommands() {
+
+            CommandHandler commandHandler = getCommandHandler();
+            return commandHandler != null ? commandHandler.getInFlightCount() : 0;
+        }
+
+        @Override
+        public long getPendingWriteBytes() {
+
+            Channel channel = DefaultEndpoint.this.channel;
+            ChannelOutboundBuffer outboundBuffer = channel != null ? channel.unsafe().outboundBuffer() : null;
+
+            return outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0;
+        }
+
+        @Override
+        public int getDecodeBufferSize() {
+
+            CommandHandler commandHandler = getCommandHandler();
+            return commandHandler != null ? commandHandler.getDecodeBufferSize() : 0;
+        }
+
+        @Override
+        public long getFlushCount() {
+            return FLUSH_COUNT.get(DefaultEndpoint.this);
+        }
+
+        @Override
+        public long getWrittenCommands() {
+            return WRITTEN_COMMANDS.get(DefaultEndpoint.this);
+        }
+
+        @Override
+        public long getDisconnectedBufferedTotal() {
+            return DISCONNECTED_BUFFERED_TOTAL.get(DefaultEndpoint.this);
+        }
+
+        @Override
+        public long getDisconnectedBufferedBytes() {
+            return disconnectedBufferLimiter != null ? disconnectedBufferLimiter.getBufferedBytes() : 0;
+        }
+
+        @Override
+        public long getDisconnectedSpilledBytes() {
+            return disconnectedBufferLimiter != null ? disconnectedBufferLimiter.getSpilledBytes() : 0;
+        }
+
+        @Override
+        public long getDisconnectedOverflowCount() {
+            return disconnectedBufferLimiter != null ? disconnectedBufferLimiter.getOverflowCount() : 0;
+        }
+
+        @Override
+        public long getBackpressureCount() {
+
+            CommandHandler commandHandler = getCommandHandler();
+            return backpressureCount + (commandHandler != null ? commandHandler.getBackpressureCount() : 0);
+        }
+
+        private CommandHandler getCommandHandler() {
+
+            Channel channel = DefaultEndpoint.this.channel;
+            return channel != null ? channel.pipeline().get(CommandHandler.class) : null;
+        }
+
+    }
+
     private enum Reliability {
         AT_MOST_ONCE, AT_LEAST_ONCE
     }
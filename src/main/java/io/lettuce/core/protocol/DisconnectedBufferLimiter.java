@@ -0,0 +1,258 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.lettuce.core.DisconnectedBufferOptions;
+import io.lettuce.core.DisconnectedBufferOptions.OverflowPolicy;
+import io.lettuce.core.RedisException;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Byte accounting for the disconnected buffer of an endpoint. Commands are measured by the estimated encoded size of their
+ * arguments when being buffered. Limits are checked without holding a lock so concurrent writers may exceed a limit by the size
+ * of the commands written at the same time.
+ * <p>
+ * The buffer is always drained completely (under the endpoint's exclusive lock), so counters are {@link #reset() reset}
+ * instead of being decremented per command.
+ *
+ * @since 7.0
+ * @see DisconnectedBufferOptions
+ */
+class DisconnectedBufferLimiter {
+
+    /**
+     * Commands whose arguments are inspected after completion to track the connection state.
+     */
+    private static final Set<String> CONNECTION_STATE_COMMANDS = new HashSet<>(
+            Arrays.asList(CommandType.AUTH.name(), CommandType.HELLO.name(), CommandType.SELECT.name(),
+                    CommandType.CLIENT.name(), CommandType.READONLY.name(), CommandType.READWRITE.name()));
+
+    private final DisconnectedBufferOptions options;
+
+    private final Queue<RedisCommand<?, ?, ?>> buffer;
+
+    private final Supplier<ByteBufAllocator> allocator;
+
+    // spilled commands are charged to spilledBytes, all other commands to bufferedBytes
+    private final Set<RedisCommand<?, ?, ?>> spilled = Collections
+            .synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    private final AtomicLong spilledBytes = new AtomicLong();
+
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    /**
+     * @param options the buffer options.
+     * @param buffer the disconnected buffer.
+     * @param allocator supplier of the allocator to encode commands.
+     */
+    DisconnectedBufferLimiter(DisconnectedBufferOptions options, Queue<RedisCommand<?, ?, ?>> buffer,
+            Supplier<ByteBufAllocator> allocator) {
+
+        this.options = options;
+        this.buffer = buffer;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Add {@code command} to the buffer if it fits into the configured limits.
+     *
+     * @param command the command.
+     * @return {@code null} if the command was buffered, otherwise the exception to complete the command with.
+     */
+    RedisException add(RedisCommand<?, ?, ?> command) {
+
+        long size = estimateSize(command);
+        long maxBytes = options.getMaxBytes();
+
+        if (size > maxBytes - bufferedBytes.get()) {
+
+            OverflowPolicy policy = options.getOverflowPolicy();
+
+            if (policy == OverflowPolicy.SPILL) {
+                return spill(command, size);
+            }
+
+            if (policy != OverflowPolicy.DISCARD_OLDEST || !discardOldest(size)) {
+                return overflow("Disconnected buffer size exceeded: " + maxBytes
+                        + " bytes. Commands are not accepted until the buffer drains.");
+            }
+        }
+
+        if (options.isEncodeCommands()) {
+            size = encode(command, size);
+        }
+
+        bufferedBytes.addAndGet(size);
+        buffer.add(command);
+
+        return null;
+    }
+
+    private RedisException spill(RedisCommand<?, ?, ?> command, long size) {
+
+        long maxSpillBytes = options.getMaxSpillBytes();
+
+        if (size > maxSpillBytes - spilledBytes.get()) {
+            return overflow("Disconnected buffer spill size exceeded: " + maxSpillBytes
+                    + " bytes. Commands are not accepted until the buffer drains.");
+        }
+
+        spilledBytes.addAndGet(encode(command, size));
+        spilled.add(command);
+        buffer.add(command);
+
+        return null;
+    }
+
+    /**
+     * Fail the oldest buffered commands until {@code size} bytes fit into the buffer.
+     *
+     * @return {@code false} if the command exceeds the buffer size on its own.
+     */
+    private boolean discardOldest(long size) {
+
+        long maxBytes = options.getMaxBytes();
+
+        if (size > maxBytes) {
+            return false;
+        }
+
+        while (size > maxBytes - bufferedBytes.get()) {
+
+            RedisCommand<?, ?, ?> oldest = buffer.poll();
+
+            if (oldest == null) {
+                reset();
+                break;
+            }
+
+            if (spilled.remove(oldest)) {
+                spilledBytes.addAndGet(-estimateSize(oldest));
+            } else {
+                bufferedBytes.addAndGet(-estimateSize(oldest));
+            }
+
+            if (!oldest.isDone()) {
+                overflowCount.incrementAndGet();
+                oldest.completeExceptionally(new RedisException(
+                        "Command discarded from the disconnected buffer as the buffer size exceeded " + maxBytes + " bytes"));
+            }
+        }
+
+        return true;
+    }
+
+    private RedisException overflow(String message) {
+
+        overflowCount.incrementAndGet();
+        return new RedisException(message);
+    }
+
+    /**
+     * Reset the counters after the buffer was drained.
+     */
+    void reset() {
+
+        bufferedBytes.set(0);
+        spilledBytes.set(0);
+        spilled.clear();
+    }
+
+    /**
+     * Recalculate the counters from the buffer contents, e.g. after commands were requeued. Spilled commands are accounted as
+     * buffered commands.
+     */
+    void recalculate() {
+
+        long size = 0;
+
+        for (RedisCommand<?, ?, ?> command : buffer) {
+            size += estimateSize(command);
+        }
+
+        bufferedBytes.set(size);
+        spilledBytes.set(0);
+        spilled.clear();
+    }
+
+    /**
+     * @return number of buffered bytes including spilled bytes.
+     */
+    long getBufferedBytes() {
+        return bufferedBytes.get() + spilledBytes.get();
+    }
+
+    /**
+     * @return number of spilled bytes.
+     */
+    long getSpilledBytes() {
+        return spilledBytes.get();
+    }
+
+    /**
+     * @return total number of rejected and discarded commands.
+     */
+    long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    static long estimateSize(RedisCommand<?, ?, ?> command) {
+
+        CommandArgs<?, ?> args = command.getArgs();
+        return args != null ? args.estimateEncodedSize() : 0;
+    }
+
+    /**
+     * Replace the arguments of {@code command} with their encoded form.
+     *
+     * @return the encoded size, or {@code size} if the command cannot be encoded.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private long encode(RedisCommand<?, ?, ?> command, long size) {
+
+        Command target = CommandWrapper.unwrap(command, Command.class);
+
+        if (target == null || target.isDone() || target.args == null || target.args.getClass() != CommandArgs.class
+                || CONNECTION_STATE_COMMANDS.contains(target.getType().name())) {
+            return size;
+        }
+
+        EagerCommandArgs encoded = new EagerCommandArgs(target.args.codec, allocator.get(),
+                (int) Math.min(size, Integer.MAX_VALUE));
+        encoded.addAll(target.args);
+        target.args = encoded;
+
+        // completion raced with encoding and did not see the encoded arguments
+        if (target.isDone()) {
+            encoded.release();
+        }
+
+        return encoded.getEncodedSize();
+    }
+
+}
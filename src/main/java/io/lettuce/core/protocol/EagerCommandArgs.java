@@ -0,0 +1,589 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+/**
+ * {@link CommandArgs} variant that encodes arguments eagerly into a pooled {@link ByteBuf} as they are added instead of
+ * retaining an argument object per argument. Only the positions of key arguments and a single type tag byte per argument are
+ * retained to support {@link #getFirstEncodedKey()} (cluster slot routing) and {@link #toCommandString()}. Commands with many
+ * arguments such as {@code MSET}, {@code HSET} or {@code ZADD} with thousands of entries therefore allocate a single buffer
+ * instead of thousands of argument wrappers.
+ * <p>
+ * Unlike {@link CommandArgs}, {@link EagerCommandArgs} are single-use: the underlying buffer is released once the owning
+ * {@link Command} reaches its final state and the arguments were written. Arguments that are never dispatched must be released
+ * through {@link #release()}. {@link CommandArgsAccessor} does not inspect eagerly encoded arguments, so this type should not
+ * be used for connection-state commands such as {@code AUTH} or {@code SELECT}.
+ *
+ * <h3>Example</h3>
+ *
+ * <pre class="code">
+ * new EagerCommandArgs&lt;&gt;(codec).addKey(key).addValue(value).addKey(key2).addValue(value2);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @since 7.0
+ */
+public class EagerCommandArgs<K, V> extends CommandArgs<K, V> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private static final byte TYPE_KEY = 1;
+
+    private static final byte TYPE_VALUE = 2;
+
+    private static final byte TYPE_BYTES = 3;
+
+    private static final byte TYPE_STRING = 4;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<EagerCommandArgs> REF_CNT = AtomicIntegerFieldUpdater
+            .newUpdater(EagerCommandArgs.class, "refCnt");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<EagerCommandArgs> OWNER_RELEASED = AtomicIntegerFieldUpdater
+            .newUpdater(EagerCommandArgs.class, "ownerReleased");
+
+    private final ByteBuf buffer;
+
+    private ByteBuf scratch;
+
+    private byte[] types = new byte[16];
+
+    private int count;
+
+    private int[] keyOffsets = new int[4];
+
+    private int keyCount;
+
+    private int firstKeySlot = -1;
+
+    // access via REF_CNT
+    @SuppressWarnings("unused")
+    private volatile int refCnt = 1;
+
+    // access via OWNER_RELEASED
+    @SuppressWarnings("unused")
+    private volatile int ownerReleased = 0;
+
+    private volatile boolean written;
+
+    private volatile boolean donePending;
+
+    /**
+     * Create new {@link EagerCommandArgs} using the {@link ByteBufAllocator#DEFAULT default allocator}.
+     *
+     * @param codec Codec used to encode/decode keys and values, must not be {@code null}.
+     */
+    public EagerCommandArgs(RedisCodec<K, V> codec) {
+        this(codec, ByteBufAllocator.DEFAULT, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Create new {@link EagerCommandArgs}.
+     *
+     * @param codec Codec used to encode/decode keys and values, must not be {@code null}.
+     * @param allocator the allocator to obtain the argument buffer from, must not be {@code null}.
+     * @param initialCapacity initial buffer capacity in bytes.
+     */
+    public EagerCommandArgs(RedisCodec<K, V> codec, ByteBufAllocator allocator, int initialCapacity) {
+
+        super(codec);
+
+        LettuceAssert.notNull(allocator, "ByteBufAllocator must not be null");
+        LettuceAssert.isTrue(initialCapacity >= 0, "Initial capacity must be greater or equal to zero");
+
+        this.buffer = allocator.buffer(initialCapacity);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CommandArgs<K, V> addKey(K key) {
+
+        int offset = beginArgument(TYPE_KEY);
+
+        if (keyCount == keyOffsets.length) {
+            keyOffsets = Arrays.copyOf(keyOffsets, keyOffsets.length * 2);
+        }
+        keyOffsets[keyCount++] = offset;
+
+        if (codec instanceof ToByteBufEncoder) {
+            encode((ToByteBufEncoder<K, K>) codec, key, ToByteBufEncoder::encodeKey);
+        } else {
+            ByteBufferArgument.writeByteBuffer(buffer, codec.encodeKey(key));
+        }
+
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CommandArgs<K, V> addValue(V value) {
+
+        beginArgument(TYPE_VALUE);
+
+        if (codec instanceof ToByteBufEncoder) {
+            encode((ToByteBufEncoder<V, V>) codec, value, ToByteBufEncoder::encodeValue);
+        } else {
+            ByteBufferArgument.writeByteBuffer(buffer, codec.encodeValue(value));
+        }
+
+        return this;
+    }
+
+    private <T> void encode(ToByteBufEncoder<T, T> encoder, T item, EncodeFunction<T> encodeFunction) {
+
+        if (encoder.isEstimateExact()) {
+            CommandArgs.encode(buffer, encoder, item, encodeFunction);
+            return;
+        }
+
+        // reuse a single scratch buffer for arguments whose size is not known upfront
+        if (scratch == null) {
+            scratch = Unpooled.buffer(encoder.estimateSize(item) + 6);
+        }
+
+        scratch.clear();
+        encodeFunction.encode(encoder, item, scratch);
+        ByteBufferArgument.writeByteBuf(buffer, scratch);
+    }
+
+    @Override
+    public CommandArgs<K, V> add(String s) {
+
+        beginArgument(TYPE_STRING);
+        StringArgument.writeString(buffer, s);
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> add(char[] cs) {
+
+        beginArgument(TYPE_STRING);
+        CharArrayArgument.writeString(buffer, cs);
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> add(long n) {
+
+        beginArgument(TYPE_STRING);
+        writeLong(buffer, n);
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> add(double n) {
+
+        beginArgument(TYPE_STRING);
+        StringArgument.writeString(buffer, Double.toString(n));
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> add(byte[] value) {
+
+        beginArgument(TYPE_BYTES);
+        BytesArgument.writeBytes(buffer, value);
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> add(CommandKeyword keyword) {
+
+        LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
+        return addKeyword(keyword);
+    }
+
+    @Override
+    public CommandArgs<K, V> add(CommandType type) {
+
+        LettuceAssert.notNull(type, "CommandType must not be null");
+        return addKeyword(type);
+    }
+
+    @Override
+    public CommandArgs<K, V> add(ProtocolKeyword keyword) {
+
+        LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
+        return addKeyword(keyword);
+    }
+
+    private CommandArgs<K, V> addKeyword(ProtocolKeyword keyword) {
+
+        beginArgument(TYPE_STRING);
+        BytesArgument.writeBytes(buffer, keyword.getBytes());
+        return this;
+    }
+
+    @Override
+    public CommandArgs<K, V> addAll(CommandArgs<?, ?> args) {
+
+        LettuceAssert.notNull(args, "CommandArgs must not be null");
+
+        if (args instanceof EagerCommandArgs) {
+
+            EagerCommandArgs<?, ?> other = (EagerCommandArgs<?, ?>) args;
+            int base = buffer.writerIndex();
+            int keyIndex = 0;
+
+            for (int i = 0, offset = 0; i < other.count; i++) {
+
+                int next = other.nextArgument(offset);
+                beginArgument(other.types[i]);
+
+                if (other.types[i] == TYPE_KEY) {
+                    if (keyCount == keyOffsets.length) {
+                        keyOffsets = Arrays.copyOf(keyOffsets, keyOffsets.length * 2);
+                    }
+                    keyOffsets[keyCount++] = base + other.keyOffsets[keyIndex++];
+                }
+
+                buffer.writeBytes(other.buffer, offset, next - offset);
+                offset = next;
+            }
+
+            return this;
+        }
+
+        for (SingularArgument argument : args.singularArguments) {
+
+            byte type = argument instanceof KeyArgument ? TYPE_KEY
+                    : argument instanceof ValueArgument ? TYPE_VALUE
+                            : argument instanceof BytesArgument && !(argument instanceof ProtocolKeywordArgument) ? TYPE_BYTES
+                                    : TYPE_STRING;
+
+            int offset = beginArgument(type);
+
+            if (type == TYPE_KEY) {
+                if (keyCount == keyOffsets.length) {
+                    keyOffsets = Arrays.copyOf(keyOffsets, keyOffsets.length * 2);
+                }
+                keyOffsets[keyCount++] = offset;
+            }
+
+            argument.encode(buffer);
+        }
+
+        return this;
+    }
+
+    @Override
+    public String toCommandString() {
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0, offset = 0; i < count; i++) {
+
+            if (i > 0) {
+                builder.append(' ');
+            }
+
+            builder.append(describe(types[i], offset));
+            offset = nextArgument(offset);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Copy the encoded arguments as pre-encoded {@link SingularArgument}s to {@code target}.
+     */
+    void copyTo(List<SingularArgument> target) {
+
+        for (int i = 0, offset = 0; i < count; i++) {
+
+            int next = nextArgument(offset);
+            target.add(new EncodedArgument(ByteBufUtil.getBytes(buffer, offset, next - offset), describe(types[i], offset)));
+            offset = next;
+        }
+    }
+
+    private String describe(byte type, int offset) {
+
+        int payloadStart = payloadStart(offset);
+        int payloadLength = payloadLength(offset);
+
+        switch (type) {
+            case TYPE_KEY:
+                return "key<" + buffer.toString(payloadStart, payloadLength, StandardCharsets.UTF_8) + ">";
+            case TYPE_VALUE:
+                return "value<" + buffer.toString(payloadStart, payloadLength, StandardCharsets.UTF_8) + ">";
+            case TYPE_BYTES:
+                return Base64.getEncoder().encodeToString(ByteBufUtil.getBytes(buffer, payloadStart, payloadLength));
+            default:
+                return buffer.toString(payloadStart, payloadLength, StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Override
+    public ByteBuffer getFirstEncodedKey() {
+
+        if (keyCount == 0) {
+            return null;
+        }
+
+        return getEncodedKey(0);
+    }
+
+    /**
+     * Returns the cluster slot of the first key. The slot is calculated from a view of the encoded buffer without copying the
+     * key and retained for subsequent calls.
+     *
+     * @return the slot of the first key or {@code -1} if the arguments do not contain a key.
+     */
+    @Override
+    public int getFirstKeySlot() {
+
+        if (keyCount == 0) {
+            return -1;
+        }
+
+        if (firstKeySlot == -1) {
+            int offset = keyOffsets[0];
+            firstKeySlot = SlotHash.getSlot(buffer.nioBuffer(payloadStart(offset), payloadLength(offset)));
+        }
+
+        return firstKeySlot;
+    }
+
+    /**
+     * Returns the number of key arguments.
+     *
+     * @return the number of key arguments.
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the key argument at {@code index} in its byte-encoded representation. The returned {@link ByteBuffer} is a copy
+     * and remains valid after the arguments were released.
+     *
+     * @param index key index, zero-based.
+     * @return the key argument in its byte-encoded representation.
+     */
+    public ByteBuffer getEncodedKey(int index) {
+
+        LettuceAssert.isTrue(index >= 0 && index < keyCount, "Key index out of bounds");
+
+        int offset = keyOffsets[index];
+        return ByteBuffer.wrap(ByteBufUtil.getBytes(buffer, payloadStart(offset), payloadLength(offset)));
+    }
+
+    /**
+     * Returns the number of encoded bytes.
+     *
+     * @return the number of encoded bytes.
+     */
+    public int getEncodedSize() {
+        return buffer.writerIndex();
+    }
+
+    @Override
+    public long estimateEncodedSize() {
+        return getEncodedSize();
+    }
+
+    @Override
+    public void encode(ByteBuf buf) {
+
+        buf.touch("EagerCommandArgs.encode(…)");
+
+        if (!tryRetain()) {
+            throw new IllegalStateException("EagerCommandArgs already released");
+        }
+
+        try {
+            buf.writeBytes(buffer, 0, buffer.writerIndex());
+            written = true;
+        } finally {
+            releaseReference();
+        }
+
+        if (donePending) {
+            release();
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+
+        // render from the buffer directly as encode(…) would mark the arguments as written
+        if (!tryRetain()) {
+            return sb.append(" [released]").toString();
+        }
+
+        try {
+            sb.append(" [buffer=").append(buffer.toString(0, buffer.writerIndex(), StandardCharsets.UTF_8));
+            sb.append(']');
+        } finally {
+            releaseReference();
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Release the underlying buffer. Releasing is idempotent. Arguments cannot be encoded after being released.
+     */
+    public void release() {
+
+        if (OWNER_RELEASED.compareAndSet(this, 0, 1)) {
+            releaseReference();
+        }
+    }
+
+    /**
+     * Callback from the owning {@link Command} once it reached its final state. Successful completion may happen before the
+     * command was written (fire&amp;forget commands), therefore releasing is deferred until the arguments were encoded.
+     *
+     * @param completedNormally {@code true} if the command was completed, {@code false} if it was cancelled or completed
+     *        exceptionally.
+     */
+    void onCommandDone(boolean completedNormally) {
+
+        if (completedNormally) {
+
+            donePending = true;
+            if (written) {
+                release();
+            }
+            return;
+        }
+
+        release();
+    }
+
+    private boolean tryRetain() {
+
+        for (;;) {
+
+            int current = REF_CNT.get(this);
+            if (current <= 0) {
+                return false;
+            }
+
+            if (REF_CNT.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseReference() {
+
+        if (REF_CNT.decrementAndGet(this) == 0) {
+
+            buffer.release();
+
+            if (scratch != null) {
+                scratch.release();
+                scratch = null;
+            }
+        }
+    }
+
+    private int beginArgument(byte type) {
+
+        if (count == types.length) {
+            types = Arrays.copyOf(types, types.length * 2);
+        }
+
+        types[count++] = type;
+        return buffer.writerIndex();
+    }
+
+    private int nextArgument(int offset) {
+        return payloadStart(offset) + payloadLength(offset) + CRLF.length;
+    }
+
+    /**
+     * Parse the bulk string length header at {@code offset} ({@code $<length>\r\n}).
+     */
+    private int payloadLength(int offset) {
+
+        int length = 0;
+        for (int i = offset + 1;; i++) {
+
+            byte b = buffer.getByte(i);
+            if (b == '\r') {
+                return length;
+            }
+            length = (length * 10) + (b - '0');
+        }
+    }
+
+    private int payloadStart(int offset) {
+        return buffer.indexOf(offset + 1, buffer.writerIndex(), (byte) '\n') + 1;
+    }
+
+    static void writeLong(ByteBuf target, long value) {
+
+        if (value == Long.MIN_VALUE) {
+            StringArgument.writeString(target, Long.toString(value));
+            return;
+        }
+
+        int digits = IntegerArgument.stringSize(value);
+
+        target.writeByte('$');
+        IntegerArgument.writeInteger(target, digits);
+        target.writeBytes(CRLF);
+
+        target.ensureWritable(digits + CRLF.length);
+
+        if (value < 0) {
+            target.writeByte('-');
+            value = -value;
+            digits--;
+        }
+
+        int index = target.writerIndex() + digits;
+        target.writerIndex(index);
+
+        do {
+            target.setByte(--index, (byte) ('0' + (value % 10)));
+            value /= 10;
+        } while (value != 0);
+
+        target.writeBytes(CRLF);
+    }
+
+}
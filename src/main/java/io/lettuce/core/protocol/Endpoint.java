@@ -46,6 +46,15 @@ public interface Endpoint extends PushHandler {
      */
     void notifyChannelInactive(Channel channel);
 
+    /**
+     * Notify that the channel became writable again.
+     *
+     * @param channel the channel
+     * @since 7.0
+     */
+    default void notifyChannelWritable(Channel channel) {
+    }
+
     /**
      * Notify about an exception occured in channel/command processing
      *
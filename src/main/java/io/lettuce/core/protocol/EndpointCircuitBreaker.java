@@ -0,0 +1,563 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import io.lettuce.core.CircuitBreakerOptions;
+import io.lettuce.core.RedisBusyException;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisCircuitBreakerException;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisLoadingException;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.CircuitBreakerStateChangedEvent;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Circuit breaker and adaptive concurrency limit of a single endpoint configured through {@link CircuitBreakerOptions}.
+ * Commands are admitted through {@link #acquire(RedisCommand)} and release their permit once they complete. Only commands
+ * that accept completion callbacks ({@link CompleteableCommand}) are subject to admission; protocol-internal commands pass
+ * unconditionally. This class is part of the internal API and may change without further notice.
+ *
+ * @since 7.0
+ */
+public class EndpointCircuitBreaker {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(EndpointCircuitBreaker.class);
+
+    private static final byte FAILURE = 1;
+
+    private static final byte SLOW = 2;
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final double TOLERANCE = 1.5;
+
+    private static final int LONG_WINDOW = 600;
+
+    private static final int LIMIT_EXCEEDED = -1;
+
+    private static final int CIRCUIT_OPEN = -2;
+
+    private static final int TRIALS_EXHAUSTED = -3;
+
+    private final CircuitBreakerOptions options;
+
+    private final String endpointId;
+
+    private final Supplier<SocketAddress> remoteAddress;
+
+    private final EventBus eventBus;
+
+    private final LongSupplier clock;
+
+    private final long slowCallThreshold;
+
+    private final long waitDurationInOpenState;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // sliding window, guarded by this
+    private final byte[] outcomes;
+
+    private int position;
+
+    private int recorded;
+
+    private int failures;
+
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+
+    // incremented with each state transition, identifies the state in which a command was admitted
+    private volatile int generation;
+
+    // guarded by this
+    private long openedAt;
+
+    private int halfOpenPermits;
+
+    private int halfOpenRecorded;
+
+    private int halfOpenFailures;
+
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+
+    private double longRtt;
+
+    /**
+     * Create a new {@link EndpointCircuitBreaker}.
+     *
+     * @param options the circuit breaker options, must not be {@code null}.
+     * @param endpointId the endpoint identifier.
+     * @param remoteAddress supplier for the remote address of the endpoint, must not be {@code null}.
+     * @param eventBus event bus to publish state transitions to, can be {@code null}.
+     */
+    public EndpointCircuitBreaker(CircuitBreakerOptions options, String endpointId, Supplier<SocketAddress> remoteAddress,
+            EventBus eventBus) {
+        this(options, endpointId, remoteAddress, eventBus, System::nanoTime);
+    }
+
+    EndpointCircuitBreaker(CircuitBreakerOptions options, String endpointId, Supplier<SocketAddress> remoteAddress,
+            EventBus eventBus, LongSupplier clock) {
+
+        LettuceAssert.notNull(options, "CircuitBreakerOptions must not be null");
+        LettuceAssert.notNull(remoteAddress, "Remote address supplier must not be null");
+
+        this.options = options;
+        this.endpointId = endpointId;
+        this.remoteAddress = remoteAddress;
+        this.eventBus = eventBus;
+        this.clock = clock;
+        this.slowCallThreshold = options.getSlowCallDurationThreshold().toNanos();
+        this.waitDurationInOpenState = options.getWaitDurationInOpenState().toNanos();
+        this.outcomes = new byte[options.getSlidingWindowSize()];
+        this.limit = options.isAdaptiveConcurrency() ? options.getInitialConcurrencyLimit() : Integer.MAX_VALUE;
+        this.estimatedLimit = limit;
+    }
+
+    /**
+     * Obtain the {@link EndpointCircuitBreaker} of a connection.
+     *
+     * @param connection the connection.
+     * @return the circuit breaker or {@code null} if the connection does not use a circuit breaker.
+     */
+    public static EndpointCircuitBreaker from(StatefulConnection<?, ?> connection) {
+
+        if (!(connection instanceof RedisChannelHandler)) {
+            return null;
+        }
+
+        DefaultEndpoint endpoint = DefaultEndpoint.unwrap(((RedisChannelHandler<?, ?>) connection).getChannelWriter());
+
+        return endpoint != null ? endpoint.getCircuitBreaker() : null;
+    }
+
+    /**
+     * Check whether {@code connection} is open and accepts commands. Connections whose circuit is open do not accept commands
+     * until the circuit transitions to half-open.
+     *
+     * @param connection the connection.
+     * @return {@code true} if the connection is open and its circuit breaker permits commands.
+     */
+    public static boolean isAvailable(StatefulConnection<?, ?> connection) {
+
+        if (!connection.isOpen()) {
+            return false;
+        }
+
+        EndpointCircuitBreaker circuitBreaker = from(connection);
+
+        return circuitBreaker == null || circuitBreaker.isCallPermitted();
+    }
+
+    /**
+     * Admit {@code command}. Registers a completion callback to release the permit and to record the outcome.
+     *
+     * @param command the command.
+     * @return {@code null} if the command was admitted, otherwise the rejection cause.
+     */
+    public RedisException acquire(RedisCommand<?, ?, ?> command) {
+
+        if (!(command instanceof CompleteableCommand)) {
+            return null;
+        }
+
+        int ticket = tryAcquire(1);
+
+        if (ticket < 0) {
+            return rejection(ticket);
+        }
+
+        track((CompleteableCommand<?>) command, clock.getAsLong(), ticket);
+        return null;
+    }
+
+    /**
+     * Admit {@code commands} as a whole. Registers completion callbacks to release permits and to record outcomes.
+     *
+     * @param commands the commands.
+     * @return {@code null} if the commands were admitted, otherwise the rejection cause.
+     */
+    public RedisException acquire(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        int count = 0;
+        for (RedisCommand<?, ?, ?> command : commands) {
+            if (command instanceof CompleteableCommand) {
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        }
+
+        int ticket = tryAcquire(count);
+
+        if (ticket < 0) {
+            return rejection(ticket);
+        }
+
+        long start = clock.getAsLong();
+        for (RedisCommand<?, ?, ?> command : commands) {
+            if (command instanceof CompleteableCommand) {
+                track((CompleteableCommand<?>) command, start, ticket);
+            }
+        }
+
+        return null;
+    }
+
+    private void track(CompleteableCommand<?> command, long start, int ticket) {
+        command.onComplete((result, throwable) -> release(clock.getAsLong() - start, throwable, ticket));
+    }
+
+    /**
+     * Acquire {@code permits}. Commands admitted while the circuit is half-open take a trial permit.
+     *
+     * @return the generation of the state in which the permits were acquired or a negative value if the permits were
+     *         rejected.
+     */
+    int tryAcquire(int permits) {
+
+        int updated = inFlight.addAndGet(permits);
+
+        if (updated > limit && updated > permits) {
+
+            inFlight.addAndGet(-permits);
+            return LIMIT_EXCEEDED;
+        }
+
+        // transitions update the state before the generation
+        int admittedIn = generation;
+
+        if (state == State.CLOSED) {
+            return admittedIn;
+        }
+
+        synchronized (this) {
+
+            if (state == State.OPEN) {
+
+                if (clock.getAsLong() - openedAt < waitDurationInOpenState) {
+
+                    inFlight.addAndGet(-permits);
+                    return CIRCUIT_OPEN;
+                }
+
+                transitionTo(State.HALF_OPEN);
+            }
+
+            if (state == State.HALF_OPEN) {
+
+                if (halfOpenPermits < permits) {
+
+                    inFlight.addAndGet(-permits);
+                    return TRIALS_EXHAUSTED;
+                }
+
+                halfOpenPermits -= permits;
+            }
+
+            return generation;
+        }
+    }
+
+    private RedisException rejection(int ticket) {
+
+        switch (ticket) {
+            case LIMIT_EXCEEDED:
+                return new RedisCircuitBreakerException(String.format(
+                        "Concurrency limit of %s exceeded: %d. Commands are not accepted until in-flight commands complete.",
+                        getRemoteAddress(), limit));
+            case CIRCUIT_OPEN:
+                return new RedisCircuitBreakerException(
+                        String.format("Circuit breaker of %s is open. Commands are rejected.", getRemoteAddress()));
+            default:
+                return new RedisCircuitBreakerException(String.format(
+                        "Circuit breaker of %s is half-open and awaits trial commands. Commands are rejected.",
+                        getRemoteAddress()));
+        }
+    }
+
+    /**
+     * Release a permit acquired with {@code ticket}. The outcome is recorded only if the circuit is still in the state in
+     * which the command was admitted so that commands admitted before a transition do not decide on the new state.
+     */
+    void release(long latency, Throwable throwable, int ticket) {
+
+        int current = inFlight.getAndDecrement();
+
+        if (throwable instanceof CancellationException) {
+
+            if (state == State.HALF_OPEN) {
+                synchronized (this) {
+                    if (state == State.HALF_OPEN && generation == ticket) {
+                        // cancelled trial commands do not decide on the state, permit another trial
+                        halfOpenPermits = Math.min(options.getPermittedCallsInHalfOpenState() - halfOpenRecorded,
+                                halfOpenPermits + 1);
+                    }
+                }
+            }
+            return;
+        }
+
+        boolean failure = isFailure(throwable);
+        boolean slow = latency > slowCallThreshold;
+
+        synchronized (this) {
+
+            if (generation == ticket) {
+                if (state == State.HALF_OPEN) {
+                    recordTrial(failure || slow);
+                } else if (state == State.CLOSED) {
+                    record(failure, slow);
+                }
+            }
+
+            if (options.isAdaptiveConcurrency() && !failure) {
+                updateLimit(latency, current);
+            }
+        }
+    }
+
+    private void recordTrial(boolean failure) {
+
+        halfOpenRecorded++;
+
+        if (failure) {
+            halfOpenFailures++;
+        }
+
+        int trials = options.getPermittedCallsInHalfOpenState();
+
+        if (halfOpenFailures >= Math.max(1, Math.ceil(trials * options.getFailureRateThreshold()))) {
+            transitionTo(State.OPEN);
+        } else if (halfOpenRecorded >= trials) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+
+        byte outcome = (byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+
+        if (recorded == outcomes.length) {
+
+            byte evicted = outcomes[position];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+
+        outcomes[position] = outcome;
+        position = (position + 1) % outcomes.length;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (recorded < options.getMinimumNumberOfCalls()) {
+            return;
+        }
+
+        if (getFailureRate() >= options.getFailureRateThreshold()
+                || getSlowCallRate() >= options.getSlowCallRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Update the concurrency limit from the gradient between the long-term and the current latency. The limit grows by
+     * {@code sqrt(limit)} while the gradient is {@code 1} and shrinks proportionally once latency increases. Samples taken
+     * while fewer than half of the permits are used do not update the limit.
+     */
+    private void updateLimit(long latency, int inFlight) {
+
+        double rtt = Math.max(1, latency);
+
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt += (rtt - longRtt) / LONG_WINDOW;
+        }
+
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        newLimit = Math.max(options.getMinConcurrencyLimit(), Math.min(options.getMaxConcurrencyLimit(), newLimit));
+
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+
+    private void transitionTo(State newState) {
+
+        State previous = state;
+
+        if (previous == newState) {
+            return;
+        }
+
+        double failureRate = getFailureRate();
+        double slowCallRate = getSlowCallRate();
+
+        state = newState;
+        generation = (generation + 1) & Integer.MAX_VALUE;
+
+        switch (newState) {
+            case OPEN:
+                openedAt = clock.getAsLong();
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = options.getPermittedCallsInHalfOpenState();
+                halfOpenRecorded = 0;
+                halfOpenFailures = 0;
+                break;
+            case CLOSED:
+                position = 0;
+                recorded = 0;
+                failures = 0;
+                slowCalls = 0;
+                break;
+        }
+
+        SocketAddress address = getRemoteAddress();
+        logger.debug("Circuit breaker of {} ({}) transitioned from {} to {}", address, endpointId, previous, newState);
+
+        if (eventBus != null) {
+            eventBus.publish(
+                    new CircuitBreakerStateChangedEvent(endpointId, address, previous, newState, failureRate, slowCallRate));
+        }
+    }
+
+    private static boolean isFailure(Throwable throwable) {
+
+        if (throwable == null) {
+            return false;
+        }
+
+        if (throwable instanceof RedisBusyException || throwable instanceof RedisLoadingException) {
+            return true;
+        }
+
+        if (throwable instanceof RedisCommandExecutionException) {
+
+            String message = throwable.getMessage();
+            return message != null && (message.startsWith("MASTERDOWN") || message.startsWith("CLUSTERDOWN"));
+        }
+
+        return true;
+    }
+
+    private SocketAddress getRemoteAddress() {
+        return remoteAddress.get();
+    }
+
+    /**
+     * @return {@code true} if the circuit permits commands, i.e. it is closed, half-open or open for longer than the wait
+     *         duration.
+     */
+    public boolean isCallPermitted() {
+
+        State current = state;
+
+        if (current == State.OPEN) {
+
+            synchronized (this) {
+                return state != State.OPEN || clock.getAsLong() - openedAt >= waitDurationInOpenState;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the circuit breaker state.
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return the failure rate within the sliding window.
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : (double) failures / recorded;
+    }
+
+    /**
+     * @return the slow call rate within the sliding window.
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : (double) slowCalls / recorded;
+    }
+
+    /**
+     * @return the number of admitted commands that have not yet completed.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the current concurrency limit. {@link Integer#MAX_VALUE} if adaptive concurrency is disabled.
+     */
+    public int getConcurrencyLimit() {
+        return limit;
+    }
+
+    /**
+     * Circuit breaker state.
+     */
+    public enum State {
+
+        /**
+         * Commands are admitted and their outcome is recorded.
+         */
+        CLOSED,
+
+        /**
+         * Commands are rejected.
+         */
+        OPEN,
+
+        /**
+         * A limited number of trial commands is admitted to decide whether to close or to open the circuit.
+         */
+        HALF_OPEN
+
+    }
+
+}
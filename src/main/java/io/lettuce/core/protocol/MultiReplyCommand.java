@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+/**
+ * Extension to commands that encode multiple Redis commands and therefore receive multiple replies. All replies are decoded
+ * into the same {@link io.lettuce.core.output.CommandOutput} and the command remains on the stack until
+ * {@link #onReply()} signals that the last reply was received.
+ * <p>
+ * Implementations must reset their reply count when being {@link RedisCommand#encode(io.netty.buffer.ByteBuf) encoded} as
+ * commands are encoded again when being retried after a reconnect.
+ *
+ * @since 7.0
+ */
+public interface MultiReplyCommand {
+
+    /**
+     * Notification that a reply was decoded. Called on the event loop.
+     *
+     * @return {@code true} if all replies were received and the command can be completed.
+     */
+    boolean onReply();
+
+}
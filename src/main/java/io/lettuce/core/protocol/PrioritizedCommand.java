@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import io.lettuce.core.CommandPriority;
+
+/**
+ * Command wrapper to associate a {@link CommandPriority} with a command.
+ *
+ * @since 7.0
+ */
+public class PrioritizedCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+    private final CommandPriority priority;
+
+    public PrioritizedCommand(RedisCommand<K, V, T> command, CommandPriority priority) {
+        super(command);
+        this.priority = priority;
+    }
+
+    /**
+     * @return the command priority.
+     */
+    public CommandPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Determine the {@link CommandPriority} of a possibly wrapped command.
+     *
+     * @param command the command.
+     * @return the command priority. {@link CommandPriority#NORMAL} if the command is not prioritized.
+     */
+    public static CommandPriority getPriority(RedisCommand<?, ?, ?> command) {
+
+        if (command instanceof PrioritizedCommand) {
+            return ((PrioritizedCommand<?, ?, ?>) command).getPriority();
+        }
+
+        while (command instanceof CommandWrapper) {
+            command = ((CommandWrapper<?, ?, ?>) command).getDelegate();
+
+            if (command instanceof PrioritizedCommand) {
+                return ((PrioritizedCommand<?, ?, ?>) command).getPriority();
+            }
+        }
+
+        return CommandPriority.NORMAL;
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import io.lettuce.core.CommandPriority;
+import io.lettuce.core.PriorityOptions;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+
+/**
+ * Per-{@link CommandPriority} command queues of an endpoint. Commands are written directly while the channel is writable and
+ * no command of the same or a higher priority is queued. {@link CommandPriority#HIGH} commands are only queued behind other
+ * {@link CommandPriority#HIGH} commands. Queued commands are written on the event loop using deficit round-robin, accounting
+ * for the encoded size of each command, until the channel becomes unwritable.
+ *
+ * @since 7.0
+ * @see PriorityOptions
+ */
+class PriorityLanes {
+
+    private static final CommandPriority[] PRIORITIES = CommandPriority.values();
+
+    private final Queue<RedisCommand<?, ?, ?>>[] lanes;
+
+    private final long[] quanta;
+
+    // accessed only from the event loop
+    private final long[] deficits;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final BiConsumer<Channel, RedisCommand<?, ?, ?>> writer;
+
+    private final Consumer<Channel> flusher;
+
+    /**
+     * @param options the priority options.
+     * @param writer writes a queued command to the channel without flushing.
+     * @param flusher flushes the channel.
+     */
+    @SuppressWarnings("unchecked")
+    PriorityLanes(PriorityOptions options, BiConsumer<Channel, RedisCommand<?, ?, ?>> writer, Consumer<Channel> flusher) {
+
+        this.lanes = new Queue[PRIORITIES.length];
+        this.quanta = new long[PRIORITIES.length];
+        this.deficits = new long[PRIORITIES.length];
+        this.writer = writer;
+        this.flusher = flusher;
+
+        for (CommandPriority priority : PRIORITIES) {
+            lanes[priority.ordinal()] = new ConcurrentLinkedQueue<>();
+            quanta[priority.ordinal()] = (long) options.getWeight(priority) * options.getQuantum();
+        }
+    }
+
+    /**
+     * Queue {@code command} if it cannot be written directly.
+     *
+     * @param channel the channel.
+     * @param command the command.
+     * @return {@code true} if the command was queued; {@code false} if the caller should write the command directly.
+     */
+    boolean offer(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        CommandPriority priority = PrioritizedCommand.getPriority(command);
+
+        if (canWriteDirectly(channel, priority)) {
+            return false;
+        }
+
+        lanes[priority.ordinal()].add(command);
+        scheduleDrain(channel);
+        return true;
+    }
+
+    /**
+     * Queue {@code commands} if they cannot be written directly. Commands are written directly only if no command is queued
+     * and the channel is writable. Queued commands are kept together in the lane of the highest priority among them to retain
+     * their order, e.g. for {@code MULTI}/{@code EXEC} batches.
+     *
+     * @param channel the channel.
+     * @param commands the commands.
+     * @return {@code true} if the commands were queued; {@code false} if the caller should write the commands directly.
+     */
+    boolean offer(Channel channel, Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        if (isEmpty() && channel.isWritable()) {
+            return false;
+        }
+
+        int lane = CommandPriority.LOW.ordinal();
+
+        for (RedisCommand<?, ?, ?> command : commands) {
+            lane = Math.min(lane, PrioritizedCommand.getPriority(command).ordinal());
+        }
+
+        lanes[lane].addAll(commands);
+        scheduleDrain(channel);
+        return true;
+    }
+
+    /**
+     * Notification that {@code channel} became writable.
+     *
+     * @param channel the channel.
+     */
+    void notifyWritable(Channel channel) {
+
+        if (!isEmpty()) {
+            scheduleDrain(channel);
+        }
+    }
+
+    /**
+     * Drain queued commands into {@code target} in priority order.
+     *
+     * @param target the target collection.
+     * @return the number of drained commands.
+     */
+    int drainTo(Collection<RedisCommand<?, ?, ?>> target) {
+
+        int count = 0;
+
+        for (Queue<RedisCommand<?, ?, ?>> lane : lanes) {
+
+            RedisCommand<?, ?, ?> command;
+            while ((command = lane.poll()) != null) {
+                target.add(command);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @return {@code true} if no commands are queued.
+     */
+    boolean isEmpty() {
+
+        for (Queue<RedisCommand<?, ?, ?>> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param priority the priority.
+     * @return number of queued commands with {@code priority}.
+     */
+    int size(CommandPriority priority) {
+        return lanes[priority.ordinal()].size();
+    }
+
+    private boolean canWriteDirectly(Channel channel, CommandPriority priority) {
+
+        for (int i = 0; i <= priority.ordinal(); i++) {
+            if (!lanes[i].isEmpty()) {
+                return false;
+            }
+        }
+
+        return priority == CommandPriority.HIGH || channel.isWritable();
+    }
+
+    private void scheduleDrain(Channel channel) {
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(() -> drain(channel));
+        }
+    }
+
+    void drain(Channel channel) {
+
+        drainScheduled.set(false);
+
+        if (!channel.isActive()) {
+            // keep commands queued, the endpoint picks them up on reconnect
+            return;
+        }
+
+        boolean written = false;
+
+        while (!isEmpty()) {
+
+            boolean writable = channel.isWritable();
+
+            if (!writable && lanes[CommandPriority.HIGH.ordinal()].isEmpty()) {
+                break;
+            }
+
+            for (CommandPriority priority : PRIORITIES) {
+
+                int index = priority.ordinal();
+                Queue<RedisCommand<?, ?, ?>> lane = lanes[index];
+
+                if (lane.isEmpty()) {
+                    deficits[index] = 0;
+                    continue;
+                }
+
+                if (priority != CommandPriority.HIGH && !channel.isWritable()) {
+                    continue;
+                }
+
+                deficits[index] += quanta[index];
+
+                while (deficits[index] > 0 && (priority == CommandPriority.HIGH || channel.isWritable())) {
+
+                    RedisCommand<?, ?, ?> command = lane.poll();
+
+                    if (command == null) {
+                        deficits[index] = 0;
+                        break;
+                    }
+
+                    long pending = getPendingBytes(channel);
+                    writer.accept(channel, command);
+                    written = true;
+
+                    deficits[index] -= Math.max(1, getPendingBytes(channel) - pending);
+                }
+            }
+        }
+
+        if (written) {
+            flusher.accept(channel);
+        }
+    }
+
+    private static long getPendingBytes(Channel channel) {
+
+        ChannelOutboundBuffer buffer = channel.unsafe().outboundBuffer();
+        return buffer != null ? buffer.totalPendingWriteBytes() : 0;
+    }
+
+}
@@ -22,7 +22,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Consumer;
 
-import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.internal.DoubleParser;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -252,6 +252,8 @@ public class RedisStateMachine {
 
     private final Resp2LongProcessor longProcessor = new Resp2LongProcessor();
 
+    private final DoubleParser doubleParser = new DoubleParser();
+
     private ProtocolVersion protocolVersion = null;
 
     private int stackElements;
@@ -642,12 +644,11 @@ public class RedisStateMachine {
 
     private double readFloat(ByteBuf buffer, int start, int end) {
 
-        int valueLength = end - start;
-        String value = buffer.toString(start, valueLength, StandardCharsets.US_ASCII);
+        double value = doubleParser.parse(buffer, start, end);
 
-        buffer.skipBytes(valueLength + TERMINATOR_LENGTH);
+        buffer.skipBytes(end - start + TERMINATOR_LENGTH);
 
-        return LettuceStrings.toDouble(value);
+        return value;
     }
 
     private boolean readBoolean(ByteBuf buffer) {
@@ -82,6 +82,17 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         this.output = new PubSubOutput<>(codec);
     }
 
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+
+        // decoding re-enables auto-read, suspend reading again while listeners cannot keep up
+        if (endpoint.isBackpressureActive() && ctx.channel().config().isAutoRead()) {
+            ctx.channel().config().setAutoRead(false);
+        }
+
+        super.channelReadComplete(ctx);
+    }
+
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
 
@@ -323,11 +334,29 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         @Override
         public void multi(int count) {
 
+            captureMultiCount(count);
+            super.multi(count);
+        }
+
+        @Override
+        public void multiArray(int count) {
+
+            captureMultiCount(count);
+            super.multiArray(count);
+        }
+
+        @Override
+        public void multiPush(int count) {
+
+            captureMultiCount(count);
+            super.multiPush(count);
+        }
+
+        private void captureMultiCount(int count) {
+
             if (multiCount == null) {
                 multiCount = count;
             }
-
-            super.multi(count);
         }
 
     }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+/**
+ * Statistics of Pub/Sub message dispatching configured through {@link io.lettuce.core.PubSubDispatchOptions}. All values are
+ * zero if messages are delivered on the I/O thread.
+ *
+ * @since 7.0
+ * @see StatefulRedisPubSubConnection#getDispatchStatistics()
+ */
+public interface PubSubDispatchStatistics {
+
+    /**
+     * @return the number of messages queued for delivery across all channels and patterns.
+     */
+    int getQueuedMessages();
+
+    /**
+     * @return the largest number of messages that were queued for a single channel or pattern.
+     */
+    int getMaxQueueDepth();
+
+    /**
+     * @return the number of discarded messages due to {@link io.lettuce.core.PubSubDispatchOptions.OverflowPolicy#DROP_OLDEST}
+     *         or {@link io.lettuce.core.PubSubDispatchOptions.OverflowPolicy#DROP_NEWEST}.
+     */
+    long getDroppedMessages();
+
+    /**
+     * @return {@code true} if reading from the connection is currently suspended due to
+     *         {@link io.lettuce.core.PubSubDispatchOptions.OverflowPolicy#BACKPRESSURE}.
+     */
+    boolean isBackpressureActive();
+
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ConnectionState;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
@@ -58,6 +59,8 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
     private ConnectionState connectionState;
 
+    private final PubSubMessageDispatcher<K, V> dispatcher;
+
     static {
 
         ALLOWED_COMMANDS_SUBSCRIBED = new HashSet<>(6, 1);
@@ -87,6 +90,16 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
         this.channels = ConcurrentHashMap.newKeySet();
         this.patterns = ConcurrentHashMap.newKeySet();
+
+        PubSubDispatchOptions dispatchOptions = clientOptions.getPubSubDispatchOptions();
+
+        if (dispatchOptions != null && dispatchOptions.isEnabled()) {
+            this.dispatcher = new PubSubMessageDispatcher<>(dispatchOptions,
+                    dispatchOptions.getExecutor() != null ? dispatchOptions.getExecutor() : clientResources.eventExecutorGroup(),
+                    this::doNotifyListeners, new ChannelReadControl());
+        } else {
+            this.dispatcher = null;
+        }
     }
 
     /**
@@ -127,6 +140,23 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         return unwrap(this.patterns);
     }
 
+    /**
+     * @return statistics of message dispatching.
+     * @since 7.0
+     */
+    public PubSubDispatchStatistics getDispatchStatistics() {
+        return dispatcher != null ? dispatcher : NoDispatchStatistics.INSTANCE;
+    }
+
+    /**
+     * @return {@code true} if reading from the connection should be suspended because listeners cannot keep up with incoming
+     *         messages.
+     * @since 7.0
+     */
+    boolean isBackpressureActive() {
+        return dispatcher != null && dispatcher.isBackpressureActive();
+    }
+
     @Override
     public void notifyChannelActive(Channel channel) {
         subscribeWritten = false;
@@ -224,6 +254,15 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         }
 
         updateInternalState(message);
+
+        if (dispatcher != null) {
+            dispatcher.dispatch(message);
+        } else {
+            doNotifyListeners(message);
+        }
+    }
+
+    private void doNotifyListeners(PubSubMessage<K, V> message) {
         try {
             notifyListeners(message);
         } catch (Exception e) {
@@ -290,6 +329,61 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         return result;
     }
 
+    /**
+     * {@link PubSubMessageDispatcher.ReadControl} toggling auto-read of the current channel on its event loop.
+     */
+    class ChannelReadControl implements PubSubMessageDispatcher.ReadControl {
+
+        @Override
+        public void suspend() {
+
+            Channel channel = PubSubEndpoint.this.channel;
+            if (channel != null) {
+                channel.config().setAutoRead(false);
+            }
+        }
+
+        @Override
+        public void resume() {
+
+            Channel channel = PubSubEndpoint.this.channel;
+            if (channel != null) {
+                channel.eventLoop().execute(() -> {
+                    if (!isBackpressureActive()) {
+                        channel.config().setAutoRead(true);
+                    }
+                });
+            }
+        }
+
+    }
+
+    enum NoDispatchStatistics implements PubSubDispatchStatistics {
+
+        INSTANCE;
+
+        @Override
+        public int getQueuedMessages() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxQueueDepth() {
+            return 0;
+        }
+
+        @Override
+        public long getDroppedMessages() {
+            return 0;
+        }
+
+        @Override
+        public boolean isBackpressureActive() {
+            return false;
+        }
+
+    }
+
     /**
      * Comparison/equality wrapper with specific {@code byte[]} equals and hashCode implementations.
      *
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Dispatcher delivering Pub/Sub messages on an {@link Executor}. Each channel (pattern for pattern subscriptions) has its own
+ * bounded queue that is drained by at most one task at a time to retain message order per channel. Queues of different
+ * channels are drained concurrently.
+ * <p>
+ * Messages are enqueued from the I/O thread. Backpressure is signalled through {@link ReadControl} so the endpoint can suspend
+ * reading from the connection.
+ *
+ * @since 7.0
+ */
+class PubSubMessageDispatcher<K, V> implements PubSubDispatchStatistics {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubMessageDispatcher.class);
+
+    /**
+     * Maximum number of messages delivered by a single task before yielding to other channels.
+     */
+    static final int DRAIN_BATCH_SIZE = 64;
+
+    private final Executor executor;
+
+    private final int capacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Consumer<PubSubMessage<K, V>> delivery;
+
+    private final ReadControl readControl;
+
+    private final ConcurrentMap<PubSubEndpoint.Wrapper<K>, ChannelQueue> queues = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicInteger saturatedQueues = new AtomicInteger();
+
+    PubSubMessageDispatcher(PubSubDispatchOptions options, Executor executor, Consumer<PubSubMessage<K, V>> delivery,
+            ReadControl readControl) {
+
+        this.executor = executor;
+        this.capacity = options.getQueueCapacity();
+        this.overflowPolicy = options.getOverflowPolicy();
+        this.delivery = delivery;
+        this.readControl = readControl;
+    }
+
+    /**
+     * Enqueue a message for delivery.
+     *
+     * @param message the message.
+     */
+    void dispatch(PubSubMessage<K, V> message) {
+
+        PubSubEndpoint.Wrapper<K> key = new PubSubEndpoint.Wrapper<>(
+                message.pattern() != null ? message.pattern() : message.channel());
+
+        for (;;) {
+
+            ChannelQueue queue = queues.computeIfAbsent(key, ChannelQueue::new);
+            boolean schedule;
+
+            synchronized (queue) {
+
+                if (queue.retired) {
+                    continue;
+                }
+
+                if (queue.messages.size() >= capacity && !makeRoom(queue)) {
+                    return;
+                }
+
+                queue.messages.add(message);
+                queued.incrementAndGet();
+                updateMaxQueueDepth(queue.messages.size());
+
+                schedule = !queue.scheduled;
+                queue.scheduled = true;
+            }
+
+            if (schedule) {
+                schedule(queue);
+            }
+
+            return;
+        }
+    }
+
+    /**
+     * Apply the {@link OverflowPolicy} to a full queue.
+     *
+     * @return {@code true} if the new message should be enqueued.
+     */
+    private boolean makeRoom(ChannelQueue queue) {
+
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                dropped.incrementAndGet();
+                return false;
+            case DROP_OLDEST:
+                queue.messages.poll();
+                queued.decrementAndGet();
+                dropped.incrementAndGet();
+                return true;
+            default:
+                if (!queue.saturated) {
+                    queue.saturated = true;
+                    if (saturatedQueues.getAndIncrement() == 0) {
+                        readControl.suspend();
+                    }
+                }
+                return true;
+        }
+    }
+
+    private void updateMaxQueueDepth(int depth) {
+
+        int max;
+        while (depth > (max = maxQueueDepth.get())) {
+            if (maxQueueDepth.compareAndSet(max, depth)) {
+                return;
+            }
+        }
+    }
+
+    private void schedule(ChannelQueue queue) {
+
+        try {
+            executor.execute(queue);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Pub/Sub dispatch executor rejected task, delivering messages on the calling thread", e);
+            queue.run();
+        }
+    }
+
+    @Override
+    public int getQueuedMessages() {
+        return queued.get();
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    @Override
+    public long getDroppedMessages() {
+        return dropped.get();
+    }
+
+    @Override
+    public boolean isBackpressureActive() {
+        return saturatedQueues.get() > 0;
+    }
+
+    /**
+     * Callback to suspend and resume reading from the connection.
+     */
+    interface ReadControl {
+
+        /**
+         * Suspend reading. Called from the thread that enqueues messages.
+         */
+        void suspend();
+
+        /**
+         * Resume reading. Can be called from any thread.
+         */
+        void resume();
+
+    }
+
+    /**
+     * Queue of a single channel or pattern. Drained by one task at a time.
+     */
+    class ChannelQueue implements Runnable {
+
+        private final PubSubEndpoint.Wrapper<K> key;
+
+        private final ArrayDeque<PubSubMessage<K, V>> messages = new ArrayDeque<>();
+
+        private boolean scheduled;
+
+        private boolean saturated;
+
+        private boolean retired;
+
+        ChannelQueue(PubSubEndpoint.Wrapper<K> key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+
+            for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+
+                PubSubMessage<K, V> message;
+
+                synchronized (this) {
+
+                    message = messages.poll();
+
+                    if (message == null) {
+                        scheduled = false;
+                        retired = true;
+                        queues.remove(key, this);
+                        return;
+                    }
+
+                    queued.decrementAndGet();
+
+                    if (saturated && messages.size() <= capacity / 2) {
+                        saturated = false;
+                        if (saturatedQueues.decrementAndGet() == 0) {
+                            readControl.resume();
+                        }
+                    }
+                }
+
+                try {
+                    delivery.accept(message);
+                } catch (Exception e) {
+                    logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+                }
+            }
+
+            // yield to other channels sharing the executor
+            schedule(this);
+        }
+
+    }
+
+}
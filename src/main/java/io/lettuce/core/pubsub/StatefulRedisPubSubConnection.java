@@ -72,4 +72,12 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
      */
     void removeListener(RedisPubSubListener<K, V> listener);
 
+    /**
+     * Returns statistics of message dispatching if {@link io.lettuce.core.PubSubDispatchOptions} are enabled.
+     *
+     * @return the {@link PubSubDispatchStatistics}.
+     * @since 7.0
+     */
+    PubSubDispatchStatistics getDispatchStatistics();
+
 }
@@ -83,6 +83,11 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         endpoint.removeListener(listener);
     }
 
+    @Override
+    public PubSubDispatchStatistics getDispatchStatistics() {
+        return endpoint.getDispatchStatistics();
+    }
+
     @Override
     public RedisPubSubAsyncCommands<K, V> async() {
         return (RedisPubSubAsyncCommands<K, V>) async;
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.LettuceClassUtils;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Caching {@link DnsResolver} performing lookups asynchronously. Resolved addresses are cached according to the record TTL
+ * (bounded by {@link Builder#minTtl(Duration)} and {@link Builder#maxTtl(Duration)}), failed lookups are cached for
+ * {@link Builder#negativeTtl(Duration)}. Expired entries are served for up to {@link Builder#staleTtl(Duration)} while a
+ * background lookup refreshes them (stale-while-revalidate), so only the very first resolution of a host waits for DNS.
+ * Concurrent lookups for the same host are coalesced into a single query.
+ * <p>
+ * Lookups use netty's non-blocking {@code DnsNameResolver} if {@literal netty-resolver-dns} is available. Otherwise, lookups
+ * use the JVM resolver on a dedicated thread with {@link Builder#maxTtl(Duration)} as TTL. The resolver holds a thread that is
+ * released by {@link #close()}.
+ * <p>
+ * Register the resolver through {@link ClientResources.Builder#socketAddressResolver(SocketAddressResolver)}, either with
+ * {@link SocketAddressResolver#create(DnsResolver)} or {@link MappingSocketAddressResolver#create(DnsResolver,
+ * java.util.function.Function)}.
+ *
+ * @since 7.0
+ */
+public class CachingDnsResolver implements DnsResolver, Closeable {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(CachingDnsResolver.class);
+
+    private static final boolean NETTY_DNS_AVAILABLE = LettuceClassUtils.isPresent("io.netty.resolver.dns.DnsNameResolver");
+
+    public static final Duration DEFAULT_MIN_TTL = Duration.ZERO;
+
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(5);
+
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+
+    public static final Duration DEFAULT_STALE_TTL = Duration.ofMinutes(1);
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Entry>> inflight = new ConcurrentHashMap<>();
+
+    private final Lookup lookup;
+
+    private final LongSupplier clock;
+
+    private final long minTtl;
+
+    private final long maxTtl;
+
+    private final long negativeTtl;
+
+    private final long staleTtl;
+
+    private final Duration timeout;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder staleHits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder refreshes = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    CachingDnsResolver(Builder builder, Lookup lookup, LongSupplier clock) {
+
+        this.lookup = lookup;
+        this.clock = clock;
+        this.minTtl = builder.minTtl.toNanos();
+        this.maxTtl = builder.maxTtl.toNanos();
+        this.negativeTtl = builder.negativeTtl.toNanos();
+        this.staleTtl = builder.staleTtl.toNanos();
+        this.timeout = builder.timeout;
+    }
+
+    /**
+     * Create a new {@link CachingDnsResolver} using default settings.
+     *
+     * @return a new {@link CachingDnsResolver}.
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new {@link CachingDnsResolver.Builder} to construct {@link CachingDnsResolver}.
+     *
+     * @return a new {@link CachingDnsResolver.Builder}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+
+        LettuceAssert.notNull(host, "Host must not be null");
+
+        long now = clock.getAsLong();
+        Entry entry = cache.get(host);
+
+        if (entry != null) {
+
+            if (now - entry.expiresAt < 0) {
+                hits.increment();
+                return entry.get(host);
+            }
+
+            if (entry.isResolved() && now - entry.expiresAt - staleTtl < 0) {
+                staleHits.increment();
+                refreshes.increment();
+                lookup(host);
+                return entry.get(host);
+            }
+        }
+
+        misses.increment();
+
+        try {
+            return lookup(host).get(timeout.toNanos(), TimeUnit.NANOSECONDS).get(host);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unknownHost(host, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw unknownHost(host, e);
+        }
+    }
+
+    private CompletableFuture<Entry> lookup(String host) {
+
+        CompletableFuture<Entry> pending = inflight.get(host);
+
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        pending = inflight.putIfAbsent(host, future);
+
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletionStage<Resolution> resolution;
+        try {
+            resolution = lookup.lookup(host);
+        } catch (RuntimeException e) {
+            CompletableFuture<Resolution> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            resolution = failed;
+        }
+
+        resolution.whenComplete((result, throwable) -> {
+
+            long now = clock.getAsLong();
+            Entry entry;
+
+            if (throwable != null || result.addresses.length == 0) {
+
+                failures.increment();
+                Entry previous = cache.get(host);
+
+                // keep serving stale addresses when a refresh fails
+                if (previous != null && previous.isResolved() && now - previous.expiresAt - staleTtl < 0) {
+                    entry = previous;
+                } else {
+                    entry = new Entry(null, now + negativeTtl);
+                    cache.put(host, entry);
+                }
+
+                if (throwable != null) {
+                    logger.debug("Cannot resolve {}: {}", host, throwable.toString());
+                }
+            } else {
+
+                long ttl = Math.min(Math.max(result.ttl.toNanos(), minTtl), maxTtl);
+                entry = new Entry(result.addresses, now + ttl);
+                cache.put(host, entry);
+            }
+
+            inflight.remove(host, future);
+            future.complete(entry);
+        });
+
+        return future;
+    }
+
+    private static UnknownHostException unknownHost(String host, Exception cause) {
+
+        UnknownHostException exception = new UnknownHostException(host);
+        exception.initCause(cause instanceof ExecutionException ? cause.getCause() : cause);
+        return exception;
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return number of lookups answered from a valid cache entry.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups answered from an expired cache entry while refreshing it in the background.
+     */
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return number of lookups that had to await a DNS query.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of background refreshes.
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return number of failed DNS queries.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return number of cached hosts including negative entries.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void close() {
+        lookup.close();
+    }
+
+    /**
+     * Builder for {@link CachingDnsResolver}.
+     */
+    public static class Builder {
+
+        private Duration minTtl = DEFAULT_MIN_TTL;
+
+        private Duration maxTtl = DEFAULT_MAX_TTL;
+
+        private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+
+        private Duration staleTtl = DEFAULT_STALE_TTL;
+
+        private Duration timeout = DEFAULT_TIMEOUT;
+
+        private Builder() {
+        }
+
+        /**
+         * Minimum time to cache resolved addresses regardless of the record TTL. Defaults to {@link Duration#ZERO}. See
+         * {@link #DEFAULT_MIN_TTL}.
+         *
+         * @param minTtl the minimum TTL, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder minTtl(Duration minTtl) {
+
+            assertNotNegative(minTtl, "Minimum TTL");
+
+            this.minTtl = minTtl;
+            return this;
+        }
+
+        /**
+         * Maximum time to cache resolved addresses regardless of the record TTL. Defaults to 5 minutes. See
+         * {@link #DEFAULT_MAX_TTL}.
+         *
+         * @param maxTtl the maximum TTL, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder maxTtl(Duration maxTtl) {
+
+            assertNotNegative(maxTtl, "Maximum TTL");
+
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * Time to cache failed lookups. Defaults to 5 seconds. See {@link #DEFAULT_NEGATIVE_TTL}.
+         *
+         * @param negativeTtl the negative TTL, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+
+            assertNotNegative(negativeTtl, "Negative TTL");
+
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Time to serve expired addresses while refreshing them in the background. {@link Duration#ZERO} disables
+         * stale-while-revalidate. Defaults to 1 minute. See {@link #DEFAULT_STALE_TTL}.
+         *
+         * @param staleTtl the stale TTL, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder staleTtl(Duration staleTtl) {
+
+            assertNotNegative(staleTtl, "Stale TTL");
+
+            this.staleTtl = staleTtl;
+            return this;
+        }
+
+        /**
+         * Maximum time to wait for a lookup of a host that is not cached. Defaults to 5 seconds. See {@link #DEFAULT_TIMEOUT}.
+         *
+         * @param timeout the lookup timeout, must not be {@code null} or negative.
+         * @return {@code this}
+         */
+        public Builder timeout(Duration timeout) {
+
+            assertNotNegative(timeout, "Timeout");
+
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @return a new instance of {@link CachingDnsResolver}.
+         */
+        public CachingDnsResolver build() {
+
+            Lookup lookup = NETTY_DNS_AVAILABLE ? NettyDnsLookupFactory.create(timeout, maxTtl) : new JvmDnsLookup(maxTtl);
+
+            return new CachingDnsResolver(this, lookup, System::nanoTime);
+        }
+
+        private static void assertNotNegative(Duration duration, String name) {
+
+            LettuceAssert.notNull(duration, name + " must not be null");
+            LettuceAssert.isTrue(!duration.isNegative(), name + " must not be negative");
+        }
+
+    }
+
+    /**
+     * Asynchronous lookup of host addresses.
+     */
+    interface Lookup extends Closeable {
+
+        CompletionStage<Resolution> lookup(String host);
+
+        @Override
+        default void close() {
+        }
+
+    }
+
+    /**
+     * Resolved addresses along with their time to live.
+     */
+    static class Resolution {
+
+        final InetAddress[] addresses;
+
+        final Duration ttl;
+
+        Resolution(List<InetAddress> addresses, Duration ttl) {
+            this.addresses = addresses.toArray(new InetAddress[0]);
+            this.ttl = ttl;
+        }
+
+    }
+
+    static class Entry {
+
+        private final InetAddress[] addresses;
+
+        private final long expiresAt;
+
+        Entry(InetAddress[] addresses, long expiresAt) {
+            this.addresses = addresses;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isResolved() {
+            return addresses != null;
+        }
+
+        InetAddress[] get(String host) throws UnknownHostException {
+
+            if (addresses == null) {
+                throw new UnknownHostException(host);
+            }
+
+            return addresses.clone();
+        }
+
+    }
+
+    // Wraps NettyDnsLookup to avoid NoClassDefFoundError.
+    private static class NettyDnsLookupFactory {
+
+        static Lookup create(Duration timeout, Duration defaultTtl) {
+            return new NettyDnsLookup(timeout, defaultTtl);
+        }
+
+    }
+
+}
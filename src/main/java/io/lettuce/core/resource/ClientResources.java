@@ -23,6 +23,7 @@ import io.lettuce.core.event.EventPublisherOptions;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.metrics.CommandLatencyCollectorOptions;
 import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.EndpointMetricsRecorder;
 import io.lettuce.core.tracing.Tracing;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.Timer;
@@ -40,10 +41,12 @@ import io.netty.util.concurrent.Future;
  * <li>{@link AddressResolverGroup} for DNS resolution.</li>
  * <li>{@link CommandLatencyRecorder} to collect latency details. Enabled using
  * {@link io.lettuce.core.metrics.DefaultCommandLatencyCollector} when {@literal HdrHistogram} is on the classpath.</li>
+ * <li>{@link EndpointMetricsRecorder} to observe queue depths and in-flight commands of connections.</li>
  * <li>{@link EventBus} for client event dispatching</li>
  * <li>{@link EventLoopGroupProvider} to obtain particular {@link io.netty.channel.EventLoopGroup EventLoopGroups}</li>
  * <li>{@link EventExecutorGroup} to perform internal computation tasks</li>
  * <li>Reconnect {@link Delay}.</li>
+ * <li>{@link ReconnectLimiter} to limit the rate of reconnect attempts across all connections.</li>
  * <li>{@link SocketAddressResolver} for to map/resolve DNS addresses to a {@link java.net.InetSocketAddress}.</li>
  * <li>{@link Timer} for scheduling</li>
  * <li>{@link Tracing} to trace Redis commands.</li>
@@ -126,6 +129,16 @@ public interface ClientResources {
          */
         Builder commandLatencyRecorder(CommandLatencyRecorder latencyRecorder);
 
+        /**
+         * Sets the {@link EndpointMetricsRecorder} to observe queue depths, in-flight commands and transport state of
+         * connections. Disabled by default.
+         *
+         * @param endpointMetricsRecorder the endpoint metrics recorder, must not be {@code null}.
+         * @return {@code this} {@link Builder}.
+         * @since 7.0
+         */
+        Builder endpointMetricsRecorder(EndpointMetricsRecorder endpointMetricsRecorder);
+
         /**
          * Sets the {@link CommandLatencyCollectorOptions} that can be used across different instances of the RedisClient. The
          * options are only effective if no {@code commandLatencyCollector} is provided.
@@ -238,6 +251,16 @@ public interface ClientResources {
          */
         Builder reconnectDelay(Supplier<Delay> reconnectDelay);
 
+        /**
+         * Sets the {@link ReconnectLimiter} that admits reconnect attempts of all connections using these resources. Defaults
+         * to {@link ReconnectLimiter#unlimited()}.
+         *
+         * @param reconnectLimiter the reconnect limiter, must not be {@code null}.
+         * @return this
+         * @since 7.0
+         */
+        Builder reconnectLimiter(ReconnectLimiter reconnectLimiter);
+
         /**
          * Sets the {@link SocketAddressResolver} that is used to resolve {@link io.lettuce.core.RedisURI} to
          * {@link java.net.SocketAddress}. Defaults to {@link SocketAddressResolver} using the configured {@link DnsResolver}.
@@ -345,6 +368,14 @@ public interface ClientResources {
      */
     CommandLatencyRecorder commandLatencyRecorder();
 
+    /**
+     * Return the {@link EndpointMetricsRecorder}.
+     *
+     * @return the endpoint metrics recorder.
+     * @since 7.0
+     */
+    EndpointMetricsRecorder endpointMetricsRecorder();
+
     /**
      * Return the pool size (number of threads) for all computation tasks.
      *
@@ -412,6 +443,14 @@ public interface ClientResources {
      */
     Delay reconnectDelay();
 
+    /**
+     * Return the {@link ReconnectLimiter} shared by all connections.
+     *
+     * @return the {@link ReconnectLimiter}.
+     * @since 7.0
+     */
+    ReconnectLimiter reconnectLimiter();
+
     /**
      * Return the {@link SocketAddressResolver}.
      *
@@ -29,6 +29,7 @@ import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.metrics.CommandLatencyCollectorOptions;
 import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.EndpointMetricsRecorder;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
 import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
 import io.lettuce.core.metrics.MetricCollector;
@@ -149,6 +150,8 @@ public class DefaultClientResources implements ClientResources {
 
     private final Supplier<Delay> reconnectDelay;
 
+    private final ReconnectLimiter reconnectLimiter;
+
     private final SocketAddressResolver socketAddressResolver;
 
     private final ThreadFactoryProvider threadFactoryProvider;
@@ -159,6 +162,8 @@ public class DefaultClientResources implements ClientResources {
 
     private final Tracing tracing;
 
+    private final EndpointMetricsRecorder endpointMetricsRecorder;
+
     private volatile boolean shutdownCalled = false;
 
     private volatile boolean shutdownCheck = true;
@@ -258,8 +263,10 @@ public class DefaultClientResources implements ClientResources {
         }
 
         reconnectDelay = builder.reconnectDelay;
+        reconnectLimiter = builder.reconnectLimiter;
         nettyCustomizer = builder.nettyCustomizer;
         tracing = builder.tracing;
+        endpointMetricsRecorder = builder.endpointMetricsRecorder;
 
         if (!sharedTimer && timer instanceof HashedWheelTimer) {
             ((HashedWheelTimer) timer).start();
@@ -319,6 +326,8 @@ public class DefaultClientResources implements ClientResources {
 
         private Supplier<Delay> reconnectDelay = DEFAULT_RECONNECT_DELAY;
 
+        private ReconnectLimiter reconnectLimiter = ReconnectLimiter.unlimited();
+
         private boolean sharedTimer;
 
         private ThreadFactoryProvider threadFactoryProvider = DefaultThreadFactoryProvider.INSTANCE;
@@ -327,6 +336,8 @@ public class DefaultClientResources implements ClientResources {
 
         private Tracing tracing = Tracing.disabled();
 
+        private EndpointMetricsRecorder endpointMetricsRecorder = EndpointMetricsRecorder.disabled();
+
         private AddressResolverGroup<?> addressResolverGroup = DEFAULT_ADDRESS_RESOLVER_GROUP;
 
         private Runnable afterBuild;
@@ -572,6 +583,23 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link ReconnectLimiter} that admits reconnect attempts of all connections using these resources. Defaults
+         * to {@link ReconnectLimiter#unlimited()}.
+         *
+         * @param reconnectLimiter the reconnect limiter, must not be {@code null}.
+         * @return this
+         * @since 7.0
+         */
+        @Override
+        public Builder reconnectLimiter(ReconnectLimiter reconnectLimiter) {
+
+            LettuceAssert.notNull(reconnectLimiter, "ReconnectLimiter must not be null");
+
+            this.reconnectLimiter = reconnectLimiter;
+            return this;
+        }
+
         /**
          * Sets the {@link SocketAddressResolver} that is used to resolve {@link io.lettuce.core.RedisURI} to
          * {@link java.net.SocketAddress}. Defaults to {@link SocketAddressResolver} using the configured {@link DnsResolver}.
@@ -649,6 +677,23 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link EndpointMetricsRecorder} to observe queue depths, in-flight commands and transport state of
+         * connections. Disabled by default.
+         *
+         * @param endpointMetricsRecorder the endpoint metrics recorder, must not be {@code null}.
+         * @return this
+         * @since 7.0
+         */
+        @Override
+        public Builder endpointMetricsRecorder(EndpointMetricsRecorder endpointMetricsRecorder) {
+
+            LettuceAssert.notNull(endpointMetricsRecorder, "EndpointMetricsRecorder must not be null");
+
+            this.endpointMetricsRecorder = endpointMetricsRecorder;
+            return this;
+        }
+
         /**
          * @return a new instance of {@link DefaultClientResources}.
          */
@@ -689,9 +734,11 @@ public class DefaultClientResources implements ClientResources {
         builder.afterBuild(() -> this.shutdownCheck = false).commandLatencyRecorder(commandLatencyRecorder())
                 .commandLatencyPublisherOptions(commandLatencyPublisherOptions()).dnsResolver(dnsResolver())
                 .eventBus(eventBus()).eventExecutorGroup(eventExecutorGroup()).reconnectDelay(reconnectDelay)
+                .reconnectLimiter(reconnectLimiter())
                 .socketAddressResolver(socketAddressResolver()).nettyCustomizer(nettyCustomizer())
                 .threadFactoryProvider(threadFactoryProvider).timer(timer())
-                .tracing(tracing()).addressResolverGroup(addressResolverGroup());
+                .tracing(tracing()).addressResolverGroup(addressResolverGroup())
+                .endpointMetricsRecorder(endpointMetricsRecorder());
 
         builder.sharedCommandLatencyCollector = sharedEventLoopGroupProvider;
         builder.sharedEventExecutor = sharedEventExecutor;
@@ -815,6 +862,11 @@ public class DefaultClientResources implements ClientResources {
         return reconnectDelay.get();
     }
 
+    @Override
+    public ReconnectLimiter reconnectLimiter() {
+        return reconnectLimiter;
+    }
+
     @Override
     public SocketAddressResolver socketAddressResolver() {
         return socketAddressResolver;
@@ -830,6 +882,11 @@ public class DefaultClientResources implements ClientResources {
         return tracing;
     }
 
+    @Override
+    public EndpointMetricsRecorder endpointMetricsRecorder() {
+        return endpointMetricsRecorder;
+    }
+
     @Override
     public AddressResolverGroup<?> addressResolverGroup() {
         return addressResolverGroup;
@@ -18,19 +18,23 @@ package io.lettuce.core.resource;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SelectStrategy;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.IntSupplier;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.SystemPropertyUtil;
 import io.netty.util.internal.logging.InternalLogger;
@@ -39,6 +43,9 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 /**
  * Wraps and provides Epoll classes. This is to protect the user from {@link ClassNotFoundException}'s caused by the absence of
  * the {@literal netty-transport-native-epoll} library during runtime. Internal API.
+ * <p>
+ * Event loops busy-wait for I/O events instead of blocking in {@code epoll_wait} when setting the
+ * {@code io.lettuce.core.epoll.busyWait} system property to {@code true}.
  *
  * @author Mark Paluch
  * @author Yohei Ueki
@@ -52,6 +59,10 @@ public class EpollProvider {
 
     private static final boolean EPOLL_ENABLED = Boolean.parseBoolean(SystemPropertyUtil.get(EPOLL_ENABLED_KEY, "true"));
 
+    private static final String EPOLL_BUSY_WAIT_KEY = "io.lettuce.core.epoll.busyWait";
+
+    private static final boolean EPOLL_BUSY_WAIT = Boolean.parseBoolean(SystemPropertyUtil.get(EPOLL_BUSY_WAIT_KEY, "false"));
+
     private static final boolean EPOLL_AVAILABLE;
 
     private static final EventLoopResources EPOLL_RESOURCES;
@@ -129,6 +140,33 @@ public class EpollProvider {
         bootstrap.option(EpollChannelOption.TCP_USER_TIMEOUT, Math.toIntExact(timeout.toMillis()));
     }
 
+    /**
+     * Apply busy-poll ({@code SO_BUSY_POLL}) options.
+     *
+     * @since 7.0
+     */
+    public static void applyBusyPoll(Bootstrap bootstrap, Duration busyPoll) {
+        bootstrap.option(EpollChannelOption.SO_BUSY_POLL, Math.toIntExact(TimeUnit.NANOSECONDS.toMicros(busyPoll.toNanos())));
+    }
+
+    /**
+     * Apply TCP quick ACK ({@code TCP_QUICKACK}) options.
+     *
+     * @since 7.0
+     */
+    public static void applyTcpQuickAck(Bootstrap bootstrap, boolean tcpQuickAck) {
+        bootstrap.option(EpollChannelOption.TCP_QUICKACK, tcpQuickAck);
+    }
+
+    /**
+     * Apply the epoll trigger mode.
+     *
+     * @since 7.0
+     */
+    public static void applyEdgeTriggered(Bootstrap bootstrap, boolean edgeTriggered) {
+        bootstrap.option(EpollChannelOption.EPOLL_MODE, edgeTriggered ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED);
+    }
+
     /**
      * {@link EventLoopResources} for available Epoll.
      */
@@ -151,6 +189,11 @@ public class EpollProvider {
 
         @Override
         public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+
+            if (EPOLL_BUSY_WAIT) {
+                return new EpollEventLoopGroup(nThreads, threadFactory, () -> BusyWaitSelectStrategy.INSTANCE);
+            }
+
             return new EpollEventLoopGroup(nThreads, threadFactory);
         }
 
@@ -176,4 +219,19 @@ public class EpollProvider {
 
     }
 
+    /**
+     * {@link SelectStrategy} that busy-waits for I/O events instead of blocking in {@code epoll_wait}. Each event loop thread
+     * occupies a CPU core.
+     */
+    enum BusyWaitSelectStrategy implements SelectStrategy {
+
+        INSTANCE;
+
+        @Override
+        public int calculateStrategy(IntSupplier selectSupplier, boolean hasTasks) throws Exception {
+            return hasTasks ? selectSupplier.get() : SelectStrategy.BUSY_WAIT;
+        }
+
+    }
+
 }
@@ -38,6 +38,10 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 /**
  * Wraps and provides io_uring classes. This is to protect the user from {@link ClassNotFoundException}'s caused by the absence
  * of the {@literal netty-incubator-transport-native-io_uring} library during runtime. Internal API.
+ * <p>
+ * The submission queue ring size and the threshold of pending submissions after which submissions are offloaded
+ * asynchronously can be configured through the {@code io.lettuce.core.iouring.ringSize} and
+ * {@code io.lettuce.core.iouring.iosqeAsyncThreshold} system properties.
  *
  * @author Mark Paluch
  * @since 6.1
@@ -50,6 +54,14 @@ public class IOUringProvider {
 
     private static final boolean IOURING_ENABLED = Boolean.parseBoolean(SystemPropertyUtil.get(IOURING_ENABLED_KEY, "true"));
 
+    private static final String IOURING_RING_SIZE_KEY = "io.lettuce.core.iouring.ringSize";
+
+    private static final String IOURING_IOSQE_ASYNC_THRESHOLD_KEY = "io.lettuce.core.iouring.iosqeAsyncThreshold";
+
+    private static final int IOURING_RING_SIZE = SystemPropertyUtil.getInt(IOURING_RING_SIZE_KEY, 0);
+
+    private static final int IOURING_IOSQE_ASYNC_THRESHOLD = SystemPropertyUtil.getInt(IOURING_IOSQE_ASYNC_THRESHOLD_KEY, -1);
+
     private static final boolean IOURING_AVAILABLE;
 
     private static final EventLoopResources IOURING_RESOURCES;
@@ -127,6 +139,15 @@ public class IOUringProvider {
         bootstrap.option(IOUringChannelOption.TCP_USER_TIMEOUT, Math.toIntExact(timeout.toMillis()));
     }
 
+    /**
+     * Apply TCP quick ACK ({@code TCP_QUICKACK}) options.
+     *
+     * @since 7.0
+     */
+    public static void applyTcpQuickAck(Bootstrap bootstrap, boolean tcpQuickAck) {
+        bootstrap.option(IOUringChannelOption.TCP_QUICKACK, tcpQuickAck);
+    }
+
     /**
      * {@link EventLoopResources} for available io_uring.
      */
@@ -149,6 +170,18 @@ public class IOUringProvider {
 
         @Override
         public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+
+            if (IOURING_RING_SIZE > 0 || IOURING_IOSQE_ASYNC_THRESHOLD >= 0) {
+
+                // unset values fall back to netty defaults (io.netty.iouring.ringSize, io.netty.iouring.iosqeAsyncThreshold)
+                int ringSize = IOURING_RING_SIZE > 0 ? IOURING_RING_SIZE
+                        : SystemPropertyUtil.getInt("io.netty.iouring.ringSize", 4096);
+                int iosqeAsyncThreshold = IOURING_IOSQE_ASYNC_THRESHOLD >= 0 ? IOURING_IOSQE_ASYNC_THRESHOLD
+                        : SystemPropertyUtil.getInt("io.netty.iouring.iosqeAsyncThreshold", 25);
+
+                return new IOUringEventLoopGroup(nThreads, threadFactory, ringSize, iosqeAsyncThreshold);
+            }
+
             return new IOUringEventLoopGroup(nThreads, threadFactory);
         }
 
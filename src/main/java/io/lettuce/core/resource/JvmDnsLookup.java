@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * {@link CachingDnsResolver.Lookup} using the JVM resolver on a dedicated thread. Used if {@literal netty-resolver-dns} is not
+ * available. The JVM resolver does not expose record TTLs so addresses are associated with a fixed TTL.
+ *
+ * @since 7.0
+ */
+class JvmDnsLookup implements CachingDnsResolver.Lookup {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new DefaultThreadFactory("lettuce-dns", true));
+
+    private final Duration ttl;
+
+    JvmDnsLookup(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public CompletionStage<CachingDnsResolver.Resolution> lookup(String host) {
+
+        return CompletableFuture.supplyAsync(() -> {
+
+            try {
+                return new CachingDnsResolver.Resolution(Arrays.asList(InetAddress.getAllByName(host)), ttl);
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+}
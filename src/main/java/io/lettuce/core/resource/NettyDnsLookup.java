@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.dns.DefaultDnsCnameCache;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * {@link CachingDnsResolver.Lookup} using netty's non-blocking {@link DnsNameResolver} on a dedicated event loop. Caching is
+ * left to {@link CachingDnsResolver}, the resolver cache only captures record TTLs.
+ *
+ * @since 7.0
+ */
+class NettyDnsLookup implements CachingDnsResolver.Lookup {
+
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("lettuce-dns", true));
+
+    private final TtlCapturingDnsCache ttls = new TtlCapturingDnsCache();
+
+    private final DnsNameResolver resolver;
+
+    private final Duration defaultTtl;
+
+    NettyDnsLookup(Duration timeout, Duration defaultTtl) {
+
+        this.resolver = new DnsNameResolverBuilder(eventLoopGroup.next()).channelType(NioDatagramChannel.class)
+                .queryTimeoutMillis(timeout.toMillis()).resolveCache(ttls).cnameCache(new DefaultDnsCnameCache()).build();
+        this.defaultTtl = defaultTtl;
+    }
+
+    @Override
+    public CompletionStage<CachingDnsResolver.Resolution> lookup(String host) {
+
+        CompletableFuture<CachingDnsResolver.Resolution> result = new CompletableFuture<>();
+
+        resolver.resolveAll(host).addListener(future -> {
+
+            Long ttl = ttls.remove(host);
+
+            if (future.isSuccess()) {
+
+                @SuppressWarnings("unchecked")
+                List<InetAddress> addresses = (List<InetAddress>) future.getNow();
+                result.complete(new CachingDnsResolver.Resolution(addresses,
+                        ttl != null ? Duration.ofSeconds(ttl) : defaultTtl));
+            } else {
+                result.completeExceptionally(future.cause());
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public void close() {
+
+        resolver.close();
+        eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    /**
+     * {@link DnsCache} that does not cache but captures the lowest TTL of the records received for a host name.
+     */
+    static class TtlCapturingDnsCache implements DnsCache {
+
+        private final Map<String, Long> ttls = new ConcurrentHashMap<>();
+
+        Long remove(String hostname) {
+
+            Long ttl = ttls.remove(hostname);
+            return ttl != null ? ttl : ttls.remove(hostname + ".");
+        }
+
+        @Override
+        public void clear() {
+            ttls.clear();
+        }
+
+        @Override
+        public boolean clear(String hostname) {
+            return ttls.remove(hostname) != null;
+        }
+
+        @Override
+        public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+            return null;
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl,
+                EventLoop loop) {
+
+            ttls.merge(hostname, originalTtl, Math::min);
+            return null;
+        }
+
+        @Override
+        public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+            return null;
+        }
+
+    }
+
+}
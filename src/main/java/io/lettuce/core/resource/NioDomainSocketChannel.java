@@ -0,0 +1,327 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelMetadata;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultChannelConfig;
+import io.netty.channel.FileRegion;
+import io.netty.channel.RecvByteBufAllocator;
+import io.netty.channel.nio.AbstractNioByteChannel;
+import io.netty.util.internal.SystemPropertyUtil;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * NIO {@link Channel} for Unix Domain Sockets using the JDK's {@code UnixDomainSocketAddress} support. Requires Java 16 or
+ * newer and is used as fallback for domain socket connections if neither epoll nor kqueue is available (e.g. when using
+ * io_uring or NIO on Linux). The JDK API is accessed reflectively to retain Java 8 compatibility.
+ * <p>
+ * NIO domain sockets can be disabled by setting the system property {@code io.lettuce.core.nio.domainsocket} to
+ * {@code false}.
+ * <p>
+ * This class is part of the internal API and may change without further notice.
+ *
+ * @since 7.0
+ */
+public class NioDomainSocketChannel extends AbstractNioByteChannel {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(NioDomainSocketChannel.class);
+
+    private static final String NIO_DOMAIN_SOCKET_ENABLED_KEY = "io.lettuce.core.nio.domainsocket";
+
+    private static final boolean NIO_DOMAIN_SOCKET_ENABLED = Boolean
+            .parseBoolean(SystemPropertyUtil.get(NIO_DOMAIN_SOCKET_ENABLED_KEY, "true"));
+
+    private static final String UNIX_DOMAIN_SOCKET_ADDRESS_CLASS = "java.net.UnixDomainSocketAddress";
+
+    private static final ChannelMetadata METADATA = new ChannelMetadata(false, 16);
+
+    private static final ProtocolFamily UNIX;
+
+    private static final Method OPEN;
+
+    private static final Method ADDRESS_OF;
+
+    static {
+
+        ProtocolFamily unix = null;
+        Method open = null;
+        Method addressOf = null;
+
+        if (NIO_DOMAIN_SOCKET_ENABLED) {
+            try {
+                unix = StandardProtocolFamily.valueOf("UNIX");
+                open = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+                addressOf = Class.forName(UNIX_DOMAIN_SOCKET_ADDRESS_CLASS).getMethod("of", String.class);
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                logger.debug("Unix Domain Sockets via NIO not available: " + e);
+                unix = null;
+                open = null;
+                addressOf = null;
+            }
+        } else {
+            logger.debug(String.format("Unix Domain Sockets via NIO not available. Disabled via System property %s",
+                    NIO_DOMAIN_SOCKET_ENABLED_KEY));
+        }
+
+        UNIX = unix;
+        OPEN = open;
+        ADDRESS_OF = addressOf;
+    }
+
+    private final ChannelConfig config;
+
+    private volatile boolean inputShutdown;
+
+    /**
+     * Create a new, unconnected {@link NioDomainSocketChannel}.
+     */
+    public NioDomainSocketChannel() {
+        super(null, newChannel());
+        this.config = new NioDomainSocketChannelConfig(this);
+    }
+
+    /**
+     * @return {@code true} if Unix Domain Sockets via NIO are available.
+     */
+    public static boolean isAvailable() {
+        return OPEN != null;
+    }
+
+    /**
+     * Create a new {@code java.net.UnixDomainSocketAddress} for the given {@code path}.
+     *
+     * @param path path to the socket file, must not be {@code null}.
+     * @return the {@link SocketAddress}.
+     */
+    public static SocketAddress newSocketAddress(String path) {
+
+        LettuceAssert.notNull(path, "Socket path must not be null");
+        assertAvailable();
+
+        try {
+            return (SocketAddress) ADDRESS_OF.invoke(null, path);
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException(e.getCause().getMessage(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param socketAddress the address to inspect.
+     * @return {@code true} if {@code socketAddress} is a {@code java.net.UnixDomainSocketAddress}.
+     */
+    static boolean isDomainSocketAddress(SocketAddress socketAddress) {
+        return socketAddress != null && socketAddress.getClass().getName().equals(UNIX_DOMAIN_SOCKET_ADDRESS_CLASS);
+    }
+
+    /**
+     * Check whether Unix Domain Sockets via NIO are available.
+     *
+     * @throws IllegalStateException if Unix Domain Sockets via NIO are not available.
+     */
+    static void assertAvailable() {
+
+        LettuceAssert.assertState(NIO_DOMAIN_SOCKET_ENABLED,
+                String.format("Unix Domain Sockets via NIO are disabled via System property %s", NIO_DOMAIN_SOCKET_ENABLED_KEY));
+        LettuceAssert.assertState(isAvailable(), "Unix Domain Sockets via NIO require Java 16 or newer");
+    }
+
+    private static SocketChannel newChannel() {
+
+        assertAvailable();
+
+        try {
+            return (SocketChannel) OPEN.invoke(null, UNIX);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Cannot open Unix Domain Socket channel", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected SocketChannel javaChannel() {
+        return (SocketChannel) super.javaChannel();
+    }
+
+    @Override
+    public ChannelConfig config() {
+        return config;
+    }
+
+    @Override
+    public ChannelMetadata metadata() {
+        return METADATA;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return javaChannel().isOpen();
+    }
+
+    @Override
+    public boolean isActive() {
+
+        SocketChannel ch = javaChannel();
+        return ch.isOpen() && ch.isConnected();
+    }
+
+    @Override
+    protected boolean isInputShutdown0() {
+        return inputShutdown;
+    }
+
+    @Override
+    protected ChannelFuture shutdownInput() {
+
+        ChannelPromise promise = newPromise();
+
+        if (eventLoop().inEventLoop()) {
+            shutdownInput0(promise);
+        } else {
+            eventLoop().execute(() -> shutdownInput0(promise));
+        }
+
+        return promise;
+    }
+
+    private void shutdownInput0(ChannelPromise promise) {
+
+        try {
+            javaChannel().shutdownInput();
+            inputShutdown = true;
+            promise.setSuccess();
+        } catch (Throwable t) {
+            promise.setFailure(t);
+        }
+    }
+
+    @Override
+    protected SocketAddress localAddress0() {
+
+        try {
+            return javaChannel().getLocalAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected SocketAddress remoteAddress0() {
+
+        try {
+            return javaChannel().getRemoteAddress();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void doBind(SocketAddress localAddress) throws Exception {
+        javaChannel().bind(localAddress);
+    }
+
+    @Override
+    protected boolean doConnect(SocketAddress remoteAddress, SocketAddress localAddress) throws Exception {
+
+        if (localAddress != null) {
+            doBind(localAddress);
+        }
+
+        boolean success = false;
+        try {
+
+            boolean connected = javaChannel().connect(remoteAddress);
+            if (!connected) {
+                selectionKey().interestOps(SelectionKey.OP_CONNECT);
+            }
+            success = true;
+            return connected;
+        } finally {
+            if (!success) {
+                doClose();
+            }
+        }
+    }
+
+    @Override
+    protected void doFinishConnect() throws Exception {
+
+        if (!javaChannel().finishConnect()) {
+            throw new IllegalStateException("Connection not finished");
+        }
+    }
+
+    @Override
+    protected void doDisconnect() throws Exception {
+        doClose();
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        super.doClose();
+        javaChannel().close();
+    }
+
+    @Override
+    protected int doReadBytes(ByteBuf byteBuf) throws Exception {
+
+        RecvByteBufAllocator.Handle allocHandle = unsafe().recvBufAllocHandle();
+        allocHandle.attemptedBytesRead(byteBuf.writableBytes());
+        return byteBuf.writeBytes(javaChannel(), allocHandle.attemptedBytesRead());
+    }
+
+    @Override
+    protected int doWriteBytes(ByteBuf buf) throws Exception {
+        return buf.readBytes(javaChannel(), buf.readableBytes());
+    }
+
+    @Override
+    protected long doWriteFileRegion(FileRegion region) throws Exception {
+        return region.transferTo(javaChannel(), region.transferred());
+    }
+
+    private class NioDomainSocketChannelConfig extends DefaultChannelConfig {
+
+        NioDomainSocketChannelConfig(Channel channel) {
+            super(channel);
+        }
+
+        @Override
+        protected void autoReadCleared() {
+            clearReadPending();
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Admission control for reconnect attempts shared by all connections of a {@link ClientResources} instance. Each reconnect
+ * reserves a permit before it is scheduled and is delayed (on top of its reconnect {@link Delay}) until the permit becomes
+ * available. A shared limiter spreads reconnects (and the subsequent {@code AUTH}/{@code HELLO} handshakes) of many connections
+ * over time instead of letting all connections reconnect at once after a failover.
+ *
+ * @since 7.0
+ * @see ClientResources#reconnectLimiter()
+ */
+@FunctionalInterface
+public interface ReconnectLimiter {
+
+    /**
+     * Returns a {@link ReconnectLimiter} that admits all reconnect attempts immediately.
+     *
+     * @return the unlimited {@link ReconnectLimiter}.
+     */
+    static ReconnectLimiter unlimited() {
+        return () -> Duration.ZERO;
+    }
+
+    /**
+     * Creates a token bucket {@link ReconnectLimiter} admitting {@code permitsPerSecond} reconnect attempts per second after an
+     * initial burst of {@code burst} attempts.
+     *
+     * @param permitsPerSecond the sustained reconnect rate, must be greater {@code 0}.
+     * @param burst the number of reconnect attempts admitted without delay, must be greater {@code 0}.
+     * @return the token bucket {@link ReconnectLimiter}.
+     */
+    static ReconnectLimiter tokenBucket(int permitsPerSecond, int burst) {
+
+        LettuceAssert.isTrue(permitsPerSecond > 0, "Permits per second must be greater 0");
+        LettuceAssert.isTrue(burst > 0, "Burst must be greater 0");
+
+        return new TokenBucketReconnectLimiter(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    /**
+     * Reserve a permit for a reconnect attempt. Reservations are not returned if the reconnect attempt is cancelled.
+     *
+     * @return the duration to wait until the reserved permit becomes available. {@link Duration#ZERO} admits the attempt
+     *         immediately.
+     */
+    Duration reserve();
+
+}
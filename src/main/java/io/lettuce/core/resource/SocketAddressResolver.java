@@ -108,14 +108,12 @@ public class SocketAddressResolver {
 
     static SocketAddress getDomainSocketAddress(RedisURI redisURI) {
 
-        if (KqueueProvider.isAvailable() || EpollProvider.isAvailable()) {
-            EventLoopResources resources = KqueueProvider.isAvailable() ? KqueueProvider.getResources()
-                    : EpollProvider.getResources();
-            return resources.newSocketAddress(redisURI.getSocket());
+        if (Transports.isDomainSocketSupported()) {
+            return Transports.newDomainSocketAddress(redisURI.getSocket());
         }
 
         throw new IllegalStateException(
-                "No native transport available. Make sure that either netty's epoll or kqueue library is on the class path and supported by your operating system.");
+                "No domain socket transport available. Make sure that either netty's epoll or kqueue library is on the class path and supported by your operating system or use Java 16 or newer.");
     }
 
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket {@link ReconnectLimiter}. Tracks the theoretical arrival time of the next permit (generic cell rate
+ * algorithm) so that reservations beyond the burst are spaced by the permit interval.
+ *
+ * @since 7.0
+ */
+class TokenBucketReconnectLimiter implements ReconnectLimiter {
+
+    private final long intervalNanos;
+
+    private final long burstNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucketReconnectLimiter(int permitsPerSecond, int burst, LongSupplier nanoClock) {
+
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burstNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public Duration reserve() {
+
+        long now = nanoClock.getAsLong();
+
+        for (;;) {
+
+            long current = theoreticalArrival.get();
+            long next = Math.max(current - now, 0) + now + intervalNanos;
+
+            if (theoreticalArrival.compareAndSet(current, next)) {
+
+                long wait = next - now - burstNanos;
+                return wait > 0 ? Duration.ofNanos(wait) : Duration.ZERO;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [interval=" + intervalNanos + "ns, burst=" + (burstNanos / intervalNanos) + "]";
+    }
+
+}
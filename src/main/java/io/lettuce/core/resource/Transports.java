@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.resource;
 
+import java.net.SocketAddress;
+
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
@@ -25,7 +27,8 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 
 /**
  * Transport infrastructure utility class. This class provides {@link EventLoopGroup} and {@link Channel} classes for TCP socket
- * and domain socket transports.
+ * and domain socket transports. Domain sockets use native transports (epoll, kqueue) if available and fall back to
+ * {@link NioDomainSocketChannel NIO} on Java 16 or newer.
  *
  * @author Mark Paluch
  * @author Yohei Ueki
@@ -69,6 +72,96 @@ public class Transports {
         return NioDatagramChannel.class;
     }
 
+    /**
+     * @return {@code true} if Unix Domain Sockets are supported, either through a native transport (epoll, kqueue) or through
+     *         NIO on Java 16 or newer.
+     * @since 7.0
+     */
+    public static boolean isDomainSocketSupported() {
+        return NativeTransports.isDomainSocketSupported() || NioDomainSocketChannel.isAvailable();
+    }
+
+    /**
+     * @param domainSocket {@code true} to indicate Unix Domain Socket usage, {@code false} otherwise.
+     * @return the default {@link EventLoopGroup} that is compatible with {@link #socketChannelClass()} respective
+     *         {@link #domainSocketChannelClass()}.
+     * @since 7.0
+     */
+    public static Class<? extends EventLoopGroup> eventLoopGroupClass(boolean domainSocket) {
+
+        if (!domainSocket) {
+            return eventLoopGroupClass();
+        }
+
+        if (NativeTransports.isDomainSocketSupported()) {
+            return NativeTransports.eventLoopGroupClass(true);
+        }
+
+        return NioEventLoopGroup.class;
+    }
+
+    /**
+     * @return the default {@link Channel} for Unix Domain Socket transport. Native transports are preferred over NIO.
+     * @throws IllegalStateException if Unix Domain Sockets are not supported.
+     * @since 7.0
+     */
+    public static Class<? extends Channel> domainSocketChannelClass() {
+
+        assertDomainSocketAvailable();
+
+        if (NativeTransports.isDomainSocketSupported()) {
+            return NativeTransports.domainSocketChannelClass();
+        }
+
+        return NioDomainSocketChannel.class;
+    }
+
+    /**
+     * Create a new Unix Domain Socket {@link SocketAddress} that is compatible with {@link #domainSocketChannelClass()}.
+     *
+     * @param path path to the socket file, must not be {@code null}.
+     * @return the {@link SocketAddress}.
+     * @throws IllegalStateException if Unix Domain Sockets are not supported.
+     * @since 7.0
+     */
+    public static SocketAddress newDomainSocketAddress(String path) {
+
+        assertDomainSocketAvailable();
+
+        if (NativeTransports.isDomainSocketSupported()) {
+            return NativeTransports.newDomainSocketAddress(path);
+        }
+
+        return NioDomainSocketChannel.newSocketAddress(path);
+    }
+
+    /**
+     * @param socketAddress the address to inspect.
+     * @return {@code true} if {@code socketAddress} denotes a Unix Domain Socket (native or NIO) address.
+     * @since 7.0
+     */
+    public static boolean isDomainSocketAddress(SocketAddress socketAddress) {
+
+        if (socketAddress == null) {
+            return false;
+        }
+
+        return NioDomainSocketChannel.isDomainSocketAddress(socketAddress)
+                || socketAddress.getClass().getName().equals("io.netty.channel.unix.DomainSocketAddress");
+    }
+
+    /**
+     * Check whether Unix Domain Sockets are supported.
+     *
+     * @throws IllegalStateException if Unix Domain Sockets are not supported.
+     * @since 7.0
+     */
+    public static void assertDomainSocketAvailable() {
+
+        LettuceAssert.assertState(isDomainSocketSupported(),
+                "A unix domain socket connection requires epoll, kqueue or Java 16+ NIO and none is available");
+    }
+
     /**
      * Native transport support.
      */
@@ -135,6 +228,17 @@ public class Transports {
                     : RESOURCES.eventLoopGroupClass();
         }
 
+        /**
+         * @param path path to the socket file.
+         * @return the native transport domain socket address.
+         */
+        static SocketAddress newDomainSocketAddress(String path) {
+
+            assertDomainSocketAvailable();
+            return KqueueProvider.isAvailable() ? KqueueProvider.getResources().newSocketAddress(path)
+                    : EpollProvider.getResources().newSocketAddress(path);
+        }
+
         public static void assertDomainSocketAvailable() {
 
             LettuceAssert.assertState(NativeTransports.isDomainSocketSupported(),
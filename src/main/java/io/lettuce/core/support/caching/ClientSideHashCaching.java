@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Server-assisted client-side cache for hash fields. This is a {@link HashCacheFrontend} that caches individual hash fields
+ * and relies on Redis client tracking to evict cached keys. An {@code invalidate} push message evicts all cached fields of
+ * the reported key. Hash fields are fetched on demand and absent fields are cached as well.
+ *
+ * For example:
+ *
+ * <pre class="code">
+ *
+ * StatefulRedisConnection&lt;String, String&gt; connection = redisClient.connect();
+ *
+ * HashCacheFrontend&lt;String, String&gt; frontend = ClientSideHashCaching.enable(connection, TrackingArgs.Builder.enabled());
+ *
+ * String name = frontend.hget("user:1", "name");
+ * List&lt;KeyValue&lt;String, String&gt;&gt; values = frontend.hmget("user:1", "name", "email");
+ * </pre>
+ *
+ * Client tracking requires RESP3 or a redirected invalidation connection. Keys and fields are held in a {@link ConcurrentMap}
+ * and must therefore implement {@link Object#equals(Object)} and {@link Object#hashCode()}, so use a codec that decodes keys
+ * into value types such as {@link String} instead of {@code byte[]}.
+ *
+ * @param <K> Key and field type.
+ * @param <V> Value type.
+ * @since 7.0
+ */
+public class ClientSideHashCaching<K, V> implements HashCacheFrontend<K, V> {
+
+    private static final Object ABSENT = new Object();
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final ConcurrentMap<K, CachedHash<K>> hashes = new ConcurrentHashMap<>();
+
+    private final List<Consumer<K>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    private ClientSideHashCaching(StatefulRedisConnection<K, V> connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Enable server-assisted client-side caching of hash fields for the given {@link StatefulRedisConnection}.
+     * <p>
+     * Note that the {@link HashCacheFrontend} is associated with a Redis connection. Make sure to
+     * {@link HashCacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param connection the Redis connection to use. The connection will be associated with {@link HashCacheFrontend} and
+     *        must be closed through {@link HashCacheFrontend#close()}.
+     * @param tracking the tracking parameters.
+     * @param <K> Key and field type.
+     * @param <V> Value type.
+     * @return the {@link HashCacheFrontend} for hash field retrieval.
+     */
+    public static <K, V> HashCacheFrontend<K, V> enable(StatefulRedisConnection<K, V> connection, TrackingArgs tracking) {
+
+        connection.sync().clientTracking(tracking);
+
+        return create(connection);
+    }
+
+    /**
+     * Create a server-assisted client-side cache for hash fields for the given {@link StatefulRedisConnection}. This method
+     * expects that client key tracking is already configured.
+     * <p>
+     * Note that the {@link HashCacheFrontend} is associated with a Redis connection. Make sure to
+     * {@link HashCacheFrontend#close() close} the frontend object to release the Redis connection after use.
+     *
+     * @param connection the Redis connection to use. The connection will be associated with {@link HashCacheFrontend} and
+     *        must be closed through {@link HashCacheFrontend#close()}.
+     * @param <K> Key and field type.
+     * @param <V> Value type.
+     * @return the {@link HashCacheFrontend} for hash field retrieval.
+     */
+    public static <K, V> HashCacheFrontend<K, V> create(StatefulRedisConnection<K, V> connection) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+
+        StatefulRedisConnectionImpl<K, V> connectionImpl = (StatefulRedisConnectionImpl) connection;
+        RedisCodec<K, V> codec = connectionImpl.getCodec();
+
+        ClientSideHashCaching<K, V> caching = new ClientSideHashCaching<>(connection);
+        connection.addListener(message -> caching.onPushMessage(message, codec));
+
+        return caching;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPushMessage(PushMessage message, RedisCodec<K, V> codec) {
+
+        if (!message.getType().equals("invalidate")) {
+            return;
+        }
+
+        List<Object> content = message.getContent(codec::decodeKey);
+        List<K> keys = (List<K>) content.get(1);
+
+        if (keys == null) {
+            // FLUSHALL/FLUSHDB or tracking connection loss
+            hashes.clear();
+            return;
+        }
+
+        for (K key : keys) {
+            hashes.remove(key);
+            notifyInvalidate(key);
+        }
+    }
+
+    private void notifyInvalidate(K key) {
+
+        for (Consumer<K> invalidationListener : invalidationListeners) {
+            invalidationListener.accept(key);
+        }
+    }
+
+    /**
+     * Register a listener that is notified when a key gets invalidated.
+     *
+     * @param invalidationListener the listener to notify.
+     */
+    public void addInvalidationListener(Consumer<K> invalidationListener) {
+        invalidationListeners.add(invalidationListener);
+    }
+
+    @Override
+    public V hget(K key, K field) {
+
+        CachedHash<K> hash = getHash(key);
+        Object value = hash.get(field);
+
+        if (value != null) {
+            return unwrap(value);
+        }
+
+        V loaded = commands().hget(key, field);
+        hash.put(field, loaded);
+
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<KeyValue<K, V>> hmget(K key, K... fields) {
+
+        LettuceAssert.notEmpty(fields, "Fields must not be empty");
+
+        CachedHash<K> hash = getHash(key);
+        Object[] values = new Object[fields.length];
+        List<K> missing = null;
+
+        for (int i = 0; i < fields.length; i++) {
+
+            values[i] = hash.get(fields[i]);
+
+            if (values[i] == null) {
+
+                if (missing == null) {
+                    missing = new ArrayList<>(fields.length - i);
+                }
+                missing.add(fields[i]);
+            }
+        }
+
+        if (missing != null) {
+
+            Map<K, V> loaded = new HashMap<>(missing.size());
+
+            for (KeyValue<K, V> keyValue : commands().hmget(key, (K[]) missing.toArray())) {
+
+                hash.put(keyValue.getKey(), keyValue.getValueOrElse(null));
+                if (keyValue.hasValue()) {
+                    loaded.put(keyValue.getKey(), keyValue.getValue());
+                }
+            }
+
+            for (int i = 0; i < fields.length; i++) {
+                if (values[i] == null) {
+                    V value = loaded.get(fields[i]);
+                    values[i] = value != null ? value : ABSENT;
+                }
+            }
+        }
+
+        List<KeyValue<K, V>> result = new ArrayList<>(fields.length);
+
+        for (int i = 0; i < fields.length; i++) {
+            result.add(KeyValue.fromNullable(fields[i], unwrap(values[i])));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Map<K, V> hgetall(K key) {
+
+        CachedHash<K> hash = getHash(key);
+
+        if (hash.complete) {
+            return hash.toMap();
+        }
+
+        Map<K, V> loaded = commands().hgetall(key);
+        hash.complete(loaded);
+
+        return loaded;
+    }
+
+    @Override
+    public void close() {
+        hashes.clear();
+        connection.close();
+    }
+
+    private CachedHash<K> getHash(K key) {
+
+        LettuceAssert.notNull(key, "Key must not be null");
+
+        // register the entry before reading so invalidations that race with the read discard the entry
+        return hashes.computeIfAbsent(key, it -> new CachedHash<>());
+    }
+
+    private RedisCommands<K, V> commands() {
+        return connection.sync();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unwrap(Object value) {
+        return value == ABSENT ? null : (V) value;
+    }
+
+    /**
+     * Cached fields of a single hash. Absent fields are represented by {@link #ABSENT}. A complete hash contains all fields
+     * and answers lookups of fields that are not cached as absent.
+     */
+    static class CachedHash<K> {
+
+        private final ConcurrentMap<K, Object> fields = new ConcurrentHashMap<>();
+
+        private volatile boolean complete;
+
+        Object get(K field) {
+
+            Object value = fields.get(field);
+            return value == null && complete ? ABSENT : value;
+        }
+
+        void put(K field, Object value) {
+            fields.put(field, value != null ? value : ABSENT);
+        }
+
+        void complete(Map<K, ?> values) {
+
+            fields.keySet().retainAll(values.keySet());
+            fields.putAll(values);
+            complete = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        <V> Map<K, V> toMap() {
+
+            Map<K, V> map = new LinkedHashMap<>(fields.size());
+
+            fields.forEach((field, value) -> {
+                if (value != ABSENT) {
+                    map.put(field, (V) value);
+                }
+            });
+
+            return map;
+        }
+
+    }
+
+}
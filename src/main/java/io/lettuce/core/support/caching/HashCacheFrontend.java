@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.KeyValue;
+
+/**
+ * Client-side cache frontend for hash fields. Caches individual hash fields instead of whole keys and serves {@code HGET},
+ * {@code HMGET} and {@code HGETALL} from the client-side cache. A key is evicted with all of its fields once Redis reports the
+ * key as modified.
+ *
+ * @param <K> Key and field type.
+ * @param <V> Value type.
+ * @since 7.0
+ * @see ClientSideHashCaching
+ */
+public interface HashCacheFrontend<K, V> extends Closeable {
+
+    /**
+     * Return the value of a hash {@code field}. Fetches the field from Redis if it is not cached.
+     *
+     * @param key the key.
+     * @param field the field type: key.
+     * @return the value associated with {@code field}, or {@code null} when {@code field} is not present in the hash or
+     *         {@code key} does not exist.
+     */
+    V hget(K key, K field);
+
+    /**
+     * Return the values of the given hash {@code fields}. Fields that are not cached are fetched from Redis with a single
+     * {@code HMGET} command.
+     *
+     * @param key the key.
+     * @param fields the field types: key.
+     * @return the values associated with {@code fields} in the order of {@code fields}.
+     */
+    List<KeyValue<K, V>> hmget(K key, K... fields);
+
+    /**
+     * Return all fields and values of a hash. Fetches the hash using {@code HGETALL} unless the complete hash is cached.
+     *
+     * @param key the key.
+     * @return the fields and values of the hash. An empty {@link Map} if {@code key} does not exist.
+     */
+    Map<K, V> hgetall(K key);
+
+    /**
+     * Closes this cache frontend and releases any system resources associated with it. If the frontend is already closed then
+     * invoking this method has no effect.
+     */
+    @Override
+    void close();
+
+}
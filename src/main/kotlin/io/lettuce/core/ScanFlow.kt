@@ -18,10 +18,11 @@ package io.lettuce.core
 import io.lettuce.core.api.coroutines.*
 import io.lettuce.core.cluster.api.coroutines.RedisClusterCoroutinesCommandsImpl
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.reactive.asFlow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.future.await
 
 /**
- * Coroutines adapter for [ScanStream].
+ * Coroutines adapter to iterate `SCAN` cursors, similar to [ScanStream].
  *
  * @author Mikhael Sokolov
  * @author Mark Paluch
@@ -42,12 +43,16 @@ object ScanFlow {
             is RedisCoroutinesCommandsImpl -> commands.ops
             is RedisClusterCoroutinesCommandsImpl -> commands.ops
             is RedisKeyCoroutinesCommandsImpl -> commands.ops
-            else -> throw IllegalArgumentException("Cannot access underlying reactive API")
+            else -> throw IllegalArgumentException("Cannot access underlying asynchronous API")
         }
-        return when (scanArgs) {
-            null -> ScanStream.scan(ops)
-            else -> ScanStream.scan(ops, scanArgs)
-        }.asFlow()
+        return scanFlow({ cursor ->
+            when {
+                cursor == null && scanArgs == null -> ops.scan()
+                cursor == null -> ops.scan(scanArgs)
+                scanArgs == null -> ops.scan(cursor)
+                else -> ops.scan(cursor, scanArgs)
+            }
+        }, { it.keys })
     }
 
     /**
@@ -63,12 +68,16 @@ object ScanFlow {
             is RedisCoroutinesCommandsImpl -> commands.ops
             is RedisClusterCoroutinesCommandsImpl -> commands.ops
             is RedisHashCoroutinesCommandsImpl -> commands.ops
-            else -> throw IllegalArgumentException("Cannot access underlying reactive API")
+            else -> throw IllegalArgumentException("Cannot access underlying asynchronous API")
         }
-        return when (scanArgs) {
-            null -> ScanStream.hscan(ops, key)
-            else -> ScanStream.hscan(ops, key, scanArgs)
-        }.asFlow()
+        return scanFlow({ cursor ->
+            when {
+                cursor == null && scanArgs == null -> ops.hscan(key)
+                cursor == null -> ops.hscan(key, scanArgs)
+                scanArgs == null -> ops.hscan(key, cursor)
+                else -> ops.hscan(key, cursor, scanArgs)
+            }
+        }, { it.map.entries.map { entry -> KeyValue.fromNullable(entry.key, entry.value) } })
     }
 
     /**
@@ -84,12 +93,16 @@ object ScanFlow {
             is RedisCoroutinesCommandsImpl -> commands.ops
             is RedisClusterCoroutinesCommandsImpl -> commands.ops
             is RedisSetCoroutinesCommandsImpl -> commands.ops
-            else -> throw IllegalArgumentException("Cannot access underlying reactive API")
+            else -> throw IllegalArgumentException("Cannot access underlying asynchronous API")
         }
-        return when (scanArgs) {
-            null -> ScanStream.sscan(ops, key)
-            else -> ScanStream.sscan(ops, key, scanArgs)
-        }.asFlow()
+        return scanFlow({ cursor ->
+            when {
+                cursor == null && scanArgs == null -> ops.sscan(key)
+                cursor == null -> ops.sscan(key, scanArgs)
+                scanArgs == null -> ops.sscan(key, cursor)
+                else -> ops.sscan(key, cursor, scanArgs)
+            }
+        }, { it.values })
     }
 
     /**
@@ -105,11 +118,29 @@ object ScanFlow {
             is RedisCoroutinesCommandsImpl -> commands.ops
             is RedisClusterCoroutinesCommandsImpl -> commands.ops
             is RedisSortedSetCoroutinesCommandsImpl -> commands.ops
-            else -> throw IllegalArgumentException("Cannot access underlying reactive API")
+            else -> throw IllegalArgumentException("Cannot access underlying asynchronous API")
+        }
+        return scanFlow({ cursor ->
+            when {
+                cursor == null && scanArgs == null -> ops.zscan(key)
+                cursor == null -> ops.zscan(key, scanArgs)
+                scanArgs == null -> ops.zscan(key, cursor)
+                else -> ops.zscan(key, cursor, scanArgs)
+            }
+        }, { it.values })
+    }
+
+    private inline fun <C : ScanCursor, T> scanFlow(
+        crossinline scan: (ScanCursor?) -> RedisFuture<C>,
+        crossinline elements: (C) -> Iterable<T>
+    ): Flow<T> = flow {
+
+        var cursor: C = scan(null).await()
+        elements(cursor).forEach { emit(it) }
+
+        while (!cursor.isFinished) {
+            cursor = scan(cursor).await()
+            elements(cursor).forEach { emit(it) }
         }
-        return when (scanArgs) {
-            null -> ScanStream.zscan(ops, key)
-            else -> ScanStream.zscan(ops, key, scanArgs)
-        }.asFlow()
     }
 }
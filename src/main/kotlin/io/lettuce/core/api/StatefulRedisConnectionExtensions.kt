@@ -27,4 +27,4 @@ import io.lettuce.core.api.coroutines.RedisCoroutinesCommandsImpl
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-fun <K : Any, V : Any> StatefulRedisConnection<K, V>.coroutines(): RedisCoroutinesCommands<K, V> = RedisCoroutinesCommandsImpl(reactive())
+fun <K : Any, V : Any> StatefulRedisConnection<K, V>.coroutines(): RedisCoroutinesCommands<K, V> = RedisCoroutinesCommandsImpl(async())
@@ -17,19 +17,16 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
-import io.lettuce.core.api.reactive.BaseRedisReactiveCommands
+import io.lettuce.core.api.async.BaseRedisAsyncCommands
 import io.lettuce.core.output.CommandOutput
 import io.lettuce.core.protocol.CommandArgs
 import io.lettuce.core.protocol.ProtocolKeyword
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
-import kotlinx.coroutines.reactive.awaitSingle
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for basic commands.
+ * Coroutine executed commands (based on asynchronous commands) for basic commands.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -38,39 +35,39 @@ import kotlinx.coroutines.reactive.awaitSingle
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class BaseRedisCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: BaseRedisReactiveCommands<K, V>) : BaseRedisCoroutinesCommands<K, V> {
+internal class BaseRedisCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: BaseRedisAsyncCommands<K, V>) : BaseRedisCoroutinesCommands<K, V> {
 
-    override suspend fun publish(channel: K, message: V): Long? = ops.publish(channel, message).awaitFirstOrNull()
+    override suspend fun publish(channel: K, message: V): Long? = ops.publish(channel, message).await()
 
-    override suspend fun spublish(shardChannel: K, message: V): Long? = ops.spublish(shardChannel, message).awaitFirstOrNull()
+    override suspend fun spublish(shardChannel: K, message: V): Long? = ops.spublish(shardChannel, message).await()
 
-    override suspend fun pubsubChannels(): List<K> = ops.pubsubChannels().asFlow().toList()
+    override suspend fun pubsubChannels(): List<K> = ops.pubsubChannels().await()
 
-    override suspend fun pubsubChannels(channel: K): List<K> = ops.pubsubChannels(channel).asFlow().toList()
+    override suspend fun pubsubChannels(channel: K): List<K> = ops.pubsubChannels(channel).await()
 
-    override suspend fun pubsubNumsub(vararg channels: K): Map<K, Long> = ops.pubsubNumsub(*channels).awaitSingle()
+    override suspend fun pubsubNumsub(vararg channels: K): Map<K, Long> = ops.pubsubNumsub(*channels).await()
 
-    override suspend fun pubsubShardNumsub(vararg shardChannels: K): Map<K, Long> = ops.pubsubShardNumsub(*shardChannels).awaitSingle()
+    override suspend fun pubsubShardNumsub(vararg shardChannels: K): Map<K, Long> = ops.pubsubShardNumsub(*shardChannels).await()
 
-    override suspend fun pubsubNumpat(): Long = ops.pubsubNumpat().awaitSingle()
+    override suspend fun pubsubNumpat(): Long = ops.pubsubNumpat().await()
 
-    override suspend fun echo(msg: V): V = ops.echo(msg).awaitSingle()
+    override suspend fun echo(msg: V): V = ops.echo(msg).await()
 
-    override suspend fun role(): List<Any> = ops.role().asFlow().toList()
+    override suspend fun role(): List<Any> = ops.role().await()
 
-    override suspend fun ping(): String = ops.ping().awaitSingle()
+    override suspend fun ping(): String = ops.ping().await()
 
-    override suspend fun readOnly(): String = ops.readOnly().awaitSingle()
+    override suspend fun readOnly(): String = ops.readOnly().await()
 
-    override suspend fun readWrite(): String = ops.readWrite().awaitSingle()
+    override suspend fun readWrite(): String = ops.readWrite().await()
 
-    override suspend fun quit(): String? = ops.quit().awaitFirstOrNull()
+    override suspend fun quit(): String? = ops.quit().await()
 
-    override suspend fun waitForReplication(replicas: Int, timeout: Long): Long? = ops.waitForReplication(replicas, timeout).awaitFirstOrNull()
+    override suspend fun waitForReplication(replicas: Int, timeout: Long): Long? = ops.waitForReplication(replicas, timeout).await()
 
-    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = ops.dispatch<T>(type, output).asFlow()
+    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = dispatchFlow(output) { ops.dispatch(type, output) }
 
-    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>, args: CommandArgs<K, V>): Flow<T> = ops.dispatch<T>(type, output, args).asFlow()
+    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>, args: CommandArgs<K, V>): Flow<T> = dispatchFlow(output) { ops.dispatch(type, output, args) }
 
     override fun isOpen(): Boolean = ops.isOpen
 
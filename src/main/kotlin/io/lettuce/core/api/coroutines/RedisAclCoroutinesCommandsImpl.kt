@@ -19,18 +19,14 @@ package io.lettuce.core.api.coroutines
 import io.lettuce.core.AclCategory
 import io.lettuce.core.AclSetuserArgs
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
-import io.lettuce.core.api.reactive.RedisAclReactiveCommands
+import io.lettuce.core.api.async.RedisAclAsyncCommands
 import io.lettuce.core.protocol.CommandType
 import io.lettuce.core.protocol.RedisCommand
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirst
-import kotlinx.coroutines.reactive.awaitFirstOrElse
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 /**
- * Coroutine executed commands (based on reactive commands) for basic commands.
+ * Coroutine executed commands (based on asynchronous commands) for basic commands.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -38,53 +34,53 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisAclCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisAclReactiveCommands<K, V>) : RedisAclCoroutinesCommands<K, V> {
+internal class RedisAclCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisAclAsyncCommands<K, V>) : RedisAclCoroutinesCommands<K, V> {
 
     override suspend fun aclCat(): Set<AclCategory> =
-        ops.aclCat().awaitFirstOrElse { emptySet<AclCategory>() }
+        ops.aclCat().await() ?: emptySet()
 
     override suspend fun aclCat(category: AclCategory): Set<CommandType> =
-        ops.aclCat(category).awaitFirstOrElse { emptySet<CommandType>() }
+        ops.aclCat(category).await() ?: emptySet()
 
     override suspend fun aclDeluser(vararg usernames: String): Long? =
-        ops.aclDeluser(*usernames).awaitFirstOrNull()
+        ops.aclDeluser(*usernames).await()
 
     override suspend fun aclDryRun(
         username: String,
         command: String,
         vararg args: String
-    ): String? = ops.aclDryRun(username, command, *args).awaitFirstOrNull()
+    ): String? = ops.aclDryRun(username, command, *args).await()
 
     override suspend fun aclDryRun(
         username: String,
         command: RedisCommand<K, V, *>
-    ): String? = ops.aclDryRun(username, command).awaitFirstOrNull()
+    ): String? = ops.aclDryRun(username, command).await()
 
-    override suspend fun aclGenpass(): String? = ops.aclGenpass().awaitFirstOrNull()
+    override suspend fun aclGenpass(): String? = ops.aclGenpass().await()
 
     override suspend fun aclGenpass(bits: Int): String? =
-        ops.aclGenpass(bits).awaitFirstOrNull()
+        ops.aclGenpass(bits).await()
 
     override suspend fun aclGetuser(username: String): List<Any> =
-        ops.aclGetuser(username).awaitFirst()
+        ops.aclGetuser(username).await()
 
-    override fun aclList(): Flow<String> = ops.aclList().asFlow()
+    override fun aclList(): Flow<String> = futureFlow { ops.aclList() }
 
-    override suspend fun aclLoad(): String? = ops.aclLoad().awaitFirstOrNull()
+    override suspend fun aclLoad(): String? = ops.aclLoad().await()
 
-    override fun aclLog(): Flow<Map<String, Any>> = ops.aclLog().asFlow()
+    override fun aclLog(): Flow<Map<String, Any>> = futureFlow { ops.aclLog() }
 
-    override fun aclLog(count: Int): Flow<Map<String, Any>> = ops.aclLog(count).asFlow()
+    override fun aclLog(count: Int): Flow<Map<String, Any>> = futureFlow { ops.aclLog(count) }
 
-    override suspend fun aclLogReset(): String? = ops.aclLogReset().awaitFirstOrNull()
+    override suspend fun aclLogReset(): String? = ops.aclLogReset().await()
 
-    override suspend fun aclSave(): String? = ops.aclSave().awaitFirstOrNull()
+    override suspend fun aclSave(): String? = ops.aclSave().await()
 
-    override suspend fun aclSetuser(username: String, setuserArgs: AclSetuserArgs): String? = ops.aclSetuser(username, setuserArgs).awaitFirstOrNull()
+    override suspend fun aclSetuser(username: String, setuserArgs: AclSetuserArgs): String? = ops.aclSetuser(username, setuserArgs).await()
 
-    override suspend fun aclUsers(): List<String> = ops.aclUsers().asFlow().toList()
+    override suspend fun aclUsers(): List<String> = ops.aclUsers().await()
 
-    override suspend fun aclWhoami(): String? = ops.aclWhoami().awaitFirstOrNull()
+    override suspend fun aclWhoami(): String? = ops.aclWhoami().await()
 
 }
 
@@ -18,9 +18,10 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
+import io.lettuce.core.api.async.RedisAsyncCommands
 import io.lettuce.core.api.reactive.RedisReactiveCommands
 import io.lettuce.core.cluster.api.coroutines.RedisClusterCoroutinesCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 /**
  * Implementation of [RedisCoroutinesCommands].
@@ -33,7 +34,7 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  */
 @ExperimentalLettuceCoroutinesApi
 open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
-    internal val ops: RedisReactiveCommands<K, V>
+    internal val ops: RedisAsyncCommands<K, V>
 ) : RedisCoroutinesCommands<K, V>, RedisClusterCoroutinesCommands<K, V>,
     BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops),
     RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops),
@@ -51,13 +52,22 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
     RedisStringCoroutinesCommands<K, V> by RedisStringCoroutinesCommandsImpl(ops),
     RedisTransactionalCoroutinesCommands<K, V> by RedisTransactionalCoroutinesCommandsImpl(ops) {
 
+    /**
+     * Create a new [RedisCoroutinesCommandsImpl] using the asynchronous API of the connection associated with [ops].
+     *
+     * @param ops the reactive API.
+     * @deprecated since 7.0, use the constructor accepting [RedisAsyncCommands].
+     */
+    @Deprecated("Use the constructor accepting RedisAsyncCommands", ReplaceWith("RedisCoroutinesCommandsImpl(ops.statefulConnection.async())"))
+    constructor(ops: RedisReactiveCommands<K, V>) : this(ops.statefulConnection.async())
+
     /**
      * Authenticate to the server.
      *
      * @param password the password
      * @return String simple-string-reply
      */
-    override suspend fun auth(password: CharSequence): String? = ops.auth(password).awaitFirstOrNull()
+    override suspend fun auth(password: CharSequence): String? = ops.auth(password).await()
 
     /**
      * Authenticate to the server with username and password. Requires Redis 6 or newer.
@@ -67,7 +77,7 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @return String simple-string-reply
      * @since 6.0
      */
-    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).awaitFirstOrNull()
+    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).await()
 
     /**
      * Change the selected database for the current connection.
@@ -75,7 +85,7 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param db the database number
      * @return String simple-string-reply
      */
-    override suspend fun select(db: Int): String? = ops.select(db).awaitFirstOrNull()
+    override suspend fun select(db: Int): String? = ops.select(db).await()
 
     /**
      * Swap two Redis databases, so that immediately all the clients connected to a given DB will see the data of the other DB,
@@ -85,6 +95,6 @@ open class RedisCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param db2 the second database number
      * @return String simple-string-reply
      */
-    override suspend fun swapdb(db1: Int, db2: Int): String? = ops.swapdb(db1, db2).awaitFirstOrNull()
+    override suspend fun swapdb(db1: Int, db2: Int): String? = ops.swapdb(db1, db2).await()
 
 }
@@ -20,73 +20,73 @@ import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.FlushMode
 import io.lettuce.core.FunctionRestoreMode
 import io.lettuce.core.ScriptOutputType
-import io.lettuce.core.api.reactive.RedisFunctionReactiveCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for the Function API.
+ * Coroutine executed commands (based on asynchronous commands) for the Function API.
  *
  * @author Mark Paluch
  * @since 6.3
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisFunctionCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisFunctionReactiveCommands<K, V>) :
+internal class RedisFunctionCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisFunctionAsyncCommands<K, V>) :
     RedisFunctionCoroutinesCommands<K, V> {
 
     override suspend fun <T : Any> fcall(
         function: String,
         type: ScriptOutputType,
         vararg keys: K
-    ): T? = ops.fcall<T>(function, type, *keys).awaitFirstOrNull()
+    ): T? = ops.fcall<T>(function, type, *keys).await()
 
     override suspend fun <T : Any> fcall(
         function: String,
         type: ScriptOutputType,
         keys: Array<K>,
         vararg values: V
-    ): T? = ops.fcall<T>(function, type, keys, *values).awaitFirstOrNull()
+    ): T? = ops.fcall<T>(function, type, keys, *values).await()
 
     override suspend fun <T : Any> fcallReadOnly(
         function: String,
         type: ScriptOutputType,
         vararg keys: K
-    ): T? = ops.fcallReadOnly<T>(function, type, *keys).awaitFirstOrNull()
+    ): T? = ops.fcallReadOnly<T>(function, type, *keys).await()
 
     override suspend fun <T : Any> fcallReadOnly(
         function: String,
         type: ScriptOutputType,
         keys: Array<K>,
         vararg values: V
-    ): T? = ops.fcallReadOnly<T>(function, type, keys, *values).awaitFirstOrNull()
+    ): T? = ops.fcallReadOnly<T>(function, type, keys, *values).await()
 
     override suspend fun functionLoad(functionCode: String): String? =
-        ops.functionLoad(functionCode).awaitFirstOrNull()
+        ops.functionLoad(functionCode).await()
 
     override suspend fun functionLoad(functionCode: String, replace: Boolean): String? =
-        ops.functionLoad(functionCode, replace).awaitFirstOrNull()
+        ops.functionLoad(functionCode, replace).await()
 
     override suspend fun functionDump(): ByteArray? =
-        ops.functionDump().awaitFirstOrNull()
+        ops.functionDump().await()
 
     override suspend fun functionRestore(dump: ByteArray): String? =
-        ops.functionRestore(dump).awaitFirstOrNull()
+        ops.functionRestore(dump).await()
 
     override suspend fun functionRestore(
         dump: ByteArray,
         mode: FunctionRestoreMode
-    ): String? = ops.functionRestore(dump, mode).awaitFirstOrNull()
+    ): String? = ops.functionRestore(dump, mode).await()
 
     override suspend fun functionFlush(flushMode: FlushMode): String? =
-        ops.functionFlush(flushMode).awaitFirstOrNull()
+        ops.functionFlush(flushMode).await()
 
-    override suspend fun functionKill(): String? = ops.functionKill().awaitFirstOrNull()
+    override suspend fun functionKill(): String? = ops.functionKill().await()
 
     override suspend fun functionList(): List<Map<String, Any>> =
-        ops.functionList().collectList().awaitFirstOrNull()!!
+        ops.functionList().await()
 
     override suspend fun functionList(libraryName: String): List<Map<String, Any>> =
-        ops.functionList(libraryName).collectList().awaitFirstOrNull()!!
+        ops.functionList(libraryName).await()
 
 }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.api.coroutines
+
+import io.lettuce.core.RedisFuture
+import io.lettuce.core.output.CommandOutput
+import io.lettuce.core.output.StreamingOutput
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.FlowCollector
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.future.await
+
+/**
+ * Create a cold [Flow] that dispatches a command on collection and emits the elements of its collection reply.
+ *
+ * @since 7.0
+ */
+internal inline fun <T> futureFlow(crossinline dispatch: () -> RedisFuture<out Iterable<T>>): Flow<T> = flow {
+    dispatch().await()?.forEach { emit(it) }
+}
+
+/**
+ * Create a cold [Flow] that dispatches a command using a streaming channel on collection. Elements are emitted while the reply
+ * is decoded instead of materializing the reply as collection first. Decoded elements are buffered in a [Channel] until the
+ * collector consumes them as the event loop must not be suspended.
+ *
+ * @since 7.0
+ */
+@Suppress("DEPRECATION")
+internal inline fun <T> streamingFlow(crossinline dispatch: (send: (T) -> Unit) -> RedisFuture<*>): Flow<T> = flow {
+
+    val channel = Channel<T>(Channel.UNLIMITED)
+    val future = dispatch { channel.offer(it) }
+
+    emitChannel(channel, future)
+}
+
+/**
+ * Emit elements from [channel] until [future] completes and cancel [future] if the collector is cancelled.
+ */
+internal suspend fun <T> FlowCollector<T>.emitChannel(channel: Channel<T>, future: RedisFuture<*>) {
+
+    future.whenComplete { _, error -> channel.close(error) }
+
+    try {
+        for (element in channel) {
+            emit(element)
+        }
+    } finally {
+        if (!future.isDone) {
+            future.cancel(false)
+        }
+    }
+}
+
+/**
+ * Create a cold [Flow] for a custom command. Elements are emitted individually if the [output] is a [StreamingOutput],
+ * otherwise the flow emits the command result.
+ *
+ * @since 7.0
+ */
+@Suppress("UNCHECKED_CAST", "DEPRECATION")
+internal inline fun <T> dispatchFlow(output: CommandOutput<*, *, *>, crossinline dispatch: () -> RedisFuture<*>): Flow<T> {
+
+    if (output is StreamingOutput<*>) {
+        return flow {
+
+            val channel = Channel<T>(Channel.UNLIMITED)
+            (output as StreamingOutput<T>).subscriber = object : StreamingOutput.Subscriber<T>() {
+                override fun onNext(t: T) {
+                    channel.offer(t)
+                }
+            }
+
+            emitChannel(channel, dispatch())
+        }
+    }
+
+    return flow {
+        val result = dispatch().await()
+        if (result != null) {
+            emit(result as T)
+        }
+    }
+}
@@ -17,29 +17,27 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisGeoReactiveCommands
+import io.lettuce.core.api.async.RedisGeoAsyncCommands
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for the Geo-API.
+ * Coroutine executed commands (based on asynchronous commands) for the Geo-API.
  *
  * @author Mikhael Sokolov
  * @author Mark Paluch
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisGeoReactiveCommands<K, V>) : RedisGeoCoroutinesCommands<K, V> {
+internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisGeoAsyncCommands<K, V>) : RedisGeoCoroutinesCommands<K, V> {
 
     override suspend fun geoadd(
         key: K,
         longitude: Double,
         latitude: Double,
         member: V
-    ): Long? = ops.geoadd(key, longitude, latitude, member).awaitFirstOrNull()
+    ): Long? = ops.geoadd(key, longitude, latitude, member).await()
 
     override suspend fun geoadd(
         key: K,
@@ -47,34 +45,34 @@ internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         latitude: Double,
         member: V,
         args: GeoAddArgs
-    ): Long? = ops.geoadd(key, longitude, latitude, member, args).awaitFirstOrNull()
+    ): Long? = ops.geoadd(key, longitude, latitude, member, args).await()
 
     override suspend fun geoadd(key: K, vararg lngLatMember: Any): Long? =
-        ops.geoadd(key, *lngLatMember).awaitFirstOrNull()
+        ops.geoadd(key, *lngLatMember).await()
 
     override suspend fun geoadd(key: K, vararg values: GeoValue<V>): Long? =
-        ops.geoadd(key, *values).awaitFirstOrNull()
+        ops.geoadd(key, *values).await()
 
     override suspend fun geoadd(
         key: K,
         args: GeoAddArgs,
         vararg lngLatMember: Any
-    ): Long? = ops.geoadd(key, args, *lngLatMember).awaitFirstOrNull()
+    ): Long? = ops.geoadd(key, args, *lngLatMember).await()
 
     override suspend fun geoadd(
         key: K,
         args: GeoAddArgs,
         vararg values: GeoValue<V>
-    ): Long? = ops.geoadd(key, args, *values).awaitFirstOrNull()
+    ): Long? = ops.geoadd(key, args, *values).await()
 
     override suspend fun geopos(key: K, vararg members: V): List<GeoCoordinates> =
-        ops.geopos(key, *members).map { it.value }.asFlow().toList()
+        ops.geopos(key, *members).await()
 
     override suspend fun geodist(key: K, from: V, to: V, unit: GeoArgs.Unit): Double? =
-        ops.geodist(key, from, to, unit).awaitFirstOrNull()
+        ops.geodist(key, from, to, unit).await()
 
     override fun geohash(key: K, vararg members: V): Flow<Value<String>> =
-        ops.geohash(key, *members).asFlow()
+        futureFlow { ops.geohash(key, *members) }
 
     override fun georadius(
         key: K,
@@ -82,7 +80,7 @@ internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         latitude: Double,
         distance: Double,
         unit: GeoArgs.Unit
-    ): Flow<V> = ops.georadius(key, longitude, latitude, distance, unit).asFlow()
+    ): Flow<V> = futureFlow { ops.georadius(key, longitude, latitude, distance, unit) }
 
     override fun georadius(
         key: K,
@@ -92,20 +90,20 @@ internal class RedisGeoCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         unit: GeoArgs.Unit,
         geoArgs: GeoArgs
     ): Flow<GeoWithin<V>> =
-        ops.georadius(key, longitude, latitude, distance, unit, geoArgs).asFlow()
+        futureFlow { ops.georadius(key, longitude, latitude, distance, unit, geoArgs) }
 
-    override suspend fun georadius(key: K, longitude: Double, latitude: Double, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs).awaitFirstOrNull()
+    override suspend fun georadius(key: K, longitude: Double, latitude: Double, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadius(key, longitude, latitude, distance, unit, geoRadiusStoreArgs).await()
 
-    override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit): Flow<V> = ops.georadiusbymember(key, member, distance, unit).asFlow()
+    override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit): Flow<V> = futureFlow { ops.georadiusbymember(key, member, distance, unit) }
 
-    override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoArgs: GeoArgs): Flow<GeoWithin<V>> = ops.georadiusbymember(key, member, distance, unit, geoArgs).asFlow()
+    override fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoArgs: GeoArgs): Flow<GeoWithin<V>> = futureFlow { ops.georadiusbymember(key, member, distance, unit, geoArgs) }
 
-    override suspend fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs).awaitFirstOrNull()
+    override suspend fun georadiusbymember(key: K, member: V, distance: Double, unit: GeoArgs.Unit, geoRadiusStoreArgs: GeoRadiusStoreArgs<K>): Long? = ops.georadiusbymember(key, member, distance, unit, geoRadiusStoreArgs).await()
 
-    override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate): Flow<V> = ops.geosearch(key, reference, predicate).asFlow()
+    override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate): Flow<V> = futureFlow { ops.geosearch(key, reference, predicate) }
 
-    override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs): Flow<GeoWithin<V>>  = ops.geosearch(key, reference, predicate, geoArgs).asFlow()
+    override fun geosearch(key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs): Flow<GeoWithin<V>>  = futureFlow { ops.geosearch(key, reference, predicate, geoArgs) }
 
-    override suspend fun geosearchstore(destination: K, key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs, storeDist: Boolean): Long? = ops.geosearchstore(destination, key, reference, predicate, geoArgs, storeDist).awaitFirstOrNull()
+    override suspend fun geosearchstore(destination: K, key: K, reference: GeoSearch.GeoRef<K>, predicate: GeoSearch.GeoPredicate, geoArgs: GeoArgs, storeDist: Boolean): Long? = ops.geosearchstore(destination, key, reference, predicate, geoArgs, storeDist).await()
 }
 
@@ -17,12 +17,12 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
-import io.lettuce.core.api.reactive.RedisHLLReactiveCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import io.lettuce.core.api.async.RedisHLLAsyncCommands
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for HyperLogLog (PF* commands).
+ * Coroutine executed commands (based on asynchronous commands) for HyperLogLog (PF* commands).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -30,13 +30,13 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisHLLCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisHLLReactiveCommands<K, V>) : RedisHLLCoroutinesCommands<K, V> {
+internal class RedisHLLCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisHLLAsyncCommands<K, V>) : RedisHLLCoroutinesCommands<K, V> {
 
-    override suspend fun pfadd(key: K, vararg values: V): Long? = ops.pfadd(key, *values).awaitFirstOrNull()
+    override suspend fun pfadd(key: K, vararg values: V): Long? = ops.pfadd(key, *values).await()
 
-    override suspend fun pfmerge(destkey: K, vararg sourcekeys: K): String? = ops.pfmerge(destkey, *sourcekeys).awaitFirstOrNull()
+    override suspend fun pfmerge(destkey: K, vararg sourcekeys: K): String? = ops.pfmerge(destkey, *sourcekeys).await()
 
-    override suspend fun pfcount(vararg keys: K): Long? = ops.pfcount(*keys).awaitFirstOrNull()
+    override suspend fun pfcount(vararg keys: K): Long? = ops.pfcount(*keys).await()
 
 }
 
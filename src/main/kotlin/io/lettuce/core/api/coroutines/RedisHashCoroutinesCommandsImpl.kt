@@ -17,15 +17,16 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisHashReactiveCommands
+import io.lettuce.core.api.async.RedisHashAsyncCommands
+import io.lettuce.core.output.KeyStreamingChannel
+import io.lettuce.core.output.KeyValueStreamingChannel
+import io.lettuce.core.output.ValueStreamingChannel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Hashes (Key-Value pairs).
+ * Coroutine executed commands (based on asynchronous commands) for Hashes (Key-Value pairs).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -33,66 +34,66 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisHashCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisHashReactiveCommands<K, V>) : RedisHashCoroutinesCommands<K, V> {
+internal class RedisHashCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisHashAsyncCommands<K, V>) : RedisHashCoroutinesCommands<K, V> {
 
-    override suspend fun hdel(key: K, vararg fields: K): Long? = ops.hdel(key, *fields).awaitFirstOrNull()
+    override suspend fun hdel(key: K, vararg fields: K): Long? = ops.hdel(key, *fields).await()
 
-    override suspend fun hexists(key: K, field: K): Boolean? = ops.hexists(key, field).awaitFirstOrNull()
+    override suspend fun hexists(key: K, field: K): Boolean? = ops.hexists(key, field).await()
 
-    override suspend fun hget(key: K, field: K): V? = ops.hget(key, field).awaitFirstOrNull()
+    override suspend fun hget(key: K, field: K): V? = ops.hget(key, field).await()
 
-    override suspend fun hincrby(key: K, field: K, amount: Long): Long? = ops.hincrby(key, field, amount).awaitFirstOrNull()
+    override suspend fun hincrby(key: K, field: K, amount: Long): Long? = ops.hincrby(key, field, amount).await()
 
     override suspend fun hincrbyfloat(key: K, field: K, amount: Double): Double? =
-        ops.hincrbyfloat(key, field, amount).awaitFirstOrNull()
+        ops.hincrbyfloat(key, field, amount).await()
 
-    override fun hgetall(key: K): Flow<KeyValue<K, V>> = ops.hgetall(key).asFlow()
+    override fun hgetall(key: K): Flow<KeyValue<K, V>> = streamingFlow { send -> ops.hgetall(KeyValueStreamingChannel<K, V> { k, v -> send(KeyValue.fromNullable(k, v)) }, key) }
 
-    override fun hkeys(key: K): Flow<K> = ops.hkeys(key).asFlow()
+    override fun hkeys(key: K): Flow<K> = streamingFlow { send -> ops.hkeys(KeyStreamingChannel<K> { send(it) }, key) }
 
-    override suspend fun hlen(key: K): Long? = ops.hlen(key).awaitFirstOrNull()
+    override suspend fun hlen(key: K): Long? = ops.hlen(key).await()
 
     override fun hmget(key: K, vararg fields: K): Flow<KeyValue<K, V>> =
-        ops.hmget(key, *fields).asFlow()
+        streamingFlow { send -> ops.hmget(KeyValueStreamingChannel<K, V> { k, v -> send(KeyValue.fromNullable(k, v)) }, key, *fields) }
 
-    override suspend fun hrandfield(key: K): K? = ops.hrandfield(key).awaitFirstOrNull();
+    override suspend fun hrandfield(key: K): K? = ops.hrandfield(key).await();
 
     override suspend fun hrandfield(key: K, count: Long): List<K> =
-        ops.hrandfield(key, count).asFlow().toList()
+        ops.hrandfield(key, count).await()
 
     override suspend fun hrandfieldWithvalues(key: K): KeyValue<K, V>? =
-        ops.hrandfieldWithvalues(key).awaitFirstOrNull();
+        ops.hrandfieldWithvalues(key).await();
 
     override suspend fun hrandfieldWithvalues(key: K, count: Long): List<KeyValue<K, V>> =
-        ops.hrandfieldWithvalues(key, count).asFlow().toList()
+        ops.hrandfieldWithvalues(key, count).await()
 
     override suspend fun hmset(key: K, map: Map<K, V>): String? =
-        ops.hmset(key, map).awaitFirstOrNull()
+        ops.hmset(key, map).await()
 
     override suspend fun hscan(key: K): MapScanCursor<K, V>? =
-        ops.hscan(key).awaitFirstOrNull()
+        ops.hscan(key).await()
 
     override suspend fun hscan(key: K, scanArgs: ScanArgs): MapScanCursor<K, V>? =
-        ops.hscan(key, scanArgs).awaitFirstOrNull()
+        ops.hscan(key, scanArgs).await()
 
     override suspend fun hscan(
         key: K,
         scanCursor: ScanCursor,
         scanArgs: ScanArgs
-    ): MapScanCursor<K, V>? = ops.hscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    ): MapScanCursor<K, V>? = ops.hscan(key, scanCursor, scanArgs).await()
 
     override suspend fun hscan(key: K, scanCursor: ScanCursor): MapScanCursor<K, V>? =
-        ops.hscan(key, scanCursor).awaitFirstOrNull()
+        ops.hscan(key, scanCursor).await()
 
-    override suspend fun hset(key: K, field: K, value: V): Boolean? = ops.hset(key, field, value).awaitFirstOrNull()
+    override suspend fun hset(key: K, field: K, value: V): Boolean? = ops.hset(key, field, value).await()
 
-    override suspend fun hset(key: K, map: Map<K, V>): Long? = ops.hset(key, map).awaitFirstOrNull()
+    override suspend fun hset(key: K, map: Map<K, V>): Long? = ops.hset(key, map).await()
 
-    override suspend fun hsetnx(key: K, field: K, value: V): Boolean? = ops.hsetnx(key, field, value).awaitFirstOrNull()
+    override suspend fun hsetnx(key: K, field: K, value: V): Boolean? = ops.hsetnx(key, field, value).await()
 
-    override suspend fun hstrlen(key: K, field: K): Long? = ops.hstrlen(key, field).awaitFirstOrNull()
+    override suspend fun hstrlen(key: K, field: K): Long? = ops.hstrlen(key, field).await()
 
-    override fun hvals(key: K): Flow<V> = ops.hvals(key).asFlow()
+    override fun hvals(key: K): Flow<V> = streamingFlow { send -> ops.hvals(ValueStreamingChannel<V> { send(it) }, key) }
 
 }
 
@@ -17,16 +17,17 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisKeyReactiveCommands
+import io.lettuce.core.api.async.RedisKeyAsyncCommands
+import io.lettuce.core.output.KeyStreamingChannel
+import io.lettuce.core.output.ValueStreamingChannel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 import java.time.Duration
 import java.time.Instant
 import java.util.*
 
 /**
- * Coroutine executed commands (based on reactive commands) for Keys (Key manipulation/querying).
+ * Coroutine executed commands (based on asynchronous commands) for Keys (Key manipulation/querying).
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -34,77 +35,77 @@ import java.util.*
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisKeyReactiveCommands<K, V>) :
+internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisKeyAsyncCommands<K, V>) :
     RedisKeyCoroutinesCommands<K, V> {
 
     override suspend fun copy(source: K, destination: K): Boolean? =
-        ops.copy(source, destination).awaitFirstOrNull()
+        ops.copy(source, destination).await()
 
     override suspend fun copy(source: K, destination: K, copyArgs: CopyArgs): Boolean? =
-        ops.copy(source, destination, copyArgs).awaitFirstOrNull()
+        ops.copy(source, destination, copyArgs).await()
 
-    override suspend fun del(vararg keys: K): Long? = ops.del(*keys).awaitFirstOrNull()
+    override suspend fun del(vararg keys: K): Long? = ops.del(*keys).await()
 
     override suspend fun unlink(vararg keys: K): Long? =
-        ops.unlink(*keys).awaitFirstOrNull()
+        ops.unlink(*keys).await()
 
-    override suspend fun dump(key: K): ByteArray? = ops.dump(key).awaitFirstOrNull()
+    override suspend fun dump(key: K): ByteArray? = ops.dump(key).await()
 
     override suspend fun exists(vararg keys: K): Long? =
-        ops.exists(*keys).awaitFirstOrNull()
+        ops.exists(*keys).await()
 
     override suspend fun expire(key: K, seconds: Long): Boolean? =
-        ops.expire(key, seconds).awaitFirstOrNull()
+        ops.expire(key, seconds).await()
 
     override suspend fun expire(key: K, seconds: Long, expireArgs: ExpireArgs): Boolean? =
-        ops.expire(key, seconds, expireArgs).awaitFirstOrNull()
+        ops.expire(key, seconds, expireArgs).await()
 
 
     override suspend fun expire(key: K, seconds: Duration): Boolean? =
-        ops.expire(key, seconds).awaitFirstOrNull()
+        ops.expire(key, seconds).await()
 
     override suspend fun expire(
         key: K,
         seconds: Duration,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expire(key, seconds, expireArgs).awaitFirstOrNull()
+        ops.expire(key, seconds, expireArgs).await()
 
     override suspend fun expireat(key: K, timestamp: Date): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        ops.expireat(key, timestamp).await()
 
     override suspend fun expireat(
         key: K,
         timestamp: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.expireat(key, timestamp, expireArgs).await()
 
     override suspend fun expireat(key: K, timestamp: Instant): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        ops.expireat(key, timestamp).await()
 
     override suspend fun expireat(
         key: K,
         timestamp: Instant,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.expireat(key, timestamp, expireArgs).await()
 
     override suspend fun expireat(key: K, timestamp: Long): Boolean? =
-        ops.expireat(key, timestamp).awaitFirstOrNull()
+        ops.expireat(key, timestamp).await()
 
     override suspend fun expireat(
         key: K,
         timestamp: Date,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.expireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.expireat(key, timestamp, expireArgs).await()
 
 
     override suspend fun expiretime(key: K): Long? =
-        ops.expiretime(key).awaitFirstOrNull()
+        ops.expiretime(key).await()
 
-    override fun keys(pattern: K): Flow<K> = ops.keys(pattern).asFlow()
+    override fun keys(pattern: K): Flow<K> = streamingFlow { send -> ops.keys(KeyStreamingChannel<K> { send(it) }, pattern) }
 
     override suspend fun migrate(
         host: String,
@@ -112,7 +113,7 @@ internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         key: K,
         db: Int,
         timeout: Long
-    ): String? = ops.migrate(host, port, key, db, timeout).awaitFirstOrNull()
+    ): String? = ops.migrate(host, port, key, db, timeout).await()
 
     override suspend fun migrate(
         host: String,
@@ -120,126 +121,126 @@ internal class RedisKeyCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops
         db: Int,
         timeout: Long,
         migrateArgs: MigrateArgs<K>
-    ): String? = ops.migrate(host, port, db, timeout, migrateArgs).awaitFirstOrNull()
+    ): String? = ops.migrate(host, port, db, timeout, migrateArgs).await()
 
     override suspend fun move(key: K, db: Int): Boolean? =
-        ops.move(key, db).awaitFirstOrNull()
+        ops.move(key, db).await()
 
     override suspend fun objectEncoding(key: K): String? =
-        ops.objectEncoding(key).awaitFirstOrNull()
+        ops.objectEncoding(key).await()
 
     override suspend fun objectFreq(key: K): Long? =
-        ops.objectFreq(key).awaitFirstOrNull()
+        ops.objectFreq(key).await()
 
     override suspend fun objectIdletime(key: K): Long? =
-        ops.objectIdletime(key).awaitFirstOrNull()
+        ops.objectIdletime(key).await()
 
     override suspend fun objectRefcount(key: K): Long? =
-        ops.objectRefcount(key).awaitFirstOrNull()
+        ops.objectRefcount(key).await()
 
-    override suspend fun persist(key: K): Boolean? = ops.persist(key).awaitFirstOrNull()
+    override suspend fun persist(key: K): Boolean? = ops.persist(key).await()
 
     override suspend fun pexpire(key: K, milliseconds: Long): Boolean? =
-        ops.pexpire(key, milliseconds).awaitFirstOrNull()
+        ops.pexpire(key, milliseconds).await()
 
     override suspend fun pexpire(
         key: K,
         milliseconds: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpire(key, milliseconds, expireArgs).awaitFirstOrNull()
+        ops.pexpire(key, milliseconds, expireArgs).await()
 
     override suspend fun pexpire(key: K, milliseconds: Duration): Boolean? =
-        ops.pexpire(key, milliseconds).awaitFirstOrNull()
+        ops.pexpire(key, milliseconds).await()
 
     override suspend fun pexpire(
         key: K,
         milliseconds: Duration,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpire(key, milliseconds, expireArgs).awaitFirstOrNull()
+        ops.pexpire(key, milliseconds, expireArgs).await()
 
     override suspend fun pexpireat(key: K, timestamp: Long): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp).await()
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Long,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp, expireArgs).await()
 
     override suspend fun pexpireat(key: K, timestamp: Date): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp).await()
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Date,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp, expireArgs).await()
 
     override suspend fun pexpireat(key: K, timestamp: Instant): Boolean? =
-        ops.pexpireat(key, timestamp).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp).await()
 
     override suspend fun pexpireat(
         key: K,
         timestamp: Instant,
         expireArgs: ExpireArgs
     ): Boolean? =
-        ops.pexpireat(key, timestamp, expireArgs).awaitFirstOrNull()
+        ops.pexpireat(key, timestamp, expireArgs).await()
 
     override suspend fun pexpiretime(key: K): Long? =
-        ops.pexpiretime(key).awaitFirstOrNull()
+        ops.pexpiretime(key).await()
 
-    override suspend fun pttl(key: K): Long? = ops.pttl(key).awaitFirstOrNull()
+    override suspend fun pttl(key: K): Long? = ops.pttl(key).await()
 
-    override suspend fun randomkey(): K? = ops.randomkey().awaitFirstOrNull()
+    override suspend fun randomkey(): K? = ops.randomkey().await()
 
     override suspend fun rename(key: K, newKey: K): String? =
-        ops.rename(key, newKey).awaitFirstOrNull()
+        ops.rename(key, newKey).await()
 
     override suspend fun renamenx(key: K, newKey: K): Boolean? =
-        ops.renamenx(key, newKey).awaitFirstOrNull()
+        ops.renamenx(key, newKey).await()
 
     override suspend fun restore(key: K, ttl: Long, value: ByteArray): String? =
-        ops.restore(key, ttl, value).awaitFirstOrNull()
+        ops.restore(key, ttl, value).await()
 
     override suspend fun restore(key: K, value: ByteArray, args: RestoreArgs): String? =
-        ops.restore(key, value, args).awaitFirstOrNull()
+        ops.restore(key, value, args).await()
 
-    override fun sort(key: K): Flow<V> = ops.sort(key).asFlow()
+    override fun sort(key: K): Flow<V> = streamingFlow { send -> ops.sort(ValueStreamingChannel<V> { send(it) }, key) }
 
     override fun sort(key: K, sortArgs: SortArgs): Flow<V> =
-        ops.sort(key, sortArgs).asFlow()
+        streamingFlow { send -> ops.sort(ValueStreamingChannel<V> { send(it) }, key, sortArgs) }
 
-    override fun sortReadOnly(key: K): Flow<V> = ops.sortReadOnly(key).asFlow()
+    override fun sortReadOnly(key: K): Flow<V> = streamingFlow { send -> ops.sortReadOnly(ValueStreamingChannel<V> { send(it) }, key) }
 
     override fun sortReadOnly(key: K, sortArgs: SortArgs): Flow<V> =
-        ops.sortReadOnly(key, sortArgs).asFlow()
+        streamingFlow { send -> ops.sortReadOnly(ValueStreamingChannel<V> { send(it) }, key, sortArgs) }
 
     override suspend fun sortStore(key: K, sortArgs: SortArgs, destination: K): Long? =
-        ops.sortStore(key, sortArgs, destination).awaitFirstOrNull()
+        ops.sortStore(key, sortArgs, destination).await()
 
     override suspend fun touch(vararg keys: K): Long? =
-        ops.touch(*keys).awaitFirstOrNull()
+        ops.touch(*keys).await()
 
-    override suspend fun ttl(key: K): Long? = ops.ttl(key).awaitFirstOrNull()
+    override suspend fun ttl(key: K): Long? = ops.ttl(key).await()
 
-    override suspend fun type(key: K): String? = ops.type(key).awaitFirstOrNull()
+    override suspend fun type(key: K): String? = ops.type(key).await()
 
-    override suspend fun scan(): KeyScanCursor<K>? = ops.scan().awaitFirstOrNull()
+    override suspend fun scan(): KeyScanCursor<K>? = ops.scan().await()
 
     override suspend fun scan(scanArgs: ScanArgs): KeyScanCursor<K>? =
-        ops.scan(scanArgs).awaitFirstOrNull()
+        ops.scan(scanArgs).await()
 
     override suspend fun scan(
         scanCursor: ScanCursor,
         scanArgs: ScanArgs
-    ): KeyScanCursor<K>? = ops.scan(scanCursor, scanArgs).awaitFirstOrNull()
+    ): KeyScanCursor<K>? = ops.scan(scanCursor, scanArgs).await()
 
     override suspend fun scan(scanCursor: ScanCursor): KeyScanCursor<K>? =
-        ops.scan(scanCursor).awaitFirstOrNull()
+        ops.scan(scanCursor).await()
 
 }
 
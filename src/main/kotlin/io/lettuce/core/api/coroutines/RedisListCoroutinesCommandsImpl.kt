@@ -17,24 +17,21 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisListReactiveCommands
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import io.lettuce.core.api.async.RedisListAsyncCommands
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Lists.
+ * Coroutine executed commands (based on asynchronous commands) for Lists.
  *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Mikhael Sokolov
  * @since 6.0
  *
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisListReactiveCommands<K, V>) :
+internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisListAsyncCommands<K, V>) :
     RedisListCoroutinesCommands<K, V> {
 
     override suspend fun blmove(
@@ -42,108 +39,108 @@ internal class RedisListCoroutinesCommandsImpl<K : Any, V : Any>(internal val op
         destination: K,
         args: LMoveArgs,
         timeout: Long
-    ): V? = ops.blmove(source, destination, args, timeout).awaitFirstOrNull()
+    ): V? = ops.blmove(source, destination, args, timeout).await()
 
     override suspend fun blmove(
         source: K,
         destination: K,
         args: LMoveArgs,
         timeout: Double
-    ): V? = ops.blmove(source, destination, args, timeout).awaitFirstOrNull()
+    ): V? = ops.blmove(source, destination, args, timeout).await()
 
     override suspend fun blmpop(
         timeout: Long,
         args: LMPopArgs,
         vararg keys: K
     ): KeyValue<K, List<V>>? =
-        ops.blmpop(timeout, args, *keys).awaitFirstOrNull()
+        ops.blmpop(timeout, args, *keys).await()
 
     override suspend fun blmpop(
         timeout: Double,
         args: LMPopArgs,
         vararg keys: K
     ): KeyValue<K, List<V>>? =
-        ops.blmpop(timeout, args, *keys).awaitFirstOrNull()
+        ops.blmpop(timeout, args, *keys).await()
 
     override suspend fun blpop(timeout: Long, vararg keys: K): KeyValue<K, V>? =
-        ops.blpop(timeout, *keys).awaitFirstOrNull()
+        ops.blpop(timeout, *keys).await()
 
     override suspend fun blpop(timeout: Double, vararg keys: K): KeyValue<K, V>? =
-        ops.blpop(timeout, *keys).awaitFirstOrNull()
+        ops.blpop(timeout, *keys).await()
 
     override suspend fun brpop(timeout: Long, vararg keys: K): KeyValue<K, V>? =
-        ops.brpop(timeout, *keys).awaitFirstOrNull()
+        ops.brpop(timeout, *keys).await()
 
     override suspend fun brpop(timeout: Double, vararg keys: K): KeyValue<K, V>? =
-        ops.brpop(timeout, *keys).awaitFirstOrNull()
+        ops.brpop(timeout, *keys).await()
 
     override suspend fun brpoplpush(timeout: Long, source: K, destination: K): V? =
-        ops.brpoplpush(timeout, source, destination).awaitFirstOrNull()
+        ops.brpoplpush(timeout, source, destination).await()
 
     override suspend fun brpoplpush(timeout: Double, source: K, destination: K): V? =
-        ops.brpoplpush(timeout, source, destination).awaitFirstOrNull()
+        ops.brpoplpush(timeout, source, destination).await()
 
     override suspend fun lindex(key: K, index: Long): V? =
-        ops.lindex(key, index).awaitFirstOrNull()
+        ops.lindex(key, index).await()
 
     override suspend fun linsert(key: K, before: Boolean, pivot: V, value: V): Long? =
-        ops.linsert(key, before, pivot, value).awaitFirstOrNull()
+        ops.linsert(key, before, pivot, value).await()
 
-    override suspend fun llen(key: K): Long? = ops.llen(key).awaitFirstOrNull()
+    override suspend fun llen(key: K): Long? = ops.llen(key).await()
 
     override suspend fun lmove(source: K, destination: K, args: LMoveArgs): V? =
-        ops.lmove(source, destination, args).awaitFirstOrNull()
+        ops.lmove(source, destination, args).await()
 
     override suspend fun lmpop(args: LMPopArgs, vararg keys: K): KeyValue<K, List<V>>? =
-        ops.lmpop(args, *keys).awaitFirstOrNull()
+        ops.lmpop(args, *keys).await()
 
-    override suspend fun lpop(key: K): V? = ops.lpop(key).awaitFirstOrNull()
+    override suspend fun lpop(key: K): V? = ops.lpop(key).await()
 
     override suspend fun lpop(key: K, count: Long): List<V> =
-        ops.lpop(key, count).asFlow().toList()
+        ops.lpop(key, count).await()
 
     override suspend fun lpos(key: K, value: V): Long? =
-        ops.lpos(key, value).awaitFirstOrNull()
+        ops.lpos(key, value).await()
 
     override suspend fun lpos(key: K, value: V, args: LPosArgs): Long? =
-        ops.lpos(key, value, args).awaitFirstOrNull()
+        ops.lpos(key, value, args).await()
 
     override suspend fun lpos(key: K, value: V, count: Int): List<Long> =
-        ops.lpos(key, value, count).asFlow().toList()
+        ops.lpos(key, value, count).await()
 
     override suspend fun lpos(key: K, value: V, count: Int, args: LPosArgs): List<Long> =
-        ops.lpos(key, value, count, args).asFlow().toList()
+        ops.lpos(key, value, count, args).await()
 
     override suspend fun lpush(key: K, vararg values: V): Long? =
-        ops.lpush(key, *values).awaitFirstOrNull()
+        ops.lpush(key, *values).await()
 
     override suspend fun lpushx(key: K, vararg values: V): Long? =
-        ops.lpushx(key, *values).awaitFirstOrNull()
+        ops.lpushx(key, *values).await()
 
     override suspend fun lrange(key: K, start: Long, stop: Long): List<V> =
-        ops.lrange(key, start, stop).asFlow().toList()
+        ops.lrange(key, start, stop).await()
 
     override suspend fun lrem(key: K, count: Long, value: V): Long? =
-        ops.lrem(key, count, value).awaitFirstOrNull()
+        ops.lrem(key, count, value).await()
 
     override suspend fun lset(key: K, index: Long, value: V): String? =
-        ops.lset(key, index, value).awaitFirstOrNull()
+        ops.lset(key, index, value).await()
 
     override suspend fun ltrim(key: K, start: Long, stop: Long): String? =
-        ops.ltrim(key, start, stop).awaitFirstOrNull()
+        ops.ltrim(key, start, stop).await()
 
-    override suspend fun rpop(key: K): V? = ops.rpop(key).awaitFirstOrNull()
+    override suspend fun rpop(key: K): V? = ops.rpop(key).await()
 
     override suspend fun rpop(key: K, count: Long): List<V> =
-        ops.rpop(key, count).asFlow().toList()
+        ops.rpop(key, count).await()
 
     override suspend fun rpoplpush(source: K, destination: K): V? =
-        ops.rpoplpush(source, destination).awaitFirstOrNull()
+        ops.rpoplpush(source, destination).await()
 
     override suspend fun rpush(key: K, vararg values: V): Long? =
-        ops.rpush(key, *values).awaitFirstOrNull()
+        ops.rpush(key, *values).await()
 
     override suspend fun rpushx(key: K, vararg values: V): Long? =
-        ops.rpushx(key, *values).awaitFirstOrNull()
+        ops.rpushx(key, *values).await()
 }
 
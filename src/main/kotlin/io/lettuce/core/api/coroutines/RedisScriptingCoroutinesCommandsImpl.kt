@@ -19,14 +19,12 @@ package io.lettuce.core.api.coroutines
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.FlushMode
 import io.lettuce.core.ScriptOutputType
-import io.lettuce.core.api.reactive.RedisScriptingReactiveCommands
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Scripting. [Lua scripts][java.lang.String] are encoded by using the configured
+ * Coroutine executed commands (based on asynchronous commands) for Scripting. [Lua scripts][java.lang.String] are encoded by using the configured
  * [charset][io.lettuce.core.ClientOptions#getScriptCharset()].
  *
  * @param <K> Key type.
@@ -34,48 +32,47 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @author Mikhael Sokolov
  * @since 6.0
  *
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisScriptingCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisScriptingReactiveCommands<K, V>) : RedisScriptingCoroutinesCommands<K, V> {
+internal class RedisScriptingCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisScriptingAsyncCommands<K, V>) : RedisScriptingCoroutinesCommands<K, V> {
 
-    override suspend fun <T> eval(script: String, type: ScriptOutputType, vararg keys: K): T? = ops.eval<T>(script, type, *keys).awaitFirstOrNull()
+    override suspend fun <T> eval(script: String, type: ScriptOutputType, vararg keys: K): T? = ops.eval<T>(script, type, *keys).await()
 
-    override suspend fun <T> eval(script: ByteArray, type: ScriptOutputType, vararg keys: K): T? = ops.eval<T>(script, type, *keys).awaitFirstOrNull()
+    override suspend fun <T> eval(script: ByteArray, type: ScriptOutputType, vararg keys: K): T? = ops.eval<T>(script, type, *keys).await()
 
-    override suspend fun <T> eval(script: String, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.eval<T>(script, type, keys, *values).awaitFirstOrNull()
+    override suspend fun <T> eval(script: String, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.eval<T>(script, type, keys, *values).await()
 
-    override suspend fun <T> eval(script: ByteArray, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.eval<T>(script, type, keys, *values).awaitFirstOrNull()
+    override suspend fun <T> eval(script: ByteArray, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.eval<T>(script, type, keys, *values).await()
 
     override suspend fun <T> evalReadOnly(
         script: ByteArray,
         type: ScriptOutputType,
         keys: Array<K>,
         vararg values: V
-    ): T? = ops.evalReadOnly<T>(script, type, keys, *values).awaitFirstOrNull()
+    ): T? = ops.evalReadOnly<T>(script, type, keys, *values).await()
 
-    override suspend fun <T> evalsha(digest: String, type: ScriptOutputType, vararg keys: K): T? = ops.evalsha<T>(digest, type, *keys).awaitFirstOrNull()
+    override suspend fun <T> evalsha(digest: String, type: ScriptOutputType, vararg keys: K): T? = ops.evalsha<T>(digest, type, *keys).await()
 
-    override suspend fun <T> evalsha(digest: String, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.evalsha<T>(digest, type, keys, *values).awaitFirstOrNull()
+    override suspend fun <T> evalsha(digest: String, type: ScriptOutputType, keys: Array<K>, vararg values: V): T? = ops.evalsha<T>(digest, type, keys, *values).await()
 
     override suspend fun <T> evalshaReadOnly(
         digest: String,
         type: ScriptOutputType,
         keys: Array<K>,
         vararg values: V
-    ): T? = ops.evalshaReadOnly<T>(digest, type, keys, *values).awaitFirstOrNull()
+    ): T? = ops.evalshaReadOnly<T>(digest, type, keys, *values).await()
 
-    override suspend fun scriptExists(vararg digests: String): List<Boolean> = ops.scriptExists(*digests).asFlow().toList()
+    override suspend fun scriptExists(vararg digests: String): List<Boolean> = ops.scriptExists(*digests).await()
 
-    override suspend fun scriptFlush(): String? = ops.scriptFlush().awaitFirstOrNull()
+    override suspend fun scriptFlush(): String? = ops.scriptFlush().await()
 
-    override suspend fun scriptFlush(flushMode: FlushMode): String? = ops.scriptFlush(flushMode).awaitFirstOrNull()
+    override suspend fun scriptFlush(flushMode: FlushMode): String? = ops.scriptFlush(flushMode).await()
 
-    override suspend fun scriptKill(): String? = ops.scriptKill().awaitFirstOrNull()
+    override suspend fun scriptKill(): String? = ops.scriptKill().await()
 
-    override suspend fun scriptLoad(script: String): String? = ops.scriptLoad(script).awaitFirstOrNull()
+    override suspend fun scriptLoad(script: String): String? = ops.scriptLoad(script).await()
 
-    override suspend fun scriptLoad(script: ByteArray): String? = ops.scriptLoad(script).awaitFirstOrNull()
+    override suspend fun scriptLoad(script: ByteArray): String? = ops.scriptLoad(script).await()
 
     override suspend fun digest(script: String): String = ops.digest(script)
 
@@ -17,151 +17,148 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisServerReactiveCommands
+import io.lettuce.core.api.async.RedisServerAsyncCommands
 import io.lettuce.core.protocol.CommandType
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 import java.util.*
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Server Control.
+ * Coroutine executed commands (based on asynchronous commands) for Server Control.
  *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Mikhael Sokolov
  * @since 6.0
  *
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisServerCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisServerReactiveCommands<K, V>) : RedisServerCoroutinesCommands<K, V> {
+internal class RedisServerCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisServerAsyncCommands<K, V>) : RedisServerCoroutinesCommands<K, V> {
 
-    override suspend fun bgrewriteaof(): String? = ops.bgrewriteaof().awaitFirstOrNull()
+    override suspend fun bgrewriteaof(): String? = ops.bgrewriteaof().await()
 
-    override suspend fun bgsave(): String? = ops.bgsave().awaitFirstOrNull()
+    override suspend fun bgsave(): String? = ops.bgsave().await()
 
-    override suspend fun clientCaching(enabled: Boolean): String? = ops.clientCaching(enabled).awaitFirstOrNull()
+    override suspend fun clientCaching(enabled: Boolean): String? = ops.clientCaching(enabled).await()
 
-    override suspend fun clientGetname(): K? = ops.clientGetname().awaitFirstOrNull()
+    override suspend fun clientGetname(): K? = ops.clientGetname().await()
 
-    override suspend fun clientGetredir(): Long? = ops.clientGetredir().awaitFirstOrNull()
+    override suspend fun clientGetredir(): Long? = ops.clientGetredir().await()
 
-    override suspend fun clientId(): Long? = ops.clientId().awaitFirstOrNull()
+    override suspend fun clientId(): Long? = ops.clientId().await()
 
-    override suspend fun clientKill(addr: String): String? = ops.clientKill(addr).awaitFirstOrNull()
+    override suspend fun clientKill(addr: String): String? = ops.clientKill(addr).await()
 
-    override suspend fun clientKill(killArgs: KillArgs): Long? = ops.clientKill(killArgs).awaitFirstOrNull()
+    override suspend fun clientKill(killArgs: KillArgs): Long? = ops.clientKill(killArgs).await()
 
-    override suspend fun clientList(): String? = ops.clientList().awaitFirstOrNull()
+    override suspend fun clientList(): String? = ops.clientList().await()
 
-    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).awaitFirstOrNull()
+    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).await()
 
-    override suspend fun clientInfo(): String? = ops.clientInfo().awaitFirstOrNull()
+    override suspend fun clientInfo(): String? = ops.clientInfo().await()
 
-    override suspend fun clientNoEvict(on: Boolean): String? = ops.clientNoEvict(on).awaitFirstOrNull()
+    override suspend fun clientNoEvict(on: Boolean): String? = ops.clientNoEvict(on).await()
 
-    override suspend fun clientPause(timeout: Long): String? = ops.clientPause(timeout).awaitFirstOrNull()
+    override suspend fun clientPause(timeout: Long): String? = ops.clientPause(timeout).await()
 
     override suspend fun clientSetinfo(key: String, value: String): String? =
-        ops.clientSetinfo(key, value).awaitFirstOrNull()
+        ops.clientSetinfo(key, value).await()
 
-    override suspend fun clientSetname(name: K): String? = ops.clientSetname(name).awaitFirstOrNull()
+    override suspend fun clientSetname(name: K): String? = ops.clientSetname(name).await()
 
-    override suspend fun clientTracking(args: TrackingArgs): String? = ops.clientTracking(args).awaitFirstOrNull()
+    override suspend fun clientTracking(args: TrackingArgs): String? = ops.clientTracking(args).await()
 
-    override suspend fun clientUnblock(id: Long, type: UnblockType): Long? = ops.clientUnblock(id, type).awaitFirstOrNull()
+    override suspend fun clientUnblock(id: Long, type: UnblockType): Long? = ops.clientUnblock(id, type).await()
 
-    override suspend fun command(): List<Any> = ops.command().asFlow().toList()
+    override suspend fun command(): List<Any> = ops.command().await()
 
-    override suspend fun commandCount(): Long? = ops.commandCount().awaitFirstOrNull()
+    override suspend fun commandCount(): Long? = ops.commandCount().await()
 
-    override suspend fun commandInfo(vararg commands: String): List<Any> = ops.commandInfo(*commands).asFlow().toList()
+    override suspend fun commandInfo(vararg commands: String): List<Any> = ops.commandInfo(*commands).await()
 
-    override suspend fun commandInfo(vararg commands: CommandType): List<Any> = ops.commandInfo(*commands).asFlow().toList()
+    override suspend fun commandInfo(vararg commands: CommandType): List<Any> = ops.commandInfo(*commands).await()
 
-    override suspend fun configGet(parameter: String): Map<String, String>? = ops.configGet(parameter).awaitFirstOrNull()
+    override suspend fun configGet(parameter: String): Map<String, String>? = ops.configGet(parameter).await()
 
-    override suspend fun configGet(vararg parameters: String): Map<String, String>? = ops.configGet(*parameters).awaitFirstOrNull()
+    override suspend fun configGet(vararg parameters: String): Map<String, String>? = ops.configGet(*parameters).await()
 
-    override suspend fun configResetstat(): String? = ops.configResetstat().awaitFirstOrNull()
+    override suspend fun configResetstat(): String? = ops.configResetstat().await()
 
-    override suspend fun configRewrite(): String? = ops.configRewrite().awaitFirstOrNull()
+    override suspend fun configRewrite(): String? = ops.configRewrite().await()
 
-    override suspend fun configSet(parameter: String, value: String): String? = ops.configSet(parameter, value).awaitFirstOrNull()
+    override suspend fun configSet(parameter: String, value: String): String? = ops.configSet(parameter, value).await()
 
-    override suspend fun configSet(kvs: Map<String, String>): String? = ops.configSet(kvs).awaitFirstOrNull()
+    override suspend fun configSet(kvs: Map<String, String>): String? = ops.configSet(kvs).await()
 
-    override suspend fun dbsize(): Long? = ops.dbsize().awaitFirstOrNull()
+    override suspend fun dbsize(): Long? = ops.dbsize().await()
 
-    override suspend fun debugCrashAndRecover(delay: Long): String? = ops.debugCrashAndRecover(delay).awaitFirstOrNull()
+    override suspend fun debugCrashAndRecover(delay: Long): String? = ops.debugCrashAndRecover(delay).await()
 
-    override suspend fun debugHtstats(db: Int): String? = ops.debugHtstats(db).awaitFirstOrNull()
+    override suspend fun debugHtstats(db: Int): String? = ops.debugHtstats(db).await()
 
-    override suspend fun debugObject(key: K): String? = ops.debugObject(key).awaitFirstOrNull()
+    override suspend fun debugObject(key: K): String? = ops.debugObject(key).await()
 
-    override suspend fun debugOom() = ops.debugOom().awaitFirstOrNull().let { Unit }
+    override suspend fun debugOom() = ops.debugOom()
 
-    override suspend fun debugReload(): String? = ops.debugReload().awaitFirstOrNull()
+    override suspend fun debugReload(): String? = ops.debugReload().await()
 
-    override suspend fun debugRestart(delay: Long): String? = ops.debugRestart(delay).awaitFirstOrNull()
+    override suspend fun debugRestart(delay: Long): String? = ops.debugRestart(delay).await()
 
-    override suspend fun debugSdslen(key: K): String? = ops.debugSdslen(key).awaitFirstOrNull()
+    override suspend fun debugSdslen(key: K): String? = ops.debugSdslen(key).await()
 
-    override suspend fun debugSegfault() = ops.debugSegfault().awaitFirstOrNull().let { Unit }
+    override suspend fun debugSegfault() = ops.debugSegfault()
 
-    override suspend fun flushall(): String? = ops.flushall().awaitFirstOrNull()
+    override suspend fun flushall(): String? = ops.flushall().await()
 
-    override suspend fun flushall(flushMode: FlushMode): String? = ops.flushall(flushMode).awaitFirstOrNull()
+    override suspend fun flushall(flushMode: FlushMode): String? = ops.flushall(flushMode).await()
 
-    override suspend fun flushallAsync(): String? = ops.flushallAsync().awaitFirstOrNull()
+    override suspend fun flushallAsync(): String? = ops.flushallAsync().await()
 
-    override suspend fun flushdb(): String? = ops.flushdb().awaitFirstOrNull()
+    override suspend fun flushdb(): String? = ops.flushdb().await()
 
-    override suspend fun flushdb(flushMode: FlushMode): String? = ops.flushdb(flushMode).awaitFirstOrNull()
+    override suspend fun flushdb(flushMode: FlushMode): String? = ops.flushdb(flushMode).await()
 
-    override suspend fun flushdbAsync(): String? = ops.flushdbAsync().awaitFirstOrNull()
+    override suspend fun flushdbAsync(): String? = ops.flushdbAsync().await()
 
-    override suspend fun info(): String? = ops.info().awaitFirstOrNull()
+    override suspend fun info(): String? = ops.info().await()
 
     override suspend fun info(section: String): String? =
-        ops.info(section).awaitFirstOrNull()
+        ops.info(section).await()
 
-    override suspend fun lastsave(): Date? = ops.lastsave().awaitFirstOrNull()
+    override suspend fun lastsave(): Date? = ops.lastsave().await()
 
     override suspend fun memoryUsage(key: K): Long? =
-        ops.memoryUsage(key).awaitFirstOrNull()
+        ops.memoryUsage(key).await()
 
     override suspend fun replicaof(host: String, port: Int): String? =
-        ops.replicaof(host, port).awaitFirstOrNull()
+        ops.replicaof(host, port).await()
 
     override suspend fun replicaofNoOne(): String? =
-        ops.replicaofNoOne().awaitFirstOrNull()
+        ops.replicaofNoOne().await()
 
-    override suspend fun save(): String? = ops.save().awaitFirstOrNull()
+    override suspend fun save(): String? = ops.save().await()
 
     override suspend fun shutdown(save: Boolean) =
-        ops.shutdown(save).awaitFirstOrNull().let { Unit }
+        ops.shutdown(save)
 
     override suspend fun shutdown(args: ShutdownArgs) =
-        ops.shutdown(args).awaitFirstOrNull().let { Unit }
+        ops.shutdown(args)
 
     override suspend fun slaveof(host: String, port: Int): String? =
-        ops.slaveof(host, port).awaitFirstOrNull()
+        ops.slaveof(host, port).await()
 
-    override suspend fun slaveofNoOne(): String? = ops.slaveofNoOne().awaitFirstOrNull()
+    override suspend fun slaveofNoOne(): String? = ops.slaveofNoOne().await()
 
-    override suspend fun slowlogGet(): List<Any> = ops.slowlogGet().asFlow().toList()
+    override suspend fun slowlogGet(): List<Any> = ops.slowlogGet().await()
 
     override suspend fun slowlogGet(count: Int): List<Any> =
-        ops.slowlogGet(count).asFlow().toList()
+        ops.slowlogGet(count).await()
 
-    override suspend fun slowlogLen(): Long? = ops.slowlogLen().awaitFirstOrNull()
+    override suspend fun slowlogLen(): Long? = ops.slowlogLen().await()
 
-    override suspend fun slowlogReset(): String? = ops.slowlogReset().awaitFirstOrNull()
+    override suspend fun slowlogReset(): String? = ops.slowlogReset().await()
 
-    override suspend fun time(): List<V> = ops.time().asFlow().toList()
+    override suspend fun time(): List<V> = ops.time().await()
 
 }
 
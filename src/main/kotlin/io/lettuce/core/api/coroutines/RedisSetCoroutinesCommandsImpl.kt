@@ -20,72 +20,70 @@ import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.ScanArgs
 import io.lettuce.core.ScanCursor
 import io.lettuce.core.ValueScanCursor
-import io.lettuce.core.api.reactive.RedisSetReactiveCommands
+import io.lettuce.core.api.async.RedisSetAsyncCommands
+import io.lettuce.core.output.ValueStreamingChannel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toSet
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Sets.
+ * Coroutine executed commands (based on asynchronous commands) for Sets.
  *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Mikhael Sokolov
  * @since 6.0
  *
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSetReactiveCommands<K, V>) : RedisSetCoroutinesCommands<K, V> {
+internal class RedisSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSetAsyncCommands<K, V>) : RedisSetCoroutinesCommands<K, V> {
 
-    override suspend fun sadd(key: K, vararg members: V): Long? = ops.sadd(key, *members).awaitFirstOrNull()
+    override suspend fun sadd(key: K, vararg members: V): Long? = ops.sadd(key, *members).await()
 
-    override suspend fun scard(key: K): Long? = ops.scard(key).awaitFirstOrNull()
+    override suspend fun scard(key: K): Long? = ops.scard(key).await()
 
-    override fun sdiff(vararg keys: K): Flow<V> = ops.sdiff(*keys).asFlow()
+    override fun sdiff(vararg keys: K): Flow<V> = streamingFlow { send -> ops.sdiff(ValueStreamingChannel<V> { send(it) }, *keys) }
 
-    override suspend fun sdiffstore(destination: K, vararg keys: K): Long? = ops.sdiffstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sdiffstore(destination: K, vararg keys: K): Long? = ops.sdiffstore(destination, *keys).await()
 
-    override fun sinter(vararg keys: K): Flow<V> = ops.sinter(*keys).asFlow()
+    override fun sinter(vararg keys: K): Flow<V> = streamingFlow { send -> ops.sinter(ValueStreamingChannel<V> { send(it) }, *keys) }
 
-    override suspend fun sintercard(vararg keys: K): Long? = ops.sintercard(*keys).awaitFirstOrNull()
+    override suspend fun sintercard(vararg keys: K): Long? = ops.sintercard(*keys).await()
 
     override suspend fun sintercard(limit: Long, vararg keys: K): Long? =
-        ops.sintercard(limit, *keys).awaitFirstOrNull()
+        ops.sintercard(limit, *keys).await()
 
-    override suspend fun sinterstore(destination: K, vararg keys: K): Long? = ops.sinterstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sinterstore(destination: K, vararg keys: K): Long? = ops.sinterstore(destination, *keys).await()
 
-    override suspend fun sismember(key: K, member: V): Boolean? = ops.sismember(key, member).awaitFirstOrNull()
+    override suspend fun sismember(key: K, member: V): Boolean? = ops.sismember(key, member).await()
 
-    override fun smembers(key: K): Flow<V> = ops.smembers(key).asFlow()
+    override fun smembers(key: K): Flow<V> = streamingFlow { send -> ops.smembers(ValueStreamingChannel<V> { send(it) }, key) }
 
-    override fun smismember(key: K, vararg members: V): Flow<Boolean> = ops.smismember(key, *members).asFlow()
+    override fun smismember(key: K, vararg members: V): Flow<Boolean> = futureFlow { ops.smismember(key, *members) }
 
-    override suspend fun smove(source: K, destination: K, member: V): Boolean? = ops.smove(source, destination, member).awaitFirstOrNull()
+    override suspend fun smove(source: K, destination: K, member: V): Boolean? = ops.smove(source, destination, member).await()
 
-    override suspend fun spop(key: K): V? = ops.spop(key).awaitFirstOrNull()
+    override suspend fun spop(key: K): V? = ops.spop(key).await()
 
-    override suspend fun spop(key: K, count: Long): Set<V> = ops.spop(key, count).asFlow().toSet()
+    override suspend fun spop(key: K, count: Long): Set<V> = ops.spop(key, count).await()
 
-    override suspend fun srandmember(key: K): V? = ops.srandmember(key).awaitFirstOrNull()
+    override suspend fun srandmember(key: K): V? = ops.srandmember(key).await()
 
-    override fun srandmember(key: K, count: Long): Flow<V> = ops.srandmember(key, count).asFlow()
+    override fun srandmember(key: K, count: Long): Flow<V> = streamingFlow { send -> ops.srandmember(ValueStreamingChannel<V> { send(it) }, key, count) }
 
-    override suspend fun srem(key: K, vararg members: V): Long? = ops.srem(key, *members).awaitFirstOrNull()
+    override suspend fun srem(key: K, vararg members: V): Long? = ops.srem(key, *members).await()
 
-    override fun sunion(vararg keys: K): Flow<V> = ops.sunion(*keys).asFlow()
+    override fun sunion(vararg keys: K): Flow<V> = streamingFlow { send -> ops.sunion(ValueStreamingChannel<V> { send(it) }, *keys) }
 
-    override suspend fun sunionstore(destination: K, vararg keys: K): Long? = ops.sunionstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun sunionstore(destination: K, vararg keys: K): Long? = ops.sunionstore(destination, *keys).await()
 
-    override suspend fun sscan(key: K): ValueScanCursor<V>? = ops.sscan(key).awaitFirstOrNull()
+    override suspend fun sscan(key: K): ValueScanCursor<V>? = ops.sscan(key).await()
 
-    override suspend fun sscan(key: K, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanArgs).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanArgs).await()
 
-    override suspend fun sscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ValueScanCursor<V>? = ops.sscan(key, scanCursor, scanArgs).await()
 
-    override suspend fun sscan(key: K, scanCursor: ScanCursor): ValueScanCursor<V>? = ops.sscan(key, scanCursor).awaitFirstOrNull()
+    override suspend fun sscan(key: K, scanCursor: ScanCursor): ValueScanCursor<V>? = ops.sscan(key, scanCursor).await()
 
 }
 
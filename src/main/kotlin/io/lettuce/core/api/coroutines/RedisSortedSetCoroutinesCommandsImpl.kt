@@ -17,32 +17,30 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisSortedSetReactiveCommands
+import io.lettuce.core.api.async.RedisSortedSetAsyncCommands
+import io.lettuce.core.output.ScoredValueStreamingChannel
+import io.lettuce.core.output.ValueStreamingChannel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirst
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Sorted Sets.
+ * Coroutine executed commands (based on asynchronous commands) for Sorted Sets.
  *
  * @param <K> Key type.
  * @param <V> Value type.
  * @author Mikhael Sokolov
  * @since 6.0
  *
- * @generated by io.lettuce.apigenerator.CreateKotlinCoroutinesReactiveImplementation
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSortedSetReactiveCommands<K, V>) : RedisSortedSetCoroutinesCommands<K, V> {
+internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSortedSetAsyncCommands<K, V>) : RedisSortedSetCoroutinesCommands<K, V> {
 
     override suspend fun bzmpop(
         timeout: Long,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).await()
 
     override suspend fun bzmpop(
         timeout: Long,
@@ -50,13 +48,13 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
         args: ZPopArgs,
         vararg keys: K
     ): KeyValue<K, List<ScoredValue<V>>> =
-        ops.bzmpop(timeout, count, args, *keys).awaitFirst()
+        ops.bzmpop(timeout, count, args, *keys).await()
 
     override suspend fun bzmpop(
         timeout: Double,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = ops.bzmpop(timeout, args, *keys).await()
 
     override suspend fun bzmpop(
         timeout: Double,
@@ -64,271 +62,271 @@ internal class RedisSortedSetCoroutinesCommandsImpl<K : Any, V : Any>(internal v
         args: ZPopArgs,
         vararg keys: K
     ): KeyValue<K, List<ScoredValue<V>>> =
-        ops.bzmpop(timeout, count, args, *keys).awaitFirst()
+        ops.bzmpop(timeout, count, args, *keys).await()
 
     override suspend fun bzpopmin(
         timeout: Long,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).await()
 
     override suspend fun bzpopmin(
         timeout: Double,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmin(timeout, *keys).await()
 
     override suspend fun bzpopmax(
         timeout: Long,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).await()
 
     override suspend fun bzpopmax(
         timeout: Double,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).awaitFirstOrNull()
+    ): KeyValue<K, ScoredValue<V>>? = ops.bzpopmax(timeout, *keys).await()
 
     override suspend fun zadd(key: K, score: Double, member: V): Long? =
-        ops.zadd(key, score, member).awaitFirstOrNull()
+        ops.zadd(key, score, member).await()
 
     override suspend fun zadd(key: K, vararg scoresAndValues: Any): Long? =
-        ops.zadd(key, *scoresAndValues).awaitFirstOrNull()
+        ops.zadd(key, *scoresAndValues).await()
 
     override suspend fun zadd(key: K, vararg scoredValues: ScoredValue<V>): Long? =
-        ops.zadd(key, *scoredValues).awaitFirstOrNull()
+        ops.zadd(key, *scoredValues).await()
 
     override suspend fun zadd(
         key: K,
         zAddArgs: ZAddArgs,
         score: Double,
         member: V
-    ): Long? = ops.zadd(key, zAddArgs, score, member).awaitFirstOrNull()
+    ): Long? = ops.zadd(key, zAddArgs, score, member).await()
 
     override suspend fun zadd(
         key: K,
         zAddArgs: ZAddArgs,
         vararg scoresAndValues: Any
-    ): Long? = ops.zadd(key, zAddArgs, *scoresAndValues).awaitFirstOrNull()
+    ): Long? = ops.zadd(key, zAddArgs, *scoresAndValues).await()
 
-    override suspend fun zadd(key: K, zAddArgs: ZAddArgs, vararg scoredValues: ScoredValue<V>): Long? = ops.zadd(key, zAddArgs, *scoredValues).awaitFirstOrNull()
+    override suspend fun zadd(key: K, zAddArgs: ZAddArgs, vararg scoredValues: ScoredValue<V>): Long? = ops.zadd(key, zAddArgs, *scoredValues).await()
 
-    override suspend fun zaddincr(key: K, score: Double, member: V): Double? = ops.zaddincr(key, score, member).awaitFirstOrNull()
+    override suspend fun zaddincr(key: K, score: Double, member: V): Double? = ops.zaddincr(key, score, member).await()
 
-    override suspend fun zaddincr(key: K, zAddArgs: ZAddArgs, score: Double, member: V): Double? = ops.zaddincr(key, zAddArgs, score, member).awaitFirstOrNull()
+    override suspend fun zaddincr(key: K, zAddArgs: ZAddArgs, score: Double, member: V): Double? = ops.zaddincr(key, zAddArgs, score, member).await()
 
-    override suspend fun zcard(key: K): Long? = ops.zcard(key).awaitFirstOrNull()
+    override suspend fun zcard(key: K): Long? = ops.zcard(key).await()
 
-    override suspend fun zcount(key: K, range: Range<out Number>): Long? = ops.zcount(key, range).awaitFirstOrNull()
+    override suspend fun zcount(key: K, range: Range<out Number>): Long? = ops.zcount(key, range).await()
 
-    override fun zdiff(vararg keys: K): Flow<V> = ops.zdiff(*keys).asFlow()
+    override fun zdiff(vararg keys: K): Flow<V> = futureFlow { ops.zdiff(*keys) }
 
-    override suspend fun zdiffstore(destKey: K, vararg srcKeys: K): Long? = ops.zdiffstore(destKey, *srcKeys).awaitFirstOrNull()
+    override suspend fun zdiffstore(destKey: K, vararg srcKeys: K): Long? = ops.zdiffstore(destKey, *srcKeys).await()
 
-    override fun zdiffWithScores(vararg keys: K): Flow<ScoredValue<V>> = ops.zdiffWithScores(*keys).asFlow()
+    override fun zdiffWithScores(vararg keys: K): Flow<ScoredValue<V>> = futureFlow { ops.zdiffWithScores(*keys) }
 
-    override suspend fun zincrby(key: K, amount: Double, member: V): Double? = ops.zincrby(key, amount, member).awaitFirstOrNull()
+    override suspend fun zincrby(key: K, amount: Double, member: V): Double? = ops.zincrby(key, amount, member).await()
 
-    override fun zinter(vararg keys: K): Flow<V> = ops.zinter(*keys).asFlow()
+    override fun zinter(vararg keys: K): Flow<V> = futureFlow { ops.zinter(*keys) }
 
-    override fun zinter(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<V> = ops.zinter(aggregateArgs, *keys).asFlow()
+    override fun zinter(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<V> = futureFlow { ops.zinter(aggregateArgs, *keys) }
 
-    override suspend fun zintercard(vararg keys: K): Long? = ops.zintercard(*keys).awaitFirstOrNull()
+    override suspend fun zintercard(vararg keys: K): Long? = ops.zintercard(*keys).await()
 
     override suspend fun zintercard(limit: Long, vararg keys: K): Long? =
-        ops.zintercard(limit, *keys).awaitFirstOrNull()
+        ops.zintercard(limit, *keys).await()
 
-    override fun zinterWithScores(vararg keys: K): Flow<ScoredValue<V>> = ops.zinterWithScores(*keys).asFlow()
+    override fun zinterWithScores(vararg keys: K): Flow<ScoredValue<V>> = futureFlow { ops.zinterWithScores(*keys) }
 
     override fun zinterWithScores(
         aggregateArgs: ZAggregateArgs,
         vararg keys: K
-    ): Flow<ScoredValue<V>> = ops.zinterWithScores(aggregateArgs, *keys).asFlow()
+    ): Flow<ScoredValue<V>> = futureFlow { ops.zinterWithScores(aggregateArgs, *keys) }
 
     override suspend fun zinterstore(destination: K, vararg keys: K): Long? =
-        ops.zinterstore(destination, *keys).awaitFirstOrNull()
+        ops.zinterstore(destination, *keys).await()
 
     override suspend fun zinterstore(
         destination: K,
         storeArgs: ZStoreArgs,
         vararg keys: K
-    ): Long? = ops.zinterstore(destination, storeArgs, *keys).awaitFirstOrNull()
+    ): Long? = ops.zinterstore(destination, storeArgs, *keys).await()
 
     override suspend fun zlexcount(key: K, range: Range<out V>): Long? =
-        ops.zlexcount(key, range).awaitFirstOrNull()
+        ops.zlexcount(key, range).await()
 
     override suspend fun zmscore(key: K, vararg members: V): List<Double?> =
-        ops.zmscore(key, *members).awaitFirstOrNull().orEmpty()
+        ops.zmscore(key, *members).await().orEmpty()
 
     override suspend fun zmpop(
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, ScoredValue<V>> = ops.zmpop(args, *keys).awaitFirst()
+    ): KeyValue<K, ScoredValue<V>> = ops.zmpop(args, *keys).await()
 
     override suspend fun zmpop(
         count: Int,
         args: ZPopArgs,
         vararg keys: K
-    ): KeyValue<K, List<ScoredValue<V>>> = ops.zmpop(count, args, *keys).awaitFirst()
+    ): KeyValue<K, List<ScoredValue<V>>> = ops.zmpop(count, args, *keys).await()
 
     override suspend fun zpopmin(key: K): ScoredValue<V>? =
-        ops.zpopmin(key).awaitFirstOrNull()
+        ops.zpopmin(key).await()
 
     override fun zpopmin(key: K, count: Long): Flow<ScoredValue<V>> =
-        ops.zpopmin(key, count).asFlow()
+        futureFlow { ops.zpopmin(key, count) }
 
     override suspend fun zpopmax(key: K): ScoredValue<V>? =
-        ops.zpopmax(key).awaitFirstOrNull()
+        ops.zpopmax(key).await()
 
     override fun zpopmax(key: K, count: Long): Flow<ScoredValue<V>> =
-        ops.zpopmax(key, count).asFlow()
+        futureFlow { ops.zpopmax(key, count) }
 
-    override suspend fun zrandmember(key: K): V? = ops.zrandmember(key).awaitFirstOrNull()
+    override suspend fun zrandmember(key: K): V? = ops.zrandmember(key).await()
 
     override suspend fun zrandmember(key: K, count: Long): List<V> =
-        ops.zrandmember(key, count).asFlow().toList()
+        ops.zrandmember(key, count).await()
 
     override suspend fun zrandmemberWithScores(key: K): ScoredValue<V>? =
-        ops.zrandmemberWithScores(key).awaitFirstOrNull()
+        ops.zrandmemberWithScores(key).await()
 
     override suspend fun zrandmemberWithScores(
         key: K,
         count: Long
-    ): List<ScoredValue<V>> = ops.zrandmemberWithScores(key, count).asFlow().toList()
+    ): List<ScoredValue<V>> = ops.zrandmemberWithScores(key, count).await()
 
     override fun zrange(key: K, start: Long, stop: Long): Flow<V> =
-        ops.zrange(key, start, stop).asFlow()
+        streamingFlow { send -> ops.zrange(ValueStreamingChannel<V> { send(it) }, key, start, stop) }
 
     override fun zrangeWithScores(key: K, start: Long, stop: Long): Flow<ScoredValue<V>> =
-        ops.zrangeWithScores(key, start, stop).asFlow()
+        streamingFlow { send -> ops.zrangeWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, start, stop) }
 
     override fun zrangebylex(key: K, range: Range<out V>): Flow<V> =
-        ops.zrangebylex(key, range).asFlow()
+        futureFlow { ops.zrangebylex(key, range) }
 
     override fun zrangebylex(key: K, range: Range<out V>, limit: Limit): Flow<V> =
-        ops.zrangebylex(key, range, limit).asFlow()
+        futureFlow { ops.zrangebylex(key, range, limit) }
 
     override fun zrangebyscore(key: K, range: Range<out Number>): Flow<V> =
-        ops.zrangebyscore(key, range).asFlow()
+        streamingFlow { send -> ops.zrangebyscore(ValueStreamingChannel<V> { send(it) }, key, range) }
 
     override fun zrangebyscore(key: K, range: Range<out Number>, limit: Limit): Flow<V> =
-        ops.zrangebyscore(key, range, limit).asFlow()
+        streamingFlow { send -> ops.zrangebyscore(ValueStreamingChannel<V> { send(it) }, key, range, limit) }
 
     override fun zrangebyscoreWithScores(
         key: K,
         range: Range<out Number>
-    ): Flow<ScoredValue<V>> = ops.zrangebyscoreWithScores(key, range).asFlow()
+    ): Flow<ScoredValue<V>> = streamingFlow { send -> ops.zrangebyscoreWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, range) }
 
     override fun zrangebyscoreWithScores(
         key: K,
         range: Range<out Number>,
         limit: Limit
-    ): Flow<ScoredValue<V>> = ops.zrangebyscoreWithScores(key, range, limit).asFlow()
+    ): Flow<ScoredValue<V>> = streamingFlow { send -> ops.zrangebyscoreWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, range, limit) }
 
     override suspend fun zrangestore(dstKey: K, srcKey: K, range: Range<Long>): Long? =
-        ops.zrangestore(dstKey, srcKey, range).awaitFirstOrNull()
+        ops.zrangestore(dstKey, srcKey, range).await()
 
     override suspend fun zrangestorebylex(
         dstKey: K,
         srcKey: K,
         range: Range<out V>,
         limit: Limit
-    ): Long? = ops.zrangestorebylex(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = ops.zrangestorebylex(dstKey, srcKey, range, limit).await()
 
     override suspend fun zrangestorebyscore(
         dstKey: K,
         srcKey: K,
         range: Range<out Number>,
         limit: Limit
-    ): Long? = ops.zrangestorebyscore(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = ops.zrangestorebyscore(dstKey, srcKey, range, limit).await()
 
     override suspend fun zrank(key: K, member: V): Long? =
-        ops.zrank(key, member).awaitFirstOrNull()
+        ops.zrank(key, member).await()
 
     override suspend fun zrankWithScore(key: K, member: V): ScoredValue<Long>? =
-        ops.zrankWithScore(key, member).awaitFirstOrNull()
+        ops.zrankWithScore(key, member).await()
 
     override suspend fun zrem(key: K, vararg members: V): Long? =
-        ops.zrem(key, *members).awaitFirstOrNull()
+        ops.zrem(key, *members).await()
 
     override suspend fun zremrangebylex(key: K, range: Range<out V>): Long? =
-        ops.zremrangebylex(key, range).awaitFirstOrNull()
+        ops.zremrangebylex(key, range).await()
 
-    override suspend fun zremrangebyrank(key: K, start: Long, stop: Long): Long? = ops.zremrangebyrank(key, start, stop).awaitFirstOrNull()
+    override suspend fun zremrangebyrank(key: K, start: Long, stop: Long): Long? = ops.zremrangebyrank(key, start, stop).await()
 
-    override suspend fun zremrangebyscore(key: K, range: Range<out Number>): Long? = ops.zremrangebyscore(key, range).awaitFirstOrNull()
+    override suspend fun zremrangebyscore(key: K, range: Range<out Number>): Long? = ops.zremrangebyscore(key, range).await()
 
-    override fun zrevrange(key: K, start: Long, stop: Long): Flow<V> = ops.zrevrange(key, start, stop).asFlow()
+    override fun zrevrange(key: K, start: Long, stop: Long): Flow<V> = streamingFlow { send -> ops.zrevrange(ValueStreamingChannel<V> { send(it) }, key, start, stop) }
 
-    override fun zrevrangeWithScores(key: K, start: Long, stop: Long): Flow<ScoredValue<V>> = ops.zrevrangeWithScores(key, start, stop).asFlow()
+    override fun zrevrangeWithScores(key: K, start: Long, stop: Long): Flow<ScoredValue<V>> = streamingFlow { send -> ops.zrevrangeWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, start, stop) }
 
-    override fun zrevrangebylex(key: K, range: Range<out V>): Flow<V> = ops.zrevrangebylex(key, range).asFlow()
+    override fun zrevrangebylex(key: K, range: Range<out V>): Flow<V> = futureFlow { ops.zrevrangebylex(key, range) }
 
     override fun zrevrangebylex(key: K, range: Range<out V>, limit: Limit): Flow<V> =
-        ops.zrevrangebylex(key, range, limit).asFlow()
+        futureFlow { ops.zrevrangebylex(key, range, limit) }
 
     override fun zrevrangebyscore(key: K, range: Range<out Number>): Flow<V> =
-        ops.zrevrangebyscore(key, range).asFlow()
+        streamingFlow { send -> ops.zrevrangebyscore(ValueStreamingChannel<V> { send(it) }, key, range) }
 
     override fun zrevrangebyscore(
         key: K,
         range: Range<out Number>,
         limit: Limit
-    ): Flow<V> = ops.zrevrangebyscore(key, range, limit).asFlow()
+    ): Flow<V> = streamingFlow { send -> ops.zrevrangebyscore(ValueStreamingChannel<V> { send(it) }, key, range, limit) }
 
     override fun zrevrangebyscoreWithScores(
         key: K,
         range: Range<out Number>
-    ): Flow<ScoredValue<V>> = ops.zrevrangebyscoreWithScores(key, range).asFlow()
+    ): Flow<ScoredValue<V>> = streamingFlow { send -> ops.zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, range) }
 
     override fun zrevrangebyscoreWithScores(
         key: K,
         range: Range<out Number>,
         limit: Limit
-    ): Flow<ScoredValue<V>> = ops.zrevrangebyscoreWithScores(key, range, limit).asFlow()
+    ): Flow<ScoredValue<V>> = streamingFlow { send -> ops.zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> { send(it) }, key, range, limit) }
 
     override suspend fun zrevrangestore(dstKey: K, srcKey: K, range: Range<Long>): Long? =
-        ops.zrevrangestore(dstKey, srcKey, range).awaitFirstOrNull()
+        ops.zrevrangestore(dstKey, srcKey, range).await()
 
     override suspend fun zrevrangestorebylex(
         dstKey: K,
         srcKey: K,
         range: Range<out V>,
         limit: Limit
-    ): Long? = ops.zrevrangestorebylex(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = ops.zrevrangestorebylex(dstKey, srcKey, range, limit).await()
 
     override suspend fun zrevrangestorebyscore(
         dstKey: K,
         srcKey: K,
         range: Range<out Number>,
         limit: Limit
-    ): Long? = ops.zrevrangestorebyscore(dstKey, srcKey, range, limit).awaitFirstOrNull()
+    ): Long? = ops.zrevrangestorebyscore(dstKey, srcKey, range, limit).await()
 
     override suspend fun zrevrank(key: K, member: V): Long? =
-        ops.zrevrank(key, member).awaitFirstOrNull()
+        ops.zrevrank(key, member).await()
 
     override suspend fun zrevrankWithScore(key: K, member: V): ScoredValue<Long>? =
-        ops.zrevrankWithScore(key, member).awaitFirstOrNull()
+        ops.zrevrankWithScore(key, member).await()
 
     override suspend fun zscan(key: K): ScoredValueScanCursor<V>? =
-        ops.zscan(key).awaitFirstOrNull()
+        ops.zscan(key).await()
 
     override suspend fun zscan(key: K, scanArgs: ScanArgs): ScoredValueScanCursor<V>? =
-        ops.zscan(key, scanArgs).awaitFirstOrNull()
+        ops.zscan(key, scanArgs).await()
 
-    override suspend fun zscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor, scanArgs).awaitFirstOrNull()
+    override suspend fun zscan(key: K, scanCursor: ScanCursor, scanArgs: ScanArgs): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor, scanArgs).await()
 
-    override suspend fun zscan(key: K, scanCursor: ScanCursor): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor).awaitFirstOrNull()
+    override suspend fun zscan(key: K, scanCursor: ScanCursor): ScoredValueScanCursor<V>? = ops.zscan(key, scanCursor).await()
 
-    override suspend fun zscore(key: K, member: V): Double? = ops.zscore(key, member).awaitFirstOrNull()
+    override suspend fun zscore(key: K, member: V): Double? = ops.zscore(key, member).await()
 
-    override fun zunion(vararg keys: K): Flow<V> = ops.zunion(*keys).asFlow()
+    override fun zunion(vararg keys: K): Flow<V> = futureFlow { ops.zunion(*keys) }
 
-    override fun zunion(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<V> = ops.zunion(aggregateArgs, *keys).asFlow()
+    override fun zunion(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<V> = futureFlow { ops.zunion(aggregateArgs, *keys) }
 
-    override fun zunionWithScores(vararg keys: K): Flow<ScoredValue<V>> = ops.zunionWithScores(*keys).asFlow()
+    override fun zunionWithScores(vararg keys: K): Flow<ScoredValue<V>> = futureFlow { ops.zunionWithScores(*keys) }
 
-    override fun zunionWithScores(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<ScoredValue<V>> = ops.zunionWithScores(aggregateArgs, *keys).asFlow()
+    override fun zunionWithScores(aggregateArgs: ZAggregateArgs, vararg keys: K): Flow<ScoredValue<V>> = futureFlow { ops.zunionWithScores(aggregateArgs, *keys) }
 
-    override suspend fun zunionstore(destination: K, vararg keys: K): Long? = ops.zunionstore(destination, *keys).awaitFirstOrNull()
+    override suspend fun zunionstore(destination: K, vararg keys: K): Long? = ops.zunionstore(destination, *keys).await()
 
-    override suspend fun zunionstore(destination: K, storeArgs: ZStoreArgs, vararg keys: K): Long? = ops.zunionstore(destination, storeArgs, *keys).awaitFirstOrNull()
+    override suspend fun zunionstore(destination: K, storeArgs: ZStoreArgs, vararg keys: K): Long? = ops.zunionstore(destination, storeArgs, *keys).await()
 }
 
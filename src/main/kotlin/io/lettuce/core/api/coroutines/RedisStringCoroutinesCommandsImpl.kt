@@ -17,15 +17,14 @@
 package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.*
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands
+import io.lettuce.core.api.async.RedisStringAsyncCommands
+import io.lettuce.core.output.KeyValueStreamingChannel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Strings.
+ * Coroutine executed commands (based on asynchronous commands) for Strings.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -34,87 +33,87 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisStringCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisStringReactiveCommands<K, V>) : RedisStringCoroutinesCommands<K, V> {
+internal class RedisStringCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisStringAsyncCommands<K, V>) : RedisStringCoroutinesCommands<K, V> {
 
-    override suspend fun append(key: K, value: V): Long? = ops.append(key, value).awaitFirstOrNull()
+    override suspend fun append(key: K, value: V): Long? = ops.append(key, value).await()
 
-    override suspend fun bitcount(key: K): Long? = ops.bitcount(key).awaitFirstOrNull()
+    override suspend fun bitcount(key: K): Long? = ops.bitcount(key).await()
 
-    override suspend fun bitcount(key: K, start: Long, end: Long): Long? = ops.bitcount(key, start, end).awaitFirstOrNull()
+    override suspend fun bitcount(key: K, start: Long, end: Long): Long? = ops.bitcount(key, start, end).await()
 
-    override suspend fun bitfield(key: K, bitFieldArgs: BitFieldArgs): List<Long> = ops.bitfield(key, bitFieldArgs).map { it.value }.asFlow().toList()
+    override suspend fun bitfield(key: K, bitFieldArgs: BitFieldArgs): List<Long> = ops.bitfield(key, bitFieldArgs).await()
 
-    override suspend fun bitpos(key: K, state: Boolean): Long? = ops.bitpos(key, state).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean): Long? = ops.bitpos(key, state).await()
 
-    override suspend fun bitpos(key: K, state: Boolean, start: Long): Long? = ops.bitpos(key, state, start).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean, start: Long): Long? = ops.bitpos(key, state, start).await()
 
-    override suspend fun bitpos(key: K, state: Boolean, start: Long, end: Long): Long? = ops.bitpos(key, state, start, end).awaitFirstOrNull()
+    override suspend fun bitpos(key: K, state: Boolean, start: Long, end: Long): Long? = ops.bitpos(key, state, start, end).await()
 
-    override suspend fun bitopAnd(destination: K, vararg keys: K): Long? = ops.bitopAnd(destination, *keys).awaitFirstOrNull()
+    override suspend fun bitopAnd(destination: K, vararg keys: K): Long? = ops.bitopAnd(destination, *keys).await()
 
-    override suspend fun bitopNot(destination: K, source: K): Long? = ops.bitopNot(destination, source).awaitFirstOrNull()
+    override suspend fun bitopNot(destination: K, source: K): Long? = ops.bitopNot(destination, source).await()
 
-    override suspend fun bitopOr(destination: K, vararg keys: K): Long? = ops.bitopOr(destination, *keys).awaitFirstOrNull()
+    override suspend fun bitopOr(destination: K, vararg keys: K): Long? = ops.bitopOr(destination, *keys).await()
 
     override suspend fun bitopXor(destination: K, vararg keys: K): Long? =
-        ops.bitopXor(destination, *keys).awaitFirstOrNull()
+        ops.bitopXor(destination, *keys).await()
 
-    override suspend fun decr(key: K): Long? = ops.decr(key).awaitFirstOrNull()
+    override suspend fun decr(key: K): Long? = ops.decr(key).await()
 
     override suspend fun decrby(key: K, amount: Long): Long? =
-        ops.decrby(key, amount).awaitFirstOrNull()
+        ops.decrby(key, amount).await()
 
-    override suspend fun get(key: K): V? = ops.get(key).awaitFirstOrNull()
+    override suspend fun get(key: K): V? = ops.get(key).await()
 
     override suspend fun getbit(key: K, offset: Long): Long? =
-        ops.getbit(key, offset).awaitFirstOrNull()
+        ops.getbit(key, offset).await()
 
-    override suspend fun getdel(key: K): V? = ops.getdel(key).awaitFirstOrNull()
+    override suspend fun getdel(key: K): V? = ops.getdel(key).await()
 
     override suspend fun getex(key: K, args: GetExArgs): V? =
-        ops.getex(key, args).awaitFirstOrNull()
+        ops.getex(key, args).await()
 
     override suspend fun getrange(key: K, start: Long, end: Long): V? =
-        ops.getrange(key, start, end).awaitFirstOrNull()
+        ops.getrange(key, start, end).await()
 
     override suspend fun getset(key: K, value: V): V? =
-        ops.getset(key, value).awaitFirstOrNull()
+        ops.getset(key, value).await()
 
-    override suspend fun incr(key: K): Long? = ops.incr(key).awaitFirstOrNull()
+    override suspend fun incr(key: K): Long? = ops.incr(key).await()
 
     override suspend fun incrby(key: K, amount: Long): Long? =
-        ops.incrby(key, amount).awaitFirstOrNull()
+        ops.incrby(key, amount).await()
 
     override suspend fun incrbyfloat(key: K, amount: Double): Double? =
-        ops.incrbyfloat(key, amount).awaitFirstOrNull()
+        ops.incrbyfloat(key, amount).await()
 
-    override fun mget(vararg keys: K): Flow<KeyValue<K, V>> = ops.mget(*keys).asFlow()
+    override fun mget(vararg keys: K): Flow<KeyValue<K, V>> = streamingFlow { send -> ops.mget(KeyValueStreamingChannel<K, V> { k, v -> send(KeyValue.fromNullable(k, v)) }, *keys) }
 
-    override suspend fun mset(map: Map<K, V>): String? = ops.mset(map).awaitFirstOrNull()
+    override suspend fun mset(map: Map<K, V>): String? = ops.mset(map).await()
 
-    override suspend fun msetnx(map: Map<K, V>): Boolean? = ops.msetnx(map).awaitFirstOrNull()
+    override suspend fun msetnx(map: Map<K, V>): Boolean? = ops.msetnx(map).await()
 
-    override suspend fun set(key: K, value: V): String? = ops.set(key, value).awaitFirstOrNull()
+    override suspend fun set(key: K, value: V): String? = ops.set(key, value).await()
 
-    override suspend fun set(key: K, value: V, setArgs: SetArgs): String? = ops.set(key, value, setArgs).awaitFirstOrNull()
+    override suspend fun set(key: K, value: V, setArgs: SetArgs): String? = ops.set(key, value, setArgs).await()
 
-    override suspend fun setGet(key: K, value: V): V? = ops.setGet(key, value).awaitFirstOrNull()
+    override suspend fun setGet(key: K, value: V): V? = ops.setGet(key, value).await()
 
-    override suspend fun setGet(key: K, value: V, setArgs: SetArgs): V? = ops.setGet(key, value, setArgs).awaitFirstOrNull()
+    override suspend fun setGet(key: K, value: V, setArgs: SetArgs): V? = ops.setGet(key, value, setArgs).await()
 
-    override suspend fun setbit(key: K, offset: Long, value: Int): Long? = ops.setbit(key, offset, value).awaitFirstOrNull()
+    override suspend fun setbit(key: K, offset: Long, value: Int): Long? = ops.setbit(key, offset, value).await()
 
-    override suspend fun setex(key: K, seconds: Long, value: V): String? = ops.setex(key, seconds, value).awaitFirstOrNull()
+    override suspend fun setex(key: K, seconds: Long, value: V): String? = ops.setex(key, seconds, value).await()
 
-    override suspend fun psetex(key: K, milliseconds: Long, value: V): String? = ops.psetex(key, milliseconds, value).awaitFirstOrNull()
+    override suspend fun psetex(key: K, milliseconds: Long, value: V): String? = ops.psetex(key, milliseconds, value).await()
 
-    override suspend fun setnx(key: K, value: V): Boolean? = ops.setnx(key, value).awaitFirstOrNull()
+    override suspend fun setnx(key: K, value: V): Boolean? = ops.setnx(key, value).await()
 
-    override suspend fun setrange(key: K, offset: Long, value: V): Long? = ops.setrange(key, offset, value).awaitFirstOrNull()
+    override suspend fun setrange(key: K, offset: Long, value: V): Long? = ops.setrange(key, offset, value).await()
 
-    override suspend fun stralgoLcs(strAlgoArgs: StrAlgoArgs): StringMatchResult? = ops.stralgoLcs(strAlgoArgs).awaitFirstOrNull()
+    override suspend fun stralgoLcs(strAlgoArgs: StrAlgoArgs): StringMatchResult? = ops.stralgoLcs(strAlgoArgs).await()
 
-    override suspend fun strlen(key: K): Long? = ops.strlen(key).awaitFirstOrNull()
+    override suspend fun strlen(key: K): Long? = ops.strlen(key).await()
 
 }
 
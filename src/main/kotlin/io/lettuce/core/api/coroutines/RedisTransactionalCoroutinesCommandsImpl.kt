@@ -18,12 +18,12 @@ package io.lettuce.core.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.TransactionResult
-import io.lettuce.core.api.reactive.RedisTransactionalReactiveCommands
-import kotlinx.coroutines.reactive.awaitLast
+import io.lettuce.core.api.async.RedisTransactionalAsyncCommands
+import kotlinx.coroutines.future.await
 
 
 /**
- * Coroutine executed commands (based on reactive commands) for Transactions.
+ * Coroutine executed commands (based on asynchronous commands) for Transactions.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -31,17 +31,17 @@ import kotlinx.coroutines.reactive.awaitLast
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisTransactionalCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisTransactionalReactiveCommands<K, V>) : RedisTransactionalCoroutinesCommands<K, V> {
+internal class RedisTransactionalCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisTransactionalAsyncCommands<K, V>) : RedisTransactionalCoroutinesCommands<K, V> {
 
-    override suspend fun discard(): String = ops.discard().awaitLast()
+    override suspend fun discard(): String = ops.discard().await()
 
-    override suspend fun exec(): TransactionResult = ops.exec().awaitLast()
+    override suspend fun exec(): TransactionResult = ops.exec().await()
 
-    override suspend fun multi(): String = ops.multi().awaitLast()
+    override suspend fun multi(): String = ops.multi().await()
 
-    override suspend fun watch(vararg keys: K): String = ops.watch(*keys).awaitLast()
+    override suspend fun watch(vararg keys: K): String = ops.watch(*keys).await()
 
-    override suspend fun unwatch(): String = ops.unwatch().awaitLast()
+    override suspend fun unwatch(): String = ops.unwatch().await()
 
 }
 
@@ -27,4 +27,4 @@ import io.lettuce.core.cluster.api.coroutines.RedisClusterCoroutinesCommandsImpl
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-fun <K : Any, V : Any> StatefulRedisClusterConnection<K, V>.coroutines(): RedisClusterCoroutinesCommands<K, V> = RedisClusterCoroutinesCommandsImpl(reactive())
+fun <K : Any, V : Any> StatefulRedisClusterConnection<K, V>.coroutines(): RedisClusterCoroutinesCommands<K, V> = RedisClusterCoroutinesCommandsImpl(async())
@@ -19,8 +19,8 @@ package io.lettuce.core.cluster.api.coroutines
 
 import io.lettuce.core.ExperimentalLettuceCoroutinesApi
 import io.lettuce.core.api.coroutines.*
-import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands
-import kotlinx.coroutines.reactive.awaitFirstOrNull
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands
+import kotlinx.coroutines.future.await
 
 /**
  * Implementation of [RedisClusterCoroutinesCommands].
@@ -33,7 +33,7 @@ import kotlinx.coroutines.reactive.awaitFirstOrNull
  */
 @ExperimentalLettuceCoroutinesApi
 internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
-    internal val ops: RedisClusterReactiveCommands<K, V>
+    internal val ops: RedisClusterAsyncCommands<K, V>
 ) : RedisClusterCoroutinesCommands<K, V>,
     BaseRedisCoroutinesCommands<K, V> by BaseRedisCoroutinesCommandsImpl(ops),
     RedisAclCoroutinesCommands<K, V> by RedisAclCoroutinesCommandsImpl(ops),
@@ -55,7 +55,7 @@ internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
      * @param password the password
      * @return String simple-string-reply
      */
-    override suspend fun auth(password: CharSequence): String? = ops.auth(password).awaitFirstOrNull()
+    override suspend fun auth(password: CharSequence): String? = ops.auth(password).await()
 
     /**
      * Authenticate to the server with username and password. Requires Redis 6 or newer.
@@ -65,6 +65,6 @@ internal class RedisClusterCoroutinesCommandsImpl<K : Any, V : Any>(
      * @return String simple-string-reply
      * @since 6.0
      */
-    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).awaitFirstOrNull()
+    override suspend fun auth(username: String, password: CharSequence): String? = ops.auth(username, password).await()
 
 }
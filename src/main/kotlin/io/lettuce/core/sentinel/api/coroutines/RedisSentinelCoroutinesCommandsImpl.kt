@@ -22,16 +22,14 @@ import io.lettuce.core.KillArgs
 import io.lettuce.core.output.CommandOutput
 import io.lettuce.core.protocol.CommandArgs
 import io.lettuce.core.protocol.ProtocolKeyword
-import io.lettuce.core.sentinel.api.reactive.RedisSentinelReactiveCommands
+import io.lettuce.core.sentinel.api.async.RedisSentinelAsyncCommands
+import io.lettuce.core.api.coroutines.dispatchFlow
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.toList
-import kotlinx.coroutines.reactive.asFlow
-import kotlinx.coroutines.reactive.awaitFirstOrNull
-import kotlinx.coroutines.reactive.awaitLast
+import kotlinx.coroutines.future.await
 import java.net.SocketAddress
 
 /**
- * Coroutine executed commands (based on reactive commands) for Redis Sentinel.
+ * Coroutine executed commands (based on asynchronous commands) for Redis Sentinel.
  *
  * @param <K> Key type.
  * @param <V> Value type.
@@ -39,61 +37,61 @@ import java.net.SocketAddress
  * @since 6.0
  */
 @ExperimentalLettuceCoroutinesApi
-internal class RedisSentinelCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSentinelReactiveCommands<K, V>) : RedisSentinelCoroutinesCommands<K, V> {
+internal class RedisSentinelCoroutinesCommandsImpl<K : Any, V : Any>(internal val ops: RedisSentinelAsyncCommands<K, V>) : RedisSentinelCoroutinesCommands<K, V> {
 
     override suspend fun getMasterAddrByName(key: K): SocketAddress =
-        ops.getMasterAddrByName(key).awaitLast()
+        ops.getMasterAddrByName(key).await()
 
-    override suspend fun masters(): List<Map<K, V>> = ops.masters().asFlow().toList()
+    override suspend fun masters(): List<Map<K, V>> = ops.masters().await()
 
-    override suspend fun master(key: K): Map<K, V> = ops.master(key).awaitLast()
+    override suspend fun master(key: K): Map<K, V> = ops.master(key).await()
 
     override suspend fun slaves(key: K): List<Map<K, V>> =
-        ops.slaves(key).asFlow().toList()
+        ops.slaves(key).await()
 
     override suspend fun replicas(key: K): List<Map<K, V>> =
-        ops.replicas(key).asFlow().toList()
+        ops.replicas(key).await()
 
-    override suspend fun reset(key: K): Long = ops.reset(key).awaitLast()
+    override suspend fun reset(key: K): Long = ops.reset(key).await()
 
-    override suspend fun failover(key: K): String = ops.failover(key).awaitLast()
+    override suspend fun failover(key: K): String = ops.failover(key).await()
 
     override suspend fun monitor(key: K, ip: String, port: Int, quorum: Int): String =
-        ops.monitor(key, ip, port, quorum).awaitLast()
+        ops.monitor(key, ip, port, quorum).await()
 
     override suspend fun set(key: K, option: String, value: V): String =
-        ops.set(key, option, value).awaitLast()
+        ops.set(key, option, value).await()
 
-    override suspend fun remove(key: K): String = ops.remove(key).awaitLast()
+    override suspend fun remove(key: K): String = ops.remove(key).await()
 
-    override suspend fun clientGetname(): K? = ops.clientGetname().awaitFirstOrNull()
+    override suspend fun clientGetname(): K? = ops.clientGetname().await()
 
     override suspend fun clientSetinfo(key: String, value: String): String? =
-        ops.clientSetinfo(key, value).awaitFirstOrNull()
+        ops.clientSetinfo(key, value).await()
 
-    override suspend fun clientSetname(name: K): String = ops.clientSetname(name).awaitLast()
+    override suspend fun clientSetname(name: K): String = ops.clientSetname(name).await()
 
-    override suspend fun clientKill(addr: String): String = ops.clientKill(addr).awaitLast()
+    override suspend fun clientKill(addr: String): String = ops.clientKill(addr).await()
 
-    override suspend fun clientKill(killArgs: KillArgs): Long = ops.clientKill(killArgs).awaitLast()
+    override suspend fun clientKill(killArgs: KillArgs): Long = ops.clientKill(killArgs).await()
 
-    override suspend fun clientPause(timeout: Long): String = ops.clientPause(timeout).awaitLast()
+    override suspend fun clientPause(timeout: Long): String = ops.clientPause(timeout).await()
 
-    override suspend fun clientList(): String = ops.clientList().awaitLast()
+    override suspend fun clientList(): String = ops.clientList().await()
 
-    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).awaitLast()
+    override suspend fun clientList(clientListArgs: ClientListArgs): String? = ops.clientList(clientListArgs).await()
 
-    override suspend fun clientInfo(): String? = ops.clientInfo().awaitFirstOrNull()
+    override suspend fun clientInfo(): String? = ops.clientInfo().await()
 
-    override suspend fun info(): String = ops.info().awaitLast()
+    override suspend fun info(): String = ops.info().await()
 
-    override suspend fun info(section: String): String = ops.info(section).awaitLast()
+    override suspend fun info(section: String): String = ops.info(section).await()
 
-    override suspend fun ping(): String = ops.ping().awaitLast()
+    override suspend fun ping(): String = ops.ping().await()
 
-    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = ops.dispatch<T>(type, output).asFlow()
+    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>): Flow<T> = dispatchFlow(output) { ops.dispatch(type, output) }
 
-    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>, args: CommandArgs<K, V>): Flow<T> = ops.dispatch<T>(type, output, args).asFlow()
+    override fun <T : Any> dispatch(type: ProtocolKeyword, output: CommandOutput<K, V, T>, args: CommandArgs<K, V>): Flow<T> = dispatchFlow(output) { ops.dispatch(type, output, args) }
 
     override fun isOpen(): Boolean = ops.isOpen
 
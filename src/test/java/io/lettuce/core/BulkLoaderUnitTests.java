@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.test.resource.FastShutdown;
+import io.lettuce.test.resource.TestClientResources;
+import io.lettuce.test.server.RespCluster;
+import io.lettuce.test.server.RespServer;
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit tests for {@link BulkLoader} using {@link RespServer} and {@link RespCluster}.
+ */
+class BulkLoaderUnitTests {
+
+    private RespServer server;
+
+    private RedisClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = RespServer.create().start();
+        client = RedisClient.create(TestClientResources.get(), server.getRedisURI());
+    }
+
+    @AfterEach
+    void tearDown() {
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test
+    void shouldLoadOperations() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            BulkLoadOptions options = BulkLoadOptions.builder().batchSize(100).maxInFlight(500).build();
+
+            BulkLoadResult result = connection
+                    .bulkLoad(Flux.range(0, 10_000).map(i -> BulkOperation.set("key" + i, "value" + i)), options).join();
+
+            assertThat(result.getOperations()).isEqualTo(10_000);
+            assertThat(result.isSuccessful()).isTrue();
+            assertThat(result.getFailures()).isEmpty();
+            assertThat(server.size()).isEqualTo(10_000);
+            assertThat(connection.sync().get("key9999")).isEqualTo("value9999");
+        }
+    }
+
+    @Test
+    void shouldReportFailuresWithPosition() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            BulkLoadOptions options = BulkLoadOptions.builder().batchSize(2).build();
+
+            BulkLoadResult result = connection.bulkLoad(Flux.just(BulkOperation.set("string", "value"),
+                    BulkOperation.hset("hash", "field", "value"), BulkOperation.rpush("list", "value"),
+                    BulkOperation.hset("string", "field", "value"), BulkOperation.zadd("zset", 1.5, "member"),
+                    BulkOperation.rpush("hash", "value"), BulkOperation.del("list"),
+                    BulkOperation.set("ttl", "value", Duration.ofMinutes(1))), options).join();
+
+            assertThat(result.getOperations()).isEqualTo(8);
+            assertThat(result.getFailureCount()).isEqualTo(2);
+            assertThat(result.getFailures()).extracting(BulkLoadResult.Failure::getPosition).containsExactly(3L, 5L);
+            assertThat(result.getFailures()).extracting(BulkLoadResult.Failure::getMessage).allMatch(
+                    message -> message.startsWith("WRONGTYPE"));
+
+            assertThat(connection.sync().hget("hash", "field")).isEqualTo("value");
+            assertThat(connection.sync().exists("list")).isZero();
+            assertThat(connection.sync().zscore("zset", "member")).isEqualTo(1.5);
+        }
+    }
+
+    @Test
+    void shouldLimitRetainedFailures() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            connection.sync().set("string", "value");
+
+            BulkLoadOptions options = BulkLoadOptions.builder().maxFailures(3).build();
+
+            BulkLoadResult result = connection
+                    .bulkLoad(Flux.range(0, 10).map(i -> BulkOperation.rpush("string", "value" + i)), options).join();
+
+            assertThat(result.getFailureCount()).isEqualTo(10);
+            assertThat(result.getFailures()).hasSize(3);
+        }
+    }
+
+    @Test
+    void shouldRequestOperationsInBatchesWhileInFlightBelowLimit() {
+
+        server.latency(Duration.ofMillis(20));
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            BulkLoadOptions options = BulkLoadOptions.builder().batchSize(10).maxInFlight(20).build();
+            List<Long> requests = new CopyOnWriteArrayList<>();
+
+            BulkLoadResult result = connection.bulkLoad(
+                    Flux.range(0, 200).doOnRequest(requests::add).map(i -> BulkOperation.set("key" + i, "value")), options)
+                    .join();
+
+            assertThat(result.getOperations()).isEqualTo(200);
+            assertThat(requests).hasSize(21).containsOnly(10L);
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyOnPublisherError() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Flux<BulkOperation<String, String>> operations = Flux.concat(Flux.just(BulkOperation.set("key", "value")),
+                    Flux.error(new IllegalStateException("boom")));
+
+            assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> connection.bulkLoad(operations).join())
+                    .withCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldCompleteEmptyLoad() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            BulkLoadResult result = connection.bulkLoad(Flux.empty()).join();
+
+            assertThat(result.getOperations()).isZero();
+            assertThat(result.isSuccessful()).isTrue();
+        }
+    }
+
+    @Test
+    void clusterShouldRouteOperationsToNodes() {
+
+        RespCluster cluster = RespCluster.create(3).start();
+        RedisClusterClient clusterClient = RedisClusterClient.create(TestClientResources.get(), cluster.getRedisURIs());
+
+        try (StatefulRedisClusterConnection<String, String> connection = clusterClient.connect()) {
+
+            BulkLoadOptions options = BulkLoadOptions.builder().batchSize(64).build();
+
+            BulkLoadResult result = connection
+                    .bulkLoad(Flux.range(0, 3000).map(i -> BulkOperation.set("key" + i, "value" + i)), options).join();
+
+            assertThat(result.getOperations()).isEqualTo(3000);
+            assertThat(result.isSuccessful()).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(cluster.getNode(i).size()).isGreaterThan(0);
+            }
+
+            assertThat(cluster.getNode(0).size() + cluster.getNode(1).size() + cluster.getNode(2).size()).isEqualTo(3000);
+            assertThat(connection.sync().get("key2999")).isEqualTo("value2999");
+        } finally {
+            FastShutdown.shutdown(clusterClient);
+            cluster.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link BulkOperation}.
+ */
+class BulkOperationUnitTests {
+
+    @Test
+    void shouldEncodeSet() {
+        assertThat(encode(BulkOperation.set("key", "value"), StringCodec.UTF8))
+                .isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+    }
+
+    @Test
+    void shouldEncodeSetWithTtl() {
+        assertThat(encode(BulkOperation.set("key", "value", Duration.ofSeconds(12)), StringCodec.UTF8))
+                .isEqualTo("*5\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n$2\r\nPX\r\n$5\r\n12000\r\n");
+    }
+
+    @Test
+    void shouldEncodeHashFieldAsKey() {
+        assertThat(encode(BulkOperation.hset("key", "field", "value"), StringCodec.UTF8))
+                .isEqualTo("*4\r\n$4\r\nHSET\r\n$3\r\nkey\r\n$5\r\nfield\r\n$5\r\nvalue\r\n");
+    }
+
+    @Test
+    void shouldEncodeScore() {
+        assertThat(encode(BulkOperation.zadd("key", 1.5, "member"), StringCodec.UTF8))
+                .isEqualTo("*4\r\n$4\r\nZADD\r\n$3\r\nkey\r\n$3\r\n1.5\r\n$6\r\nmember\r\n");
+    }
+
+    @Test
+    void shouldEncodeDel() {
+        assertThat(encode(BulkOperation.del("key"), StringCodec.UTF8)).isEqualTo("*2\r\n$3\r\nDEL\r\n$3\r\nkey\r\n");
+    }
+
+    @Test
+    void shouldEncodeMultipleValues() {
+        assertThat(encode(BulkOperation.of(CommandType.PFADD, "key", "a", "b"), StringCodec.UTF8))
+                .isEqualTo("*4\r\n$5\r\nPFADD\r\n$3\r\nkey\r\n$1\r\na\r\n$1\r\nb\r\n");
+    }
+
+    @Test
+    void shouldEncodeUsingCodecWithoutExactEstimate() {
+
+        String value = "äöü";
+
+        assertThat(encode(BulkOperation.set("key", value), StringCodec.UTF8))
+                .isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$6\r\n" + new String(value.getBytes(StandardCharsets.UTF_8),
+                        StandardCharsets.ISO_8859_1) + "\r\n");
+    }
+
+    @Test
+    void shouldEncodeByteArrays() {
+
+        byte[] value = new byte[1234];
+
+        assertThat(encode(BulkOperation.set("key".getBytes(), value), ByteArrayCodec.INSTANCE))
+                .startsWith("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$1234\r\n").endsWith("\r\n");
+    }
+
+    @Test
+    void shouldRejectNonPositiveTtl() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkOperation.set("key", "value", Duration.ZERO));
+    }
+
+    private static <K, V> String encode(BulkOperation<K, V> operation, RedisCodec<K, V> codec) {
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            operation.encode(buffer, codec);
+            return buffer.toString(StandardCharsets.ISO_8859_1);
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
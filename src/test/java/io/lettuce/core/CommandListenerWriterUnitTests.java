@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandSampler;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link CommandListenerWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandListenerWriterUnitTests {
+
+    @Mock
+    private RedisChannelWriter delegate;
+
+    @Test
+    void shouldNotifyListenerWithoutWrappingCompletableCommands() {
+
+        RecordingListener listener = new RecordingListener();
+        CommandListenerWriter writer = new CommandListenerWriter(delegate, Collections.singletonList(listener));
+
+        AsyncCommand<String, String, String> command = createCommand();
+        writer.write(command);
+
+        verify(delegate).write(command);
+        assertThat(listener.started).hasSize(1);
+
+        command.getOutput().set(StringCodec.UTF8.encodeValue("OK"));
+        command.complete();
+
+        assertThat(listener.succeeded).hasSize(1);
+        CommandSucceededEvent event = listener.succeeded.get(0);
+        assertThat(event.getCommand()).isSameAs(command);
+        assertThat(event.getContext()).containsEntry("key", "value");
+        assertThat(event.getDuration()).isPositive();
+        assertThat(event.getCompleted()).isAfterOrEqualTo(event.getStarted());
+    }
+
+    @Test
+    void shouldNotifyFailure() {
+
+        RecordingListener listener = new RecordingListener();
+        CommandListenerWriter writer = new CommandListenerWriter(delegate, Collections.singletonList(listener));
+
+        AsyncCommand<String, String, String> command = createCommand();
+        writer.write(command);
+
+        command.getOutput().setError("ERR");
+        command.complete();
+
+        assertThat(listener.failed).hasSize(1);
+        assertThat(listener.failed.get(0).getCause()).isInstanceOf(RedisCommandExecutionException.class);
+    }
+
+    @Test
+    void shouldWrapCommandsWithoutCompletionCallback() {
+
+        RecordingListener listener = new RecordingListener();
+        CommandListenerWriter writer = new CommandListenerWriter(delegate, Collections.singletonList(listener));
+
+        Command<String, String, String> command = new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+        writer.write(command);
+
+        ArgumentCaptor<RedisCommand<String, String, String>> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(delegate).write(captor.capture());
+        assertThat(captor.getValue()).isNotSameAs(command);
+
+        captor.getValue().complete();
+
+        assertThat(listener.succeeded).hasSize(1);
+    }
+
+    @Test
+    void shouldPassThroughUnsampledCommands() {
+
+        RecordingListener listener = new RecordingListener();
+        CommandListenerWriter writer = new CommandListenerWriter(delegate,
+                Collections.singletonList(CommandListener.sampled(listener, command -> false)));
+
+        AsyncCommand<String, String, String> command = createCommand();
+        writer.write(command);
+
+        Collection<AsyncCommand<String, String, String>> batch = Arrays.asList(createCommand(), createCommand());
+        writer.write(batch);
+
+        verify(delegate).write(command);
+        verify(delegate).write(same(batch));
+
+        command.complete();
+        assertThat(listener.started).isEmpty();
+        assertThat(listener.succeeded).isEmpty();
+    }
+
+    @Test
+    void shouldNotifySampledListenersOnly() {
+
+        RecordingListener sampled = new RecordingListener();
+        RecordingListener unsampled = new RecordingListener();
+        CommandListenerWriter writer = new CommandListenerWriter(delegate,
+                Arrays.asList(sampled, CommandListener.sampled(unsampled, command -> false)));
+
+        AsyncCommand<String, String, String> command = createCommand();
+        writer.write(Collections.singletonList(command));
+        command.complete();
+
+        assertThat(sampled.succeeded).hasSize(1);
+        assertThat(unsampled.started).isEmpty();
+        assertThat(unsampled.succeeded).isEmpty();
+    }
+
+    @Test
+    void shouldCreateContextLazilyForCompletionOnlyListeners() {
+
+        List<CommandSucceededEvent> events = new ArrayList<>();
+        CommandListener listener = new CommandListener() {
+
+            @Override
+            public void commandSucceeded(CommandSucceededEvent event) {
+                events.add(event);
+            }
+
+        };
+
+        CommandListenerWriter writer = new CommandListenerWriter(delegate, Collections.singletonList(listener));
+
+        AsyncCommand<String, String, String> command = createCommand();
+        writer.write(command);
+        command.complete();
+
+        assertThat(events).hasSize(1);
+        events.get(0).getContext().put("key", "value");
+        assertThat(events.get(0).getContext()).containsEntry("key", "value");
+    }
+
+    @Test
+    void rateSamplerShouldLimitSampledCommands() {
+
+        CommandSampler sampler = CommandSampler.rate(2);
+        RedisCommand<String, String, String> command = createCommand();
+
+        assertThat(sampler.isSampled(command)).isTrue();
+        assertThat(sampler.isSampled(command)).isTrue();
+        assertThat(sampler.isSampled(command)).isFalse();
+    }
+
+    @Test
+    void oneInSamplerShouldSampleFraction() {
+
+        assertThat(CommandSampler.oneIn(1)).isSameAs(CommandSampler.always());
+
+        CommandSampler sampler = CommandSampler.oneIn(10);
+        RedisCommand<String, String, String> command = createCommand();
+
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sampler.isSampled(command)) {
+                sampled++;
+            }
+        }
+
+        assertThat(sampled).isBetween(500, 1500);
+    }
+
+    private static AsyncCommand<String, String, String> createCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+    static class RecordingListener implements CommandListener {
+
+        final List<CommandStartedEvent> started = new ArrayList<>();
+
+        final List<CommandSucceededEvent> succeeded = new ArrayList<>();
+
+        final List<CommandFailedEvent> failed = new ArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            event.getContext().put("key", "value");
+            started.add(event);
+        }
+
+        @Override
+        public void commandSucceeded(CommandSucceededEvent event) {
+            succeeded.add(event);
+        }
+
+        @Override
+        public void commandFailed(CommandFailedEvent event) {
+            failed.add(event);
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.resource.Transports;
+import io.lettuce.test.resource.TestClientResources;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+/**
+ * Unit tests for {@link ConnectionBuilder}.
+ */
+class ConnectionBuilderUnitTests {
+
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+
+    @AfterEach
+    void tearDown() {
+        eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void reconfiguringTransportShouldRetainOptionsAndAttributes() {
+
+        ByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+
+        ConnectionBuilder builder = ConnectionBuilder.connectionBuilder();
+        builder.bootstrap(new Bootstrap().option(ChannelOption.ALLOCATOR, allocator));
+        builder.clientOptions(ClientOptions.create());
+        builder.clientResources(TestClientResources.get());
+        RedisURI redisURI = RedisURI.create("redis://localhost:6379");
+        builder.apply(redisURI);
+
+        builder.configureBootstrap(true, it -> eventLoopGroup);
+        builder.configureBootstrap(InetSocketAddress.createUnresolved("localhost", 6379));
+
+        Bootstrap bootstrap = builder.bootstrap();
+
+        assertThat(bootstrap.config().attrs()).containsEntry(ConnectionBuilder.REDIS_URI, redisURI.toString());
+        assertThat(bootstrap.config().options()).containsEntry(ChannelOption.ALLOCATOR, allocator)
+                .containsEntry(ChannelOption.TCP_NODELAY, true);
+        assertThat(bootstrap.config().channelFactory().toString()).contains(Transports.socketChannelClass().getSimpleName());
+    }
+
+}
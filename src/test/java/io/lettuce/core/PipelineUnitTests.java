@@ -0,0 +1,182 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.api.Pipeline;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.test.resource.FastShutdown;
+import io.lettuce.test.resource.TestClientResources;
+import io.lettuce.test.server.RespCluster;
+import io.lettuce.test.server.RespServer;
+
+/**
+ * Unit tests for {@link Pipeline} using {@link RespServer} and {@link RespCluster}.
+ */
+class PipelineUnitTests {
+
+    private RespServer server;
+
+    private RedisClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = RespServer.create().start();
+        client = RedisClient.create(TestClientResources.get(), server.getRedisURI());
+    }
+
+    @AfterEach
+    void tearDown() {
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test
+    void shouldNotSendCommandsBeforeFlush() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Pipeline<RedisAsyncCommands<String, String>> pipeline = connection.pipeline();
+
+            RedisFuture<String> set = pipeline.commands().set("key", "value");
+
+            assertThat(pipeline.size()).isEqualTo(1);
+            assertThat(connection.sync().get("key")).isNull();
+            assertThat(set.isDone()).isFalse();
+
+            List<Object> results = pipeline.flush().join();
+
+            assertThat(results).containsExactly("OK");
+            assertThat(set.isDone()).isTrue();
+            assertThat(pipeline.size()).isZero();
+            assertThat(connection.sync().get("key")).isEqualTo("value");
+        }
+    }
+
+    @Test
+    void shouldReturnResultsInIssueOrder() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Pipeline<RedisAsyncCommands<String, String>> pipeline = connection.pipeline();
+            RedisAsyncCommands<String, String> commands = pipeline.commands();
+
+            commands.set("key", "1");
+            commands.incr("key");
+            commands.get("key");
+            commands.del("key");
+
+            assertThat(pipeline.flush().join()).containsExactly("OK", 2L, "2", 1L);
+            assertThat(pipeline.flush().join()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldNotChangeConnectionFlushState() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Pipeline<RedisAsyncCommands<String, String>> pipeline = connection.pipeline();
+            pipeline.commands().set("key", "value");
+
+            assertThat(connection.async().ping().toCompletableFuture().join()).isEqualTo("PONG");
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> pipeline.commands().setAutoFlushCommands(false));
+
+            pipeline.flush().join();
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyIfCommandFails() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Pipeline<RedisAsyncCommands<String, String>> pipeline = connection.pipeline();
+
+            RedisFuture<String> set = pipeline.commands().set("key", "value");
+            RedisFuture<Long> incr = pipeline.commands().incr("key");
+
+            CompletableFuture<List<Object>> flush = pipeline.flush();
+
+            assertThatExceptionOfType(CompletionException.class).isThrownBy(flush::join)
+                    .withCauseInstanceOf(RedisCommandExecutionException.class);
+            assertThat(set.toCompletableFuture().join()).isEqualTo("OK");
+            assertThat(incr.toCompletableFuture()).isCompletedExceptionally();
+        }
+    }
+
+    @Test
+    void shouldCancelDiscardedCommands() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            Pipeline<RedisAsyncCommands<String, String>> pipeline = connection.pipeline();
+
+            RedisFuture<String> set = pipeline.commands().set("key", "value");
+            pipeline.discard();
+
+            assertThat(set.isCancelled()).isTrue();
+            assertThat(pipeline.size()).isZero();
+            assertThat(pipeline.flush().join()).isEmpty();
+            assertThat(connection.sync().get("key")).isNull();
+        }
+    }
+
+    @Test
+    void clusterShouldRouteCommandsToNodes() {
+
+        RespCluster cluster = RespCluster.create(3).start();
+        RedisClusterClient clusterClient = RedisClusterClient.create(TestClientResources.get(), cluster.getRedisURIs());
+
+        try (StatefulRedisClusterConnection<String, String> connection = clusterClient.connect()) {
+
+            Pipeline<RedisAdvancedClusterAsyncCommands<String, String>> pipeline = connection.pipeline();
+            List<Object> expected = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                pipeline.commands().set("key" + i, "value" + i);
+                expected.add("OK");
+            }
+
+            for (int i = 0; i < 100; i++) {
+                pipeline.commands().get("key" + i);
+                expected.add("value" + i);
+            }
+
+            assertThat(pipeline.flush().join()).isEqualTo(expected);
+            assertThat(connection.sync().get("key42")).isEqualTo("value42");
+        } finally {
+            FastShutdown.shutdown(clusterClient);
+            cluster.shutdown();
+        }
+    }
+
+}
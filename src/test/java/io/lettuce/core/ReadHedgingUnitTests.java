@@ -0,0 +1,249 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.command.HedgedReadEvent;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.CompleteableCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+
+/**
+ * Unit tests for {@link ReadHedging}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReadHedgingUnitTests {
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private EventBus eventBus;
+
+    @Mock
+    private StatefulRedisConnection<String, String> primary;
+
+    @Mock
+    private StatefulRedisConnection<String, String> alternate;
+
+    private DefaultEventExecutorGroup executors;
+
+    private final List<RedisCommand<String, String, ?>> primaryLegs = new CopyOnWriteArrayList<>();
+
+    private final List<RedisCommand<String, String, ?>> alternateLegs = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+
+        executors = new DefaultEventExecutorGroup(1);
+
+        when(clientResources.eventExecutorGroup()).thenReturn(executors);
+        when(clientResources.eventBus()).thenReturn(eventBus);
+        when(primary.isOpen()).thenReturn(true);
+        when(alternate.isOpen()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldNotHedgeWhenDisabled() {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.create(), clientResources);
+
+        assertThat(hedging.isHedgeable(command())).isFalse();
+        assertThat(new ReadHedging(HedgingOptions.enabled(), null).isHedgeable(command())).isFalse();
+        assertThat(new ReadHedging(HedgingOptions.enabled(), clientResources).isHedgeable(command())).isTrue();
+    }
+
+    @Test
+    void primaryResponseShouldCompleteCommandWithoutHedge() throws Exception {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofSeconds(10)).budget(1).build(),
+                clientResources);
+        AsyncCommand<String, String, String> command = command();
+
+        dispatch(hedging, command);
+
+        assertThat(primaryLegs).hasSize(1);
+        respond(primaryLegs.get(0), "primary");
+
+        assertThat(command.get(1, TimeUnit.SECONDS)).isEqualTo("primary");
+        assertThat(alternateLegs).isEmpty();
+        verify(eventBus, never()).publish(any());
+    }
+
+    @Test
+    void hedgeResponseShouldCompleteCommand() throws Exception {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofMillis(5)).budget(1).build(),
+                clientResources);
+        AsyncCommand<String, String, String> command = command();
+
+        dispatch(hedging, command);
+        awaitLeg(alternateLegs);
+
+        respond(alternateLegs.get(0), "hedge");
+
+        assertThat(command.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+        assertThat(((AsyncCommand<?, ?, ?>) primaryLegs.get(0)).isCancelled()).isTrue();
+
+        ArgumentCaptor<HedgedReadEvent> captor = ArgumentCaptor.forClass(HedgedReadEvent.class);
+        verify(eventBus).publish(captor.capture());
+        assertThat(captor.getValue().isHedgeWon()).isTrue();
+        assertThat(captor.getValue().getCommandType()).isEqualTo("GET");
+    }
+
+    @Test
+    void legsShouldAcceptCompletionCallbacks() {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofSeconds(10)).budget(1).build(),
+                clientResources);
+
+        dispatch(hedging, command());
+
+        assertThat(primaryLegs.get(0)).isInstanceOf(CompleteableCommand.class);
+    }
+
+    @Test
+    void errorResponseShouldBeReplayed() throws Exception {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofSeconds(10)).budget(1).build(),
+                clientResources);
+        AsyncCommand<String, String, String> command = command();
+
+        dispatch(hedging, command);
+
+        primaryLegs.get(0).getOutput().setError(ByteBuffer.wrap("MOVED 1 127.0.0.1:7380".getBytes(StandardCharsets.UTF_8)));
+        primaryLegs.get(0).complete();
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+        assertThat(command.getOutput().getError()).isEqualTo("MOVED 1 127.0.0.1:7380");
+    }
+
+    @Test
+    void shouldCompleteWithPrimaryFailureIfBothLegsFail() throws Exception {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofMillis(5)).budget(1).build(),
+                clientResources);
+        AsyncCommand<String, String, String> command = command();
+
+        dispatch(hedging, command);
+        awaitLeg(alternateLegs);
+
+        primaryLegs.get(0).completeExceptionally(new RedisException("primary"));
+        assertThat(command.isDone()).isFalse();
+
+        alternateLegs.get(0).completeExceptionally(new RedisException("hedge"));
+
+        assertThat(command.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(() -> command.get(1, TimeUnit.SECONDS)).hasRootCauseMessage("primary");
+    }
+
+    @Test
+    void shouldNotHedgeWithoutBudget() throws Exception {
+
+        ReadHedging hedging = new ReadHedging(HedgingOptions.builder().enable().delay(Duration.ofMillis(1)).budget(0).build(),
+                clientResources);
+        AsyncCommand<String, String, String> command = command();
+
+        dispatch(hedging, command);
+        Thread.sleep(50);
+
+        assertThat(alternateLegs).isEmpty();
+
+        respond(primaryLegs.get(0), "primary");
+        assertThat(command.get(1, TimeUnit.SECONDS)).isEqualTo("primary");
+    }
+
+    @Test
+    void percentileShouldRaiseDelayTowardsObservedLatency() {
+
+        ReadHedging hedging = new ReadHedging(
+                HedgingOptions.builder().enable().delay(Duration.ofNanos(1)).percentile(0.9).build(), clientResources);
+
+        for (int i = 0; i < 1000; i++) {
+            hedging.recordLatency(primary, 1_000_000);
+        }
+
+        assertThat(hedging.getDelay(primary)).isBetween(900_000L, 1_100_000L);
+        assertThat(hedging.getDelay(alternate)).isEqualTo(1);
+    }
+
+    private void dispatch(ReadHedging hedging, RedisCommand<String, String, ?> command) {
+
+        hedging.dispatch(command, primary, () -> alternate, (leg, connection) -> {
+            if (connection == primary) {
+                primaryLegs.add(leg);
+            } else {
+                alternateLegs.add(leg);
+            }
+        });
+    }
+
+    private static AsyncCommand<String, String, String> command() {
+        return new AsyncCommand<>(new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+    }
+
+    private static void respond(RedisCommand<String, String, ?> leg, String value) {
+        leg.getOutput().set(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8)));
+        leg.complete();
+    }
+
+    private static void awaitLeg(List<?> legs) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (legs.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertThat(legs).isNotEmpty();
+    }
+
+}
@@ -18,7 +18,10 @@ package io.lettuce.core;
 import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -86,6 +89,105 @@ class RedisHandshakeUnitTests {
         assertThat(state.getNegotiatedProtocolVersion()).isEqualTo(ProtocolVersion.RESP2);
     }
 
+    @Test
+    void pipelinedHandshakeShouldRememberHandshakeResponse() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider("foo", "bar".toCharArray()));
+        AtomicReference<ConnectionState.HandshakeResponse> previous = new AtomicReference<>();
+
+        RedisHandshake handshake = new RedisHandshake(ProtocolVersion.RESP3, false, state, previous);
+        handshake.initialize(channel);
+
+        AsyncCommand<String, String, Map<String, String>> hello = channel.readOutbound();
+        helloResponse(hello.getOutput());
+        hello.complete();
+
+        assertThat(previous.get()).isNotNull();
+        assertThat(previous.get().getRedisVersion()).isEqualTo("1.2.3");
+    }
+
+    @Test
+    void pipelinedHandshakeShouldSendHandshakeAndPostHandshakeCommandsTogether() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider("foo", "bar".toCharArray()));
+        state.setDb(1);
+        AtomicReference<ConnectionState.HandshakeResponse> previous = new AtomicReference<>(
+                new ConnectionState.HandshakeResponse(ProtocolVersion.RESP3, 1L, "1.2.3", "master", "master"));
+
+        RedisHandshake handshake = new RedisHandshake(ProtocolVersion.RESP3, false, state, previous);
+        CompletionStage<Void> result = handshake.initialize(channel);
+
+        List<AsyncCommand<String, String, ?>> commands = channel.readOutbound();
+        assertThat(commands).hasSize(2);
+
+        AsyncCommand<String, String, Map<String, String>> hello = (AsyncCommand) commands.get(0);
+        helloResponse(hello.getOutput());
+        hello.complete();
+        commands.get(1).complete();
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        assertThat(channel.<Object> readOutbound()).isNull();
+        assertThat(state.getNegotiatedProtocolVersion()).isEqualTo(ProtocolVersion.RESP3);
+    }
+
+    @Test
+    void pipelinedHandshakeShouldFallBackToSequentialHandshake() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider("foo", "bar".toCharArray()));
+        state.setDb(1);
+        AtomicReference<ConnectionState.HandshakeResponse> previous = new AtomicReference<>(
+                new ConnectionState.HandshakeResponse(ProtocolVersion.RESP3, 1L, "1.2.3", "master", "master"));
+
+        RedisHandshake handshake = new RedisHandshake(ProtocolVersion.RESP3, false, state, previous);
+        CompletionStage<Void> result = handshake.initialize(channel);
+
+        List<AsyncCommand<String, String, ?>> commands = channel.readOutbound();
+        commands.get(0).completeExceptionally(new RedisException("LOADING"));
+        commands.get(1).completeExceptionally(new RedisException("LOADING"));
+
+        assertThat(previous.get()).isNull();
+
+        AsyncCommand<String, String, Map<String, String>> hello = channel.readOutbound();
+        helloResponse(hello.getOutput());
+        hello.complete();
+
+        List<AsyncCommand<String, String, ?>> postHandshake = channel.readOutbound();
+        assertThat(postHandshake).hasSize(1);
+        postHandshake.get(0).complete();
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        assertThat(previous.get()).isNotNull();
+    }
+
+    @Test
+    void pipelinedResp2HandshakeShouldNotRequirePreviousHandshake() {
+
+        EmbeddedChannel channel = new EmbeddedChannel(true, false);
+
+        ConnectionState state = new ConnectionState();
+        state.setCredentialsProvider(new StaticCredentialsProvider(null, "bar".toCharArray()));
+        state.setDb(1);
+
+        RedisHandshake handshake = new RedisHandshake(ProtocolVersion.RESP2, false, state, new AtomicReference<>());
+        CompletionStage<Void> result = handshake.initialize(channel);
+
+        List<AsyncCommand<String, String, ?>> commands = channel.readOutbound();
+        assertThat(commands).hasSize(2);
+        commands.forEach(AsyncCommand::complete);
+
+        assertThat(result.toCompletableFuture()).isCompleted();
+        assertThat(state.getNegotiatedProtocolVersion()).isEqualTo(ProtocolVersion.RESP2);
+    }
+
     @Test
     void shouldParseVersionWithCharacters() {
 
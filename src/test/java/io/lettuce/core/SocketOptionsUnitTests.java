@@ -84,10 +84,49 @@ class SocketOptionsUnitTests {
         checkAssertions(SocketOptions.copyOf(SocketOptions.builder().build()));
     }
 
+    @Test
+    void shouldConfigureLowLatencyOptions() {
+
+        SocketOptions sut = SocketOptions.builder().busyPoll(Duration.ofNanos(50_000)).tcpQuickAck(true).edgeTriggered(false)
+                .build();
+
+        assertThat(sut.isBusyPollEnabled()).isTrue();
+        assertThat(sut.getBusyPoll()).isEqualTo(Duration.ofNanos(50_000));
+        assertThat(sut.isTcpQuickAck()).isTrue();
+        assertThat(sut.isEdgeTriggered()).isFalse();
+    }
+
+    @Test
+    void mutateShouldRetainLowLatencyOptions() {
+
+        SocketOptions sut = SocketOptions.builder().busyPoll(Duration.ofNanos(50_000)).tcpQuickAck(true).edgeTriggered(false)
+                .tcpUserTimeout(TcpUserTimeoutOptions.builder().enable().build()).build();
+
+        SocketOptions reconfigured = sut.mutate().tcpNoDelay(false).build();
+
+        assertThat(reconfigured.getBusyPoll()).isEqualTo(Duration.ofNanos(50_000));
+        assertThat(reconfigured.isTcpQuickAck()).isTrue();
+        assertThat(reconfigured.isEdgeTriggered()).isFalse();
+        assertThat(reconfigured.isEnableTcpUserTimeout()).isTrue();
+    }
+
+    @Test
+    void shouldRejectBusyPollOutOfMicrosecondRange() {
+
+        SocketOptions.Builder builder = SocketOptions.builder();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.busyPoll(Duration.ofNanos(999)));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.busyPoll(Duration.ofDays(365)));
+        assertThat(builder.busyPoll(Duration.ofNanos(1000)).build().isBusyPollEnabled()).isTrue();
+    }
+
     void checkAssertions(SocketOptions sut) {
         assertThat(sut.isKeepAlive()).isFalse();
         assertThat(sut.isTcpNoDelay()).isTrue();
         assertThat(sut.getConnectTimeout()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(sut.isBusyPollEnabled()).isFalse();
+        assertThat(sut.isTcpQuickAck()).isFalse();
+        assertThat(sut.isEdgeTriggered()).isTrue();
     }
 
     @Test
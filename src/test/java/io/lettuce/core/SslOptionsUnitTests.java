@@ -97,4 +97,43 @@ class SslOptionsUnitTests {
         SslContext context = options.createSslContextBuilder().build();
         assertThat(context.cipherSuites()).containsOnly("TLS_RSA_WITH_AES_128_CBC_SHA");
     }
+
+    @Test
+    void shouldConfigureSessionResumption() {
+
+        SslOptions options = SslOptions.builder().sessionResumption(true).sessionCacheSize(100)
+                .sessionTimeout(Duration.ofMinutes(5)).offloadHandshake(true).build();
+
+        SslOptions copy = options.mutate().build();
+
+        assertThat(copy.isSessionResumption()).isTrue();
+        assertThat(copy.getSessionCacheSize()).isEqualTo(100);
+        assertThat(copy.getSessionTimeout()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(copy.isOffloadHandshake()).isTrue();
+    }
+
+    @Test
+    void shouldShareSslContextWithSessionResumption() throws Exception {
+
+        SslOptions options = SslOptions.builder().sessionResumption(true).sessionCacheSize(100).build();
+
+        SslContext first = options.getSslContext(SslVerifyMode.FULL, () -> options.createSslContextBuilder().build());
+        SslContext second = options.getSslContext(SslVerifyMode.FULL, () -> options.createSslContextBuilder().build());
+        SslContext none = options.getSslContext(SslVerifyMode.NONE, () -> options.createSslContextBuilder().build());
+
+        assertThat(first).isSameAs(second).isNotSameAs(none);
+        assertThat(first.sessionCacheSize()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldCreateSslContextPerConnectionByDefault() throws Exception {
+
+        SslOptions options = SslOptions.create();
+
+        SslContext first = options.getSslContext(SslVerifyMode.FULL, () -> options.createSslContextBuilder().build());
+        SslContext second = options.getSslContext(SslVerifyMode.FULL, () -> options.createSslContextBuilder().build());
+
+        assertThat(first).isNotSameAs(second);
+    }
+
 }
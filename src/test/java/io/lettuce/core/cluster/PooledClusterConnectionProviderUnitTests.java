@@ -42,6 +42,7 @@ import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.WarmUpOptions;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
@@ -130,6 +131,38 @@ class PooledClusterConnectionProviderUnitTests {
         verifyNoMoreInteractions(connection);
     }
 
+    @Test
+    void shouldWarmUpAllNodeConnections() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), any(), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+        when(asyncCommandsMock.ping()).thenReturn(async);
+
+        sut.warmUp(WarmUpOptions.builder().concurrency(1).build()).join();
+
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+        verify(asyncCommandsMock, times(2)).ping();
+    }
+
+    @Test
+    void shouldWarmUpNodesSelectedByReadFrom() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        CompletableFuture<Void> warmUp = sut.warmUp(WarmUpOptions.builder().readFrom(ReadFrom.UPSTREAM).ping(false).build());
+
+        assertThat(warmUp).isCompleted();
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+        verify(clientMock, never()).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:2"), any(), any());
+    }
+
     @Test
     void shouldReuseMasterConnectionForReadFromMaster() {
 
@@ -18,9 +18,15 @@ package io.lettuce.core.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.codec.CRC16;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -57,4 +63,102 @@ class SlotHashUnitTests {
         int result = SlotHash.getSlot((ByteBuffer) ByteBuffer.allocateDirect(TAGGED.length).put(TAGGED).flip());
         assertThat(result).isEqualTo(0x31C3);
     }
+
+    @Test
+    void shouldGetSlotFromString() {
+
+        assertThat(SlotHash.getSlot("123456789")).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot("key{123456789}a")).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot("key{}a")).isEqualTo(SlotHash.getSlot("key{}a".getBytes()));
+        assertThat(SlotHash.getSlot("ключ{tag}")).isEqualTo(SlotHash.getSlot("tag"));
+        assertThat(SlotHash.getSlot("ключ")).isEqualTo(SlotHash.getSlot("ключ".getBytes()));
+    }
+
+    @Test
+    void shouldGetSlotFromByteBuf() {
+
+        ByteBuf heap = Unpooled.wrappedBuffer(TAGGED);
+        ByteBuf direct = Unpooled.directBuffer().writeBytes(BYTES);
+
+        assertThat(SlotHash.getSlot(heap)).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(direct)).isEqualTo(0x31C3);
+        assertThat(heap.readerIndex()).isZero();
+
+        direct.release();
+    }
+
+    @Test
+    void shouldRetainBufferPositionAndLimit() {
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAGGED.length + 4);
+        buffer.put(new byte[] { '{', 'x', '}', '!' }).put(TAGGED).flip().position(4);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(buffer.position()).isEqualTo(4);
+        assertThat(buffer.limit()).isEqualTo(TAGGED.length + 4);
+    }
+
+    @Test
+    void shouldMatchReferenceImplementation() {
+
+        Random random = new Random(42);
+
+        for (int length = 0; length < 300; length++) {
+
+            byte[] key = new byte[length];
+            random.nextBytes(key);
+            if (length > 20 && length % 3 == 0) {
+                key[length / 2] = '{';
+                key[length - 3] = '}';
+            }
+
+            int expected = referenceSlot(key);
+            ByteBuffer direct = (ByteBuffer) ByteBuffer.allocateDirect(length).put(key).flip();
+            ByteBuffer littleEndian = ByteBuffer.wrap(key).order(ByteOrder.LITTLE_ENDIAN);
+
+            assertThat(CRC16.crc16(key)).isEqualTo(referenceCrc16(key, 0, length));
+            assertThat(SlotHash.getSlot(key)).isEqualTo(expected);
+            assertThat(SlotHash.getSlot(direct)).isEqualTo(expected);
+            assertThat(SlotHash.getSlot(littleEndian)).isEqualTo(expected);
+            assertThat(SlotHash.getSlot(Unpooled.wrappedBuffer(key))).isEqualTo(expected);
+            assertThat(SlotHash.getSlot(Unpooled.wrappedBuffer(direct.duplicate()))).isEqualTo(expected);
+        }
+    }
+
+    private static int referenceSlot(byte[] key) {
+
+        int start = -1;
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] == '{') {
+                start = i;
+                break;
+            }
+        }
+
+        if (start != -1) {
+            for (int i = start + 1; i < key.length; i++) {
+                if (key[i] == '}') {
+                    if (i != start + 1) {
+                        return referenceCrc16(key, start + 1, i - start - 1) % SlotHash.SLOT_COUNT;
+                    }
+                    break;
+                }
+            }
+        }
+
+        return referenceCrc16(key, 0, key.length) % SlotHash.SLOT_COUNT;
+    }
+
+    private static int referenceCrc16(byte[] bytes, int off, int len) {
+
+        int crc = 0;
+        for (int i = off; i < off + len; i++) {
+            crc ^= (bytes[i] & 0xFF) << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+        return crc & 0xFFFF;
+    }
+
 }
@@ -18,6 +18,8 @@ package io.lettuce.core.dynamic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
@@ -202,6 +204,44 @@ class RedisCommandsBatchingIntegrationTests extends TestSupport {
         }
     }
 
+    @Test
+    void shouldFlushAfterMaxDelay() {
+
+        RedisCommandFactory factory = new RedisCommandFactory(redis.getStatefulConnection());
+
+        TimedBatching api = factory.getCommands(TimedBatching.class);
+
+        RedisFuture<String> set = api.setAsync("k1", value);
+
+        assertThat(TestFutures.getOrTimeout(set)).isEqualTo("OK");
+        assertThat(redis.get("k1")).isEqualTo(value);
+    }
+
+    @Test
+    void shouldFlushAsynchronously() {
+
+        RedisCommandFactory factory = new RedisCommandFactory(redis.getStatefulConnection());
+
+        SelectiveBatching api = factory.getCommands(SelectiveBatching.class);
+
+        api.set("k1", value, CommandBatching.queue());
+        api.llen("k1", CommandBatching.queue());
+
+        CompletableFuture<Void> flush = api.flushAsync().toCompletableFuture();
+        TestFutures.awaitOrTimeout(flush);
+
+        assertThat(redis.get("k1")).isEqualTo(value);
+        assertThat(flush).isCompletedExceptionally();
+
+        try {
+            flush.join();
+            fail("Missing BatchException");
+        } catch (CompletionException e) {
+            assertThat(e).hasCauseInstanceOf(BatchException.class);
+            assertThat(((BatchException) e.getCause()).getFailedCommands()).hasSize(1);
+        }
+    }
+
     @BatchSize(5)
     static interface Batching extends Commands {
 
@@ -226,6 +266,14 @@ class RedisCommandsBatchingIntegrationTests extends TestSupport {
 
     }
 
+    @BatchSize(value = 100, maxDelay = 10)
+    interface TimedBatching extends Commands, BatchExecutor {
+
+        @Command("SET")
+        RedisFuture<String> setAsync(String key, String value);
+
+    }
+
     @BatchSize(5)
     interface SelectiveBatchingWithSize extends Commands, BatchExecutor {
 
@@ -18,19 +18,35 @@ package io.lettuce.core.dynamic;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.dynamic.batch.BatchException;
 import io.lettuce.core.dynamic.batch.CommandBatching;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.command.BatchFlushedEvent;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 /**
  * @author Mark Paluch
@@ -139,6 +155,176 @@ class SimpleBatcherUnitTests {
         verify(connection).dispatch(Arrays.asList(c1, c2));
     }
 
+    @Test
+    void shouldFlushAfterMaxDelay() {
+
+        ClientResources resources = mock(ClientResources.class);
+        EventExecutorGroup executor = mock(EventExecutorGroup.class);
+        EventBus eventBus = mock(EventBus.class);
+        when(resources.eventExecutorGroup()).thenReturn(executor);
+        when(resources.eventBus()).thenReturn(eventBus);
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+
+        SimpleBatcher batcher = new SimpleBatcher(connection, 10, TimeUnit.MILLISECONDS.toNanos(5), resources);
+
+        batcher.batch(c1, null);
+        batcher.batch(c2, null);
+
+        ArgumentCaptor<Runnable> timer = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(timer.capture(), eq(TimeUnit.MILLISECONDS.toNanos(5)), eq(TimeUnit.NANOSECONDS));
+        verifyNoInteractions(connection);
+
+        timer.getValue().run();
+
+        verify(connection).dispatch(Arrays.asList(c1, c2));
+
+        ArgumentCaptor<BatchFlushedEvent> event = ArgumentCaptor.forClass(BatchFlushedEvent.class);
+        verify(eventBus).publish(event.capture());
+        assertThat(event.getValue().getBatchSize()).isEqualTo(2);
+        assertThat(event.getValue().getTrigger()).isEqualTo(BatchFlushedEvent.Trigger.TIME);
+
+        batcher.batch(createCommand(), null);
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void shouldNotScheduleFlushForCompleteBatches() {
+
+        ClientResources resources = mock(ClientResources.class);
+        when(resources.eventBus()).thenReturn(mock(EventBus.class));
+
+        SimpleBatcher batcher = new SimpleBatcher(connection, 2, TimeUnit.MILLISECONDS.toNanos(5), resources);
+
+        batcher.batch(createCommand(), CommandBatching.flush());
+
+        verify(resources, never()).eventExecutorGroup();
+    }
+
+    @Test
+    void shouldDispatchConcurrentCommandsExactlyOnce() throws Exception {
+
+        Collection<Object> dispatched = new ConcurrentLinkedQueue<>();
+        doAnswer(invocation -> {
+            dispatched.addAll(invocation.getArgument(0));
+            return null;
+        }).when(connection).dispatch(anyList());
+
+        SimpleBatcher batcher = new SimpleBatcher(connection, 8);
+
+        int threads = 4;
+        int commandsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<RedisCommand<Object, Object, Object>> commands = new ArrayList<>();
+
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+
+                List<RedisCommand<Object, Object, Object>> local = new ArrayList<>();
+                for (int j = 0; j < commandsPerThread; j++) {
+                    local.add(createCommand());
+                }
+                commands.addAll(local);
+
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    local.forEach(command -> batcher.batch(command, null));
+                }, executor));
+            }
+
+            start.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(dispatched).hasSize(threads * commandsPerThread).containsExactlyInAnyOrderElementsOf(commands);
+    }
+
+    @Test
+    void forcedFlushShouldAwaitRunningDrain() throws Exception {
+
+        RedisCommand<Object, Object, Object> c1 = createCommand();
+        RedisCommand<Object, Object, Object> c2 = createCommand();
+        RedisCommand<Object, Object, Object> c3 = createCommand();
+
+        CountDownLatch dispatching = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        List<Object> dispatched = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+
+            dispatched.add(invocation.getArgument(0));
+
+            if (dispatched.size() == 1) {
+                dispatching.countDown();
+                proceed.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(connection).dispatch(anyList());
+        doAnswer(invocation -> {
+
+            dispatched.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(connection).dispatch(any(RedisCommand.class));
+
+        SimpleBatcher batcher = new SimpleBatcher(connection, 2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+
+            batcher.batch(c1, null);
+            CompletableFuture<BatchTasks> sizeDrain = CompletableFuture.supplyAsync(() -> batcher.batch(c2, null), executor);
+            assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+
+            batcher.batch(c3, CommandBatching.queue());
+            CompletableFuture<BatchTasks> forced = CompletableFuture.supplyAsync(batcher::flush);
+
+            Thread.sleep(50);
+            assertThat(forced).isNotDone();
+
+            proceed.countDown();
+
+            assertThat(sizeDrain.get(5, TimeUnit.SECONDS)).containsExactly(c1, c2);
+            assertThat(forced.get(5, TimeUnit.SECONDS)).containsExactly(c3);
+            assertThat(dispatched).containsExactly(Arrays.asList(c1, c2), c3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchTasksShouldCompleteWithBatch() {
+
+        AsyncCommand<Object, Object, Object> c1 = (AsyncCommand<Object, Object, Object>) createCommand();
+        AsyncCommand<Object, Object, Object> c2 = (AsyncCommand<Object, Object, Object>) createCommand();
+
+        SimpleBatcher batcher = new SimpleBatcher(connection, 2);
+
+        batcher.batch(c1, null);
+        CompletableFuture<Void> completion = batcher.batch(c2, null).toCompletableFuture();
+
+        c1.complete();
+        assertThat(completion).isNotDone();
+
+        c2.completeExceptionally(new IllegalStateException());
+        assertThat(completion).isCompletedExceptionally();
+
+        try {
+            completion.join();
+        } catch (Exception e) {
+            assertThat(e).hasCauseInstanceOf(BatchException.class);
+            assertThat(((BatchException) e.getCause()).getFailedCommands()).containsOnly(c2);
+        }
+    }
+
     private static RedisCommand<Object, Object, Object> createCommand() {
         return new AsyncCommand<>(new Command<>(CommandType.COMMAND, null, null));
     }
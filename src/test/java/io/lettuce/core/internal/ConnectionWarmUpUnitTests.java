@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.WarmUpOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.models.role.RedisInstance;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+/**
+ * Unit tests for {@link ConnectionWarmUp}.
+ */
+class ConnectionWarmUpUnitTests {
+
+    @Test
+    void shouldLimitConcurrency() {
+
+        List<CompletableFuture<StatefulRedisConnection<?, ?>>> pending = new ArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        CompletableFuture<Void> result = ConnectionWarmUp.warmUp(Arrays.asList(1, 2, 3, 4, 5), target -> {
+
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<StatefulRedisConnection<?, ?>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future.whenComplete((c, t) -> inFlight.decrementAndGet());
+        }, WarmUpOptions.builder().concurrency(2).ping(false).build());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(result).isNotDone();
+            pending.get(i).complete(mock(StatefulRedisConnection.class));
+        }
+
+        assertThat(result).isCompleted();
+        assertThat(maxInFlight).hasValue(2);
+    }
+
+    @Test
+    void shouldReportFailures() {
+
+        StatefulRedisConnection<?, ?> connection = mock(StatefulRedisConnection.class);
+
+        CompletableFuture<Void> result = ConnectionWarmUp.warmUp(Arrays.asList(1, 2, 3), target -> {
+
+            if (target == 2) {
+                return Futures.<StatefulRedisConnection<?, ?>> failed(new RedisException("2"));
+            }
+
+            return CompletableFuture.<StatefulRedisConnection<?, ?>> completedFuture(connection);
+        }, WarmUpOptions.builder().ping(false).build());
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasRootCauseInstanceOf(RedisException.class);
+    }
+
+    @Test
+    void shouldSelectUpstreamAndReadFromNodes() {
+
+        RedisNodeDescription upstream = node(1, RedisInstance.Role.UPSTREAM);
+        RedisNodeDescription replica1 = node(2, RedisInstance.Role.REPLICA);
+        RedisNodeDescription replica2 = node(3, RedisInstance.Role.REPLICA);
+        List<RedisNodeDescription> nodes = Arrays.asList(upstream, replica1, replica2);
+
+        assertThat(ConnectionWarmUp.selectNodes(nodes, WarmUpOptions.create())).containsExactly(upstream, replica1, replica2);
+        assertThat(ConnectionWarmUp.selectNodes(nodes, WarmUpOptions.builder().readFrom(ReadFrom.UPSTREAM).build()))
+                .containsExactly(upstream);
+        assertThat(ConnectionWarmUp.selectNodes(nodes, WarmUpOptions.builder().readFrom(ReadFrom.REPLICA).build()))
+                .containsExactly(upstream, replica1, replica2);
+    }
+
+    private static RedisNodeDescription node(int port, RedisInstance.Role role) {
+
+        return new RedisNodeDescription() {
+
+            @Override
+            public RedisURI getUri() {
+                return RedisURI.create("localhost", port);
+            }
+
+            @Override
+            public RedisInstance.Role getRole() {
+                return role;
+            }
+
+        };
+    }
+
+}
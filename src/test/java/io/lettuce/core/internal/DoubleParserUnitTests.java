@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.internal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link DoubleParser}.
+ */
+class DoubleParserUnitTests {
+
+    private final DoubleParser parser = new DoubleParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0", "+0", "0.0", "1", "-1", "1.5", "-0.25", "3.14", "0.1", "0.05", "123456789",
+            "007.500", "1.", ".5", "1e5", "1E-5", "-2.5e+3", "1e22", "1e-22", "1e23", "1e-23", "9007199254740993",
+            "0.10000000000000001", "3.1400000000000001", "1234567890123456789012", "4.9e-324", "1.7976931348623157e308",
+            "1e400", "1e-400", "123.456e-300", "Infinity", "-Infinity" })
+    void shouldParseLikeDoubleParseDouble(String value) {
+
+        double expected = Double.parseDouble(value);
+
+        assertThat(parse(value)).isEqualTo(expected);
+        assertThat(parseBuffer(value)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldParseRedisSpecialValues() {
+
+        assertThat(parse("inf")).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(parse("+inf")).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(parse("-inf")).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(parse("nan")).isNaN();
+        assertThat(parseBuffer("-nan")).isNaN();
+    }
+
+    @Test
+    void shouldPreserveNegativeZero() {
+
+        assertThat(Double.doubleToRawLongBits(parse("-0.0"))).isEqualTo(Double.doubleToRawLongBits(-0.0d));
+        assertThat(Double.doubleToRawLongBits(parse("0.0"))).isEqualTo(Double.doubleToRawLongBits(0.0d));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "-", ".", "1e", "1e-", "1.2.3", "--1", "1x", "e5" })
+    void shouldRejectMalformedValues(String value) {
+
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> parse(value));
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> parseBuffer(value));
+    }
+
+    @Test
+    void shouldParseRandomValuesLikeDoubleParseDouble() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+
+            double value = i % 2 == 0 ? random.nextDouble(-1_000_000, 1_000_000)
+                    : Math.round(random.nextDouble(-1_000_000, 1_000_000) * 1000) / 1000d;
+            String string = Double.toString(value);
+
+            assertThat(parse(string)).as(string).isEqualTo(Double.parseDouble(string));
+        }
+    }
+
+    @Test
+    void shouldNotChangeBufferIndexes() {
+
+        ByteBuf buffer = Unpooled.copiedBuffer("x1.25\r\n", StandardCharsets.US_ASCII);
+        buffer.readerIndex(1);
+
+        assertThat(parser.parse(buffer, 1, 5)).isEqualTo(1.25);
+        assertThat(buffer.readerIndex()).isEqualTo(1);
+
+        ByteBuffer bytes = ByteBuffer.wrap("x-4.5".getBytes(StandardCharsets.US_ASCII));
+        bytes.position(1);
+
+        assertThat(parser.parse(bytes)).isEqualTo(-4.5);
+        assertThat(bytes.position()).isEqualTo(1);
+    }
+
+    private double parse(String value) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(value, StandardCharsets.US_ASCII);
+        return parser.parse(buffer, 0, buffer.writerIndex());
+    }
+
+    private static double parseBuffer(String value) {
+        return new DoubleParser().parse(ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+}
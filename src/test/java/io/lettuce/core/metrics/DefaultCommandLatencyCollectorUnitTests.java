@@ -26,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector.PauseDetectorWrapper;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
 import io.lettuce.test.ReflectionTestUtils;
 import io.netty.channel.local.LocalAddress;
 
@@ -139,6 +140,115 @@ class DefaultCommandLatencyCollectorUnitTests {
         sut.shutdown();
     }
 
+    @Test
+    void verifyRecorderMetrics() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        setupData();
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+        assertThat(latencies).hasSize(1);
+
+        CommandMetrics metrics = latencies.values().iterator().next();
+
+        assertThat(metrics.getCount()).isEqualTo(3);
+        assertThat(metrics.getFirstResponse().getMin()).isBetween(90000L, 110000L);
+        assertThat(metrics.getFirstResponse().getMax()).isBetween(290000L, 310000L);
+        assertThat(metrics.getCompletion().getMin()).isBetween(990000L, 1100000L);
+        assertThat(metrics.getCompletion().getMax()).isBetween(990000L, 1100000L);
+
+        assertThat(sut.retrieveMetrics()).isEmpty();
+
+        sut.shutdown();
+    }
+
+    @Test
+    void verifyCummulativeRecorderMetrics() {
+
+        sut = new DefaultCommandLatencyCollector(
+                DefaultCommandLatencyCollectorOptions.builder().resetLatenciesAfterEvent(false).build());
+
+        setupData();
+        assertThat(sut.retrieveMetrics().values().iterator().next().getCount()).isEqualTo(3);
+
+        setupData();
+        CommandMetrics metrics = sut.retrieveMetrics().values().iterator().next();
+
+        assertThat(metrics.getCount()).isEqualTo(6);
+        assertThat(metrics.getCompletion().getMin()).isBetween(990000L, 1100000L);
+
+        sut.shutdown();
+    }
+
+    @Test
+    void shouldInternCommandTypesByName() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET, 1000, 1000);
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, new ProtocolKeyword() {
+
+            @Override
+            public byte[] getBytes() {
+                return name().getBytes();
+            }
+
+            @Override
+            public String name() {
+                return "GET";
+            }
+
+        }, 1000, 1000);
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.SET, 1000, 1000);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+
+        assertThat(latencies).hasSize(2);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET)).getCount())
+                .isEqualTo(2);
+
+        sut.shutdown();
+    }
+
+    @Test
+    void shouldDistinguishLocalAddresses() {
+
+        LocalAddress local = new LocalAddress("local");
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.builder().localDistinction(true).build());
+        sut.recordCommandLatency(local, LocalAddress.ANY, CommandType.GET, 1000, 1000);
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET, 1000, 1000);
+
+        assertThat(sut.retrieveMetrics()).hasSize(2);
+        sut.shutdown();
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+        sut.recordCommandLatency(local, LocalAddress.ANY, CommandType.GET, 1000, 1000);
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.GET, 1000, 1000);
+
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        sut.shutdown();
+    }
+
+    @Test
+    void shouldEvictIdleLatencies() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        setupData();
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+        assertThat(sut.retrieveMetrics()).isEmpty();
+
+        Map<?, ?> latencies = (Map<?, ?>) ReflectionTestUtils.getField(sut, "latencies");
+        assertThat((Map<?, ?>) latencies.get(LocalAddress.ANY)).isEmpty();
+
+        setupData();
+        assertThat(sut.retrieveMetrics()).hasSize(1);
+
+        sut.shutdown();
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import static io.lettuce.core.metrics.MicrometerEndpointMetricsRecorder.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.SocketAddress;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.local.LocalAddress;
+
+/**
+ * Unit tests for {@link MicrometerEndpointMetricsRecorder}.
+ */
+class MicrometerEndpointMetricsRecorderUnitTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StubEndpointMetrics metrics = new StubEndpointMetrics();
+
+    @Test
+    void shouldRegisterGaugesAndCounters() {
+
+        MicrometerEndpointMetricsRecorder recorder = new MicrometerEndpointMetricsRecorder(meterRegistry,
+                MicrometerOptions.builder().tags(Tags.of("app", "test")).build());
+
+        recorder.register(metrics);
+
+        metrics.inFlight = 42;
+        metrics.flushes = 7;
+        metrics.bufferedBytes = 4096;
+
+        assertThat(meterRegistry.get(METRIC_IN_FLIGHT).tag(LABEL_ENDPOINT, "0x1").tag(LABEL_REMOTE, "local:redis")
+                .tag("app", "test").gauge().value()).isEqualTo(42);
+        assertThat(meterRegistry.get(METRIC_FLUSHES).functionCounter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get(METRIC_PENDING_BYTES).gauge().value()).isEqualTo(1024);
+        assertThat(meterRegistry.get(METRIC_DISCONNECTED_BUFFERED_BYTES).gauge().value()).isEqualTo(4096);
+
+        recorder.unregister(metrics);
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void disabled() {
+
+        MicrometerEndpointMetricsRecorder recorder = new MicrometerEndpointMetricsRecorder(meterRegistry,
+                MicrometerOptions.disabled());
+
+        recorder.register(metrics);
+
+        assertThat(recorder.isEnabled()).isFalse();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    static class StubEndpointMetrics implements EndpointMetrics {
+
+        int inFlight;
+
+        long flushes;
+
+        long bufferedBytes;
+
+        @Override
+        public String getId() {
+            return "0x1";
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return new LocalAddress("redis");
+        }
+
+        @Override
+        public int getQueuedCommands() {
+            return 0;
+        }
+
+        @Override
+        public int getDisconnectedBufferedCommands() {
+            return 0;
+        }
+
+        @Override
+        public int getPendingWriteCommands() {
+            return 0;
+        }
+
+        @Override
+        public int getInFlightCommands() {
+            return inFlight;
+        }
+
+        @Override
+        public long getPendingWriteBytes() {
+            return 1024;
+        }
+
+        @Override
+        public int getDecodeBufferSize() {
+            return 0;
+        }
+
+        @Override
+        public long getFlushCount() {
+            return flushes;
+        }
+
+        @Override
+        public long getWrittenCommands() {
+            return 0;
+        }
+
+        @Override
+        public long getDisconnectedBufferedTotal() {
+            return 0;
+        }
+
+        @Override
+        public long getDisconnectedBufferedBytes() {
+            return bufferedBytes;
+        }
+
+        @Override
+        public long getDisconnectedSpilledBytes() {
+            return 0;
+        }
+
+        @Override
+        public long getDisconnectedOverflowCount() {
+            return 0;
+        }
+
+        @Override
+        public long getBackpressureCount() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Unit tests for {@link LazyMapOutput}.
+ */
+class LazyMapOutputUnitTests {
+
+    private final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+
+    private final LazyMapOutput<String, String> sut = new LazyMapOutput<>(StringCodec.UTF8, allocator);
+
+    @Test
+    void shouldLookupEntriesByEncodedKey() {
+
+        sut.multi(6);
+        sut.set(ByteBuffer.wrap("name".getBytes()));
+        sut.set(ByteBuffer.wrap("lettuce".getBytes()));
+        sut.set(ByteBuffer.wrap("empty".getBytes()));
+        sut.set(null);
+        sut.set(ByteBuffer.wrap("na".getBytes()));
+        sut.set(ByteBuffer.wrap("prefix".getBytes()));
+
+        try (LazyMap<String, String> map = sut.get()) {
+
+            assertThat(map.size()).isEqualTo(3);
+            assertThat(map.get("name")).isEqualTo("lettuce");
+            assertThat(map.get("na")).isEqualTo("prefix");
+            assertThat(map.get("missing")).isNull();
+            assertThat(map.containsKey("empty")).isTrue();
+            assertThat(map.indexOf("na")).isEqualTo(2);
+            assertThat(map.getKey(1)).isEqualTo("empty");
+            assertThat(map.getValue(1)).isNull();
+            assertThat(map.toMap()).containsExactly(entry("name", "lettuce"), entry("empty", null), entry("na", "prefix"));
+        }
+    }
+
+    @Test
+    void releaseShouldFreeBuffer() {
+
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("hello".getBytes()));
+        sut.set(ByteBuffer.wrap("world".getBytes()));
+
+        LazyMap<String, String> map = sut.get();
+        map.release();
+
+        assertThat(map.isReleased()).isTrue();
+        assertThat(allocator.metric().usedHeapMemory()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> map.get("hello"));
+    }
+
+    @Test
+    void emptyMapShouldNotAllocate() {
+
+        sut.multi(0);
+
+        assertThat(sut.get().isEmpty()).isTrue();
+        assertThat(allocator.metric().usedHeapMemory()).isZero();
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Unit tests verifying that lazy outputs release their buffer if the command does not hand over its result.
+ */
+class LazyOutputReleaseUnitTests {
+
+    private final RecordingAllocator allocator = new RecordingAllocator();
+
+    private final LazyMapOutput<String, String> output = new LazyMapOutput<>(StringCodec.UTF8, allocator);
+
+    private final AsyncCommand<String, String, LazyMap<String, String>> command = new AsyncCommand<>(
+            new Command<>(CommandType.HGETALL, output, new CommandArgs<>(StringCodec.UTF8).addKey("key")));
+
+    @Test
+    void shouldReleaseOnCancel() {
+
+        decodeEntry();
+        command.cancel();
+
+        assertThat(allocator.buffers).hasSize(1);
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+    }
+
+    @Test
+    void shouldReleaseOnTimeoutAndDiscardLateReply() {
+
+        output.multi(2);
+        output.set(ByteBuffer.wrap("field".getBytes()));
+
+        command.completeExceptionally(new RedisCommandTimeoutException());
+
+        output.set(ByteBuffer.wrap("value".getBytes()));
+        command.complete();
+
+        assertThat(allocator.buffers).hasSize(1);
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+        assertThat(command).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldReleaseResultNotHandedOver() {
+
+        decodeEntry();
+
+        command.toCompletableFuture().complete(null);
+        command.complete();
+
+        assertThat(allocator.buffers).hasSize(1);
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+    }
+
+    @Test
+    void shouldHandOverResult() {
+
+        decodeEntry();
+        command.complete();
+
+        try (LazyMap<String, String> map = command.join()) {
+
+            assertThat(map.get("field")).isEqualTo("value");
+            assertThat(allocator.buffers.get(0).refCnt()).isOne();
+        }
+
+        assertThat(allocator.buffers.get(0).refCnt()).isZero();
+    }
+
+    private void decodeEntry() {
+
+        output.multi(2);
+        output.set(ByteBuffer.wrap("field".getBytes()));
+        output.set(ByteBuffer.wrap("value".getBytes()));
+    }
+
+    static class RecordingAllocator extends AbstractByteBufAllocator {
+
+        final List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+
+            ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.heapBuffer(initialCapacity, maxCapacity);
+            buffers.add(buffer);
+            return buffer;
+        }
+
+        @Override
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            return newHeapBuffer(initialCapacity, maxCapacity);
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return false;
+        }
+
+    }
+
+}
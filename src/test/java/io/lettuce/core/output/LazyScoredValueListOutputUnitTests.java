@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.StringCodec;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Unit tests for {@link LazyScoredValueListOutput}.
+ */
+class LazyScoredValueListOutputUnitTests {
+
+    private final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+
+    private final LazyScoredValueListOutput<String, String> sut = new LazyScoredValueListOutput<>(StringCodec.UTF8,
+            allocator);
+
+    @Test
+    void shouldDecodeResp2Reply() {
+
+        sut.multi(4);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(ByteBuffer.wrap("1.5".getBytes()));
+        sut.set(ByteBuffer.wrap("two".getBytes()));
+        sut.set(ByteBuffer.wrap("inf".getBytes()));
+
+        try (LazyScoredValueList<String> list = sut.get()) {
+
+            assertThat(list.size()).isEqualTo(2);
+            assertThat(list.getScore(0)).isEqualTo(1.5);
+            assertThat(list.getScore(1)).isEqualTo(Double.POSITIVE_INFINITY);
+            assertThat(list.getValue(1)).isEqualTo("two");
+            assertThat(list.toList()).containsExactly(ScoredValue.just(1.5, "one"),
+                    ScoredValue.just(Double.POSITIVE_INFINITY, "two"));
+        }
+    }
+
+    @Test
+    void shouldDecodeResp3Reply() {
+
+        sut.multi(1);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(4.567);
+
+        try (LazyScoredValueList<String> list = sut.get()) {
+            assertThat(list.get(0)).isEqualTo(ScoredValue.just(4.567, "one"));
+        }
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedSize() {
+
+        sut.multi(2);
+
+        for (int i = 0; i < 20; i++) {
+            sut.set(ByteBuffer.wrap(("value" + i).getBytes()));
+            sut.set((double) i);
+        }
+
+        try (LazyScoredValueList<String> list = sut.get()) {
+            assertThat(list.size()).isEqualTo(20);
+            assertThat(list.get(19)).isEqualTo(ScoredValue.just(19, "value19"));
+        }
+    }
+
+    @Test
+    void releaseShouldFreeBuffer() {
+
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(ByteBuffer.wrap("1".getBytes()));
+
+        LazyScoredValueList<String> list = sut.get();
+        list.close();
+
+        assertThat(allocator.metric().usedHeapMemory()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> list.getScore(0));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.codec.StringCodec;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+/**
+ * Unit tests for {@link LazyValueListOutput}.
+ */
+class LazyValueListOutputUnitTests {
+
+    private final UnpooledByteBufAllocator allocator = new UnpooledByteBufAllocator(false);
+
+    private final LazyValueListOutput<String, String> sut = new LazyValueListOutput<>(StringCodec.UTF8, allocator);
+
+    @Test
+    void shouldDecodeValuesOnAccess() {
+
+        sut.multi(3);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(null);
+        sut.set(ByteBuffer.wrap("three".getBytes()));
+
+        try (LazyValueList<String> list = sut.get()) {
+
+            assertThat(list.size()).isEqualTo(3);
+            assertThat(list.get(0)).isEqualTo("one");
+            assertThat(list.get(1)).isNull();
+            assertThat(list.getEncoded(2)).isEqualTo(ByteBuffer.wrap("three".getBytes()));
+            assertThat(list.toList()).containsExactly("one", null, "three");
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(3));
+        }
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedSize() {
+
+        sut.multi(1);
+
+        for (int i = 0; i < 100; i++) {
+            sut.set(ByteBuffer.wrap(("value" + i).getBytes()));
+        }
+
+        try (LazyValueList<String> list = sut.get()) {
+            assertThat(list.size()).isEqualTo(100);
+            assertThat(list.get(99)).isEqualTo("value99");
+        }
+    }
+
+    @Test
+    void shouldAcceptEmptyValue() {
+
+        sut.multi(1);
+        sut.set(ByteBuffer.allocate(0));
+
+        assertThat(sut.get().get(0)).isEmpty();
+        sut.get().release();
+    }
+
+    @Test
+    void shouldIgnoreResp3NullReply() {
+
+        sut.set(null);
+
+        assertThat(sut.get().isEmpty()).isTrue();
+    }
+
+    @Test
+    void releaseShouldFreeBuffer() {
+
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(ByteBuffer.wrap("two".getBytes()));
+
+        assertThat(allocator.metric().usedHeapMemory()).isGreaterThan(0);
+
+        LazyValueList<String> list = sut.get();
+        list.close();
+        list.release();
+
+        assertThat(list.isReleased()).isTrue();
+        assertThat(allocator.metric().usedHeapMemory()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> list.get(0));
+    }
+
+    @Test
+    void errorShouldReleaseBuffer() {
+
+        sut.multi(1);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.setError("ERR");
+
+        assertThat(sut.get().isReleased()).isTrue();
+        assertThat(allocator.metric().usedHeapMemory()).isZero();
+    }
+
+}
@@ -79,4 +79,29 @@ class ReplayOutputUnitTests {
         assertThat(replay.getError()).isEqualTo("foo");
         assertThat(target.getError()).isEqualTo("foo");
     }
+
+    @Test
+    void shouldReplayResp3Signals() {
+
+        ReplayOutput<String, String> replay = new ReplayOutput<>();
+        MapOutput<String, String> map = new MapOutput<>(StringCodec.ASCII);
+
+        replay.multiMap(1);
+        replay.set(ByteBuffer.wrap("key".getBytes()));
+        replay.set(ByteBuffer.wrap("value".getBytes()));
+        replay.complete(1);
+
+        replay.replay(map);
+
+        assertThat(map.get()).containsEntry("key", "value");
+
+        ReplayOutput<String, String> number = new ReplayOutput<>();
+        DoubleOutput<String, String> target = new DoubleOutput<>(StringCodec.ASCII);
+
+        number.set(1.5d);
+        number.replay(target);
+
+        assertThat(target.get()).isEqualTo(1.5d);
+    }
+
 }
@@ -20,9 +20,11 @@ import static org.assertj.core.api.Assertions.*;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.netty.buffer.ByteBuf;
@@ -127,6 +129,29 @@ class CommandArgsUnitTests {
         assertThat(CommandArgsAccessor.encodeFirstKey(args)).isEqualTo(ByteBuffer.wrap("one".getBytes()));
     }
 
+    @Test
+    void getFirstKeySlotShouldCalculateSlotOnce() {
+
+        AtomicInteger invocations = new AtomicInteger();
+        StringCodec codec = new StringCodec() {
+
+            @Override
+            public ByteBuffer encodeKey(String key) {
+                invocations.incrementAndGet();
+                return super.encodeKey(key);
+            }
+
+        };
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add("foo").addKey("one").addKey("two");
+
+        int slot = args.getFirstKeySlot();
+
+        assertThat(slot).isEqualTo(SlotHash.getSlot("one"));
+        assertThat(args.getFirstKeySlot()).isEqualTo(slot);
+        assertThat(invocations).hasValue(1);
+        assertThat(new CommandArgs<>(StringCodec.UTF8).add(1L).getFirstKeySlot()).isEqualTo(-1);
+    }
+
     @Test
     void addValues() {
 
@@ -196,4 +221,23 @@ class CommandArgsUnitTests {
 
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
+
+    @Test
+    void estimateEncodedSizeShouldMatchEncodedSize() {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue(new byte[1234]).add("string").add("chars".toCharArray()).add(0).add(-42).add(Long.MIN_VALUE)
+                .add(Long.MAX_VALUE).add(1.5).add(CommandKeyword.LIMIT).add(new byte[10]);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.estimateEncodedSize()).isEqualTo(buffer.readableBytes());
+
+        EagerCommandArgs<byte[], byte[]> eager = new EagerCommandArgs<>(ByteArrayCodec.INSTANCE);
+        eager.addAll(args);
+
+        assertThat(eager.estimateEncodedSize()).isEqualTo(buffer.readableBytes());
+        eager.release();
+    }
 }
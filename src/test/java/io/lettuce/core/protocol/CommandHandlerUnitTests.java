@@ -631,4 +631,50 @@ class CommandHandlerUnitTests {
         assertThat(hmgetCommand.get()).hasSize(3);
     }
 
+    @Test
+    void shouldCompleteMultiReplyCommandAfterAllReplies() throws Exception {
+
+        MultiReplyTestCommand command = new MultiReplyTestCommand(3);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(context, command, channelPromise);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("+OK\r\n:1\r\n".getBytes()));
+        assertThat(stack).hasSize(1);
+        assertThat(command.isDone()).isFalse();
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("-ERR failed\r\n".getBytes()));
+        assertThat(stack).isEmpty();
+        assertThat(command.isDone()).isTrue();
+    }
+
+    static class MultiReplyTestCommand extends Command<String, String, String> implements MultiReplyCommand {
+
+        private final int expectedReplies;
+
+        private int replies;
+
+        MultiReplyTestCommand(int expectedReplies) {
+            super(CommandType.SET, new StatusOutput<String, String>(StringCodec.UTF8) {
+
+                @Override
+                public void set(long integer) {
+                }
+
+            });
+            this.expectedReplies = expectedReplies;
+        }
+
+        @Override
+        public boolean onReply() {
+            return ++replies == expectedReplies;
+        }
+
+    }
+
 }
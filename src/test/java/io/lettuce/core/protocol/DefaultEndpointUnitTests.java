@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Queue;
@@ -46,14 +47,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import io.lettuce.core.CircuitBreakerOptions;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.CommandPriority;
+import io.lettuce.core.DisconnectedBufferOptions;
+import io.lettuce.core.PriorityOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.LettuceFactories;
+import io.lettuce.core.metrics.EndpointMetrics;
+import io.lettuce.core.metrics.EndpointMetricsRecorder;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.test.ConnectionTestUtil;
 import io.lettuce.test.ReflectionTestUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
@@ -110,6 +120,7 @@ class DefaultEndpointUnitTests {
     void before() {
 
         promise = new DefaultChannelPromise(channel);
+        when(channel.alloc()).thenReturn(ByteBufAllocator.DEFAULT);
         when(channel.writeAndFlush(any())).thenAnswer(invocation -> {
             if (invocation.getArguments()[0] instanceof RedisCommand) {
                 queue.add((RedisCommand) invocation.getArguments()[0]);
@@ -148,6 +159,39 @@ class DefaultEndpointUnitTests {
         verify(channel).writeAndFlush(command);
     }
 
+    @Test
+    void shouldRecordEndpointMetrics() {
+
+        EndpointMetricsRecorder recorder = mock(EndpointMetricsRecorder.class);
+        when(recorder.isEnabled()).thenReturn(true);
+        when(clientResources.endpointMetricsRecorder()).thenReturn(recorder);
+
+        sut = new DefaultEndpoint(ClientOptions.create(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        sut.write(command);
+
+        EndpointMetrics metrics = sut.getMetrics();
+        assertThat(metrics.getDisconnectedBufferedCommands()).isEqualTo(1);
+        assertThat(metrics.getDisconnectedBufferedTotal()).isEqualTo(1);
+
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+
+        verify(recorder).register(metrics);
+
+        sut.write(Collections.singletonList(new Command<>(CommandType.APPEND, new StatusOutput<>(StringCodec.UTF8), null)));
+
+        assertThat(metrics.getDisconnectedBufferedCommands()).isZero();
+        assertThat(metrics.getFlushCount()).isEqualTo(2);
+        assertThat(metrics.getWrittenCommands()).isEqualTo(2);
+
+        when(channel.close()).thenReturn(mock(ChannelFuture.class));
+        sut.closeAsync();
+
+        verify(recorder).unregister(metrics);
+    }
+
     @Test
     void writeDisconnectedShouldBufferCommands() {
 
@@ -158,6 +202,150 @@ class DefaultEndpointUnitTests {
         verify(channel, never()).writeAndFlush(any());
     }
 
+    @Test
+    void writeDisconnectedShouldRejectCommandsExceedingBufferBytes() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().maxBytes(40).build()).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        Command<String, String, String> first = set("key", "0123456789");
+        Command<String, String, String> second = set("key", "0123456789");
+
+        sut.write(first);
+        sut.write(second);
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(first);
+        assertThat(second.isDone()).isTrue();
+        assertThat(second.getOutput().getError()).startsWith("Disconnected buffer size exceeded");
+        assertThat(sut.getMetrics().getDisconnectedBufferedBytes()).isEqualTo(first.getArgs().estimateEncodedSize());
+        assertThat(sut.getMetrics().getDisconnectedOverflowCount()).isOne();
+    }
+
+    @Test
+    void writeDisconnectedShouldDiscardOldestCommands() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().maxBytes(40)
+                        .overflowPolicy(DisconnectedBufferOptions.OverflowPolicy.DISCARD_OLDEST).build())
+                .build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(set("key", "0123456789"));
+        Command<String, String, String> second = set("key", "0123456789");
+
+        sut.write(first);
+        sut.write(second);
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsOnly(second);
+        assertThat(first).isCompletedExceptionally();
+        assertThat(sut.getMetrics().getDisconnectedBufferedBytes()).isEqualTo(second.getArgs().estimateEncodedSize());
+        assertThat(sut.getMetrics().getDisconnectedOverflowCount()).isOne();
+    }
+
+    @Test
+    void writeDisconnectedShouldEncodeCommands() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().encodeCommands().build()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        Command<String, String, String> command = set("key", "value");
+        ByteBuf expected = Unpooled.buffer();
+        command.encode(expected);
+
+        sut.write(command);
+
+        assertThat(command.getArgs()).isInstanceOf(EagerCommandArgs.class);
+        assertThat(sut.getMetrics().getDisconnectedBufferedBytes()).isEqualTo(command.getArgs().estimateEncodedSize());
+
+        ByteBuf actual = Unpooled.buffer();
+        command.encode(actual);
+        assertThat(actual.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
+
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+
+        assertThat(queue).containsOnly(command);
+        assertThat(sut.getMetrics().getDisconnectedBufferedBytes()).isZero();
+
+        command.complete();
+        assertThatThrownBy(() -> command.encode(Unpooled.buffer())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void writeDisconnectedShouldEncodeWithChannelAllocator() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().encodeCommands().build()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        ByteBufAllocator allocator = mock(ByteBufAllocator.class);
+        when(allocator.buffer(anyInt())).thenAnswer(invocation -> Unpooled.buffer(invocation.getArgument(0)));
+        when(channel.alloc()).thenReturn(allocator);
+
+        sut.notifyChannelActive(channel);
+        sut.write(set("key", "value"));
+
+        verify(allocator).buffer(anyInt());
+    }
+
+    @Test
+    void writeDisconnectedShouldNotEncodeConnectionStateCommands() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().encodeCommands().build()).build(),
+                clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        Command<String, String, String> select = new Command<>(CommandType.SELECT, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(1));
+
+        sut.write(select);
+
+        assertThat(select.getArgs()).isNotInstanceOf(EagerCommandArgs.class);
+    }
+
+    @Test
+    void writeDisconnectedShouldSpillCommands() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder()
+                .disconnectedBufferOptions(DisconnectedBufferOptions.builder().maxBytes(40)
+                        .overflowPolicy(DisconnectedBufferOptions.OverflowPolicy.SPILL).maxSpillBytes(40).build())
+                .build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        Command<String, String, String> first = set("key", "0123456789");
+        Command<String, String, String> second = set("key", "0123456789");
+        Command<String, String, String> third = set("key", "0123456789");
+
+        sut.write(first);
+        sut.write(second);
+        sut.write(third);
+
+        assertThat(ConnectionTestUtil.getDisconnectedBuffer(sut)).containsExactly(first, second);
+        assertThat(first.getArgs()).isNotInstanceOf(EagerCommandArgs.class);
+        assertThat(second.getArgs()).isInstanceOf(EagerCommandArgs.class);
+        assertThat(third.isDone()).isTrue();
+
+        EndpointMetrics metrics = sut.getMetrics();
+        assertThat(metrics.getDisconnectedSpilledBytes()).isEqualTo(second.getArgs().estimateEncodedSize());
+        assertThat(metrics.getDisconnectedBufferedBytes()).isEqualTo(2 * second.getArgs().estimateEncodedSize());
+        assertThat(metrics.getDisconnectedOverflowCount()).isOne();
+
+        sut.reset();
+
+        assertThat(metrics.getDisconnectedBufferedBytes()).isZero();
+        assertThat(metrics.getDisconnectedSpilledBytes()).isZero();
+    }
+
+    private static Command<String, String, String> set(String key, String value) {
+        return new Command<>(CommandType.SET, new StatusOutput<>(StringCodec.ASCII),
+                new CommandArgs<>(StringCodec.ASCII).addKey(key).addValue(value));
+    }
+
     @Test
     void notifyChannelActiveActivatesFacade() {
 
@@ -288,6 +476,55 @@ class DefaultEndpointUnitTests {
         assertThat(command.exception).hasMessageContaining("Commands are rejected");
     }
 
+    @Test
+    void writeShouldRejectCommandsExceedingConcurrencyLimit() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder() //
+                .circuitBreakerOptions(CircuitBreakerOptions.builder().enable().adaptiveConcurrency().concurrencyLimit(1, 1, 1)
+                        .build()) //
+                .build(), clientResources);
+
+        AsyncCommand<String, String, String> first = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+        AsyncCommand<String, String, String> second = new AsyncCommand<>(
+                new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+
+        sut.write(first);
+        sut.write(second);
+
+        assertThat(first).isNotDone();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(sut.getCircuitBreaker().getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void writeShouldDeferLowPriorityCommandsWhileChannelNotWritable() {
+
+        sut = new DefaultEndpoint(ClientOptions.builder().priorityOptions(PriorityOptions.enabled()).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+        sut.notifyChannelActive(channel);
+
+        RedisCommand<String, String, String> low = new PrioritizedCommand<>(command, CommandPriority.LOW);
+        RedisCommand<String, String, String> high = new PrioritizedCommand<>(
+                new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)), CommandPriority.HIGH);
+
+        when(channel.isWritable()).thenReturn(false);
+        sut.write(low);
+        sut.write(high);
+
+        verify(channel, never()).writeAndFlush(low);
+        verify(channel).writeAndFlush(high);
+        verify(eventLoop).execute(any());
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(2);
+
+        assertThat(sut.drainCommands()).containsOnly(low);
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(1);
+    }
+
     @Test
     void closeCleansUpResources() {
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link EagerCommandArgs}.
+ */
+class EagerCommandArgsUnitTests {
+
+    @Test
+    void shouldEncodeLikeCommandArgs() {
+
+        CommandArgs<String, String> expected = populate(new CommandArgs<>(StringCodec.UTF8));
+        EagerCommandArgs<String, String> actual = (EagerCommandArgs<String, String>) populate(
+                new EagerCommandArgs<>(StringCodec.UTF8));
+
+        assertThat(actual.count()).isEqualTo(expected.count());
+        assertThat(encode(actual)).isEqualTo(encode(expected));
+        assertThat(actual.toCommandString()).isEqualTo(expected.toCommandString());
+
+        actual.release();
+    }
+
+    @Test
+    void shouldEncodeWithByteBufferCodec() {
+
+        CommandArgs<byte[], byte[]> expected = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue("value".getBytes());
+        EagerCommandArgs<byte[], byte[]> actual = new EagerCommandArgs<>(ByteArrayCodec.INSTANCE);
+        actual.addKey("key".getBytes()).addValue("value".getBytes());
+
+        assertThat(encode(actual)).isEqualTo(encode(expected));
+
+        actual.release();
+    }
+
+    @Test
+    void shouldEncodeLongs() {
+
+        long[] values = { 0, 9, 10, -1, -9, -10, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE,
+                Long.MIN_VALUE, Long.MIN_VALUE + 1 };
+
+        for (long value : values) {
+
+            EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+            args.add(value);
+
+            assertThat(encode(args)).isEqualTo(encode(new CommandArgs<>(StringCodec.UTF8).add(value)));
+            args.release();
+        }
+    }
+
+    @Test
+    void shouldReturnEncodedKeys() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.add("foo").addKey("key1").addValue("value").addKey("key2");
+
+        assertThat(args.getKeyCount()).isEqualTo(2);
+        assertThat(StringCodec.UTF8.decodeKey(args.getFirstEncodedKey())).isEqualTo("key1");
+        assertThat(StringCodec.UTF8.decodeKey(args.getEncodedKey(1))).isEqualTo("key2");
+
+        args.release();
+    }
+
+    @Test
+    void shouldCalculateFirstKeySlotFromEncodedBuffer() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.add("foo").addKey("key{1}").addKey("key2");
+
+        assertThat(args.getFirstKeySlot()).isEqualTo(SlotHash.getSlot("1"));
+        assertThat(args.getFirstKeySlot()).isEqualTo(SlotHash.getSlot("1"));
+
+        args.release();
+    }
+
+    @Test
+    void getFirstEncodedKeyShouldReturnNull() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.add("foo");
+
+        assertThat(args.getFirstEncodedKey()).isNull();
+
+        args.release();
+    }
+
+    @Test
+    void addAllShouldRetainKeys() {
+
+        EagerCommandArgs<String, String> source = new EagerCommandArgs<>(StringCodec.UTF8);
+        source.addKey("key1").addValue("value");
+
+        EagerCommandArgs<String, String> target = new EagerCommandArgs<>(StringCodec.UTF8);
+        target.add("foo").addAll(source);
+        target.addAll(new CommandArgs<>(StringCodec.UTF8).addKey("key2"));
+
+        assertThat(target.count()).isEqualTo(4);
+        assertThat(target.getKeyCount()).isEqualTo(2);
+        assertThat(StringCodec.UTF8.decodeKey(target.getEncodedKey(0))).isEqualTo("key1");
+        assertThat(StringCodec.UTF8.decodeKey(target.getEncodedKey(1))).isEqualTo("key2");
+        assertThat(target.toCommandString()).isEqualTo("foo key<key1> value<value> key<key2>");
+
+        source.release();
+        target.release();
+    }
+
+    @Test
+    void commandArgsAddAllShouldCopyEagerArgs() {
+
+        EagerCommandArgs<String, String> source = new EagerCommandArgs<>(StringCodec.UTF8);
+        source.addKey("key").addValue("value");
+
+        CommandArgs<String, String> target = new CommandArgs<>(StringCodec.UTF8).add("foo").addAll(source);
+        source.release();
+
+        assertThat(target.count()).isEqualTo(3);
+        assertThat(encode(target)).isEqualTo(encode(new CommandArgs<>(StringCodec.UTF8).add("foo").addKey("key")
+                .addValue("value")));
+        assertThat(target.toCommandString()).isEqualTo("foo key<key> value<value>");
+    }
+
+    @Test
+    void shouldReleaseAfterCompletion() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.addKey("key");
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), args);
+
+        ByteBuf target = Unpooled.buffer();
+        command.encode(target);
+        command.complete();
+
+        assertThatIllegalStateException().isThrownBy(() -> args.encode(Unpooled.buffer()));
+        target.release();
+    }
+
+    @Test
+    void shouldDeferReleaseUntilWritten() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.addKey("key");
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, null, args);
+        command.complete();
+
+        ByteBuf target = Unpooled.buffer();
+        command.encode(target);
+
+        assertThat(target.toString(StandardCharsets.US_ASCII)).isEqualTo("*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n");
+        assertThatIllegalStateException().isThrownBy(() -> args.encode(Unpooled.buffer()));
+        target.release();
+    }
+
+    @Test
+    void shouldReleaseOnCancel() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.addKey("key");
+
+        new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), args).cancel();
+
+        assertThatIllegalStateException().isThrownBy(() -> args.encode(Unpooled.buffer()));
+    }
+
+    @Test
+    void toStringShouldNotMarkArgumentsWritten() {
+
+        EagerCommandArgs<String, String> args = new EagerCommandArgs<>(StringCodec.UTF8);
+        args.addKey("key");
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, null, args);
+
+        assertThat(args.toString()).isEqualTo("EagerCommandArgs [buffer=$3\r\nkey\r\n]");
+        command.complete();
+
+        ByteBuf target = Unpooled.buffer();
+        command.encode(target);
+
+        assertThat(target.toString(StandardCharsets.US_ASCII)).isEqualTo("*2\r\n$3\r\nGET\r\n$3\r\nkey\r\n");
+        assertThat(args.toString()).isEqualTo("EagerCommandArgs [released]");
+        target.release();
+    }
+
+    private static CommandArgs<String, String> populate(CommandArgs<String, String> args) {
+
+        return args.add(CommandType.SET).addKey("key").addValue("value").add(CommandKeyword.FORCE).add(42).add(-1234)
+                .add(1.5).add("string").add("chars".toCharArray()).add("bytes".getBytes());
+    }
+
+    private static String encode(CommandArgs<?, ?> args) {
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        try {
+            return buffer.toString(StandardCharsets.US_ASCII);
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.lettuce.core.CircuitBreakerOptions;
+import io.lettuce.core.RedisCircuitBreakerException;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisLoadingException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.CircuitBreakerStateChangedEvent;
+import io.lettuce.core.output.StatusOutput;
+
+/**
+ * Unit tests for {@link EndpointCircuitBreaker}.
+ */
+class EndpointCircuitBreakerUnitTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final EventBus eventBus = mock(EventBus.class);
+
+    private final CircuitBreakerOptions options = CircuitBreakerOptions.builder().enable().slidingWindowSize(10)
+            .minimumNumberOfCalls(4).failureRateThreshold(0.5).waitDurationInOpenState(Duration.ofSeconds(1))
+            .permittedCallsInHalfOpenState(2).build();
+
+    @Test
+    void shouldOpenOnFailureRate() {
+
+        EndpointCircuitBreaker sut = create(options);
+
+        complete(sut, null);
+        complete(sut, new RedisCommandTimeoutException());
+        complete(sut, null);
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.CLOSED);
+
+        complete(sut, new RedisCommandTimeoutException());
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+        assertThat(sut.isCallPermitted()).isFalse();
+
+        AsyncCommand<String, String, String> rejected = command();
+        assertThat(sut.acquire(rejected)).isInstanceOf(RedisCircuitBreakerException.class).hasMessageContaining("is open");
+
+        ArgumentCaptor<CircuitBreakerStateChangedEvent> captor = ArgumentCaptor.forClass(CircuitBreakerStateChangedEvent.class);
+        verify(eventBus).publish(captor.capture());
+        assertThat(captor.getValue().getPreviousState()).isEqualTo(EndpointCircuitBreaker.State.CLOSED);
+        assertThat(captor.getValue().getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+        assertThat(captor.getValue().getFailureRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldConsiderApplicationErrorsAsSuccess() {
+
+        EndpointCircuitBreaker sut = create(options);
+
+        for (int i = 0; i < 10; i++) {
+            complete(sut, new RedisCommandExecutionException("WRONGTYPE Operation against a key"));
+        }
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 5; i++) {
+            complete(sut, new RedisLoadingException("LOADING Redis is loading the dataset in memory"));
+        }
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldOpenOnSlowCallRate() {
+
+        EndpointCircuitBreaker sut = create(CircuitBreakerOptions.builder().enable().minimumNumberOfCalls(4)
+                .slowCallDurationThreshold(Duration.ofMillis(100)).slowCallRateThreshold(0.75).build());
+
+        for (int i = 0; i < 4; i++) {
+
+            AsyncCommand<String, String, String> command = command();
+            assertThat(sut.acquire(command)).isNull();
+            clock.addAndGet(Duration.ofMillis(200).toNanos());
+            command.complete("OK");
+        }
+
+        assertThat(sut.getSlowCallRate()).isEqualTo(1.0);
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrials() {
+
+        EndpointCircuitBreaker sut = create(options);
+        open(sut);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(sut.isCallPermitted()).isTrue();
+
+        AsyncCommand<String, String, String> trial1 = command();
+        AsyncCommand<String, String, String> trial2 = command();
+
+        assertThat(sut.acquire(trial1)).isNull();
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.HALF_OPEN);
+        assertThat(sut.acquire(trial2)).isNull();
+        assertThat(sut.acquire(command())).isInstanceOf(RedisCircuitBreakerException.class).hasMessageContaining("half-open");
+
+        trial1.complete("OK");
+        trial2.complete("OK");
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.CLOSED);
+        assertThat(sut.getFailureRate()).isZero();
+    }
+
+    @Test
+    void shouldReopenAfterFailedTrial() {
+
+        EndpointCircuitBreaker sut = create(options);
+        open(sut);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        AsyncCommand<String, String, String> trial = command();
+        assertThat(sut.acquire(trial)).isNull();
+        trial.completeExceptionally(new RedisCommandTimeoutException());
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldNotRecordCommandsAdmittedBeforeHalfOpenAsTrials() {
+
+        EndpointCircuitBreaker sut = create(options);
+
+        AsyncCommand<String, String, String> inFlight1 = command();
+        AsyncCommand<String, String, String> inFlight2 = command();
+        AsyncCommand<String, String, String> inFlight3 = command();
+        assertThat(sut.acquire(inFlight1)).isNull();
+        assertThat(sut.acquire(inFlight2)).isNull();
+        assertThat(sut.acquire(inFlight3)).isNull();
+
+        open(sut);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        AsyncCommand<String, String, String> trial = command();
+        assertThat(sut.acquire(trial)).isNull();
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.HALF_OPEN);
+
+        inFlight1.completeExceptionally(new RedisCommandTimeoutException());
+        inFlight2.complete("OK");
+        inFlight3.cancel(true);
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.HALF_OPEN);
+
+        // the cancelled command did not take a trial permit and must not return one
+        assertThat(sut.acquire(command())).isNull();
+        assertThat(sut.acquire(command())).isInstanceOf(RedisCircuitBreakerException.class).hasMessageContaining("half-open");
+
+        trial.complete("OK");
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void shouldNotTrackProtocolCommands() {
+
+        EndpointCircuitBreaker sut = create(options);
+        open(sut);
+
+        assertThat(sut.acquire(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)))).isNull();
+    }
+
+    @Test
+    void shouldLimitConcurrency() {
+
+        EndpointCircuitBreaker sut = create(CircuitBreakerOptions.builder().enable().adaptiveConcurrency()
+                .concurrencyLimit(2, 1, 10).build());
+
+        AsyncCommand<String, String, String> command1 = command();
+
+        assertThat(sut.acquire(command1)).isNull();
+        assertThat(sut.acquire(command())).isNull();
+        assertThat(sut.acquire(command())).isInstanceOf(RedisCircuitBreakerException.class)
+                .hasMessageContaining("Concurrency limit");
+        assertThat(sut.getInFlight()).isEqualTo(2);
+
+        command1.complete("OK");
+
+        assertThat(sut.getInFlight()).isEqualTo(1);
+        assertThat(sut.acquire(command())).isNull();
+    }
+
+    @Test
+    void concurrencyLimitShouldFollowLatencyGradient() {
+
+        EndpointCircuitBreaker sut = create(CircuitBreakerOptions.builder().enable().adaptiveConcurrency()
+                .concurrencyLimit(100, 10, 1000).build());
+
+        for (int i = 0; i < 100; i++) {
+            int ticket = sut.tryAcquire(100);
+            for (int j = 0; j < 100; j++) {
+                sut.release(1_000_000, null, ticket);
+            }
+        }
+
+        int grown = sut.getConcurrencyLimit();
+        assertThat(grown).isGreaterThan(100);
+
+        int ticket = sut.tryAcquire(grown);
+        for (int j = 0; j < grown; j++) {
+            sut.release(10_000_000, null, ticket);
+        }
+
+        assertThat(sut.getConcurrencyLimit()).isLessThan(grown);
+    }
+
+    private EndpointCircuitBreaker create(CircuitBreakerOptions options) {
+        return new EndpointCircuitBreaker(options, "0x1", () -> InetSocketAddress.createUnresolved("localhost", 6379),
+                eventBus, clock::get);
+    }
+
+    private void open(EndpointCircuitBreaker sut) {
+
+        for (int i = 0; i < 4; i++) {
+            complete(sut, new RedisCommandTimeoutException());
+        }
+
+        assertThat(sut.getState()).isEqualTo(EndpointCircuitBreaker.State.OPEN);
+    }
+
+    private static void complete(EndpointCircuitBreaker sut, Throwable throwable) {
+
+        AsyncCommand<String, String, String> command = command();
+        assertThat(sut.acquire(command)).isNull();
+
+        if (throwable == null) {
+            command.complete("OK");
+        } else {
+            command.completeExceptionally(throwable);
+        }
+    }
+
+    private static AsyncCommand<String, String, String> command() {
+        return new AsyncCommand<>(new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8)));
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.CommandPriority;
+import io.lettuce.core.PriorityOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+
+/**
+ * Unit tests for {@link PriorityLanes}.
+ */
+class PriorityLanesUnitTests {
+
+    private final Channel channel = mock(Channel.class, RETURNS_DEEP_STUBS);
+
+    private final EventLoop eventLoop = mock(EventLoop.class);
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final List<RedisCommand<?, ?, ?>> written = new ArrayList<>();
+
+    private int flushes;
+
+    private PriorityLanes sut;
+
+    @BeforeEach
+    void before() {
+
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.unsafe().outboundBuffer()).thenReturn(null);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(eventLoop).execute(any());
+
+        PriorityOptions options = PriorityOptions.builder().enable().weight(CommandPriority.HIGH, 4)
+                .weight(CommandPriority.NORMAL, 2).weight(CommandPriority.LOW, 1).quantum(1).build();
+
+        sut = new PriorityLanes(options, (ch, command) -> written.add(command), ch -> flushes++);
+    }
+
+    @Test
+    void shouldWriteDirectlyWhenWritable() {
+
+        when(channel.isWritable()).thenReturn(true);
+
+        assertThat(sut.offer(channel, command(CommandPriority.LOW))).isFalse();
+        assertThat(sut.isEmpty()).isTrue();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void shouldBypassQueueForHighPriorityWhenNotWritable() {
+
+        when(channel.isWritable()).thenReturn(false);
+
+        assertThat(sut.offer(channel, command(CommandPriority.NORMAL))).isTrue();
+        assertThat(sut.offer(channel, command(CommandPriority.HIGH))).isFalse();
+        assertThat(sut.size(CommandPriority.NORMAL)).isOne();
+    }
+
+    @Test
+    void shouldQueueBehindCommandsOfSameOrHigherPriority() {
+
+        when(channel.isWritable()).thenReturn(false);
+        sut.offer(channel, command(CommandPriority.NORMAL));
+
+        when(channel.isWritable()).thenReturn(true);
+
+        assertThat(sut.offer(channel, command(CommandPriority.LOW))).isTrue();
+        assertThat(sut.offer(channel, command(CommandPriority.HIGH))).isFalse();
+    }
+
+    @Test
+    void shouldKeepCommandsQueuedWhileNotWritable() {
+
+        when(channel.isWritable()).thenReturn(false);
+        sut.offer(channel, command(CommandPriority.LOW));
+
+        runTasks();
+
+        assertThat(written).isEmpty();
+        assertThat(sut.size(CommandPriority.LOW)).isOne();
+
+        when(channel.isWritable()).thenReturn(true);
+        sut.notifyWritable(channel);
+        runTasks();
+
+        assertThat(written).hasSize(1);
+        assertThat(flushes).isOne();
+        assertThat(sut.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldDrainUsingWeightedRoundRobin() {
+
+        when(channel.isWritable()).thenReturn(false);
+
+        for (int i = 0; i < 6; i++) {
+            sut.offer(channel, command(CommandPriority.LOW));
+            sut.offer(channel, command(CommandPriority.NORMAL));
+        }
+
+        when(channel.isWritable()).thenReturn(true);
+        runTasks();
+
+        assertThat(written).extracting(PrioritizedCommand::getPriority).containsExactly(CommandPriority.NORMAL,
+                CommandPriority.NORMAL, CommandPriority.LOW, CommandPriority.NORMAL, CommandPriority.NORMAL,
+                CommandPriority.LOW, CommandPriority.NORMAL, CommandPriority.NORMAL, CommandPriority.LOW, CommandPriority.LOW,
+                CommandPriority.LOW, CommandPriority.LOW);
+        assertThat(flushes).isOne();
+    }
+
+    @Test
+    void shouldRetainOrderOfQueuedBatch() {
+
+        when(channel.isWritable()).thenReturn(false);
+        sut.offer(channel, command(CommandPriority.LOW));
+
+        List<RedisCommand<?, ?, ?>> batch = Arrays.asList(command(CommandPriority.LOW), command(CommandPriority.NORMAL),
+                command(CommandPriority.LOW));
+
+        assertThat(sut.offer(channel, batch)).isTrue();
+        assertThat(sut.size(CommandPriority.NORMAL)).isEqualTo(3);
+
+        when(channel.isWritable()).thenReturn(true);
+        runTasks();
+
+        assertThat(written).containsSubsequence(batch).hasSize(4);
+    }
+
+    @Test
+    void shouldRetainCommandsWhenChannelInactive() {
+
+        when(channel.isWritable()).thenReturn(false);
+        sut.offer(channel, command(CommandPriority.LOW));
+        sut.offer(channel, command(CommandPriority.NORMAL));
+
+        when(channel.isActive()).thenReturn(false);
+        runTasks();
+
+        List<RedisCommand<?, ?, ?>> target = new ArrayList<>();
+
+        assertThat(sut.drainTo(target)).isEqualTo(2);
+        assertThat(target).extracting(PrioritizedCommand::getPriority).containsExactly(CommandPriority.NORMAL,
+                CommandPriority.LOW);
+        assertThat(written).isEmpty();
+    }
+
+    private void runTasks() {
+
+        List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+
+    private static RedisCommand<String, String, String> command(CommandPriority priority) {
+        return new PrioritizedCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)), priority);
+    }
+
+}
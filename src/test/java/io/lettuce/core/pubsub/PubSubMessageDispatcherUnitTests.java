@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link PubSubMessageDispatcher}.
+ */
+class PubSubMessageDispatcherUnitTests {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final RecordingReadControl readControl = new RecordingReadControl();
+
+    @Test
+    void shouldRetainOrderPerChannelWhileDeliveringChannelsConcurrently() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Map<String, List<String>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(4 * 500);
+
+        PubSubMessageDispatcher<String, String> dispatcher = new PubSubMessageDispatcher<>(
+                PubSubDispatchOptions.builder().enable().queueCapacity(10_000).build(), executor, message -> {
+                    received.computeIfAbsent(message.channel(), k -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(message.body());
+                    latch.countDown();
+                }, readControl);
+
+        try {
+            for (int i = 0; i < 500; i++) {
+                for (int channel = 0; channel < 4; channel++) {
+                    dispatcher.dispatch(message("channel" + channel, "" + i));
+                }
+            }
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(received).hasSize(4);
+        for (List<String> bodies : received.values()) {
+            for (int i = 0; i < 500; i++) {
+                assertThat(bodies.get(i)).isEqualTo("" + i);
+            }
+        }
+        assertThat(dispatcher.getQueuedMessages()).isZero();
+    }
+
+    @Test
+    void shouldDropNewestMessages() {
+
+        List<String> received = new ArrayList<>();
+        PubSubMessageDispatcher<String, String> dispatcher = create(OverflowPolicy.DROP_NEWEST, received);
+
+        dispatcher.dispatch(message("channel", "1"));
+        dispatcher.dispatch(message("channel", "2"));
+        dispatcher.dispatch(message("channel", "3"));
+
+        assertThat(dispatcher.getQueuedMessages()).isEqualTo(2);
+        assertThat(dispatcher.getDroppedMessages()).isEqualTo(1);
+
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2");
+    }
+
+    @Test
+    void shouldDropOldestMessages() {
+
+        List<String> received = new ArrayList<>();
+        PubSubMessageDispatcher<String, String> dispatcher = create(OverflowPolicy.DROP_OLDEST, received);
+
+        dispatcher.dispatch(message("channel", "1"));
+        dispatcher.dispatch(message("channel", "2"));
+        dispatcher.dispatch(message("channel", "3"));
+
+        assertThat(dispatcher.getDroppedMessages()).isEqualTo(1);
+        assertThat(dispatcher.getMaxQueueDepth()).isEqualTo(2);
+
+        runTasks();
+
+        assertThat(received).containsExactly("2", "3");
+    }
+
+    @Test
+    void shouldApplyBackpressure() {
+
+        List<String> received = new ArrayList<>();
+        PubSubMessageDispatcher<String, String> dispatcher = create(OverflowPolicy.BACKPRESSURE, received);
+
+        dispatcher.dispatch(message("channel", "1"));
+        dispatcher.dispatch(message("channel", "2"));
+        assertThat(readControl.suspended).hasValue(0);
+
+        dispatcher.dispatch(message("channel", "3"));
+        dispatcher.dispatch(message("channel", "4"));
+
+        assertThat(dispatcher.isBackpressureActive()).isTrue();
+        assertThat(readControl.suspended).hasValue(1);
+        assertThat(dispatcher.getDroppedMessages()).isZero();
+
+        runTasks();
+
+        assertThat(received).containsExactly("1", "2", "3", "4");
+        assertThat(dispatcher.isBackpressureActive()).isFalse();
+        assertThat(readControl.resumed).hasValue(1);
+    }
+
+    @Test
+    void shouldDeliverChannelAndPatternMessagesSeparately() {
+
+        List<String> received = new ArrayList<>();
+        PubSubMessageDispatcher<String, String> dispatcher = create(OverflowPolicy.DROP_NEWEST, received);
+
+        dispatcher.dispatch(message("channel", "1"));
+        dispatcher.dispatch(patternMessage("chan*", "channel", "2"));
+
+        assertThat(tasks).hasSize(2);
+    }
+
+    @Test
+    void shouldYieldAfterDrainBatch() {
+
+        List<String> received = new ArrayList<>();
+        PubSubMessageDispatcher<String, String> dispatcher = new PubSubMessageDispatcher<>(
+                PubSubDispatchOptions.builder().enable().queueCapacity(1000).build(), tasks::add,
+                message -> received.add(message.body()), readControl);
+
+        for (int i = 0; i < PubSubMessageDispatcher.DRAIN_BATCH_SIZE + 1; i++) {
+            dispatcher.dispatch(message("channel", "" + i));
+        }
+
+        tasks.poll().run();
+
+        assertThat(received).hasSize(PubSubMessageDispatcher.DRAIN_BATCH_SIZE);
+        assertThat(tasks).hasSize(1);
+
+        runTasks();
+        assertThat(received).hasSize(PubSubMessageDispatcher.DRAIN_BATCH_SIZE + 1);
+    }
+
+    private PubSubMessageDispatcher<String, String> create(OverflowPolicy policy, List<String> received) {
+        return new PubSubMessageDispatcher<>(
+                PubSubDispatchOptions.builder().enable().queueCapacity(2).overflowPolicy(policy).build(), tasks::add,
+                message -> received.add(message.body()), readControl);
+    }
+
+    private void runTasks() {
+
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static PubSubOutput<String, String> message(String channel, String body) {
+
+        PubSubOutput<String, String> output = new PubSubOutput<>(StringCodec.UTF8);
+        output.set(ByteBuffer.wrap("message".getBytes()));
+        output.set(ByteBuffer.wrap(channel.getBytes()));
+        output.set(ByteBuffer.wrap(body.getBytes()));
+        return output;
+    }
+
+    private static PubSubOutput<String, String> patternMessage(String pattern, String channel, String body) {
+
+        PubSubOutput<String, String> output = new PubSubOutput<>(StringCodec.UTF8);
+        output.set(ByteBuffer.wrap("pmessage".getBytes()));
+        output.set(ByteBuffer.wrap(pattern.getBytes()));
+        output.set(ByteBuffer.wrap(channel.getBytes()));
+        output.set(ByteBuffer.wrap(body.getBytes()));
+        return output;
+    }
+
+    static class RecordingReadControl implements PubSubMessageDispatcher.ReadControl {
+
+        final AtomicInteger suspended = new AtomicInteger();
+
+        final AtomicInteger resumed = new AtomicInteger();
+
+        @Override
+        public void suspend() {
+            suspended.incrementAndGet();
+        }
+
+        @Override
+        public void resume() {
+            resumed.incrementAndGet();
+        }
+
+    }
+
+}
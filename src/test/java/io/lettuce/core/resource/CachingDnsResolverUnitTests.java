@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CachingDnsResolver}.
+ */
+class CachingDnsResolverUnitTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final StubLookup lookup = new StubLookup();
+
+    @Test
+    void shouldCacheAccordingToTtl() throws Exception {
+
+        CachingDnsResolver resolver = create(CachingDnsResolver.builder().staleTtl(Duration.ZERO));
+        lookup.respondWith("10.0.0.1", Duration.ofSeconds(30));
+
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.1");
+        assertThat(resolver.resolve("redis")).hasSize(1);
+        assertThat(lookup.hosts).hasSize(1);
+        assertThat(resolver.getMisses()).isEqualTo(1);
+        assertThat(resolver.getHits()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        lookup.respondWith("10.0.0.2", Duration.ofSeconds(30));
+
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.2");
+        assertThat(lookup.hosts).hasSize(2);
+    }
+
+    @Test
+    void shouldServeStaleEntryWhileRefreshing() throws Exception {
+
+        CachingDnsResolver resolver = create(CachingDnsResolver.builder().staleTtl(Duration.ofSeconds(10)));
+        lookup.respondWith("10.0.0.1", Duration.ofSeconds(1));
+        resolver.resolve("redis");
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        CompletableFuture<CachingDnsResolver.Resolution> pending = new CompletableFuture<>();
+        lookup.response = pending;
+
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.1");
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.1");
+        assertThat(lookup.hosts).hasSize(2);
+        assertThat(resolver.getStaleHits()).isEqualTo(2);
+
+        pending.complete(resolution("10.0.0.2", Duration.ofSeconds(30)));
+
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.2");
+        assertThat(resolver.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepStaleEntryIfRefreshFails() throws Exception {
+
+        CachingDnsResolver resolver = create(CachingDnsResolver.builder().staleTtl(Duration.ofSeconds(10)));
+        lookup.respondWith("10.0.0.1", Duration.ofSeconds(1));
+        resolver.resolve("redis");
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        lookup.failWith(new UnknownHostException("redis"));
+
+        assertThat(resolver.resolve("redis")).extracting(InetAddress::getHostAddress).containsOnly("10.0.0.1");
+        assertThat(resolver.getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheFailures() {
+
+        CachingDnsResolver resolver = create(CachingDnsResolver.builder().negativeTtl(Duration.ofSeconds(5)));
+        lookup.failWith(new UnknownHostException("unknown"));
+
+        assertThatExceptionOfType(UnknownHostException.class).isThrownBy(() -> resolver.resolve("unknown"));
+        assertThatExceptionOfType(UnknownHostException.class).isThrownBy(() -> resolver.resolve("unknown"));
+        assertThat(lookup.hosts).hasSize(1);
+
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertThatExceptionOfType(UnknownHostException.class).isThrownBy(() -> resolver.resolve("unknown"));
+        assertThat(lookup.hosts).hasSize(2);
+    }
+
+    @Test
+    void shouldApplyTtlBounds() throws Exception {
+
+        CachingDnsResolver resolver = create(
+                CachingDnsResolver.builder().minTtl(Duration.ofSeconds(10)).maxTtl(Duration.ofSeconds(20)).staleTtl(Duration.ZERO));
+        lookup.respondWith("10.0.0.1", Duration.ZERO);
+        resolver.resolve("redis");
+
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        resolver.resolve("redis");
+        assertThat(lookup.hosts).hasSize(1);
+
+        lookup.respondWith("10.0.0.1", Duration.ofHours(1));
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        resolver.resolve("redis");
+        assertThat(lookup.hosts).hasSize(2);
+
+        clock.addAndGet(Duration.ofSeconds(21).toNanos());
+        resolver.resolve("redis");
+        assertThat(lookup.hosts).hasSize(3);
+    }
+
+    private CachingDnsResolver create(CachingDnsResolver.Builder builder) {
+        return new CachingDnsResolver(builder, lookup, clock::get);
+    }
+
+    private static CachingDnsResolver.Resolution resolution(String address, Duration ttl) {
+
+        try {
+            return new CachingDnsResolver.Resolution(Collections.singletonList(InetAddress.getByName(address)), ttl);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class StubLookup implements CachingDnsResolver.Lookup {
+
+        final List<String> hosts = new ArrayList<>();
+
+        CompletableFuture<CachingDnsResolver.Resolution> response;
+
+        void respondWith(String address, Duration ttl) {
+            response = CompletableFuture.completedFuture(resolution(address, ttl));
+        }
+
+        void failWith(Exception exception) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(exception);
+        }
+
+        @Override
+        public CompletionStage<CachingDnsResolver.Resolution> lookup(String host) {
+
+            hosts.add(host);
+            return response;
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.nio.NioEventLoopGroup;
+
+/**
+ * Unit tests for {@link NioDomainSocketChannel}.
+ */
+class NioDomainSocketChannelUnitTests {
+
+    @BeforeEach
+    void before() {
+        assumeTrue(NioDomainSocketChannel.isAvailable(), "Unix Domain Sockets via NIO require Java 16");
+    }
+
+    @Test
+    void shouldCreateDomainSocketAddress() {
+
+        assertThat(Transports.isDomainSocketAddress(NioDomainSocketChannel.newSocketAddress("/tmp/redis.sock"))).isTrue();
+        assertThat(Transports.isDomainSocketAddress(new InetSocketAddress("localhost", 6379))).isFalse();
+        assertThat(Transports.isDomainSocketAddress(null)).isFalse();
+    }
+
+    @Test
+    void shouldSupportDomainSockets() {
+
+        assertThat(Transports.isDomainSocketSupported()).isTrue();
+        assertThat(Transports.domainSocketChannelClass()).isNotNull();
+        assertThat(Transports.eventLoopGroupClass(true)).isNotNull();
+    }
+
+    @Test
+    void shouldExchangeData() throws Exception {
+
+        Path directory = Files.createTempDirectory("lettuce");
+        File socket = new File(directory.toFile(), "test.sock");
+        NioEventLoopGroup group = new NioEventLoopGroup(1);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.valueOf("UNIX"))) {
+
+            server.bind(NioDomainSocketChannel.newSocketAddress(socket.getAbsolutePath()));
+
+            CompletableFuture<String> response = new CompletableFuture<>();
+            Bootstrap bootstrap = new Bootstrap().group(group).channel(NioDomainSocketChannel.class)
+                    .handler(new ChannelInboundHandlerAdapter() {
+
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+
+                            ByteBuf buffer = (ByteBuf) msg;
+                            response.complete(buffer.toString(StandardCharsets.US_ASCII));
+                            buffer.release();
+                        }
+
+                    });
+
+            Channel channel = bootstrap.connect(NioDomainSocketChannel.newSocketAddress(socket.getAbsolutePath())).sync()
+                    .channel();
+
+            assertThat(channel.isActive()).isTrue();
+            assertThat(Transports.isDomainSocketAddress(channel.remoteAddress())).isTrue();
+
+            channel.writeAndFlush(Unpooled.copiedBuffer("PING\r\n", StandardCharsets.US_ASCII)).sync();
+
+            try (SocketChannel accepted = server.accept()) {
+
+                ByteBuffer request = ByteBuffer.allocate(6);
+                while (request.hasRemaining()) {
+                    accepted.read(request);
+                }
+                request.flip();
+
+                assertThat(StandardCharsets.US_ASCII.decode(request).toString()).isEqualTo("PING\r\n");
+
+                accepted.write(ByteBuffer.wrap("+PONG\r\n".getBytes(StandardCharsets.US_ASCII)));
+                assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("+PONG\r\n");
+            }
+
+            channel.close().sync();
+            assertThat(channel.isOpen()).isFalse();
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+            socket.delete();
+            directory.toFile().delete();
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TokenBucketReconnectLimiter}.
+ */
+class TokenBucketReconnectLimiterUnitTests {
+
+    private final AtomicLong clock = new AtomicLong(-TimeUnit.SECONDS.toNanos(10));
+
+    @Test
+    void shouldAdmitBurstImmediately() {
+
+        TokenBucketReconnectLimiter limiter = new TokenBucketReconnectLimiter(10, 2, clock::get);
+
+        assertThat(limiter.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void shouldRefillPermitsOverTime() {
+
+        TokenBucketReconnectLimiter limiter = new TokenBucketReconnectLimiter(10, 2, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(limiter.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void unlimitedShouldAdmitImmediately() {
+        assertThat(ReconnectLimiter.unlimited().reserve()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldRejectInvalidRate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ReconnectLimiter.tokenBucket(0, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> ReconnectLimiter.tokenBucket(1, 0));
+    }
+
+}
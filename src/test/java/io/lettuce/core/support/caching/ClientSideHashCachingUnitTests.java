@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for {@link ClientSideHashCaching}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientSideHashCachingUnitTests {
+
+    @Mock
+    private StatefulRedisConnectionImpl<String, String> connection;
+
+    @Mock
+    private RedisCommands<String, String> commands;
+
+    private HashCacheFrontend<String, String> sut;
+
+    private PushListener listener;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.getCodec()).thenReturn(StringCodec.UTF8);
+        when(connection.sync()).thenReturn(commands);
+
+        sut = ClientSideHashCaching.create(connection);
+
+        ArgumentCaptor<PushListener> captor = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    void hgetShouldCacheFieldValues() {
+
+        when(commands.hget("user:1", "name")).thenReturn("Walter");
+
+        assertThat(sut.hget("user:1", "name")).isEqualTo("Walter");
+        assertThat(sut.hget("user:1", "name")).isEqualTo("Walter");
+
+        verify(commands, times(1)).hget("user:1", "name");
+    }
+
+    @Test
+    void hgetShouldCacheAbsentFields() {
+
+        assertThat(sut.hget("user:1", "name")).isNull();
+        assertThat(sut.hget("user:1", "name")).isNull();
+
+        verify(commands, times(1)).hget("user:1", "name");
+    }
+
+    @Test
+    void hmgetShouldFetchOnlyMissingFields() {
+
+        when(commands.hget("user:1", "name")).thenReturn("Walter");
+        when(commands.hmget(eq("user:1"), any())).thenReturn(
+                Arrays.asList(KeyValue.just("email", "walter@example.com"), KeyValue.empty("phone")));
+
+        sut.hget("user:1", "name");
+        List<KeyValue<String, String>> result = sut.hmget("user:1", "name", "email", "phone");
+
+        assertThat(result).containsExactly(KeyValue.just("name", "Walter"), KeyValue.just("email", "walter@example.com"),
+                KeyValue.empty("phone"));
+        verify(commands).hmget("user:1", "email", "phone");
+
+        assertThat(sut.hmget("user:1", "phone", "email")).containsExactly(KeyValue.empty("phone"),
+                KeyValue.just("email", "walter@example.com"));
+        verify(commands, times(1)).hmget(eq("user:1"), any());
+    }
+
+    @Test
+    void hgetallShouldServeFieldLookups() {
+
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put("name", "Walter");
+        when(commands.hgetall("user:1")).thenReturn(hash);
+
+        assertThat(sut.hgetall("user:1")).containsEntry("name", "Walter");
+        assertThat(sut.hgetall("user:1")).containsOnlyKeys("name");
+        assertThat(sut.hget("user:1", "name")).isEqualTo("Walter");
+        assertThat(sut.hget("user:1", "email")).isNull();
+
+        verify(commands, times(1)).hgetall("user:1");
+        verify(commands, never()).hget(any(), any());
+    }
+
+    @Test
+    void invalidationShouldEvictAllFieldsOfKey() {
+
+        when(commands.hget("user:1", "name")).thenReturn("Walter", "Heisenberg");
+        when(commands.hget("user:2", "name")).thenReturn("Jesse");
+
+        sut.hget("user:1", "name");
+        sut.hget("user:2", "name");
+
+        invalidate(Collections.singletonList("user:1"));
+
+        assertThat(sut.hget("user:1", "name")).isEqualTo("Heisenberg");
+        assertThat(sut.hget("user:2", "name")).isEqualTo("Jesse");
+        verify(commands, times(2)).hget("user:1", "name");
+        verify(commands, times(1)).hget("user:2", "name");
+    }
+
+    @Test
+    void flushInvalidationShouldEvictAllKeys() {
+
+        sut.hget("user:1", "name");
+        sut.hget("user:2", "name");
+
+        invalidate(null);
+
+        sut.hget("user:1", "name");
+        sut.hget("user:2", "name");
+
+        verify(commands, times(2)).hget("user:1", "name");
+        verify(commands, times(2)).hget("user:2", "name");
+    }
+
+    private void invalidate(List<String> keys) {
+
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", keys));
+
+        listener.onPushMessage(message);
+    }
+
+}
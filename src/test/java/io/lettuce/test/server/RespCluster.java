@@ -0,0 +1,321 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.util.*;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Simulated Redis Cluster consisting of {@link RespServer} nodes. Slots are distributed evenly across all nodes. Commands for
+ * keys that are not served by the receiving node are answered with {@code MOVED} redirections. Slot migrations can be
+ * simulated with {@link #beginMigration(int, int)} (answering {@code ASK} for keys not present on the source node) and
+ * {@link #moveSlot(int, int)}. Nodes answer {@code CLUSTER NODES}, {@code CLUSTER SHARDS}, {@code CLUSTER SLOTS},
+ * {@code CLUSTER MYID}, {@code CLUSTER INFO} and {@code CLUSTER KEYSLOT}.
+ *
+ * @since 7.0
+ */
+public class RespCluster {
+
+    private final List<RespServer> nodes = new ArrayList<>();
+
+    private final int[] owners = new int[SlotHash.SLOT_COUNT];
+
+    private final int[] migrations = new int[SlotHash.SLOT_COUNT];
+
+    private long epoch = 1;
+
+    private RespCluster(int nodeCount) {
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new RespServer(this, i));
+        }
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+            owners[slot] = (int) ((long) slot * nodeCount / SlotHash.SLOT_COUNT);
+        }
+
+        Arrays.fill(migrations, -1);
+    }
+
+    /**
+     * Create a new cluster with {@code nodes} master nodes. The cluster must be {@link #start() started} before use.
+     *
+     * @param nodes number of nodes.
+     * @return the new {@link RespCluster}.
+     */
+    public static RespCluster create(int nodes) {
+
+        LettuceAssert.isTrue(nodes > 0, "Number of nodes must be greater than zero");
+
+        return new RespCluster(nodes);
+    }
+
+    /**
+     * Start all nodes on ephemeral ports.
+     *
+     * @return {@code this}.
+     */
+    public RespCluster start() {
+        nodes.forEach(RespServer::start);
+        return this;
+    }
+
+    public void shutdown() {
+        nodes.forEach(RespServer::shutdown);
+    }
+
+    public List<RespServer> getNodes() {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    public RespServer getNode(int index) {
+        return nodes.get(index);
+    }
+
+    /**
+     * @return seed {@link RedisURI URIs} for all nodes.
+     */
+    public List<RedisURI> getRedisURIs() {
+
+        List<RedisURI> uris = new ArrayList<>();
+        for (RespServer node : nodes) {
+            uris.add(node.getRedisURI());
+        }
+        return uris;
+    }
+
+    /**
+     * @return the index of the node serving {@code slot}.
+     */
+    public synchronized int getOwner(int slot) {
+        return owners[slot];
+    }
+
+    /**
+     * Mark {@code slot} as migrating to node {@code target}. The owning node answers {@code ASK} for keys that it does not
+     * hold, the target node accepts such keys after {@code ASKING}.
+     */
+    public synchronized void beginMigration(int slot, int target) {
+
+        LettuceAssert.isTrue(target >= 0 && target < nodes.size(), "Target node out of range");
+        LettuceAssert.isTrue(owners[slot] != target, "Target node already owns the slot");
+
+        migrations[slot] = target;
+    }
+
+    /**
+     * Assign {@code slot} to node {@code target} and move all keys of the slot. Completes a pending migration. Subsequent
+     * requests to the previous owner are answered with {@code MOVED}.
+     */
+    public synchronized void moveSlot(int slot, int target) {
+
+        LettuceAssert.isTrue(target >= 0 && target < nodes.size(), "Target node out of range");
+
+        int source = owners[slot];
+        if (source != target) {
+            nodes.get(target).getStore().putAll(nodes.get(source).getStore().removeSlot(slot));
+        }
+
+        owners[slot] = target;
+        migrations[slot] = -1;
+        epoch++;
+    }
+
+    long publish(String channel, String message) {
+
+        long receivers = 0;
+        for (RespServer node : nodes) {
+            receivers += node.publishLocal(channel, message);
+        }
+        return receivers;
+    }
+
+    /**
+     * Check whether {@code node} may serve {@code keys}.
+     *
+     * @return a redirection or error reply, {@code null} if the node serves the keys.
+     */
+    synchronized Object route(RespServer node, List<byte[]> keys, boolean asking) {
+
+        if (keys.isEmpty()) {
+            return null;
+        }
+
+        int slot = SlotHash.getSlot(keys.get(0));
+        for (int i = 1; i < keys.size(); i++) {
+            if (SlotHash.getSlot(keys.get(i)) != slot) {
+                return new RespProtocol.ErrorReply("CROSSSLOT Keys in request don't hash to the same slot");
+            }
+        }
+
+        int self = node.getNodeIndex();
+        if (owners[slot] != self) {
+
+            if (asking && migrations[slot] == self) {
+                return null;
+            }
+
+            return new RespProtocol.ErrorReply("MOVED " + slot + " " + endpoint(owners[slot]));
+        }
+
+        if (migrations[slot] != -1 && node.getStore().containsNone(keys)) {
+            return new RespProtocol.ErrorReply("ASK " + slot + " " + endpoint(migrations[slot]));
+        }
+
+        return null;
+    }
+
+    synchronized Object execute(RespServer node, List<byte[]> args) {
+
+        if (args.size() < 2) {
+            throw new RespException("ERR wrong number of arguments for 'cluster' command");
+        }
+
+        String subcommand = RespDataStore.upperCase(args.get(1));
+        switch (subcommand) {
+            case "NODES":
+                return clusterNodes(node.getNodeIndex());
+            case "SHARDS":
+                return clusterShards();
+            case "SLOTS":
+                return clusterSlots();
+            case "MYID":
+                return nodeId(node.getNodeIndex());
+            case "KEYSLOT":
+                if (args.size() != 3) {
+                    throw new RespException("ERR wrong number of arguments for 'cluster|keyslot' command");
+                }
+                return (long) SlotHash.getSlot(args.get(2));
+            case "INFO":
+                return "cluster_state:ok\r\ncluster_slots_assigned:" + SlotHash.SLOT_COUNT + "\r\ncluster_slots_ok:"
+                        + SlotHash.SLOT_COUNT + "\r\ncluster_known_nodes:" + nodes.size() + "\r\ncluster_size:" + nodes.size()
+                        + "\r\ncluster_current_epoch:" + epoch + "\r\n";
+            default:
+                throw new RespException("ERR unknown subcommand '" + subcommand + "'");
+        }
+    }
+
+    static String nodeId(int index) {
+        return String.format("%040x", index + 1);
+    }
+
+    private String endpoint(int index) {
+        RespServer server = nodes.get(index);
+        return server.getHost() + ":" + server.getPort();
+    }
+
+    private String clusterNodes(int self) {
+
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < nodes.size(); i++) {
+
+            RespServer server = nodes.get(i);
+            result.append(nodeId(i)).append(' ').append(endpoint(i)).append('@').append(server.getPort() + 10000);
+            result.append(i == self ? " myself,master" : " master").append(" - 0 0 ").append(epoch).append(" connected");
+
+            for (int[] range : ranges(i)) {
+                result.append(' ').append(range[0]);
+                if (range[1] != range[0]) {
+                    result.append('-').append(range[1]);
+                }
+            }
+
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+                if (migrations[slot] == -1) {
+                    continue;
+                }
+
+                if (owners[slot] == i) {
+                    result.append(" [").append(slot).append("->-").append(nodeId(migrations[slot])).append(']');
+                } else if (migrations[slot] == i) {
+                    result.append(" [").append(slot).append("-<-").append(nodeId(owners[slot])).append(']');
+                }
+            }
+
+            result.append('\n');
+        }
+
+        return result.toString();
+    }
+
+    private List<Object> clusterShards() {
+
+        List<Object> shards = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+
+            List<Object> slots = new ArrayList<>();
+            for (int[] range : ranges(i)) {
+                slots.add((long) range[0]);
+                slots.add((long) range[1]);
+            }
+
+            RespServer server = nodes.get(i);
+            Map<String, Object> node = new LinkedHashMap<>();
+            node.put("id", nodeId(i));
+            node.put("port", (long) server.getPort());
+            node.put("ip", server.getHost());
+            node.put("endpoint", server.getHost());
+            node.put("role", "master");
+            node.put("replication-offset", 0L);
+            node.put("health", "online");
+
+            Map<String, Object> shard = new LinkedHashMap<>();
+            shard.put("slots", slots);
+            shard.put("nodes", Collections.singletonList(node));
+            shards.add(shard);
+        }
+
+        return shards;
+    }
+
+    private List<Object> clusterSlots() {
+
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+
+            RespServer server = nodes.get(i);
+            for (int[] range : ranges(i)) {
+                result.add(Arrays.asList((long) range[0], (long) range[1],
+                        Arrays.asList(server.getHost(), (long) server.getPort(), nodeId(i))));
+            }
+        }
+
+        return result;
+    }
+
+    private List<int[]> ranges(int node) {
+
+        List<int[]> ranges = new ArrayList<>();
+        int start = -1;
+        for (int slot = 0; slot <= SlotHash.SLOT_COUNT; slot++) {
+
+            boolean owned = slot < SlotHash.SLOT_COUNT && owners[slot] == node;
+            if (owned && start == -1) {
+                start = slot;
+            } else if (!owned && start != -1) {
+                ranges.add(new int[] { start, slot - 1 });
+                start = -1;
+            }
+        }
+
+        return ranges;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+
+/**
+ * Decoder for RESP requests. Each command is expected as array of bulk strings and emitted as {@code List<byte[]>}. Partial
+ * frames are retained until the remaining bytes arrive.
+ *
+ * @since 7.0
+ */
+class RespCommandDecoder extends ByteToMessageDecoder {
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+        while (in.isReadable()) {
+
+            int start = in.readerIndex();
+            List<byte[]> command = decodeCommand(in);
+
+            if (command == null) {
+                in.readerIndex(start);
+                return;
+            }
+
+            out.add(command);
+        }
+    }
+
+    private static List<byte[]> decodeCommand(ByteBuf in) {
+
+        if (in.getByte(in.readerIndex()) != '*') {
+            throw new DecoderException("Expected RESP array, got '" + (char) in.getByte(in.readerIndex()) + "'");
+        }
+
+        in.skipBytes(1);
+        long count = readNumber(in);
+        if (count < 0) {
+            return null;
+        }
+
+        List<byte[]> command = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) {
+
+            if (!in.isReadable()) {
+                return null;
+            }
+
+            if (in.readByte() != '$') {
+                throw new DecoderException("Expected bulk string");
+            }
+
+            long length = readNumber(in);
+            if (length < 0 || in.readableBytes() < length + 2) {
+                return null;
+            }
+
+            byte[] value = new byte[(int) length];
+            in.readBytes(value);
+            in.skipBytes(2);
+            command.add(value);
+        }
+
+        return command;
+    }
+
+    /**
+     * Read a CRLF-terminated non-negative number.
+     *
+     * @return the number or {@literal -1} if the line is incomplete.
+     */
+    private static long readNumber(ByteBuf in) {
+
+        int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+        if (end < 0) {
+            return -1;
+        }
+
+        long value = 0;
+        for (int i = in.readerIndex(); i < end - 1; i++) {
+            value = value * 10 + (in.getByte(i) - '0');
+        }
+
+        in.readerIndex(end + 1);
+        return value;
+    }
+
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * Per-connection command handler of {@link RespServer}. Handles connection, Pub/Sub and cluster commands and delegates data
+ * commands to {@link RespDataStore}. Replies are written in request order and flushed once per read batch so that pipelined
+ * requests are answered with few syscalls. Injected latency delays replies without reordering them.
+ *
+ * @since 7.0
+ */
+class RespCommandHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Object NO_REPLY = new Object();
+
+    /**
+     * Key positions per command: {@code {first key index, step}}. A step of {@code 0} denotes a single key.
+     */
+    private static final Map<String, int[]> KEY_SPECS = new HashMap<>();
+
+    static {
+
+        for (String command : Arrays.asList("GET", "SET", "SETNX", "GETSET", "INCR", "INCRBY", "DECR", "DECRBY", "APPEND",
+                "STRLEN", "TYPE", "EXPIRE", "PEXPIRE", "TTL", "PTTL", "HSET", "HMSET", "HGET", "HMGET", "HGETALL", "HDEL", "HLEN",
+                "HEXISTS", "HKEYS", "HVALS", "HINCRBY", "LPUSH", "RPUSH", "LPOP", "RPOP", "LLEN", "LRANGE", "LINDEX", "ZADD",
+                "ZINCRBY", "ZSCORE", "ZCARD", "ZREM", "ZRANGE")) {
+            KEY_SPECS.put(command, new int[] { 1, 0 });
+        }
+
+        for (String command : Arrays.asList("MGET", "DEL", "UNLINK", "EXISTS")) {
+            KEY_SPECS.put(command, new int[] { 1, 1 });
+        }
+
+        KEY_SPECS.put("MSET", new int[] { 1, 2 });
+    }
+
+    private final RespServer server;
+
+    private final long clientId;
+
+    private final ArrayDeque<DelayedReply> delayed = new ArrayDeque<>();
+
+    private final Set<String> channels = new HashSet<>();
+
+    private final Set<String> patterns = new HashSet<>();
+
+    private ChannelHandlerContext ctx;
+
+    private boolean resp3;
+
+    private boolean asking;
+
+    private boolean flushPending;
+
+    private long lastDeadline;
+
+    private String clientName;
+
+    RespCommandHandler(RespServer server) {
+        this.server = server;
+        this.clientId = server.nextClientId();
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+
+        channels.forEach(channel -> server.unsubscribe(channel, this));
+        patterns.forEach(pattern -> server.punsubscribe(pattern, this));
+        delayed.forEach(it -> it.reply.release());
+        delayed.clear();
+
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+
+        List<byte[]> args = (List<byte[]>) msg;
+        String command = RespDataStore.upperCase(args.get(0));
+
+        Object reply;
+        try {
+            reply = execute(command, args);
+        } catch (RespException e) {
+            reply = new RespProtocol.ErrorReply(e.getMessage());
+        }
+
+        if (!command.equals("ASKING")) {
+            asking = false;
+        }
+
+        if (reply != NO_REPLY) {
+            reply(reply, server.getLatency(command));
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        flush();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        ctx.close();
+    }
+
+    /**
+     * Deliver an out-of-band message. Can be called from any thread.
+     */
+    void deliver(Object message) {
+
+        if (ctx.executor().inEventLoop()) {
+            reply(message, 0);
+            flush();
+        } else {
+            ctx.executor().execute(() -> deliver(message));
+        }
+    }
+
+    private Object execute(String command, List<byte[]> args) {
+
+        switch (command) {
+            case "HELLO":
+                return hello(args);
+            case "AUTH":
+            case "SELECT":
+            case "READONLY":
+            case "READWRITE":
+                return RespProtocol.OK;
+            case "ASKING":
+                asking = true;
+                return RespProtocol.OK;
+            case "PING":
+                if (!resp3 && isSubscribed()) {
+                    return Arrays.asList("pong", args.size() > 1 ? args.get(1) : "");
+                }
+                return args.size() > 1 ? args.get(1) : RespProtocol.PONG;
+            case "ECHO":
+                return argument(args, 1);
+            case "QUIT":
+                flush();
+                ctx.writeAndFlush(encode(RespProtocol.OK)).addListener(ChannelFutureListener.CLOSE);
+                return NO_REPLY;
+            case "CLIENT":
+                return client(args);
+            case "INFO":
+                return server.info();
+            case "COMMAND":
+                return Collections.emptyList();
+            case "CLUSTER":
+                if (server.getCluster() == null) {
+                    throw new RespException("ERR This instance has cluster support disabled");
+                }
+                return server.getCluster().execute(server, args);
+            case "SUBSCRIBE":
+            case "PSUBSCRIBE":
+                subscribe(command, args);
+                return NO_REPLY;
+            case "UNSUBSCRIBE":
+            case "PUNSUBSCRIBE":
+                unsubscribe(command, args);
+                return NO_REPLY;
+            case "PUBLISH":
+                if (args.size() != 3) {
+                    throw new RespException("ERR wrong number of arguments for 'publish' command");
+                }
+                return server.publish(string(args.get(1)), string(args.get(2)));
+            default:
+
+                if (server.getCluster() != null) {
+
+                    Object redirect = server.getCluster().route(server, keys(command, args), asking);
+                    if (redirect != null) {
+                        return redirect;
+                    }
+                }
+
+                return server.getStore().execute(command, args, resp3);
+        }
+    }
+
+    private Object hello(List<byte[]> args) {
+
+        if (args.size() > 1) {
+
+            long version = RespDataStore.toLong(args.get(1));
+            if (version != 2 && version != 3) {
+                throw new RespException("NOPROTO unsupported protocol version");
+            }
+
+            resp3 = version == 3;
+        }
+
+        for (int i = 2; i < args.size(); i++) {
+
+            String option = RespDataStore.upperCase(args.get(i));
+            if (option.equals("AUTH")) {
+                i += 2;
+            } else if (option.equals("SETNAME")) {
+                clientName = string(argument(args, ++i));
+            } else {
+                throw new RespException("ERR syntax error in HELLO option '" + option + "'");
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("server", "redis");
+        response.put("version", RespServer.VERSION);
+        response.put("proto", resp3 ? 3L : 2L);
+        response.put("id", clientId);
+        response.put("mode", server.getCluster() != null ? "cluster" : "standalone");
+        response.put("role", "master");
+        response.put("modules", Collections.emptyList());
+        return response;
+    }
+
+    private Object client(List<byte[]> args) {
+
+        String subcommand = RespDataStore.upperCase(argument(args, 1));
+        switch (subcommand) {
+            case "SETNAME":
+                clientName = string(argument(args, 2));
+                return RespProtocol.OK;
+            case "GETNAME":
+                return clientName;
+            case "ID":
+                return clientId;
+            case "SETINFO":
+            case "TRACKING":
+                return RespProtocol.OK;
+            default:
+                throw new RespException("ERR unknown subcommand '" + subcommand + "'");
+        }
+    }
+
+    private void subscribe(String command, List<byte[]> args) {
+
+        boolean pattern = command.charAt(0) == 'P';
+
+        for (int i = 1; i < args.size(); i++) {
+
+            String name = string(args.get(i));
+            if (pattern) {
+                patterns.add(name);
+                server.psubscribe(name, this);
+            } else {
+                channels.add(name);
+                server.subscribe(name, this);
+            }
+
+            reply(new RespProtocol.Push(pattern ? "psubscribe" : "subscribe", name, (long) subscriptionCount()), 0);
+        }
+    }
+
+    private void unsubscribe(String command, List<byte[]> args) {
+
+        boolean pattern = command.charAt(0) == 'P';
+        Set<String> subscriptions = pattern ? patterns : channels;
+        String kind = pattern ? "punsubscribe" : "unsubscribe";
+
+        List<String> names = new ArrayList<>();
+        if (args.size() > 1) {
+            for (int i = 1; i < args.size(); i++) {
+                names.add(string(args.get(i)));
+            }
+        } else {
+            names.addAll(subscriptions);
+        }
+
+        if (names.isEmpty()) {
+            reply(new RespProtocol.Push(kind, null, (long) subscriptionCount()), 0);
+            return;
+        }
+
+        for (String name : names) {
+
+            subscriptions.remove(name);
+            if (pattern) {
+                server.punsubscribe(name, this);
+            } else {
+                server.unsubscribe(name, this);
+            }
+
+            reply(new RespProtocol.Push(kind, name, (long) subscriptionCount()), 0);
+        }
+    }
+
+    private boolean isSubscribed() {
+        return subscriptionCount() > 0;
+    }
+
+    private int subscriptionCount() {
+        return channels.size() + patterns.size();
+    }
+
+    private void reply(Object reply, long latency) {
+
+        if (latency == 0 && delayed.isEmpty()) {
+            ctx.write(encode(reply), ctx.voidPromise());
+            flushPending = true;
+            return;
+        }
+
+        long now = System.nanoTime();
+        long deadline = Math.max(now + latency, lastDeadline);
+        lastDeadline = deadline;
+
+        delayed.add(new DelayedReply(encode(reply), deadline));
+
+        if (delayed.size() == 1) {
+            ctx.executor().schedule(this::drainDelayed, deadline - now, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void drainDelayed() {
+
+        long now = System.nanoTime();
+        DelayedReply next;
+        while ((next = delayed.peek()) != null && next.deadline - now <= 0) {
+            ctx.write(delayed.poll().reply, ctx.voidPromise());
+        }
+
+        ctx.flush();
+
+        if (next != null) {
+            ctx.executor().schedule(this::drainDelayed, next.deadline - now, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flush() {
+
+        if (flushPending) {
+            flushPending = false;
+            ctx.flush();
+        }
+    }
+
+    private ByteBuf encode(Object reply) {
+
+        ByteBuf buffer = ctx.alloc().buffer();
+        RespProtocol.encode(reply, buffer, resp3);
+        return buffer;
+    }
+
+    private static List<byte[]> keys(String command, List<byte[]> args) {
+
+        int[] spec = KEY_SPECS.get(command);
+        if (spec == null || args.size() <= spec[0]) {
+            return Collections.emptyList();
+        }
+
+        if (spec[1] == 0) {
+            return Collections.singletonList(args.get(spec[0]));
+        }
+
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = spec[0]; i < args.size(); i += spec[1]) {
+            keys.add(args.get(i));
+        }
+
+        return keys;
+    }
+
+    private static byte[] argument(List<byte[]> args, int index) {
+
+        if (args.size() <= index) {
+            throw new RespException(
+                    "ERR wrong number of arguments for '" + string(args.get(0)).toLowerCase(Locale.ROOT) + "' command");
+        }
+
+        return args.get(index);
+    }
+
+    private static String string(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class DelayedReply {
+
+        final ByteBuf reply;
+
+        final long deadline;
+
+        DelayedReply(ByteBuf reply, long deadline) {
+            this.reply = reply;
+            this.deadline = deadline;
+        }
+
+    }
+
+}
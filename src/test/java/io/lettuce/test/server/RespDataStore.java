@@ -0,0 +1,622 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * In-memory keyspace backing {@link RespServer}. Supports strings, hashes, lists and sorted sets. Access is serialized so
+ * that the stand-in behaves deterministically regardless of how many connections access it concurrently. Expiration arguments
+ * are accepted but not enforced.
+ *
+ * @since 7.0
+ */
+class RespDataStore {
+
+    private static final String WRONGTYPE = "WRONGTYPE Operation against a key holding the wrong kind of value";
+
+    private final Map<Key, Object> data = new HashMap<>();
+
+    /**
+     * Execute a data command.
+     *
+     * @param command upper-case command name.
+     * @param args command arguments including the command name at index {@code 0}.
+     * @param resp3 whether the calling connection uses RESP3.
+     * @return the reply object.
+     * @throws RespException if the command fails.
+     */
+    synchronized Object execute(String command, List<byte[]> args, boolean resp3) {
+
+        switch (command) {
+            case "GET":
+                arity(args, 2);
+                return getString(key(args, 1));
+            case "SET":
+                return set(args);
+            case "SETNX":
+                arity(args, 3);
+                return data.putIfAbsent(key(args, 1), args.get(2)) == null ? 1L : 0L;
+            case "GETSET": {
+                arity(args, 3);
+                byte[] previous = getString(key(args, 1));
+                data.put(key(args, 1), args.get(2));
+                return previous;
+            }
+            case "MGET": {
+                List<Object> result = new ArrayList<>(args.size() - 1);
+                for (int i = 1; i < args.size(); i++) {
+                    Object value = data.get(key(args, i));
+                    result.add(value instanceof byte[] ? value : null);
+                }
+                return result;
+            }
+            case "MSET":
+                if (args.size() < 3 || args.size() % 2 == 0) {
+                    throw wrongArity(command);
+                }
+                for (int i = 1; i < args.size(); i += 2) {
+                    data.put(key(args, i), args.get(i + 1));
+                }
+                return RespProtocol.OK;
+            case "DEL":
+            case "UNLINK": {
+                long count = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    count += data.remove(key(args, i)) != null ? 1 : 0;
+                }
+                return count;
+            }
+            case "EXISTS": {
+                long count = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    count += data.containsKey(key(args, i)) ? 1 : 0;
+                }
+                return count;
+            }
+            case "INCR":
+                return incrBy(key(args, 1), 1);
+            case "INCRBY":
+                arity(args, 3);
+                return incrBy(key(args, 1), toLong(args.get(2)));
+            case "DECR":
+                return incrBy(key(args, 1), -1);
+            case "DECRBY":
+                arity(args, 3);
+                return incrBy(key(args, 1), -toLong(args.get(2)));
+            case "APPEND": {
+                arity(args, 3);
+                byte[] current = getString(key(args, 1));
+                byte[] value = current == null ? args.get(2) : concat(current, args.get(2));
+                data.put(key(args, 1), value);
+                return (long) value.length;
+            }
+            case "STRLEN": {
+                byte[] value = getString(key(args, 1));
+                return value == null ? 0L : (long) value.length;
+            }
+            case "TYPE":
+                return new RespProtocol.Status(type(data.get(key(args, 1))));
+            case "EXPIRE":
+            case "PEXPIRE":
+                arity(args, 3);
+                return data.containsKey(key(args, 1)) ? 1L : 0L;
+            case "TTL":
+            case "PTTL":
+                return data.containsKey(key(args, 1)) ? -1L : -2L;
+            case "HSET":
+            case "HMSET":
+                return hset(command, args);
+            case "HGET": {
+                arity(args, 3);
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                return hash == null ? null : hash.get(new Key(args.get(2)));
+            }
+            case "HMGET": {
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                List<Object> result = new ArrayList<>(args.size() - 2);
+                for (int i = 2; i < args.size(); i++) {
+                    result.add(hash == null ? null : hash.get(new Key(args.get(i))));
+                }
+                return result;
+            }
+            case "HGETALL": {
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                Map<byte[], byte[]> result = new LinkedHashMap<>();
+                if (hash != null) {
+                    hash.forEach((field, value) -> result.put(field.bytes, value));
+                }
+                return result;
+            }
+            case "HDEL": {
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                long count = 0;
+                for (int i = 2; hash != null && i < args.size(); i++) {
+                    count += hash.remove(new Key(args.get(i))) != null ? 1 : 0;
+                }
+                removeIfEmpty(key(args, 1), hash);
+                return count;
+            }
+            case "HLEN": {
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                return hash == null ? 0L : (long) hash.size();
+            }
+            case "HEXISTS": {
+                arity(args, 3);
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                return hash != null && hash.containsKey(new Key(args.get(2))) ? 1L : 0L;
+            }
+            case "HKEYS":
+            case "HVALS": {
+                Map<Key, byte[]> hash = getHash(key(args, 1), false);
+                List<Object> result = new ArrayList<>();
+                if (hash != null) {
+                    hash.forEach((field, value) -> result.add(command.equals("HKEYS") ? field.bytes : value));
+                }
+                return result;
+            }
+            case "HINCRBY": {
+                arity(args, 4);
+                Map<Key, byte[]> hash = getHash(key(args, 1), true);
+                Key field = new Key(args.get(2));
+                byte[] current = hash.get(field);
+                long value = (current == null ? 0 : toLong(current)) + toLong(args.get(3));
+                hash.put(field, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+                return value;
+            }
+            case "LPUSH":
+            case "RPUSH": {
+                if (args.size() < 3) {
+                    throw wrongArity(command);
+                }
+                Deque<byte[]> list = getList(key(args, 1), true);
+                for (int i = 2; i < args.size(); i++) {
+                    if (command.charAt(0) == 'L') {
+                        list.addFirst(args.get(i));
+                    } else {
+                        list.addLast(args.get(i));
+                    }
+                }
+                return (long) list.size();
+            }
+            case "LPOP":
+            case "RPOP":
+                return pop(command, args);
+            case "LLEN": {
+                Deque<byte[]> list = getList(key(args, 1), false);
+                return list == null ? 0L : (long) list.size();
+            }
+            case "LRANGE": {
+                arity(args, 4);
+                Deque<byte[]> list = getList(key(args, 1), false);
+                return list == null ? Collections.emptyList()
+                        : range(new ArrayList<>(list), toLong(args.get(2)), toLong(args.get(3)));
+            }
+            case "LINDEX": {
+                arity(args, 3);
+                Deque<byte[]> list = getList(key(args, 1), false);
+                List<byte[]> result = list == null ? Collections.emptyList()
+                        : range(new ArrayList<>(list), toLong(args.get(2)), toLong(args.get(2)));
+                return result.isEmpty() ? null : result.get(0);
+            }
+            case "ZADD":
+                return zadd(command, args);
+            case "ZINCRBY": {
+                arity(args, 4);
+                Map<Key, Double> zset = getSortedSet(key(args, 1), true);
+                return zset.merge(new Key(args.get(3)), toDouble(args.get(2)), Double::sum);
+            }
+            case "ZSCORE": {
+                arity(args, 3);
+                Map<Key, Double> zset = getSortedSet(key(args, 1), false);
+                Double score = zset == null ? null : zset.get(new Key(args.get(2)));
+                return score == null || resp3 ? score : RespProtocol.formatDouble(score);
+            }
+            case "ZCARD": {
+                Map<Key, Double> zset = getSortedSet(key(args, 1), false);
+                return zset == null ? 0L : (long) zset.size();
+            }
+            case "ZREM": {
+                Map<Key, Double> zset = getSortedSet(key(args, 1), false);
+                long count = 0;
+                for (int i = 2; zset != null && i < args.size(); i++) {
+                    count += zset.remove(new Key(args.get(i))) != null ? 1 : 0;
+                }
+                removeIfEmpty(key(args, 1), zset);
+                return count;
+            }
+            case "ZRANGE":
+                return zrange(args, resp3);
+            case "DBSIZE":
+                return (long) data.size();
+            case "FLUSHALL":
+            case "FLUSHDB":
+                data.clear();
+                return RespProtocol.OK;
+            default:
+                throw new RespException("ERR unknown command '" + command + "'");
+        }
+    }
+
+    synchronized int size() {
+        return data.size();
+    }
+
+    synchronized void clear() {
+        data.clear();
+    }
+
+    /**
+     * @return {@code true} if none of the given keys exist.
+     */
+    synchronized boolean containsNone(List<byte[]> keys) {
+
+        for (byte[] key : keys) {
+            if (data.containsKey(new Key(key))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove and return all entries whose key hashes to {@code slot}.
+     */
+    synchronized Map<Key, Object> removeSlot(int slot) {
+
+        Map<Key, Object> removed = new HashMap<>();
+        for (Iterator<Map.Entry<Key, Object>> it = data.entrySet().iterator(); it.hasNext();) {
+
+            Map.Entry<Key, Object> entry = it.next();
+            if (SlotHash.getSlot(entry.getKey().bytes) == slot) {
+                removed.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        }
+
+        return removed;
+    }
+
+    synchronized void putAll(Map<Key, Object> entries) {
+        data.putAll(entries);
+    }
+
+    private Object set(List<byte[]> args) {
+
+        if (args.size() < 3) {
+            throw wrongArity("SET");
+        }
+
+        boolean nx = false, xx = false, get = false;
+        for (int i = 3; i < args.size(); i++) {
+
+            String option = upperCase(args.get(i));
+            switch (option) {
+                case "NX":
+                    nx = true;
+                    break;
+                case "XX":
+                    xx = true;
+                    break;
+                case "GET":
+                    get = true;
+                    break;
+                case "KEEPTTL":
+                    break;
+                case "EX":
+                case "PX":
+                case "EXAT":
+                case "PXAT":
+                    i++;
+                    break;
+                default:
+                    throw new RespException("ERR syntax error");
+            }
+        }
+
+        Key key = key(args, 1);
+        byte[] previous = get ? getString(key) : null;
+        boolean exists = data.containsKey(key);
+
+        if ((nx && exists) || (xx && !exists)) {
+            return get ? previous : null;
+        }
+
+        data.put(key, args.get(2));
+        return get ? previous : RespProtocol.OK;
+    }
+
+    private Object hset(String command, List<byte[]> args) {
+
+        if (args.size() < 4 || args.size() % 2 != 0) {
+            throw wrongArity(command);
+        }
+
+        Map<Key, byte[]> hash = getHash(key(args, 1), true);
+        long added = 0;
+        for (int i = 2; i < args.size(); i += 2) {
+            added += hash.put(new Key(args.get(i)), args.get(i + 1)) == null ? 1 : 0;
+        }
+
+        return command.equals("HMSET") ? RespProtocol.OK : added;
+    }
+
+    private Object pop(String command, List<byte[]> args) {
+
+        Deque<byte[]> list = getList(key(args, 1), false);
+        boolean withCount = args.size() > 2;
+        long count = withCount ? toLong(args.get(2)) : 1;
+
+        if (list == null) {
+            return null;
+        }
+
+        List<Object> result = new ArrayList<>();
+        while (result.size() < count && !list.isEmpty()) {
+            result.add(command.charAt(0) == 'L' ? list.pollFirst() : list.pollLast());
+        }
+
+        removeIfEmpty(key(args, 1), list);
+        return withCount ? result : result.get(0);
+    }
+
+    private Object zadd(String command, List<byte[]> args) {
+
+        if (args.size() < 4 || args.size() % 2 != 0) {
+            throw wrongArity(command);
+        }
+
+        Map<Key, Double> zset = getSortedSet(key(args, 1), true);
+        long added = 0;
+        for (int i = 2; i < args.size(); i += 2) {
+            added += zset.put(new Key(args.get(i + 1)), toDouble(args.get(i))) == null ? 1 : 0;
+        }
+
+        return added;
+    }
+
+    private Object zrange(List<byte[]> args, boolean resp3) {
+
+        if (args.size() < 4) {
+            throw wrongArity("ZRANGE");
+        }
+
+        boolean withScores = args.size() > 4 && upperCase(args.get(4)).equals("WITHSCORES");
+        Map<Key, Double> zset = getSortedSet(key(args, 1), false);
+        if (zset == null) {
+            return Collections.emptyList();
+        }
+
+        List<Map.Entry<Key, Double>> entries = new ArrayList<>(zset.entrySet());
+        entries.sort(Map.Entry.<Key, Double> comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+        List<Object> result = new ArrayList<>();
+        for (Map.Entry<Key, Double> entry : range(entries, toLong(args.get(2)), toLong(args.get(3)))) {
+
+            if (!withScores) {
+                result.add(entry.getKey().bytes);
+            } else if (resp3) {
+                result.add(Arrays.asList(entry.getKey().bytes, entry.getValue()));
+            } else {
+                result.add(entry.getKey().bytes);
+                result.add(entry.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    private long incrBy(Key key, long delta) {
+
+        byte[] current = getString(key);
+        long value = (current == null ? 0 : toLong(current)) + delta;
+        data.put(key, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        return value;
+    }
+
+    private byte[] getString(Key key) {
+        return get(key, byte[].class, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, byte[]> getHash(Key key, boolean create) {
+        return get(key, LinkedHashMap.class, create);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Deque<byte[]> getList(Key key, boolean create) {
+        return get(key, ArrayDeque.class, create);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Double> getSortedSet(Key key, boolean create) {
+        return get(key, SortedSetValue.class, create);
+    }
+
+    private <T> T get(Key key, Class<T> type, boolean create) {
+
+        Object value = data.get(key);
+
+        if (value == null) {
+
+            if (!create) {
+                return null;
+            }
+
+            try {
+                value = type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            data.put(key, value);
+        }
+
+        if (!type.isInstance(value)) {
+            throw new RespException(WRONGTYPE);
+        }
+
+        return type.cast(value);
+    }
+
+    private void removeIfEmpty(Key key, Object value) {
+
+        if ((value instanceof Map && ((Map<?, ?>) value).isEmpty())
+                || (value instanceof Collection && ((Collection<?>) value).isEmpty())) {
+            data.remove(key);
+        }
+    }
+
+    private static String type(Object value) {
+
+        if (value == null) {
+            return "none";
+        }
+
+        if (value instanceof byte[]) {
+            return "string";
+        }
+
+        if (value instanceof SortedSetValue) {
+            return "zset";
+        }
+
+        return value instanceof Map ? "hash" : "list";
+    }
+
+    private static <T> List<T> range(List<T> list, long start, long stop) {
+
+        int size = list.size();
+        long from = start < 0 ? Math.max(size + start, 0) : start;
+        long to = stop < 0 ? size + stop : Math.min(stop, size - 1);
+
+        if (from > to || from >= size) {
+            return Collections.emptyList();
+        }
+
+        return list.subList((int) from, (int) to + 1);
+    }
+
+    private static Key key(List<byte[]> args, int index) {
+
+        if (args.size() <= index) {
+            throw wrongArity(upperCase(args.get(0)));
+        }
+
+        return new Key(args.get(index));
+    }
+
+    private static void arity(List<byte[]> args, int expected) {
+
+        if (args.size() != expected) {
+            throw wrongArity(upperCase(args.get(0)));
+        }
+    }
+
+    private static RespException wrongArity(String command) {
+        return new RespException("ERR wrong number of arguments for '" + command.toLowerCase(Locale.ROOT) + "' command");
+    }
+
+    static long toLong(byte[] value) {
+
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new RespException("ERR value is not an integer or out of range");
+        }
+    }
+
+    private static double toDouble(byte[] value) {
+
+        String string = new String(value, StandardCharsets.US_ASCII);
+        switch (string.toLowerCase(Locale.ROOT)) {
+            case "inf":
+            case "+inf":
+                return Double.POSITIVE_INFINITY;
+            case "-inf":
+                return Double.NEGATIVE_INFINITY;
+        }
+
+        try {
+            return Double.parseDouble(string);
+        } catch (NumberFormatException e) {
+            throw new RespException("ERR value is not a valid float");
+        }
+    }
+
+    static String upperCase(byte[] value) {
+        return new String(value, StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * Binary-safe key wrapper.
+     */
+    static final class Key implements Comparable<Key> {
+
+        final byte[] bytes;
+
+        private final int hashCode;
+
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+            this.hashCode = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Arrays.equals(bytes, ((Key) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public int compareTo(Key o) {
+
+            int length = Math.min(bytes.length, o.bytes.length);
+            for (int i = 0; i < length; i++) {
+                int cmp = Integer.compare(bytes[i] & 0xFF, o.bytes[i] & 0xFF);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+
+            return Integer.compare(bytes.length, o.bytes.length);
+        }
+
+    }
+
+    /**
+     * Sorted set value: member to score. Ordering is computed on read.
+     */
+    @SuppressWarnings("serial")
+    static final class SortedSetValue extends HashMap<Key, Double> {
+
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+/**
+ * Exception signalling a command error that is reported to the client as RESP error reply. The message must start with the
+ * error code, e.g. {@code WRONGTYPE} or {@code ERR}.
+ *
+ * @since 7.0
+ */
+@SuppressWarnings("serial")
+class RespException extends RuntimeException {
+
+    RespException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * RESP2/RESP3 reply model and encoder used by {@link RespServer}. Replies are represented as plain Java objects and rendered
+ * according to the protocol version negotiated by the connection:
+ * <ul>
+ * <li>{@link Status} and {@link ErrorReply} as simple strings/errors</li>
+ * <li>{@link Long} and {@link Integer} as integers</li>
+ * <li>{@code byte[]} and {@link String} as bulk strings</li>
+ * <li>{@code null} as nil</li>
+ * <li>{@link Double} as double (bulk string using RESP2)</li>
+ * <li>{@link Boolean} as boolean (integer using RESP2)</li>
+ * <li>{@link List} as array, {@link Map} as map (flat array using RESP2)</li>
+ * <li>{@link Push} as push message (array using RESP2)</li>
+ * </ul>
+ *
+ * @since 7.0
+ */
+final class RespProtocol {
+
+    static final Status OK = new Status("OK");
+
+    static final Status PONG = new Status("PONG");
+
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private RespProtocol() {
+    }
+
+    static void encode(Object reply, ByteBuf buffer, boolean resp3) {
+
+        if (reply == null) {
+            buffer.writeBytes(resp3 ? "_\r\n".getBytes(StandardCharsets.US_ASCII) : "$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        if (reply instanceof byte[]) {
+            writeBulk((byte[]) reply, buffer);
+            return;
+        }
+
+        if (reply instanceof String) {
+            writeBulk(((String) reply).getBytes(StandardCharsets.UTF_8), buffer);
+            return;
+        }
+
+        if (reply instanceof Long || reply instanceof Integer) {
+            writeLine(':', reply.toString(), buffer);
+            return;
+        }
+
+        if (reply instanceof Status) {
+            writeLine('+', ((Status) reply).value, buffer);
+            return;
+        }
+
+        if (reply instanceof ErrorReply) {
+            writeLine('-', ((ErrorReply) reply).message, buffer);
+            return;
+        }
+
+        if (reply instanceof Double) {
+
+            String value = formatDouble((Double) reply);
+            if (resp3) {
+                writeLine(',', value, buffer);
+            } else {
+                writeBulk(value.getBytes(StandardCharsets.US_ASCII), buffer);
+            }
+            return;
+        }
+
+        if (reply instanceof Boolean) {
+
+            boolean value = (Boolean) reply;
+            if (resp3) {
+                writeLine('#', value ? "t" : "f", buffer);
+            } else {
+                writeLine(':', value ? "1" : "0", buffer);
+            }
+            return;
+        }
+
+        if (reply instanceof Push) {
+
+            List<?> elements = ((Push) reply).elements;
+            writeLine(resp3 ? '>' : '*', Integer.toString(elements.size()), buffer);
+            for (Object element : elements) {
+                encode(element, buffer, resp3);
+            }
+            return;
+        }
+
+        if (reply instanceof List) {
+
+            List<?> elements = (List<?>) reply;
+            writeLine('*', Integer.toString(elements.size()), buffer);
+            for (Object element : elements) {
+                encode(element, buffer, resp3);
+            }
+            return;
+        }
+
+        if (reply instanceof Map) {
+
+            Map<?, ?> map = (Map<?, ?>) reply;
+            if (resp3) {
+                writeLine('%', Integer.toString(map.size()), buffer);
+            } else {
+                writeLine('*', Integer.toString(map.size() * 2), buffer);
+            }
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                encode(entry.getKey(), buffer, resp3);
+                encode(entry.getValue(), buffer, resp3);
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException("Cannot encode reply type " + reply.getClass().getName());
+    }
+
+    static String formatDouble(double value) {
+
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "inf" : "-inf";
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+
+        return Double.toString(value);
+    }
+
+    private static void writeBulk(byte[] value, ByteBuf buffer) {
+        writeLine('$', Integer.toString(value.length), buffer);
+        buffer.writeBytes(value).writeBytes(CRLF);
+    }
+
+    private static void writeLine(char type, String value, ByteBuf buffer) {
+        buffer.writeByte(type).writeCharSequence(value, StandardCharsets.US_ASCII);
+        buffer.writeBytes(CRLF);
+    }
+
+    /**
+     * Simple string reply.
+     */
+    static final class Status {
+
+        final String value;
+
+        Status(String value) {
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * Error reply.
+     */
+    static final class ErrorReply {
+
+        final String message;
+
+        ErrorReply(String message) {
+            this.message = message;
+        }
+
+    }
+
+    /**
+     * Out-of-band push message. Rendered as array for RESP2 connections.
+     */
+    static final class Push {
+
+        final List<?> elements;
+
+        Push(Object... elements) {
+            this.elements = Arrays.asList(elements);
+        }
+
+    }
+
+}
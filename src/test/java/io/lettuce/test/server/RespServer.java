@@ -0,0 +1,375 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+/**
+ * Deterministic in-JVM stand-in for a Redis server speaking RESP2 and RESP3. The server keeps strings, hashes, lists and
+ * sorted sets in memory, supports Pub/Sub including push messages and allows injecting per-command latency. Use
+ * {@link RespCluster} to simulate a Redis Cluster with {@code MOVED}/{@code ASK} redirections.
+ * <p>
+ * The stand-in is intended for benchmarks and load tests that should not depend on an external Redis process:
+ *
+ * <pre class="code">
+ * RespServer server = RespServer.create().latency("GET", Duration.ofMillis(1)).start();
+ * RedisClient client = RedisClient.create(server.getRedisURI());
+ * </pre>
+ *
+ * @since 7.0
+ */
+public class RespServer {
+
+    static final String VERSION = "7.2.0";
+
+    private static final String HOST = "127.0.0.1";
+
+    private final RespDataStore store = new RespDataStore();
+
+    private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<RespCommandHandler>> channels = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<RespCommandHandler>> patterns = new ConcurrentHashMap<>();
+
+    private final Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    private final AtomicLong clientIds = new AtomicLong();
+
+    private final ChannelGroup clients = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+
+    private final RespCluster cluster;
+
+    private final int nodeIndex;
+
+    private volatile long defaultLatency;
+
+    private Channel serverChannel;
+
+    private int port;
+
+    RespServer(RespCluster cluster, int nodeIndex) {
+        this.cluster = cluster;
+        this.nodeIndex = nodeIndex;
+    }
+
+    /**
+     * Create a new standalone {@link RespServer}. The server must be {@link #start() started} before use.
+     *
+     * @return the new {@link RespServer}.
+     */
+    public static RespServer create() {
+        return new RespServer(null, 0);
+    }
+
+    /**
+     * Delay replies to all commands by {@code latency}. Replies are still emitted in request order. The effective resolution
+     * is bound to the event loop timer which is typically around one millisecond.
+     *
+     * @param latency the latency to inject, {@link Duration#ZERO} to disable.
+     * @return {@code this}.
+     */
+    public RespServer latency(Duration latency) {
+
+        LettuceAssert.notNull(latency, "Latency must not be null");
+
+        this.defaultLatency = latency.toNanos();
+        return this;
+    }
+
+    /**
+     * Delay replies to {@code command} by {@code latency}. Overrides the {@link #latency(Duration) default latency}.
+     *
+     * @param command the command name, e.g. {@code GET}.
+     * @param latency the latency to inject.
+     * @return {@code this}.
+     */
+    public RespServer latency(String command, Duration latency) {
+
+        LettuceAssert.notEmpty(command, "Command must not be empty");
+        LettuceAssert.notNull(latency, "Latency must not be null");
+
+        this.latencies.put(command.toUpperCase(), latency.toNanos());
+        return this;
+    }
+
+    /**
+     * Start the server on an ephemeral port.
+     *
+     * @return {@code this}.
+     */
+    public RespServer start() {
+        return start(0);
+    }
+
+    /**
+     * Start the server on the given {@code port}.
+     *
+     * @param port the port, {@code 0} to pick an ephemeral port.
+     * @return {@code this}.
+     */
+    public RespServer start(int port) {
+
+        LettuceAssert.assertState(serverChannel == null, "Server already started");
+
+        ServerBootstrap bootstrap = new ServerBootstrap().group(Resources.bossGroup, Resources.workerGroup)
+                .channel(NioServerSocketChannel.class).option(ChannelOption.SO_BACKLOG, 1024)
+                .childOption(ChannelOption.TCP_NODELAY, true).childHandler(new ChannelInitializer<SocketChannel>() {
+
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        clients.add(ch);
+                        ch.pipeline().addLast(new RespCommandDecoder(), new RespCommandHandler(RespServer.this));
+                    }
+
+                });
+
+        serverChannel = bootstrap.bind(HOST, port).syncUninterruptibly().channel();
+        this.port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        return this;
+    }
+
+    /**
+     * Stop accepting connections and close all client connections. Data is retained.
+     */
+    public void shutdown() {
+
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+            serverChannel = null;
+        }
+
+        disconnectClients();
+    }
+
+    /**
+     * Close all client connections to simulate a connection reset.
+     */
+    public void disconnectClients() {
+        clients.close().syncUninterruptibly();
+    }
+
+    /**
+     * Publish a message to all subscribers of {@code channel} on this server.
+     *
+     * @return the number of receiving clients.
+     */
+    public long publish(String channel, String message) {
+
+        if (cluster != null) {
+            return cluster.publish(channel, message);
+        }
+
+        return publishLocal(channel, message);
+    }
+
+    /**
+     * Send an out-of-band push message to all connected clients. Elements may be {@link String}, {@code byte[]},
+     * {@link Long} or {@link java.util.List lists} thereof. Clients using RESP2 receive the message as array.
+     *
+     * @param elements the push message elements, the first element denotes the message kind.
+     */
+    public void sendPush(Object... elements) {
+
+        RespProtocol.Push push = new RespProtocol.Push(elements);
+        for (Channel client : clients) {
+
+            RespCommandHandler handler = client.pipeline().get(RespCommandHandler.class);
+            if (handler != null) {
+                handler.deliver(push);
+            }
+        }
+    }
+
+    /**
+     * Remove all keys.
+     */
+    public void flushAll() {
+        store.clear();
+    }
+
+    /**
+     * @return the number of keys.
+     */
+    public int size() {
+        return store.size();
+    }
+
+    public int getConnectedClients() {
+        return clients.size();
+    }
+
+    public String getHost() {
+        return HOST;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public RedisURI getRedisURI() {
+        return RedisURI.create(HOST, port);
+    }
+
+    /**
+     * @return the cluster node id or {@code null} if not running as cluster node.
+     */
+    public String getNodeId() {
+        return cluster != null ? RespCluster.nodeId(nodeIndex) : null;
+    }
+
+    RespDataStore getStore() {
+        return store;
+    }
+
+    RespCluster getCluster() {
+        return cluster;
+    }
+
+    int getNodeIndex() {
+        return nodeIndex;
+    }
+
+    long nextClientId() {
+        return clientIds.incrementAndGet();
+    }
+
+    long getLatency(String command) {
+
+        if (latencies.isEmpty()) {
+            return defaultLatency;
+        }
+
+        return latencies.getOrDefault(command, defaultLatency);
+    }
+
+    String info() {
+
+        StringBuilder info = new StringBuilder();
+        info.append("# Server\r\nredis_version:").append(VERSION).append("\r\n");
+        info.append("redis_mode:").append(cluster != null ? "cluster" : "standalone").append("\r\n");
+        info.append("tcp_port:").append(port).append("\r\n");
+        info.append("# Clients\r\nconnected_clients:").append(clients.size()).append("\r\n");
+        info.append("# Replication\r\nrole:master\r\nconnected_slaves:0\r\n");
+        info.append("# Cluster\r\ncluster_enabled:").append(cluster != null ? 1 : 0).append("\r\n");
+        info.append("# Keyspace\r\ndb0:keys=").append(store.size()).append(",expires=0,avg_ttl=0\r\n");
+        return info.toString();
+    }
+
+    void subscribe(String channel, RespCommandHandler handler) {
+        channels.computeIfAbsent(channel, it -> ConcurrentHashMap.newKeySet()).add(handler);
+    }
+
+    void unsubscribe(String channel, RespCommandHandler handler) {
+        channels.computeIfPresent(channel, (key, handlers) -> handlers.remove(handler) && handlers.isEmpty() ? null : handlers);
+    }
+
+    void psubscribe(String pattern, RespCommandHandler handler) {
+        compiledPatterns.computeIfAbsent(pattern, RespServer::globToRegex);
+        patterns.computeIfAbsent(pattern, it -> ConcurrentHashMap.newKeySet()).add(handler);
+    }
+
+    void punsubscribe(String pattern, RespCommandHandler handler) {
+        patterns.computeIfPresent(pattern, (key, handlers) -> handlers.remove(handler) && handlers.isEmpty() ? null : handlers);
+    }
+
+    long publishLocal(String channel, String message) {
+
+        long receivers = 0;
+
+        Set<RespCommandHandler> subscribers = channels.get(channel);
+        if (subscribers != null) {
+            for (RespCommandHandler subscriber : subscribers) {
+                subscriber.deliver(new RespProtocol.Push("message", channel, message));
+                receivers++;
+            }
+        }
+
+        for (Map.Entry<String, Set<RespCommandHandler>> entry : patterns.entrySet()) {
+
+            if (!compiledPatterns.get(entry.getKey()).matcher(channel).matches()) {
+                continue;
+            }
+
+            for (RespCommandHandler subscriber : entry.getValue()) {
+                subscriber.deliver(new RespProtocol.Push("pmessage", entry.getKey(), channel, message));
+                receivers++;
+            }
+        }
+
+        return receivers;
+    }
+
+    private static Pattern globToRegex(String glob) {
+
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*':
+                    regex.append(".*");
+                    break;
+                case '?':
+                    regex.append('.');
+                    break;
+                default:
+                    regex.append(Pattern.quote(Character.toString(c)));
+            }
+        }
+
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static class Resources {
+
+        private static final EventLoopGroup bossGroup;
+
+        private static final EventLoopGroup workerGroup;
+
+        static {
+            bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("resp-server-boss", true));
+            workerGroup = new NioEventLoopGroup(0, new DefaultThreadFactory("resp-server", true));
+
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                bossGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+                workerGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+            }, "RespServer-shutdown"));
+        }
+
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.test.server;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.test.resource.FastShutdown;
+import io.lettuce.test.resource.TestClientResources;
+
+/**
+ * Unit tests for {@link RespServer} and {@link RespCluster} using the actual client.
+ */
+class RespServerUnitTests {
+
+    private RespServer server;
+
+    private RedisClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = RespServer.create().start();
+        client = RedisClient.create(TestClientResources.get(), server.getRedisURI());
+    }
+
+    @AfterEach
+    void tearDown() {
+        FastShutdown.shutdown(client);
+        server.shutdown();
+    }
+
+    @Test
+    void shouldServeDataCommandsUsingResp3() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            assertDataCommands(connection.sync());
+        }
+    }
+
+    @Test
+    void shouldServeDataCommandsUsingResp2() {
+
+        client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build());
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+            assertDataCommands(connection.sync());
+        }
+    }
+
+    private void assertDataCommands(RedisCommands<String, String> redis) {
+
+        assertThat(redis.set("key", "value")).isEqualTo("OK");
+        assertThat(redis.get("key")).isEqualTo("value");
+        assertThat(redis.incr("counter")).isEqualTo(1);
+        assertThat(redis.mget("key", "counter", "absent")).containsExactly(KeyValue.just("key", "value"),
+                KeyValue.just("counter", "1"), KeyValue.empty("absent"));
+
+        redis.hset("hash", "field", "value");
+        assertThat(redis.hgetall("hash")).containsEntry("field", "value");
+
+        redis.rpush("list", "a", "b", "c");
+        assertThat(redis.lrange("list", 0, -1)).containsExactly("a", "b", "c");
+        assertThat(redis.lpop("list")).isEqualTo("a");
+
+        redis.zadd("zset", 2.0, "b", 1.0, "a");
+        assertThat(redis.zrange("zset", 0, -1)).containsExactly("a", "b");
+        assertThat(redis.zrangeWithScores("zset", 0, -1)).containsExactly(ScoredValue.just(1, "a"), ScoredValue.just(2, "b"));
+        assertThat(redis.zscore("zset", "b")).isEqualTo(2.0);
+
+        assertThatThrownBy(() -> redis.hget("key", "field")).isInstanceOf(RedisCommandExecutionException.class)
+                .hasMessageStartingWith("WRONGTYPE");
+        assertThat(redis.dbsize()).isEqualTo(5);
+    }
+
+    @Test
+    void latencyShouldPreserveReplyOrder() throws Exception {
+
+        server.latency("GET", Duration.ofMillis(100));
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            long start = System.nanoTime();
+            RedisFuture<String> get = connection.async().get("key");
+            RedisFuture<String> ping = connection.async().ping();
+
+            assertThat(ping.get(1, TimeUnit.SECONDS)).isEqualTo("PONG");
+            assertThat(get.isDone()).isTrue();
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    @Test
+    void shouldDeliverPubSubMessages() throws Exception {
+
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        try (StatefulRedisPubSubConnection<String, String> connection = client.connectPubSub();
+                StatefulRedisConnection<String, String> publisher = client.connect()) {
+
+            connection.addListener(new RedisPubSubAdapter<String, String>() {
+
+                @Override
+                public void message(String channel, String message) {
+                    messages.add(channel + "=" + message);
+                }
+
+                @Override
+                public void message(String pattern, String channel, String message) {
+                    messages.add(pattern + ":" + channel + "=" + message);
+                }
+
+            });
+
+            connection.sync().subscribe("channel");
+            connection.sync().psubscribe("chan*");
+
+            assertThat(publisher.sync().publish("channel", "hello")).isEqualTo(2);
+            assertThat(messages.poll(1, TimeUnit.SECONDS)).isEqualTo("channel=hello");
+            assertThat(messages.poll(1, TimeUnit.SECONDS)).isEqualTo("chan*:channel=hello");
+        }
+    }
+
+    @Test
+    void shouldSendPushMessages() throws Exception {
+
+        BlockingQueue<PushMessage> messages = new LinkedBlockingQueue<>();
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            connection.addListener(messages::add);
+            server.sendPush("invalidate", "key");
+
+            PushMessage message = messages.poll(1, TimeUnit.SECONDS);
+            assertThat(message).isNotNull();
+            assertThat(message.getType()).isEqualTo("invalidate");
+        }
+    }
+
+    @Test
+    void shouldReconnectAfterDisconnect() {
+
+        try (StatefulRedisConnection<String, String> connection = client.connect()) {
+
+            connection.sync().set("key", "value");
+            server.disconnectClients();
+            assertThat(connection.sync().get("key")).isEqualTo("value");
+        }
+    }
+
+    @Test
+    void clusterShouldRedirectCommands() {
+
+        RespCluster cluster = RespCluster.create(3).start();
+        RedisClusterClient clusterClient = RedisClusterClient.create(TestClientResources.get(), cluster.getRedisURIs());
+
+        try (StatefulRedisClusterConnection<String, String> connection = clusterClient.connect()) {
+
+            RedisAdvancedClusterCommands<String, String> redis = connection.sync();
+            assertThat(redis.clusterShards()).hasSize(3);
+
+            for (int i = 0; i < 100; i++) {
+                redis.set("key" + i, "value" + i);
+            }
+
+            List<KeyValue<String, String>> values = redis.mget("key1", "key2", "key3", "key4");
+            assertThat(values).extracting(KeyValue::getValue).containsExactly("value1", "value2", "value3", "value4");
+
+            int slot = SlotHash.getSlot("key1");
+            int owner = cluster.getOwner(slot);
+            int target = (owner + 1) % 3;
+
+            cluster.beginMigration(slot, target);
+            assertThat(redis.get("key1")).isEqualTo("value1");
+
+            String asked = "{key1}absent";
+            assertThat(redis.set(asked, "value")).isEqualTo("OK");
+            assertThat(cluster.getNode(target).getStore().containsNone(Collections.singletonList(asked.getBytes()))).isFalse();
+
+            cluster.moveSlot(slot, target);
+            assertThat(redis.get("key1")).isEqualTo("value1");
+            assertThat(cluster.getNode(owner).getStore().containsNone(Collections.singletonList("key1".getBytes())))
+                    .isTrue();
+        } finally {
+            FastShutdown.shutdown(clusterClient);
+            cluster.shutdown();
+        }
+    }
+
+}
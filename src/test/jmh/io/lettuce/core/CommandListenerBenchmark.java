@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandSampler;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Benchmark for {@link CommandListenerWriter} measuring the overhead of writing and completing a command with:
+ * <ul>
+ * <li>no listener</li>
+ * <li>a listener notified about each command</li>
+ * <li>a listener sampling one in 100 commands</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class CommandListenerBenchmark {
+
+    private static final CommandListener LISTENER = new CommandListener() {
+
+        @Override
+        public void commandSucceeded(CommandSucceededEvent event) {
+            event.getDuration();
+        }
+
+    };
+
+    private final RedisChannelWriter plain = new CompletingChannelWriter();
+
+    private final RedisChannelWriter listened = new CommandListenerWriter(new CompletingChannelWriter(),
+            Collections.singletonList(LISTENER));
+
+    private final RedisChannelWriter sampled = new CommandListenerWriter(new CompletingChannelWriter(),
+            Collections.singletonList(CommandListener.sampled(LISTENER, CommandSampler.oneIn(100))));
+
+    @Benchmark
+    public Object withoutListener() {
+        return plain.write(createCommand());
+    }
+
+    @Benchmark
+    public Object withListener() {
+        return listened.write(createCommand());
+    }
+
+    @Benchmark
+    public Object withSampledListener() {
+        return sampled.write(createCommand());
+    }
+
+    private static RedisCommand<byte[], byte[], String> createCommand() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(ByteArrayCodec.INSTANCE)));
+    }
+
+    static class CompletingChannelWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+            command.complete();
+            return command;
+        }
+
+    }
+
+}
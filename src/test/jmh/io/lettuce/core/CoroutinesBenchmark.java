@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.StatefulRedisConnectionExtensionsKt;
+import io.lettuce.core.api.coroutines.RedisCoroutinesCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.protocol.PushHandler;
+import io.lettuce.core.protocol.RedisCommand;
+import kotlin.coroutines.EmptyCoroutineContext;
+import kotlinx.coroutines.BuildersKt;
+import kotlinx.coroutines.flow.FlowKt;
+import kotlinx.coroutines.reactive.AwaitKt;
+import kotlinx.coroutines.reactive.ReactiveFlowKt;
+
+/**
+ * Benchmark for the per-call overhead of the Kotlin Coroutines API compared with bridging the reactive API through
+ * {@code kotlinx-coroutines-reactive}. Commands are completed immediately by the channel writer so the benchmark measures
+ * API overhead only.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>single-value command through the asynchronous API</li>
+ * <li>single-value command through the Coroutines API</li>
+ * <li>single-value command through the reactive API bridged with {@code awaitFirstOrNull}</li>
+ * <li>multi-value command through the Coroutines API</li>
+ * <li>multi-value command through the reactive API bridged with {@code asFlow}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class CoroutinesBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    private StatefulRedisConnection<byte[], byte[]> connection;
+
+    private RedisReactiveCommands<byte[], byte[]> reactive;
+
+    private RedisCoroutinesCommands<byte[], byte[]> coroutines;
+
+    @Setup
+    public void setup() {
+
+        StatefulRedisConnectionImpl<byte[], byte[]> connection = new StatefulRedisConnectionImpl<>(
+                new CompletingChannelWriter(), NoPushHandler.INSTANCE, ByteArrayCodec.INSTANCE, Duration.ofSeconds(10));
+        connection.setOptions(ClientOptions.create());
+
+        this.connection = connection;
+        this.reactive = connection.reactive();
+        this.coroutines = StatefulRedisConnectionExtensionsKt.coroutines(connection);
+    }
+
+    @Benchmark
+    public Object asyncGet() {
+        return connection.async().get(KEY).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Object coroutinesGet() throws InterruptedException {
+        return BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE, (scope, continuation) -> coroutines.get(KEY, continuation));
+    }
+
+    @Benchmark
+    public Object reactiveBridgeGet() throws InterruptedException {
+        return BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE,
+                (scope, continuation) -> AwaitKt.awaitFirstOrNull(reactive.get(KEY), continuation));
+    }
+
+    @Benchmark
+    public Object coroutinesSmembers() throws InterruptedException {
+        return BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE,
+                (scope, continuation) -> FlowKt.toList(coroutines.smembers(KEY), new ArrayList<>(), continuation));
+    }
+
+    @Benchmark
+    public Object reactiveBridgeSmembers() throws InterruptedException {
+        return BuildersKt.runBlocking(EmptyCoroutineContext.INSTANCE, (scope, continuation) -> FlowKt
+                .toList(ReactiveFlowKt.asFlow(reactive.smembers(KEY)), new ArrayList<>(), continuation));
+    }
+
+    /**
+     * Channel writer completing commands without a Redis server.
+     */
+    static class CompletingChannelWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+            command.complete();
+            return command;
+        }
+
+    }
+
+    enum NoPushHandler implements PushHandler {
+
+        INSTANCE;
+
+        @Override
+        public void addListener(PushListener listener) {
+        }
+
+        @Override
+        public void removeListener(PushListener listener) {
+        }
+
+        @Override
+        public Collection<PushListener> getPushListeners() {
+            return Collections.emptyList();
+        }
+
+    }
+
+}
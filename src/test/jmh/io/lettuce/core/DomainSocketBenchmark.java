@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.test.settings.TestSettings;
+
+/**
+ * Benchmark comparing TCP loopback against Unix Domain Socket connections to the same Redis instance. Domain sockets use the
+ * native transport (epoll, kqueue) or NIO (Java 16+) if native transports are disabled. Run with sample mode to obtain latency
+ * percentiles:
+ *
+ * <pre class="code">
+ * java -jar benchmarks.jar DomainSocketBenchmark -bm sample -tu us
+ * </pre>
+ *
+ * Test cases:
+ * <ul>
+ * <li>{@code GET} round-trip using the default (native if available) transport</li>
+ * <li>{@code GET} round-trip using the NIO transport</li>
+ * <li>pipelined batch of {@code GET} commands using the default transport</li>
+ * </ul>
+ * The {@code transport} parameter selects whether to connect through {@link TestSettings#port() TCP} or through
+ * {@link TestSettings#socket() the domain socket}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainSocketBenchmark {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    @Param({ "tcp", "uds" })
+    String transport;
+
+    private RedisClient redisClient;
+
+    private StatefulRedisConnection<byte[], byte[]> connection;
+
+    private final CompletableFuture<?>[] futures = new CompletableFuture[BATCH_SIZE];
+
+    @Setup
+    public void setup() {
+
+        RedisURI redisURI = transport.equals("uds") ? RedisURI.Builder.socket(TestSettings.socket()).build()
+                : RedisURI.create(TestSettings.host(), TestSettings.port());
+
+        redisClient = RedisClient.create(redisURI);
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        connection.sync().set(KEY, KEY);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        redisClient.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public byte[] get() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = { "-Dio.lettuce.core.epoll=false", "-Dio.lettuce.core.iouring=false",
+            "-Dio.lettuce.core.kqueue=false" })
+    public byte[] getNio() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void getPipelined() {
+
+        RedisAsyncCommands<byte[], byte[]> async = connection.async();
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            futures[i] = async.get(KEY).toCompletableFuture();
+        }
+
+        CompletableFuture.allOf(futures).join();
+    }
+
+}
@@ -17,8 +17,12 @@ package io.lettuce.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.reactivestreams.Publisher;
+
+import io.lettuce.core.api.Pipeline;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.push.PushListener;
@@ -54,6 +58,26 @@ public class EmptyStatefulRedisConnection extends RedisChannelHandler implements
         return null;
     }
 
+    @Override
+    public RedisCommands sync(CommandPriority priority) {
+        return null;
+    }
+
+    @Override
+    public RedisAsyncCommands async(CommandPriority priority) {
+        return null;
+    }
+
+    @Override
+    public Pipeline pipeline() {
+        return null;
+    }
+
+    @Override
+    public CompletableFuture bulkLoad(Publisher operations, BulkLoadOptions options) {
+        return null;
+    }
+
     @Override
     public RedisReactiveCommands reactive() {
         return null;
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.Delay;
+import io.lettuce.test.server.RespServer;
+
+/**
+ * End-to-end benchmark for {@link RedisClient} against the in-JVM {@link RespServer} stand-in. Does not require an external
+ * Redis server and therefore allows reproducing throughput regressions without network access.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>synchronous {@code GET} and {@code SET}</li>
+ * <li>pipelined {@code SET} with manual flushing</li>
+ * <li>Pub/Sub publish-to-receive round trip</li>
+ * <li>reconnect after connection reset</li>
+ * </ul>
+ * The {@code latencyMicros} parameter injects server-side latency for {@code GET}.
+ */
+@State(Scope.Benchmark)
+public class RespServerBenchmark {
+
+    private static final int PIPELINE_SIZE = 100;
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    private static final byte[] CHANNEL = "channel".getBytes();
+
+    @Param({ "0", "50" })
+    long latencyMicros;
+
+    private RespServer server;
+
+    private ClientResources resources;
+
+    private RedisClient redisClient;
+
+    private StatefulRedisConnection<byte[], byte[]> connection;
+
+    private StatefulRedisConnection<byte[], byte[]> pipeline;
+
+    private StatefulRedisPubSubConnection<byte[], byte[]> subscriber;
+
+    private final RedisFuture<?>[] futures = new RedisFuture[PIPELINE_SIZE];
+
+    private volatile CompletableFuture<byte[]> received;
+
+    @Setup
+    public void setup() {
+
+        server = RespServer.create().latency("GET", Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros))).start();
+        resources = ClientResources.builder().reconnectDelay(Delay.constant(Duration.ZERO)).build();
+        redisClient = RedisClient.create(resources, server.getRedisURI());
+
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        connection.sync().set(KEY, KEY);
+
+        pipeline = redisClient.connect(ByteArrayCodec.INSTANCE);
+        pipeline.setAutoFlushCommands(false);
+
+        subscriber = redisClient.connectPubSub(ByteArrayCodec.INSTANCE);
+        subscriber.addListener(new RedisPubSubAdapter<byte[], byte[]>() {
+
+            @Override
+            public void message(byte[] channel, byte[] message) {
+                received.complete(message);
+            }
+
+        });
+        subscriber.sync().subscribe(CHANNEL);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        pipeline.close();
+        subscriber.close();
+        redisClient.shutdown(0, 0, TimeUnit.SECONDS);
+        resources.shutdown(0, 0, TimeUnit.SECONDS);
+        server.shutdown();
+    }
+
+    @Benchmark
+    public byte[] get() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    public String set() {
+        return connection.sync().set(KEY, KEY);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_SIZE)
+    public void pipelinedSet() {
+
+        for (int i = 0; i < PIPELINE_SIZE; i++) {
+            futures[i] = pipeline.async().set(KEY, KEY);
+        }
+
+        pipeline.flushCommands();
+        LettuceFutures.awaitAll(Duration.ofSeconds(10), futures);
+    }
+
+    @Benchmark
+    public byte[] pubSubRoundTrip() {
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        received = future;
+        connection.sync().publish(CHANNEL, KEY);
+        return future.join();
+    }
+
+    @Benchmark
+    public String reconnect() {
+
+        server.disconnectClients();
+        return connection.sync().ping();
+    }
+
+}
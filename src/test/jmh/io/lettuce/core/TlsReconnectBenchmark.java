@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+
+/**
+ * Benchmark for TLS reconnect throughput against a local TLS-enabled stand-in server that acknowledges every command with
+ * {@code +OK}. Each operation connects, completes the TLS and Redis handshake and closes the connection, so the score reflects
+ * the cost of establishing TLS connections. Requires the test certificates ({@code make ssl-keys}).
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>Full handshake for each connection</li>
+ * <li>Abbreviated handshake through {@link SslOptions.Builder#sessionResumption(boolean) session resumption}</li>
+ * </ul>
+ * The {@code openSsl} parameter selects the OpenSSL provider if {@code netty-tcnative} is available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TlsReconnectBenchmark {
+
+    private static final File SERVER_CERT = new File("work/ca/certs/localhost.cert.pem");
+
+    private static final File SERVER_KEY = new File("work/ca/private/localhost.decrypted.key.pem");
+
+    @Param({ "false", "true" })
+    boolean sessionResumption;
+
+    @Param({ "false", "true" })
+    boolean openSsl;
+
+    private EventLoopGroup serverGroup;
+
+    private Channel serverChannel;
+
+    private RedisClient redisClient;
+
+    @Setup
+    public void setup() throws Exception {
+
+        SslContext serverContext = SslContextBuilder.forServer(SERVER_CERT, SERVER_KEY).build();
+
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(serverContext.newHandler(ch.alloc()), new StandInCommandHandler());
+                    }
+
+                }).bind("localhost", 0).sync().channel();
+
+        int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+
+        SslOptions.Builder sslOptions = SslOptions.builder().sessionResumption(sessionResumption);
+
+        if (openSsl) {
+            sslOptions.preferOpenSslProvider();
+        }
+
+        redisClient = RedisClient.create(RedisURI.builder().withHost("localhost").withPort(port).withSsl(true)
+                .withVerifyPeer(SslVerifyMode.NONE).build());
+        redisClient.setOptions(
+                ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).sslOptions(sslOptions.build()).build());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        redisClient.shutdown(0, 0, TimeUnit.SECONDS);
+        serverChannel.close().sync();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    public void reconnect() {
+
+        StatefulRedisConnection<String, String> connection = redisClient.connect();
+        connection.close();
+    }
+
+    /**
+     * Minimal RESP handler replying {@code +OK} to each complete command array.
+     */
+    static class StandInCommandHandler extends ByteToMessageDecoder {
+
+        private static final ByteBuf OK = Unpooled
+                .unreleasableBuffer(Unpooled.copiedBuffer("+OK\r\n", StandardCharsets.US_ASCII));
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+            boolean replied = false;
+
+            while (skipCommand(in)) {
+                ctx.write(OK.duplicate());
+                replied = true;
+            }
+
+            if (replied) {
+                ctx.flush();
+            }
+        }
+
+        private static boolean skipCommand(ByteBuf in) {
+
+            int start = in.readerIndex();
+            long count = readNumber(in, '*');
+
+            for (long i = 0; i < count; i++) {
+
+                long length = readNumber(in, '$');
+
+                if (length < 0 || in.readableBytes() < length + 2) {
+                    in.readerIndex(start);
+                    return false;
+                }
+
+                in.skipBytes((int) length + 2);
+            }
+
+            if (count < 0) {
+                in.readerIndex(start);
+                return false;
+            }
+
+            return true;
+        }
+
+        private static long readNumber(ByteBuf in, char marker) {
+
+            int eol = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+
+            if (eol == -1 || in.getByte(in.readerIndex()) != marker) {
+                return -1;
+            }
+
+            long value = Long.parseLong(in.toString(in.readerIndex() + 1, eol - in.readerIndex() - 2, StandardCharsets.US_ASCII));
+            in.readerIndex(eol + 1);
+            return value;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.test.settings.TestSettings;
+
+/**
+ * Round-trip latency benchmark over loopback comparing NIO, epoll and io_uring transports. Transports are selected per fork
+ * through system properties. Run with sample mode to obtain latency percentiles ({@code p0.99}):
+ *
+ * <pre class="code">
+ * java -jar benchmarks.jar TransportLatencyBenchmark -bm sample -tu us
+ * </pre>
+ *
+ * Test cases:
+ * <ul>
+ * <li>{@code GET} using the NIO transport</li>
+ * <li>{@code GET} using the epoll transport</li>
+ * <li>{@code GET} using the io_uring transport</li>
+ * </ul>
+ * The {@code lowLatency} parameter enables {@link SocketOptions.Builder#tcpQuickAck(boolean) TCP quick ACK} and
+ * {@link SocketOptions.Builder#busyPoll(Duration) busy polling} where supported by the transport. Forks fall back to NIO if
+ * the requested native transport is not available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransportLatencyBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    @Param({ "false", "true" })
+    boolean lowLatency;
+
+    private RedisClient redisClient;
+
+    private StatefulRedisConnection<byte[], byte[]> connection;
+
+    @Setup
+    public void setup() {
+
+        SocketOptions.Builder socketOptions = SocketOptions.builder();
+
+        if (lowLatency) {
+            socketOptions.tcpQuickAck(true).busyPoll(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(50)));
+        }
+
+        redisClient = RedisClient.create(RedisURI.create(TestSettings.host(), TestSettings.port()));
+        redisClient.setOptions(ClientOptions.builder().socketOptions(socketOptions.build()).build());
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        connection.sync().set(KEY, KEY);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        redisClient.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = { "-Dio.lettuce.core.epoll=false", "-Dio.lettuce.core.iouring=false",
+            "-Dio.lettuce.core.kqueue=false" })
+    public byte[] nio() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = { "-Dio.lettuce.core.iouring=false" })
+    public byte[] epoll() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = { "-Dio.lettuce.core.epoll=false" })
+    public byte[] ioUring() {
+        return connection.sync().get(KEY);
+    }
+
+}
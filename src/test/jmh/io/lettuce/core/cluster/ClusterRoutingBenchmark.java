@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.time.Duration;
+import java.util.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.*;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ConnectionIntent;
+
+/**
+ * Benchmark for the per-command cluster routing path using empty channel stand-ins. Measures routing against synthetic
+ * {@link Partitions} with {@code nodes} upstream nodes, each accompanied by one replica.
+ * <p>
+ * Test cases:
+ * <ul>
+ * <li>slot calculation and {@link Partitions#getPartitionBySlot(int)} lookup</li>
+ * <li>{@link PooledClusterConnectionProvider#getConnectionAsync(ConnectionIntent, int)} for a slot</li>
+ * <li>routing a keyed command through {@link ClusterDistributionChannelWriter} to the upstream node</li>
+ * <li>routing a read command to a replica using {@link ReadFrom#REPLICA_PREFERRED}</li>
+ * <li>{@link ReadFrom} node selection</li>
+ * <li>{@code MGET} fan-out across slots</li>
+ * <li>{@code MOVED} and {@code ASK} redirect handling</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class ClusterRoutingBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    private static final int FAN_OUT_KEYS = 16;
+
+    private static final ValueOutput<byte[], byte[]> VALUE_OUTPUT = new ValueOutput<>(ByteArrayCodec.INSTANCE);
+
+    @Param({ "3", "30", "300" })
+    int nodes;
+
+    private final byte[][] keys = new byte[KEY_COUNT][];
+
+    private final int[] slots = new int[KEY_COUNT];
+
+    private final Command<byte[], byte[], byte[]>[] commands = new Command[KEY_COUNT];
+
+    private final ReadFrom.Nodes[] readCandidates = new ReadFrom.Nodes[KEY_COUNT];
+
+    private final byte[][] fanOutKeys = new byte[FAN_OUT_KEYS][];
+
+    private Partitions partitions;
+
+    private PooledClusterConnectionProvider<byte[], byte[]> provider;
+
+    private ClusterDistributionChannelWriter writer;
+
+    private ClusterDistributionChannelWriter replicaWriter;
+
+    private StatefulRedisClusterConnectionImpl<byte[], byte[]> connection;
+
+    private String movedError;
+
+    private String askError;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+
+        partitions = createPartitions(nodes);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+
+            keys[i] = ("key-" + i).getBytes();
+            slots[i] = SlotHash.getSlot(keys[i]);
+            commands[i] = new Command<>(CommandType.GET, VALUE_OUTPUT, new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(keys[i]));
+
+            RedisClusterNode upstream = partitions.getMasterBySlot(slots[i]);
+            List<RedisNodeDescription> candidates = new ArrayList<>();
+            for (RedisClusterNode node : partitions) {
+                if (node == upstream || upstream.getNodeId().equals(node.getSlaveOf())) {
+                    candidates.add(node);
+                }
+            }
+            readCandidates[i] = new ReadFrom.Nodes() {
+
+                @Override
+                public List<RedisNodeDescription> getNodes() {
+                    return candidates;
+                }
+
+                @Override
+                public Iterator<RedisNodeDescription> iterator() {
+                    return candidates.iterator();
+                }
+
+            };
+        }
+
+        for (int i = 0; i < FAN_OUT_KEYS; i++) {
+            fanOutKeys[i] = keys[i];
+        }
+
+        writer = createWriter();
+        provider = createProvider(writer);
+
+        replicaWriter = createWriter();
+        createProvider(replicaWriter).setReadFrom(ReadFrom.REPLICA_PREFERRED);
+
+        connection = new StatefulRedisClusterConnectionImpl<>(writer, provider, ByteArrayCodec.INSTANCE, Duration.ofMinutes(1));
+        connection.setPartitions(partitions);
+
+        RedisClusterNode target = partitions.getPartition(partitions.size() - 1);
+        movedError = "MOVED " + slots[0] + " " + target.getUri().getHost() + ":" + target.getUri().getPort();
+        askError = "ASK " + slots[0] + " " + target.getUri().getHost() + ":" + target.getUri().getPort();
+
+        // warm connection and slot caches
+        for (int i = 0; i < KEY_COUNT; i++) {
+            writer.write(commands[i]);
+            replicaWriter.write(commands[i]);
+        }
+    }
+
+    private ClusterDistributionChannelWriter createWriter() {
+        return new ClusterDistributionChannelWriter(EmptyRedisChannelWriter.INSTANCE, ClusterClientOptions.create(),
+                ClusterEventListener.NO_OP);
+    }
+
+    private PooledClusterConnectionProvider<byte[], byte[]> createProvider(ClusterDistributionChannelWriter writer) {
+
+        PooledClusterConnectionProvider<byte[], byte[]> provider = new PooledClusterConnectionProvider<>(
+                new EmptyRedisClusterClient(RedisURI.create("localhost", 7000)), writer, ByteArrayCodec.INSTANCE,
+                ClusterEventListener.NO_OP);
+        provider.setPartitions(partitions);
+        writer.setPartitions(partitions);
+        writer.setClusterConnectionProvider(provider);
+        return provider;
+    }
+
+    private static Partitions createPartitions(int upstreamNodes) {
+
+        Partitions partitions = new Partitions();
+
+        for (int i = 0; i < upstreamNodes; i++) {
+
+            int from = i * SlotHash.SLOT_COUNT / upstreamNodes;
+            int to = (i + 1) * SlotHash.SLOT_COUNT / upstreamNodes;
+            List<Integer> slots = new ArrayList<>(to - from);
+            for (int slot = from; slot < to; slot++) {
+                slots.add(slot);
+            }
+
+            String upstreamId = "upstream-" + i;
+            partitions.add(new RedisClusterNode(RedisURI.create("localhost", 7000 + i), upstreamId, true, null, 0, 0, 0, slots,
+                    Collections.singleton(RedisClusterNode.NodeFlag.UPSTREAM)));
+
+            RedisClusterNode replica = new RedisClusterNode(RedisURI.create("localhost", 17000 + i), "replica-" + i, true,
+                    upstreamId, 0, 0, 0, Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.REPLICA));
+            replica.setReplOffset(1);
+            partitions.add(replica);
+        }
+
+        partitions.updateCache();
+        return partitions;
+    }
+
+    private int nextIndex() {
+        return index = (index + 1) & (KEY_COUNT - 1);
+    }
+
+    @Benchmark
+    public RedisClusterNode slotLookup() {
+        return partitions.getPartitionBySlot(SlotHash.getSlot(keys[nextIndex()]));
+    }
+
+    @Benchmark
+    public Object getConnectionBySlot() {
+        return provider.getConnectionAsync(ConnectionIntent.WRITE, slots[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object writeKeyedCommand() {
+        return writer.write(commands[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object writeReadCommandToReplica() {
+        return replicaWriter.write(commands[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<RedisNodeDescription> readFromReplicaPreferred() {
+        return ReadFrom.REPLICA_PREFERRED.select(readCandidates[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object mgetFanOut() {
+        return connection.async().mget(fanOutKeys);
+    }
+
+    @Benchmark
+    public Object movedRedirect() {
+        return writer.write(redirectedCommand(movedError));
+    }
+
+    @Benchmark
+    public Object askRedirect() {
+        return writer.write(redirectedCommand(askError));
+    }
+
+    private ClusterCommand<byte[], byte[], byte[]> redirectedCommand(String error) {
+
+        Command<byte[], byte[], byte[]> command = new Command<>(CommandType.GET, new ValueOutput<>(ByteArrayCodec.INSTANCE),
+                new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(keys[0]));
+        ClusterCommand<byte[], byte[], byte[]> clusterCommand = new ClusterCommand<>(command, writer, 5);
+        command.getOutput().setError(error);
+        return clusterCommand;
+    }
+
+}
@@ -15,15 +15,25 @@
  */
 package io.lettuce.core.cluster;
 
+import java.lang.reflect.Proxy;
 import java.net.SocketAddress;
 import java.util.Collections;
 import java.util.function.Supplier;
 
+import reactor.core.publisher.Mono;
+import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.EmptyRedisChannelWriter;
 import io.lettuce.core.EmptyStatefulRedisConnection;
 import io.lettuce.core.RedisChannelWriter;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
 
 /**
  * @author Mark Paluch
@@ -38,4 +48,40 @@ class EmptyRedisClusterClient extends RedisClusterClient {
             final Supplier<SocketAddress> socketAddressSupplier) {
         return EmptyStatefulRedisConnection.INSTANCE;
     }
+
+    @Override
+    <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectToNodeAsync(RedisCodec<K, V> codec, String nodeId,
+            RedisChannelWriter clusterWriter, Mono<SocketAddress> socketAddressSupplier) {
+        return ConnectionFuture.completed(null, EmptyNodeConnection.INSTANCE);
+    }
+
+    /**
+     * Node connection that acknowledges {@code READONLY} so that replica connections can be obtained.
+     */
+    static class EmptyNodeConnection extends EmptyStatefulRedisConnection {
+
+        static final EmptyNodeConnection INSTANCE = new EmptyNodeConnection();
+
+        private final RedisAsyncCommands<?, ?> async;
+
+        EmptyNodeConnection() {
+
+            super(EmptyRedisChannelWriter.INSTANCE);
+
+            AsyncCommand<String, String, String> ok = new AsyncCommand<>(
+                    new Command<>(CommandType.READONLY, new StatusOutput<>(StringCodec.UTF8)));
+            ok.complete("OK");
+
+            this.async = (RedisAsyncCommands<?, ?>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { RedisAsyncCommands.class },
+                    (proxy, method, args) -> method.getName().equals("readOnly") ? ok : null);
+        }
+
+        @Override
+        public RedisAsyncCommands async() {
+            return async;
+        }
+
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.test.server.RespCluster;
+
+/**
+ * End-to-end benchmark for {@link RedisClusterClient} against a simulated three-node {@link RespCluster}. Does not require
+ * an external Redis Cluster.
+ * <ul>
+ * <li>synchronous {@code GET} routed to the owning node</li>
+ * <li>synchronous {@code MGET} fanned out across all nodes</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class RespClusterBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    @Param({ "10", "100" })
+    int keyCount;
+
+    private RespCluster cluster;
+
+    private RedisClusterClient redisClusterClient;
+
+    private StatefulRedisClusterConnection<byte[], byte[]> connection;
+
+    private byte[][] keys;
+
+    @Setup
+    public void setup() {
+
+        cluster = RespCluster.create(3).start();
+        redisClusterClient = RedisClusterClient.create(cluster.getRedisURIs());
+        connection = redisClusterClient.connect(ByteArrayCodec.INSTANCE);
+
+        keys = new byte[keyCount][];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = ("key" + i).getBytes();
+            connection.sync().set(keys[i], keys[i]);
+        }
+
+        connection.sync().set(KEY, KEY);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        redisClusterClient.shutdown(0, 0, TimeUnit.SECONDS);
+        cluster.shutdown();
+    }
+
+    @Benchmark
+    public byte[] get() {
+        return connection.sync().get(KEY);
+    }
+
+    @Benchmark
+    public List<KeyValue<byte[], byte[]>> mget() {
+        return connection.sync().mget(keys);
+    }
+
+}
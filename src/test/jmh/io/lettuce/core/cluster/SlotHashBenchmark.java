@@ -16,25 +16,59 @@
 package io.lettuce.core.cluster;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
-import org.openjdk.jmh.annotations.Benchmark;
-import org.openjdk.jmh.annotations.Scope;
-import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import io.lettuce.core.codec.CRC16;
+
 /**
+ * Benchmark for {@link SlotHash} and {@link CRC16} over different key lengths with and without hashtag. Tagged keys carry the
+ * hashtag at the end of the key so that the full key needs to be scanned.
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
 public class SlotHashBenchmark {
 
-    private static final byte[] data = "this is my buffer".getBytes();
-    private static final byte[] tagged = "this is{my buffer}".getBytes();
-    private static final ByteBuffer heap = (ByteBuffer) ByteBuffer.allocate(data.length).put(data).flip();
-    private static final ByteBuffer direct = (ByteBuffer) ByteBuffer.allocateDirect(data.length).put(data).flip();
+    @Param({ "8", "32", "128", "1024" })
+    int keyLength;
+
+    @Param({ "false", "true" })
+    boolean tagged;
+
+    private byte[] data;
+
+    private String string;
+
+    private ByteBuffer heap;
+
+    private ByteBuffer direct;
+
+    @Setup
+    public void setup() {
 
-    private static final ByteBuffer heapTagged = (ByteBuffer) ByteBuffer.allocate(tagged.length).put(tagged).flip();
-    private static final ByteBuffer directTagged = (ByteBuffer) ByteBuffer.allocateDirect(tagged.length).put(tagged).flip();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < keyLength; i++) {
+            builder.append((char) ('a' + (i % 26)));
+        }
+
+        if (tagged) {
+            builder.setLength(Math.max(keyLength - 6, 0));
+            builder.append("{tag}");
+        }
+
+        string = builder.toString();
+        data = string.getBytes(StandardCharsets.US_ASCII);
+        heap = ByteBuffer.wrap(data);
+        direct = (ByteBuffer) ByteBuffer.allocateDirect(data.length).put(data).flip();
+    }
+
+    @Benchmark
+    public int crc16() {
+        return CRC16.crc16(data);
+    }
 
     @Benchmark
     public void measureSlotHashHeap(Blackhole blackhole) {
@@ -47,12 +81,8 @@ public class SlotHashBenchmark {
     }
 
     @Benchmark
-    public void measureSlotHashTaggedHeap(Blackhole blackhole) {
-        blackhole.consume(SlotHash.getSlot(heapTagged));
+    public int measureSlotHashString() {
+        return SlotHash.getSlot(string);
     }
 
-    @Benchmark
-    public void measureSlotHashTaggedDirect(Blackhole blackhole) {
-        blackhole.consume(SlotHash.getSlot(directTagged));
-    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.metrics;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.*;
+
+import io.lettuce.core.protocol.CommandType;
+
+/**
+ * Benchmark for {@link DefaultCommandLatencyCollector#recordCommandLatency} recording from multiple threads across a set of
+ * endpoints and command types.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class CommandLatencyCollectorBenchmark {
+
+    private static final CommandType[] COMMANDS = { CommandType.GET, CommandType.SET, CommandType.HGET, CommandType.MGET };
+
+    @Param({ "false", "true" })
+    boolean usePauseDetector;
+
+    private final InetSocketAddress local = new InetSocketAddress("127.0.0.1", 50000);
+
+    private final InetSocketAddress[] endpoints = new InetSocketAddress[64];
+
+    private DefaultCommandLatencyCollector collector;
+
+    @Setup
+    public void setup() {
+
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = new InetSocketAddress("127.0.0.1", 7000 + i);
+        }
+
+        CommandLatencyCollectorOptions.Builder options = DefaultCommandLatencyCollectorOptions.builder();
+        if (usePauseDetector) {
+            options.usePauseDetector();
+        }
+
+        collector = new DefaultCommandLatencyCollector(options.build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        collector.shutdown();
+    }
+
+    @Benchmark
+    public void recordCommandLatency() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        collector.recordCommandLatency(local, endpoints[random.nextInt(endpoints.length)],
+                COMMANDS[random.nextInt(COMMANDS.length)], 50_000, 120_000);
+    }
+
+}
@@ -18,21 +18,29 @@ package io.lettuce.core.protocol;
 import java.nio.charset.StandardCharsets;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.output.ValueOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Create and encode large multi-argument commands ({@code MSET}) using {@link CommandArgs} and
+ * {@link EagerCommandArgs}</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -78,9 +86,72 @@ public class CommandBenchmark {
         createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
     }
 
+    @Benchmark
+    public void createMultiArgCommand(MultiArgs multiArgs, Blackhole blackhole) {
+        blackhole.consume(createMset(multiArgs, new CommandArgs<>(NEW_STRING_CODEC)));
+    }
+
+    @Benchmark
+    public void createAndEncodeMultiArgCommand(MultiArgs multiArgs) {
+
+        multiArgs.target.clear();
+        createMset(multiArgs, new CommandArgs<>(NEW_STRING_CODEC)).encode(multiArgs.target);
+    }
+
+    @Benchmark
+    public void createAndEncodeEagerMultiArgCommand(MultiArgs multiArgs) {
+
+        multiArgs.target.clear();
+        Command<String, String, String> command = createMset(multiArgs, new EagerCommandArgs<>(NEW_STRING_CODEC));
+        command.encode(multiArgs.target);
+        command.complete();
+    }
+
+    private Command<String, String, String> createMset(MultiArgs multiArgs, CommandArgs<String, String> args) {
+
+        for (int i = 0; i < multiArgs.entries; i++) {
+            args.addKey(multiArgs.keys[i]).addValue(multiArgs.values[i]);
+        }
+
+        return new Command<>(CommandType.MSET, new StatusOutput<>(NEW_STRING_CODEC), args);
+    }
+
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
         Command command = new Command(CommandType.GET, new ValueOutput<>(codec), new CommandArgs(codec).addKey(key));
         return command;
     }
 
+    @State(Scope.Benchmark)
+    public static class MultiArgs {
+
+        @Param({ "10", "1000", "10000" })
+        int entries;
+
+        String[] keys;
+
+        String[] values;
+
+        ByteBuf target;
+
+        @Setup
+        public void setup() {
+
+            target = PooledByteBufAllocator.DEFAULT.directBuffer();
+
+            keys = new String[entries];
+            values = new String[entries];
+
+            for (int i = 0; i < entries; i++) {
+                keys[i] = "key-" + i;
+                values[i] = "value-" + i;
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            target.release();
+        }
+
+    }
+
 }
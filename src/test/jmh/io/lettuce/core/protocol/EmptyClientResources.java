@@ -19,13 +19,16 @@ import java.net.SocketAddress;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import reactor.core.publisher.Flux;
 import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.event.Event;
 import io.lettuce.core.event.EventBus;
 import io.lettuce.core.event.EventPublisherOptions;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.metrics.CommandLatencyId;
 import io.lettuce.core.metrics.CommandLatencyRecorder;
 import io.lettuce.core.metrics.CommandMetrics;
+import io.lettuce.core.metrics.EndpointMetricsRecorder;
 import io.lettuce.core.resource.*;
 import io.lettuce.core.tracing.Tracing;
 import io.netty.resolver.AddressResolverGroup;
@@ -43,6 +46,7 @@ public class EmptyClientResources implements ClientResources {
 
     private static final DefaultEventPublisherOptions PUBLISHER_OPTIONS = DefaultEventPublisherOptions.disabled();
     private static final EmptyCommandLatencyCollector LATENCY_COLLECTOR = new EmptyCommandLatencyCollector();
+    private static final EventBus EVENT_BUS = new EmptyEventBus();
     public static final EmptyClientResources INSTANCE = new EmptyClientResources();
 
     @Override
@@ -87,7 +91,7 @@ public class EmptyClientResources implements ClientResources {
 
     @Override
     public EventBus eventBus() {
-        return null;
+        return EVENT_BUS;
     }
 
     @Override
@@ -115,6 +119,11 @@ public class EmptyClientResources implements ClientResources {
         return null;
     }
 
+    @Override
+    public ReconnectLimiter reconnectLimiter() {
+        return ReconnectLimiter.unlimited();
+    }
+
     @Override
     public NettyCustomizer nettyCustomizer() {
         return null;
@@ -125,6 +134,11 @@ public class EmptyClientResources implements ClientResources {
         return Tracing.disabled();
     }
 
+    @Override
+    public EndpointMetricsRecorder endpointMetricsRecorder() {
+        return EndpointMetricsRecorder.disabled();
+    }
+
     @Override
     public AddressResolverGroup<?> addressResolverGroup() {
         return null;
@@ -153,4 +167,18 @@ public class EmptyClientResources implements ClientResources {
 
         }
     }
+
+    private static class EmptyEventBus implements EventBus {
+
+        @Override
+        public Flux<Event> get() {
+            return Flux.empty();
+        }
+
+        @Override
+        public void publish(Event event) {
+        }
+
+    }
+
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.internal.DoubleParser;
+import io.lettuce.core.internal.LettuceStrings;
+import io.lettuce.core.output.ScoredValueListOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for decoding a {@code ZRANGE … WITHSCORES} reply of 100k elements through {@link RedisStateMachine} and
+ * {@link ScoredValueListOutput} using RESP2 (scores as bulk strings) and RESP3 (scores as doubles).
+ */
+@State(Scope.Benchmark)
+public class ScoredValueDecodingBenchmark {
+
+    private static final int ELEMENTS = 100_000;
+
+    private final RedisStateMachine resp2 = new RedisStateMachine();
+
+    private final RedisStateMachine resp3 = new RedisStateMachine();
+
+    private final DoubleParser parser = new DoubleParser();
+
+    private ByteBuf resp2Reply;
+
+    private ByteBuf resp3Reply;
+
+    private ByteBuffer[] scores;
+
+    @Setup
+    public void setup() {
+
+        resp2.setProtocolVersion(ProtocolVersion.RESP2);
+        resp3.setProtocolVersion(ProtocolVersion.RESP3);
+
+        StringBuilder resp2Builder = new StringBuilder().append('*').append(ELEMENTS * 2).append("\r\n");
+        StringBuilder resp3Builder = new StringBuilder().append('*').append(ELEMENTS).append("\r\n");
+        scores = new ByteBuffer[ELEMENTS];
+
+        for (int i = 0; i < ELEMENTS; i++) {
+
+            String member = "member:" + i;
+            // mix of integral scores (e.g. timestamps) and short decimals
+            String score = i % 2 == 0 ? Long.toString(1700000000000L + i) : Double.toString(i / 4d);
+
+            resp2Builder.append('$').append(member.length()).append("\r\n").append(member).append("\r\n");
+            resp2Builder.append('$').append(score.length()).append("\r\n").append(score).append("\r\n");
+
+            resp3Builder.append("*2\r\n");
+            resp3Builder.append('$').append(member.length()).append("\r\n").append(member).append("\r\n");
+            resp3Builder.append(',').append(score).append("\r\n");
+
+            scores[i] = ByteBuffer.wrap(score.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        resp2Reply = toBuffer(resp2Builder);
+        resp3Reply = toBuffer(resp3Builder);
+    }
+
+    private static ByteBuf toBuffer(CharSequence reply) {
+
+        byte[] bytes = reply.toString().getBytes(StandardCharsets.US_ASCII);
+        return PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length).writeBytes(bytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        resp2Reply.release();
+        resp3Reply.release();
+    }
+
+    @Benchmark
+    public List<ScoredValue<byte[]>> measureResp2Decode() {
+        return decode(resp2, resp2Reply);
+    }
+
+    @Benchmark
+    public List<ScoredValue<byte[]>> measureResp3Decode() {
+        return decode(resp3, resp3Reply);
+    }
+
+    @Benchmark
+    public void measureParseScores(Blackhole blackhole) {
+
+        for (ByteBuffer score : scores) {
+            blackhole.consume(parser.parse(score));
+        }
+    }
+
+    @Benchmark
+    public void measureParseScoresThroughString(Blackhole blackhole) {
+
+        for (ByteBuffer score : scores) {
+            blackhole.consume(LettuceStrings.toDouble(StandardCharsets.US_ASCII.decode(score.duplicate()).toString()));
+        }
+    }
+
+    private static List<ScoredValue<byte[]>> decode(RedisStateMachine stateMachine, ByteBuf reply) {
+
+        ScoredValueListOutput<byte[], byte[]> output = new ScoredValueListOutput<>(ByteArrayCodec.INSTANCE);
+
+        reply.readerIndex(0);
+        stateMachine.decode(reply, output);
+
+        return output.get();
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.api.coroutines
+
+import io.lettuce.core.RedisCommandExecutionException
+import io.lettuce.core.codec.StringCodec
+import io.lettuce.core.output.IntegerOutput
+import io.lettuce.core.output.ValueListOutput
+import io.lettuce.core.protocol.AsyncCommand
+import io.lettuce.core.protocol.Command
+import io.lettuce.core.protocol.CommandType
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.nio.ByteBuffer
+
+/**
+ * Unit tests for [futureFlow], [streamingFlow] and [dispatchFlow].
+ */
+class RedisFutureFlowsUnitTests {
+
+    @Test
+    fun futureFlowShouldDispatchOnCollect() {
+
+        var dispatched = 0
+        val flow = futureFlow {
+            dispatched++
+            val command = AsyncCommand(Command(CommandType.LRANGE, ValueListOutput<String, String>(StringCodec.UTF8)))
+            command.output.multi(2)
+            command.output.set(ByteBuffer.wrap("a".toByteArray()))
+            command.output.set(ByteBuffer.wrap("b".toByteArray()))
+            command.complete()
+            command
+        }
+
+        assertThat(dispatched).isZero()
+
+        runBlocking {
+            assertThat(flow.toList()).containsExactly("a", "b")
+        }
+
+        assertThat(dispatched).isOne()
+    }
+
+    @Test
+    fun streamingFlowShouldEmitStreamedElements() {
+
+        val flow = streamingFlow<String> { send ->
+            val command = AsyncCommand(Command(CommandType.LRANGE, IntegerOutput<String, String>(StringCodec.UTF8)))
+            send("a")
+            send("b")
+            command.output.set(2)
+            command.complete()
+            command
+        }
+
+        runBlocking {
+            assertThat(flow.toList()).containsExactly("a", "b")
+        }
+    }
+
+    @Test
+    fun streamingFlowShouldPropagateErrors() {
+
+        val flow = streamingFlow<String> { send ->
+            val command = AsyncCommand(Command(CommandType.LRANGE, IntegerOutput<String, String>(StringCodec.UTF8)))
+            send("a")
+            command.completeExceptionally(RedisCommandExecutionException("WRONGTYPE"))
+            command
+        }
+
+        assertThatThrownBy { runBlocking { flow.toList() } }.isInstanceOf(RedisCommandExecutionException::class.java)
+    }
+
+    @Test
+    fun dispatchFlowShouldEmitStreamingOutputElements() {
+
+        val output = ValueListOutput<String, String>(StringCodec.UTF8)
+        val flow = dispatchFlow<String>(output) {
+            val command = AsyncCommand(Command(CommandType.LRANGE, output))
+            output.multi(2)
+            output.set(ByteBuffer.wrap("a".toByteArray()))
+            output.set(ByteBuffer.wrap("b".toByteArray()))
+            command.complete()
+            command
+        }
+
+        runBlocking {
+            assertThat(flow.toList()).containsExactly("a", "b")
+        }
+    }
+
+    @Test
+    fun dispatchFlowShouldEmitResult() {
+
+        val output = IntegerOutput<String, String>(StringCodec.UTF8)
+        val flow = dispatchFlow<Long>(output) {
+            val command = AsyncCommand(Command(CommandType.INCR, output))
+            output.set(42)
+            command.complete()
+            command
+        }
+
+        runBlocking {
+            assertThat(flow.toList()).containsExactly(42L)
+        }
+    }
+
+}